@@ -15,10 +15,10 @@ package org.eclipse.mylyn.docs.epub.core.wikitext;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.Writer;
+import java.io.OutputStream;
 import java.util.List;
 
 import org.eclipse.mylyn.docs.epub.core.Publication;
@@ -27,7 +27,6 @@ import org.eclipse.mylyn.wikitext.parser.MarkupParser;
 import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder.Stylesheet;
 import org.eclipse.mylyn.wikitext.parser.markup.MarkupLanguage;
-import org.eclipse.mylyn.wikitext.util.XmlStreamWriter;
 
 /**
  * This type can be used to populate an EPUB Publication with content directly from WikiText markup. The markup file
@@ -59,31 +58,27 @@ public class MarkupToOPS {
 		File workingFolder = File.createTempFile("wikitext_", null); //$NON-NLS-1$
 		if (workingFolder.delete() && workingFolder.mkdirs()) {
 			File htmlFile = new File(workingFolder.getAbsolutePath() + File.separator + "markup.html"); //$NON-NLS-1$
-			FileWriter out = new FileWriter(htmlFile);
-			HtmlDocumentBuilder builder = new HtmlDocumentBuilder(out) {
-				@Override
-				protected XmlStreamWriter createXmlStreamWriter(Writer out) {
-					return super.createFormattingXmlStreamWriter(out);
-				}
-			};
+			try (OutputStream out = new FileOutputStream(htmlFile)) {
+				HtmlDocumentBuilder builder = new HtmlDocumentBuilder(out);
 
-			List<Item> stylesheets = ops.getItemsByMIMEType(Publication.MIMETYPE_CSS);
-			for (Item item : stylesheets) {
-				File file = new File(item.getFile());
-				Stylesheet css = new Stylesheet(file);
-				builder.addCssStylesheet(css);
-			}
-			// Make sure we get the correct XHTML header
-			builder.setEmitDtd(true);
-			builder.setHtmlDtd(
-					"<!DOCTYPE html PUBLIC \"-//W3C//DTD XHTML 1.1//EN\" \"http://www.w3.org/TR/xhtml11/DTD/xhtml11.dtd\">"); //$NON-NLS-1$
-			builder.setXhtmlStrict(true);
+				List<Item> stylesheets = ops.getItemsByMIMEType(Publication.MIMETYPE_CSS);
+				for (Item item : stylesheets) {
+					File file = new File(item.getFile());
+					Stylesheet css = new Stylesheet(file);
+					builder.addCssStylesheet(css);
+				}
+				// Make sure we get the correct XHTML header
+				builder.setEmitDtd(true);
+				builder.setHtmlDtd(
+						"<!DOCTYPE html PUBLIC \"-//W3C//DTD XHTML 1.1//EN\" \"http://www.w3.org/TR/xhtml11/DTD/xhtml11.dtd\">"); //$NON-NLS-1$
+				builder.setXhtmlStrict(true);
 
-			MarkupParser markupParser = new MarkupParser();
+				MarkupParser markupParser = new MarkupParser();
 
-			markupParser.setBuilder(builder);
-			markupParser.setMarkupLanguage(markupLanguage);
-			markupParser.parse(new FileReader(markupFile));
+				markupParser.setBuilder(builder);
+				markupParser.setMarkupLanguage(markupLanguage);
+				markupParser.parse(new FileReader(markupFile));
+			}
 			ops.setGenerateToc(true);
 			ops.setIncludeReferencedResources(true);
 			Item item = ops.addItem(htmlFile);
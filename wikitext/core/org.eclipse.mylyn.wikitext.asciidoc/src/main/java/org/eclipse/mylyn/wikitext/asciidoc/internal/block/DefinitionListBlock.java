@@ -33,7 +33,7 @@ public class DefinitionListBlock extends Block {
 
 	private boolean lastLineWasEmpty;
 
-	private final Deque<Integer> levels = new ArrayDeque<>();
+	private Deque<Integer> levels = new ArrayDeque<>();
 
 	@Override
 	protected int processLineContent(String line, int offset) {
@@ -85,6 +85,13 @@ public class DefinitionListBlock extends Block {
 		}
 	}
 
+	@Override
+	public Block createParseSessionPrototype() {
+		DefinitionListBlock copy = (DefinitionListBlock) super.createParseSessionPrototype();
+		copy.levels = new ArrayDeque<>();
+		return copy;
+	}
+
 	private void openLevel(int level) {
 		if (!isCurrentLevel(0) && !blockItemIsOpen) {
 			openItemBlock("", 0);
@@ -78,6 +78,13 @@ public class ListBlock extends Block {
 		return correspondsToListLine(line, lineOffset);
 	}
 
+	@Override
+	public Block createParseSessionPrototype() {
+		ListBlock copy = (ListBlock) super.createParseSessionPrototype();
+		copy.listState = null;
+		return copy;
+	}
+
 	private boolean correspondsToListLine(String line, int lineOffset) {
 		if (lineOffset == 0) {
 			matcher = startPattern.matcher(line);
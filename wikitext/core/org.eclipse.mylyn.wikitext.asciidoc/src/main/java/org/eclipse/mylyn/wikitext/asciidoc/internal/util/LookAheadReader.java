@@ -15,9 +15,9 @@
 package org.eclipse.mylyn.wikitext.asciidoc.internal.util;
 
 import java.io.IOException;
-import java.io.StringReader;
 
 import org.eclipse.mylyn.wikitext.parser.markup.ContentState;
+import org.eclipse.mylyn.wikitext.util.LineView;
 import org.eclipse.mylyn.wikitext.util.LocationTrackingReader;
 
 public class LookAheadReader {
@@ -29,7 +29,7 @@ public class LookAheadReader {
 	public void setContentState(ContentState state) {
 		if (mustInitReader(state)) {
 			this.state = state;
-			this.reader = new LocationTrackingReader(new StringReader(state.getMarkupContent()));
+			this.reader = new LocationTrackingReader(state.getMarkupContent());
 		}
 	}
 
@@ -48,16 +48,16 @@ public class LookAheadReader {
 
 	public String lookAhead() {
 		int lineNumber = state.getLineNumber();
-		String nextLine = null;
+		LineView nextLine = null;
 		while (reader.getLineNumber() < lineNumber) {
 			try {
-				nextLine = reader.readLine();
+				nextLine = reader.readLineView();
 			} catch (IOException e) {
 				throw new RuntimeException(e);
 			}
 		}
 
-		return nextLine;
+		return nextLine == null ? null : nextLine.toString();
 	}
 
 }
@@ -30,7 +30,7 @@ import org.eclipse.mylyn.wikitext.parser.markup.ContentState;
  */
 public class ReadAheadDispatcher extends Block {
 
-	private final LookAheadReader lookAheadReader;
+	private LookAheadReader lookAheadReader;
 
 	private List<Block> blocks;
 
@@ -47,6 +47,11 @@ public class ReadAheadDispatcher extends Block {
 		return true;
 	}
 
+	@Override
+	public boolean requiresMarkupContent() {
+		return true;
+	}
+
 	@Override
 	protected int processLineContent(String line, int offset) {
 		if (dispatchedBlock == null) {
@@ -103,6 +108,13 @@ public class ReadAheadDispatcher extends Block {
 		return clone;
 	}
 
+	@Override
+	public Block createParseSessionPrototype() {
+		ReadAheadDispatcher copy = (ReadAheadDispatcher) clone();
+		copy.lookAheadReader = new LookAheadReader();
+		return copy;
+	}
+
 	private List<Block> cloneBlocks(List<Block> blocks) {
 		List<Block> clonedBlocks = new ArrayList<>();
 		for (Block block : blocks) {
@@ -16,11 +16,13 @@
 
 package org.eclipse.mylyn.internal.wikitext.asciidoc.tests;
 
+import static org.eclipse.mylyn.wikitext.toolkit.CompiledLanguageAssertions.assertConcurrentParseMatchesParse;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
 import java.util.regex.Pattern;
 
+import org.eclipse.mylyn.wikitext.asciidoc.AsciiDocLanguage;
 import org.junit.Test;
 
 /**
@@ -681,4 +683,11 @@ public class AsciiDocLanguageBlockElementsTest extends AsciiDocLanguageTestBase
 				+ "<pre class=\"nowrap\">" //
 				+ "<code class=\"nowrap\">A block without title<br/></code></pre></div></div>", html);
 	}
+
+	@Test
+	public void testCompiledLanguageConcurrentParse() {
+		assertConcurrentParseMatchesParse(new AsciiDocLanguage(),
+				"term:: definition\nnested::: nested definition\nterm2:: definition2\n",
+				"* one\n** two\n*** three\n* four\n\n. a\n.. b\n");
+	}
 }
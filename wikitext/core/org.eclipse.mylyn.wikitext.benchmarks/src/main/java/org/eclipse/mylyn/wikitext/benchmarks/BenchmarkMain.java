@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.mylyn.wikitext.parser.markup.MarkupLanguage;
+import org.eclipse.mylyn.wikitext.util.ServiceLocator;
+
+/**
+ * Runs the benchmarks with the JMH command line, benchmarking all of the markup languages known to the
+ * {@link ServiceLocator} unless languages are specified with {@code -p language=...}.
+ */
+public class BenchmarkMain {
+
+	public static void main(String[] args) throws Exception {
+		List<String> arguments = new ArrayList<>(Arrays.asList(args));
+		if (arguments.stream().noneMatch(argument -> argument.startsWith("language="))) {
+			Set<String> languageNames = new TreeSet<>();
+			for (MarkupLanguage markupLanguage : ServiceLocator.getInstance(BenchmarkMain.class.getClassLoader())
+					.getAllMarkupLanguages()) {
+				languageNames.add(markupLanguage.getName());
+			}
+			arguments.add("-p");
+			arguments.add("language=" + String.join(",", languageNames));
+		}
+		org.openjdk.jmh.Main.main(arguments.toArray(new String[arguments.size()]));
+	}
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.mylyn.wikitext.commonmark.CommonMarkLanguage;
+import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.builder.NoOpDocumentBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of CommonMark block parsing of nested list and block quote content, for which the block that
+ * starts at each line is selected again at every level of nesting. Output goes to a {@link NoOpDocumentBuilder} so
+ * that the measurement is dominated by block selection.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommonMarkBlockBenchmark {
+
+	/**
+	 * The structure of the content: {@code list}, {@code quote} or {@code mixed}.
+	 */
+	@Param({ "list", "quote", "mixed" })
+	public String structure;
+
+	/**
+	 * Whether the language is {@link CommonMarkLanguage#setStrictlyConforming(boolean) strictly conforming}.
+	 */
+	@Param({ "false", "true" })
+	public boolean strict;
+
+	private String content;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		StringBuilder document = new StringBuilder();
+		for (int x = 0; x < 20; ++x) {
+			for (int level = 0; level < 5; ++level) {
+				String quote = quotePrefix(level);
+				String item = itemPrefix(level);
+				document.append(quote).append(item).append("item ").append(x).append(" at level ").append(level)
+						.append('\n');
+				document.append(quote).append(" ".repeat(item.length())).append("with a second line of *text*\n");
+			}
+			document.append('\n');
+		}
+		content = document.toString();
+	}
+
+	private String quotePrefix(int level) {
+		switch (structure) {
+		case "list":
+			return "";
+		case "quote":
+			return "> ".repeat(level + 1);
+		default:
+			return "> ".repeat(level / 2 + 1);
+		}
+	}
+
+	private String itemPrefix(int level) {
+		switch (structure) {
+		case "list":
+			return "  ".repeat(level) + "- ";
+		case "quote":
+			return "";
+		default:
+			return "   ".repeat(level) + (level % 2 == 0 ? "-  " : "1. ");
+		}
+	}
+
+	@Benchmark
+	public void parse() {
+		CommonMarkLanguage markupLanguage = new CommonMarkLanguage();
+		markupLanguage.setStrictlyConforming(strict);
+		MarkupParser parser = new MarkupParser(markupLanguage, new NoOpDocumentBuilder());
+		parser.parse(content);
+	}
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.benchmarks;
+
+/**
+ * The documents with which markup languages are benchmarked: a realistic document, and documents that stress the
+ * handling of huge tables, deep nesting, long paragraphs and many links.
+ */
+enum Corpus {
+	REALISTIC {
+		@Override
+		String generate(MarkupSyntax syntax) {
+			StringBuilder document = new StringBuilder();
+			for (int section = 0; section < 200; ++section) {
+				document.append(syntax.heading("Section " + section));
+				for (int x = 0; x < 3; ++x) {
+					document.append(syntax.paragraph(sentence(syntax, section + x) + " " + sentence(syntax, x) + "\n"
+							+ sentence(syntax, section)));
+				}
+				for (int x = 0; x < 6; ++x) {
+					document.append(syntax.listItem(1 + x % 2, "item " + x + " with " + syntax.bold("emphasis")));
+				}
+				document.append('\n');
+				document.append(syntax.tableStart());
+				for (int row = 0; row < 5; ++row) {
+					document.append(syntax.tableRow(cells(4, row)));
+				}
+				document.append(syntax.tableEnd());
+				document.append('\n');
+			}
+			return document.toString();
+		}
+	},
+	TABLE {
+		@Override
+		String generate(MarkupSyntax syntax) {
+			StringBuilder document = new StringBuilder();
+			document.append(syntax.tableStart());
+			for (int row = 0; row < 1000; ++row) {
+				document.append(syntax.tableRow(cells(8, row)));
+			}
+			document.append(syntax.tableEnd());
+			return document.toString();
+		}
+	},
+	NESTING {
+		@Override
+		String generate(MarkupSyntax syntax) {
+			StringBuilder document = new StringBuilder();
+			for (int x = 0; x < 10; ++x) {
+				document.append(syntax.nestedList(8, "nested " + syntax.bold("item")));
+			}
+			return document.toString();
+		}
+	},
+	PARAGRAPH {
+		@Override
+		String generate(MarkupSyntax syntax) {
+			StringBuilder paragraph = new StringBuilder();
+			for (int line = 0; line < 1000; ++line) {
+				if (line > 0) {
+					paragraph.append('\n');
+				}
+				paragraph.append(sentence(syntax, line));
+			}
+			return syntax.paragraph(paragraph.toString());
+		}
+	},
+	LINKS {
+		@Override
+		String generate(MarkupSyntax syntax) {
+			StringBuilder document = new StringBuilder();
+			for (int x = 0; x < 5000; ++x) {
+				document.append(syntax.paragraph(syntax.link("https://www.eclipse.org/page/" + x, "link " + x)
+						+ " and " + syntax.link("https://www.eclipse.org/other/" + x, "other " + x)));
+			}
+			return document.toString();
+		}
+	};
+
+	/**
+	 * Generate the document in the given syntax.
+	 */
+	abstract String generate(MarkupSyntax syntax);
+
+	private static String sentence(MarkupSyntax syntax, int index) {
+		return "Lorem ipsum dolor sit amet, " + syntax.bold("consectetur " + index) + " adipiscing elit, see "
+				+ syntax.link("https://www.eclipse.org/mylyn/" + index, "the docs") + " for more.";
+	}
+
+	private static String[] cells(int count, int row) {
+		String[] cells = new String[count];
+		for (int x = 0; x < count; ++x) {
+			cells[x] = "cell " + row + "." + x;
+		}
+		return cells;
+	}
+}
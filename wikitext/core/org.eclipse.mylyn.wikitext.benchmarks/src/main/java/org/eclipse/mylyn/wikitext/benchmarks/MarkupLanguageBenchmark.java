@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.benchmarks;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.builder.DocBookDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.builder.NoOpDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.builder.XslfoDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.markup.MarkupLanguage;
+import org.eclipse.mylyn.wikitext.util.BufferedXmlStreamWriter;
+import org.eclipse.mylyn.wikitext.util.ServiceLocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of parsing each {@link Corpus corpus} with each markup language, emitting to each kind of
+ * document builder. Output is written to a {@link Writer#nullWriter() null writer}, so that the measurement includes
+ * the cost of generating the output but not of storing it. Run with {@code -prof gc} to also report allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarkupLanguageBenchmark {
+
+	/**
+	 * The name of the markup language, as registered with the {@link ServiceLocator}.
+	 */
+	@Param({ "Textile", "Markdown", "CommonMark", "Confluence", "MediaWiki", "TracWiki", "TWiki", "Creole", "AsciiDoc",
+			"HTML" })
+	public String language;
+
+	/**
+	 * The document builder: {@code html}, {@code docbook}, {@code xslfo}, {@code noop}, the same XML document builders
+	 * writing through a {@link BufferedXmlStreamWriter} such as {@code html-buffered}, {@code html-stream} encoding to
+	 * UTF-8 bytes, or the name of a markup language that provides a document builder, such as {@code Textile}.
+	 */
+	@Param({ "html", "html-buffered", "html-stream", "docbook", "docbook-buffered", "xslfo", "noop", "Textile",
+			"Markdown", "Confluence", "AsciiDoc", "Creole" })
+	public String builder;
+
+	/**
+	 * The name of the {@link Corpus}.
+	 */
+	@Param({ "REALISTIC", "TABLE", "NESTING", "PARAGRAPH", "LINKS" })
+	public String corpus;
+
+	private MarkupLanguage markupLanguage;
+
+	private MarkupLanguage builderLanguage;
+
+	private String content;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		// markup document builders log a warning for each unsupported element, which would dominate the measurement
+		LogManager.getLogManager().reset();
+
+		ServiceLocator serviceLocator = ServiceLocator.getInstance(MarkupLanguageBenchmark.class.getClassLoader());
+		markupLanguage = serviceLocator.getMarkupLanguage(language);
+		content = Corpus.valueOf(corpus).generate(MarkupSyntax.forLanguage(markupLanguage.getName()));
+		switch (builder) {
+		case "html":
+		case "html-buffered":
+		case "html-stream":
+		case "docbook":
+		case "docbook-buffered":
+		case "xslfo":
+		case "noop":
+			break;
+		default:
+			builderLanguage = serviceLocator.getMarkupLanguage(builder);
+		}
+	}
+
+	@Benchmark
+	public void parse() {
+		MarkupParser parser = new MarkupParser(markupLanguage, createDocumentBuilder(Writer.nullWriter()));
+		parser.parse(content);
+	}
+
+	private DocumentBuilder createDocumentBuilder(Writer out) {
+		switch (builder) {
+		case "html":
+			return new HtmlDocumentBuilder(out);
+		case "html-buffered":
+			return new HtmlDocumentBuilder(new BufferedXmlStreamWriter(out));
+		case "html-stream":
+			return new HtmlDocumentBuilder(OutputStream.nullOutputStream());
+		case "docbook":
+			return new DocBookDocumentBuilder(out);
+		case "docbook-buffered":
+			return new DocBookDocumentBuilder(new BufferedXmlStreamWriter(out));
+		case "xslfo":
+			return new XslfoDocumentBuilder(out);
+		case "noop":
+			return new NoOpDocumentBuilder();
+		default:
+			return builderLanguage.createDocumentBuilder(out);
+		}
+	}
+}
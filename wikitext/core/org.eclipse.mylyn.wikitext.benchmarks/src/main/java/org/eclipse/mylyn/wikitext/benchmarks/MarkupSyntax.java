@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.benchmarks;
+
+import java.util.Locale;
+
+/**
+ * The syntax with which benchmark corpora are written in each markup language. Constructs that a markup language does
+ * not support, such as tables in Markdown, are written in a similar syntax and are parsed as text.
+ */
+enum MarkupSyntax {
+	TEXTILE("h1. %s", "*%s*", "\"%2$s\":%1$s") {
+		@Override
+		String listItem(int level, String text) {
+			return "*".repeat(level) + " " + text + "\n";
+		}
+	},
+	MARKDOWN("# %s", "**%s**", "[%2$s](%1$s)") {
+		@Override
+		String listItem(int level, String text) {
+			return "    ".repeat(level - 1) + "* " + text + "\n";
+		}
+	},
+	COMMONMARK("# %s", "**%s**", "[%2$s](%1$s)") {
+		@Override
+		String listItem(int level, String text) {
+			return "  ".repeat(level - 1) + "- " + text + "\n";
+		}
+	},
+	CONFLUENCE("h1. %s", "*%s*", "[%2$s|%1$s]") {
+		@Override
+		String listItem(int level, String text) {
+			return "*".repeat(level) + " " + text + "\n";
+		}
+	},
+	MEDIAWIKI("= %s =", "'''%s'''", "[%1$s %2$s]") {
+		@Override
+		String listItem(int level, String text) {
+			return "*".repeat(level) + " " + text + "\n";
+		}
+
+		@Override
+		String tableStart() {
+			return "{|\n";
+		}
+
+		@Override
+		String tableRow(String... cells) {
+			return "|-\n| " + String.join(" || ", cells) + "\n";
+		}
+
+		@Override
+		String tableEnd() {
+			return "|}\n";
+		}
+	},
+	TRACWIKI("= %s =", "'''%s'''", "[%1$s %2$s]") {
+		@Override
+		String listItem(int level, String text) {
+			return "  ".repeat(level) + "* " + text + "\n";
+		}
+
+		@Override
+		String tableRow(String... cells) {
+			return "||" + String.join("||", cells) + "||\n";
+		}
+	},
+	TWIKI("---+ %s", "*%s*", "[[%1$s][%2$s]]") {
+		@Override
+		String listItem(int level, String text) {
+			return "   ".repeat(level) + "* " + text + "\n";
+		}
+	},
+	CREOLE("= %s =", "**%s**", "[[%1$s|%2$s]]") {
+		@Override
+		String listItem(int level, String text) {
+			return "*".repeat(level) + " " + text + "\n";
+		}
+	},
+	ASCIIDOC("== %s", "*%s*", "%1$s[%2$s]") {
+		@Override
+		String listItem(int level, String text) {
+			return "*".repeat(level) + " " + text + "\n";
+		}
+
+		@Override
+		String tableStart() {
+			return "|===\n";
+		}
+
+		@Override
+		String tableRow(String... cells) {
+			return "|" + String.join(" |", cells) + "\n";
+		}
+
+		@Override
+		String tableEnd() {
+			return "|===\n";
+		}
+	},
+	HTML("<h1>%s</h1>", "<b>%s</b>", "<a href=\"%1$s\">%2$s</a>") {
+		@Override
+		String listItem(int level, String text) {
+			return "<ul><li>".repeat(level) + text + "</li></ul>".repeat(level) + "\n";
+		}
+
+		@Override
+		String nestedList(int depth, String text) {
+			return "<ul><li>".repeat(depth) + text + "\n" + "</li></ul>".repeat(depth) + "\n\n";
+		}
+
+		@Override
+		String tableStart() {
+			return "<table>\n";
+		}
+
+		@Override
+		String tableRow(String... cells) {
+			return "<tr><td>" + String.join("</td><td>", cells) + "</td></tr>\n";
+		}
+
+		@Override
+		String tableEnd() {
+			return "</table>\n";
+		}
+
+		@Override
+		String paragraph(String text) {
+			return "<p>" + text + "</p>\n\n";
+		}
+	};
+
+	private final String headingFormat;
+
+	private final String boldFormat;
+
+	private final String linkFormat;
+
+	private MarkupSyntax(String headingFormat, String boldFormat, String linkFormat) {
+		this.headingFormat = headingFormat;
+		this.boldFormat = boldFormat;
+		this.linkFormat = linkFormat;
+	}
+
+	/**
+	 * Provide the syntax of the markup language with the given name, as provided by
+	 * {@link org.eclipse.mylyn.wikitext.parser.markup.MarkupLanguage#getName()}.
+	 */
+	static MarkupSyntax forLanguage(String languageName) {
+		return valueOf(languageName.toUpperCase(Locale.ENGLISH));
+	}
+
+	/**
+	 * A list item at the given 1-based nesting level, terminated by a newline.
+	 */
+	abstract String listItem(int level, String text);
+
+	/**
+	 * A list with an item at each nesting level down to the given depth.
+	 */
+	String nestedList(int depth, String text) {
+		StringBuilder list = new StringBuilder();
+		for (int level = 1; level <= depth; ++level) {
+			list.append(listItem(level, text));
+		}
+		return list.append('\n').toString();
+	}
+
+	String heading(String text) {
+		return String.format(headingFormat, text) + "\n\n";
+	}
+
+	String bold(String text) {
+		return String.format(boldFormat, text);
+	}
+
+	String link(String url, String text) {
+		return String.format(linkFormat, url, text);
+	}
+
+	String tableStart() {
+		return "";
+	}
+
+	String tableRow(String... cells) {
+		return "|" + String.join("|", cells) + "|\n";
+	}
+
+	String tableEnd() {
+		return "\n";
+	}
+
+	/**
+	 * A paragraph of the given text, which may span several lines, followed by a blank line.
+	 */
+	String paragraph(String text) {
+		return text + "\n\n";
+	}
+}
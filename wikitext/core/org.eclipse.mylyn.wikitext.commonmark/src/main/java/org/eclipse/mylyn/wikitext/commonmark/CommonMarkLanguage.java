@@ -14,19 +14,28 @@ package org.eclipse.mylyn.wikitext.commonmark;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.concurrent.Executor;
+
 import org.eclipse.mylyn.wikitext.commonmark.internal.CommonMark;
 import org.eclipse.mylyn.wikitext.commonmark.internal.CommonMarkIdGenerationStrategy;
+import org.eclipse.mylyn.wikitext.commonmark.internal.IncrementalSourceBlocksProcessor;
 import org.eclipse.mylyn.wikitext.commonmark.internal.InlineContent;
 import org.eclipse.mylyn.wikitext.commonmark.internal.LineSequence;
+import org.eclipse.mylyn.wikitext.commonmark.internal.ParallelSourceBlocksProcessor;
 import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext;
 import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContextBuilder;
 import org.eclipse.mylyn.wikitext.commonmark.internal.SourceBlocks;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.incremental.IncrementalParseContext;
+import org.eclipse.mylyn.wikitext.parser.incremental.IncrementalParser;
 import org.eclipse.mylyn.wikitext.parser.markup.IdGenerationStrategy;
 import org.eclipse.mylyn.wikitext.parser.markup.MarkupLanguage;
 
 /**
+ * A markup language implementing CommonMark. When the {@link MarkupParser#setExecutor(Executor)
+ * executor of the parser} is set, large documents are parsed in chunks that are processed concurrently.
+ *
  * @since 3.0
  */
 public class CommonMarkLanguage extends MarkupLanguage {
@@ -49,28 +58,57 @@ public class CommonMarkLanguage extends MarkupLanguage {
 
 		SourceBlocks sourceBlocks = CommonMark.sourceBlocks();
 
-		ProcessingContext context = createContext(sourceBlocks, markupContent);
+		Executor executor = parser.getExecutor();
+		ParallelSourceBlocksProcessor parallelProcessor = executor == null
+				? null
+				: new ParallelSourceBlocksProcessor(sourceBlocks, executor);
+		if (parallelProcessor != null && parallelProcessor.isParallelizable(markupContent)) {
+			parallelProcessor.process(createContextBuilder(), builder, markupContent);
+		} else {
+			ProcessingContext context = createContext(sourceBlocks, markupContent);
 
-		sourceBlocks.process(context, builder, LineSequence.create(markupContent));
+			sourceBlocks.process(context, builder, LineSequence.create(markupContent));
+		}
 
 		if (asDocument) {
 			builder.endDocument();
 		}
 	}
 
+	/**
+	 * Processes the content for an {@link IncrementalParser}, reporting top-level blocks that follow blank lines which
+	 * end a paragraph, heading, horizontal rule or fenced code block, since such blocks can be processed independently
+	 * of the preceding content. Link reference definitions are reported as definitions of the blocks in which they
+	 * appear.
+	 */
+	@Override
+	public void processContent(MarkupParser parser, String markupContent, IncrementalParseContext context) {
+		requireNonNull(parser);
+		requireNonNull(markupContent);
+
+		DocumentBuilder builder = requireNonNull(parser.getBuilder());
+		new IncrementalSourceBlocksProcessor(CommonMark.sourceBlocks()).process(createContextBuilder(),
+				getIdGenerationStrategy(), builder, markupContent, context);
+	}
+
 	@Override
 	public IdGenerationStrategy getIdGenerationStrategy() {
 		return isStrictlyConforming() ? null : new CommonMarkIdGenerationStrategy();
 	}
 
 	private ProcessingContext createContext(SourceBlocks sourceBlocks, String markupContent) {
+		ProcessingContextBuilder contextBuilder = createContextBuilder();
+		sourceBlocks.createContext(contextBuilder, LineSequence.create(markupContent));
+		return contextBuilder.build();
+	}
+
+	private ProcessingContextBuilder createContextBuilder() {
 		ProcessingContextBuilder contextBuilder = ProcessingContext.builder()
 				.idGenerationStrategy(getIdGenerationStrategy());
 		if (!strictlyConforming) {
 			contextBuilder.inlineParser(InlineContent.markdown());
 		}
-		sourceBlocks.createContext(contextBuilder, LineSequence.create(markupContent));
-		return contextBuilder.build();
+		return contextBuilder;
 	}
 
 	public void setStrictlyConforming(boolean strictlyConforming) {
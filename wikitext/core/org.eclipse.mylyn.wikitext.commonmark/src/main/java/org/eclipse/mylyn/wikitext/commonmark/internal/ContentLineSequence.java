@@ -15,39 +15,96 @@ package org.eclipse.mylyn.wikitext.commonmark.internal;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
-import java.io.IOException;
-import java.io.StringReader;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Objects;
 
 import org.eclipse.mylyn.wikitext.commonmark.internal.LineSequence.ForwardLineSequence;
-import org.eclipse.mylyn.wikitext.util.LocationTrackingReader;
 
+/**
+ * A sequence of the lines of content. The content is split into lines once, as the offsets of the start and end of each
+ * line, and the lines are provided as views of the content. Lines that are looked ahead are retained in a ring buffer
+ * until the sequence advances past them, so that the same {@link Line} is provided for a line while it is in view.
+ */
 class ContentLineSequence extends ForwardLineSequence {
 
-	private final LocationTrackingReader reader;
+	private static final int INITIAL_BUFFER_SIZE = 8;
+
+	private final String content;
+
+	private final int firstLineNumber;
+
+	private final int firstLineOffset;
+
+	private int[] lineStarts;
+
+	private int[] lineEnds;
+
+	private int lineCount;
+
+	private int currentIndex;
 
 	private Line currentLine;
 
-	private final List<Line> followingLines = new ArrayList<Line>();
+	private Line[] followingLines = new Line[INITIAL_BUFFER_SIZE];
+
+	private int followingLinesStart;
+
+	private int followingLinesCount;
 
 	ContentLineSequence(String content) {
-		this.reader = new LocationTrackingReader(new StringReader(Objects.requireNonNull(content)));
-		currentLine = readLine();
+		this(content, 0, 0);
+	}
+
+	/**
+	 * Creates a sequence of the lines of content that is part of a larger document.
+	 *
+	 * @param content
+	 *            the content, starting at the beginning of a line of the document
+	 * @param firstLineNumber
+	 *            the 0-based line number of the first line of the content in the document
+	 * @param firstLineOffset
+	 *            the 0-based offset of the first line of the content in the document
+	 */
+	ContentLineSequence(String content, int firstLineNumber, int firstLineOffset) {
+		this.content = Objects.requireNonNull(content);
+		this.firstLineNumber = firstLineNumber;
+		this.firstLineOffset = firstLineOffset;
+		splitLines();
+		currentLine = createLine(0);
 	}
 
-	private Line readLine() {
-		String text;
-		try {
-			text = reader.readLine();
-		} catch (IOException e) {
-			throw new RuntimeException(e);
+	private void splitLines() {
+		int capacity = Math.max(INITIAL_BUFFER_SIZE, content.length() / 32);
+		lineStarts = new int[capacity];
+		lineEnds = new int[capacity];
+		int length = content.length();
+		int start = 0;
+		while (start < length) {
+			int end = start;
+			char c = 0;
+			while (end < length && (c = content.charAt(end)) != '\n' && c != '\r') {
+				++end;
+			}
+			if (lineCount == lineStarts.length) {
+				lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+				lineEnds = Arrays.copyOf(lineEnds, lineCount * 2);
+			}
+			lineStarts[lineCount] = start;
+			lineEnds[lineCount] = end;
+			++lineCount;
+			start = end + 1;
+			if (c == '\r' && start < length && content.charAt(start) == '\n') {
+				++start;
+			}
 		}
-		if (text == null) {
+	}
+
+	private Line createLine(int index) {
+		if (index >= lineCount) {
 			return null;
 		}
-		return new Line(reader.getLineNumber(), reader.getLineOffset(), text);
+		int start = lineStarts[index];
+		return new Line(firstLineNumber + index, firstLineOffset + start, content, start, lineEnds[index] - start);
 	}
 
 	@Override
@@ -63,24 +120,42 @@ class ContentLineSequence extends ForwardLineSequence {
 	@Override
 	Line getNextLine(int index) {
 		checkArgument(index >= 0);
-		while (followingLines.size() <= index) {
-			Line line = readLine();
-			if (line == null) {
-				break;
+		if (currentIndex + 1 + index >= lineCount) {
+			return null;
+		}
+		while (followingLinesCount <= index) {
+			if (followingLinesCount == followingLines.length) {
+				growFollowingLines();
 			}
-			followingLines.add(line);
+			followingLines[(followingLinesStart + followingLinesCount) & (followingLines.length - 1)] = createLine(
+					currentIndex + 1 + followingLinesCount);
+			++followingLinesCount;
 		}
-		if (followingLines.size() <= index) {
-			return null;
+		return followingLines[(followingLinesStart + index) & (followingLines.length - 1)];
+	}
+
+	private void growFollowingLines() {
+		Line[] lines = new Line[followingLines.length * 2];
+		for (int x = 0; x < followingLinesCount; ++x) {
+			lines[x] = followingLines[(followingLinesStart + x) & (followingLines.length - 1)];
 		}
-		return followingLines.get(index);
+		followingLines = lines;
+		followingLinesStart = 0;
 	}
 
 	@Override
 	public void advance() {
-		currentLine = getNextLine();
-		if (currentLine != null) {
-			followingLines.remove(0);
+		if (currentLine == null) {
+			return;
+		}
+		++currentIndex;
+		if (followingLinesCount > 0) {
+			currentLine = followingLines[followingLinesStart];
+			followingLines[followingLinesStart] = null;
+			followingLinesStart = (followingLinesStart + 1) & (followingLines.length - 1);
+			--followingLinesCount;
+		} else {
+			currentLine = createLine(currentIndex);
 		}
 	}
 
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.commonmark.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext.NamedUriWithTitle;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.IdGenerator;
+import org.eclipse.mylyn.wikitext.parser.incremental.IncrementalParseContext;
+import org.eclipse.mylyn.wikitext.parser.markup.IdGenerationStrategy;
+
+/**
+ * Processes the content of a document, or of a part of a document, for an incremental parse. The start of each
+ * {@link IndependentBlockStarts independent top-level block} is reported to the {@link IncrementalParseContext}, along
+ * with the link reference definitions of the block. The link reference definitions of the whole document are kept as
+ * the document state of the context, so that parts of the document are processed with the same definitions.
+ */
+public class IncrementalSourceBlocksProcessor {
+
+	private static final String LINK_DEFINITION_PREFIX = "link:";
+
+	private final SourceBlocks sourceBlocks;
+
+	public IncrementalSourceBlocksProcessor(SourceBlocks sourceBlocks) {
+		this.sourceBlocks = requireNonNull(sourceBlocks);
+	}
+
+	public void process(ProcessingContextBuilder contextBuilder, IdGenerationStrategy idGenerationStrategy,
+			DocumentBuilder builder, String content, IncrementalParseContext context) {
+		DefinitionCollector definitionCollector = new DefinitionCollector(contextBuilder);
+		sourceBlocks.createContext(contextBuilder, LineSequence.create(content), definitionCollector);
+
+		ProcessingContext processingContext;
+		if (context.isDocument() || !(context.getDocumentState() instanceof ProcessingContext)) {
+			processingContext = contextBuilder.build();
+			context.setDocumentState(processingContext);
+		} else {
+			processingContext = (ProcessingContext) context.getDocumentState();
+		}
+		if (idGenerationStrategy != null) {
+			IdGenerator idGenerator = context.getIdGenerator();
+			idGenerator.setGenerationStrategy(idGenerationStrategy);
+			processingContext = processingContext.withIdGenerator(idGenerator);
+		}
+		sourceBlocks.process(processingContext, builder, LineSequence.create(content),
+				new BlockStartReporter(context, definitionCollector));
+	}
+
+	private static class DefinitionCollector extends IndependentBlockStarts {
+
+		private final ProcessingContextBuilder contextBuilder;
+
+		private final List<Integer> definitionIndexes = new ArrayList<>();
+
+		DefinitionCollector(ProcessingContextBuilder contextBuilder) {
+			this.contextBuilder = contextBuilder;
+			definitionIndexes.add(0);
+		}
+
+		@Override
+		protected void independentBlockStart(Line line) {
+			definitionIndexes.add(contextBuilder.getReferenceDefinitions().size());
+		}
+
+		List<NamedUriWithTitle> definitions(int blockIndex) {
+			List<NamedUriWithTitle> definitions = contextBuilder.getReferenceDefinitions();
+			int end = blockIndex + 1 < definitionIndexes.size()
+					? definitionIndexes.get(blockIndex + 1)
+					: definitions.size();
+			return definitions.subList(definitionIndexes.get(blockIndex), end);
+		}
+	}
+
+	private static class BlockStartReporter extends IndependentBlockStarts {
+
+		private final IncrementalParseContext context;
+
+		private final DefinitionCollector definitionCollector;
+
+		private int blockIndex;
+
+		BlockStartReporter(IncrementalParseContext context, DefinitionCollector definitionCollector) {
+			this.context = context;
+			this.definitionCollector = definitionCollector;
+			addDefinitions();
+		}
+
+		@Override
+		protected void independentBlockStart(Line line) {
+			context.blockStart(line.getOffset());
+			++blockIndex;
+			addDefinitions();
+		}
+
+		private void addDefinitions() {
+			for (NamedUriWithTitle definition : definitionCollector.definitions(blockIndex)) {
+				context.addDefinition(LINK_DEFINITION_PREFIX + ReferenceLabelNormalizer.normalizeLabel(definition.getName()),
+						Arrays.asList(definition.getUri(), definition.getTitle()));
+			}
+		}
+	}
+}
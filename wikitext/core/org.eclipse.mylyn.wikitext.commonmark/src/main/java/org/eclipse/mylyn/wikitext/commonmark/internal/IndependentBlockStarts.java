@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.commonmark.internal;
+
+import java.util.function.Predicate;
+
+import org.eclipse.mylyn.wikitext.commonmark.internal.SourceBlocks.BlockContext;
+import org.eclipse.mylyn.wikitext.commonmark.internal.blocks.AtxHeaderBlock;
+import org.eclipse.mylyn.wikitext.commonmark.internal.blocks.EmptyBlock;
+import org.eclipse.mylyn.wikitext.commonmark.internal.blocks.FencedCodeBlock;
+import org.eclipse.mylyn.wikitext.commonmark.internal.blocks.HorizontalRuleBlock;
+import org.eclipse.mylyn.wikitext.commonmark.internal.blocks.ParagraphBlock;
+import org.eclipse.mylyn.wikitext.commonmark.internal.blocks.SetextHeaderBlock;
+
+/**
+ * A predicate of {@link SourceBlocks} that detects the top-level blocks at which the content can be processed
+ * independently of the preceding content, which are the blocks that follow blank lines which end a paragraph, heading,
+ * horizontal rule or fenced code block: such blocks end without regard to the content that follows the blank lines.
+ * Blank lines within lists, block quotes, indented code and HTML blocks never precede an independent block. The
+ * predicate never stops processing.
+ */
+abstract class IndependentBlockStarts implements Predicate<BlockContext> {
+
+	private SourceBlock blockBeforePrevious;
+
+	@Override
+	public boolean test(BlockContext blockContext) {
+		SourceBlock currentBlock = blockContext.getCurrentBlock();
+		if (currentBlock != null && !(currentBlock instanceof EmptyBlock)
+				&& blockContext.getPreviousBlock() instanceof EmptyBlock && endsIndependently(blockBeforePrevious)) {
+			independentBlockStart(blockContext.getLineSequence().getCurrentLine());
+		}
+		blockBeforePrevious = blockContext.getPreviousBlock();
+		return true;
+	}
+
+	/**
+	 * Called before an independent block is processed.
+	 *
+	 * @param line
+	 *            the first line of the block
+	 */
+	protected abstract void independentBlockStart(Line line);
+
+	private static boolean endsIndependently(SourceBlock block) {
+		return block instanceof ParagraphBlock || block instanceof AtxHeaderBlock || block instanceof SetextHeaderBlock
+				|| block instanceof HorizontalRuleBlock || block instanceof FencedCodeBlock;
+	}
+}
@@ -31,14 +31,33 @@ import com.google.common.collect.ImmutableList;
 
 public class InlineContent {
 
+	private static final InlineParser COMMON_MARK_STRICT = createCommonMarkStrict();
+
+	private static final InlineParser MARKDOWN = createMarkdown();
+
+	/**
+	 * Provides the inline parser of strict CommonMark. Inline parsers and their spans are immutable, so the same
+	 * instance is shared by all parses.
+	 */
 	public static InlineParser commonMarkStrict() {
+		return COMMON_MARK_STRICT;
+	}
+
+	/**
+	 * Provides the inline parser of CommonMark with Markdown extensions, shared as for {@link #commonMarkStrict()}.
+	 */
+	public static InlineParser markdown() {
+		return MARKDOWN;
+	}
+
+	private static InlineParser createCommonMarkStrict() {
 		ImmutableList.Builder<SourceSpan> spansBuilder = ImmutableList.builder();
 		addStandardSpans(spansBuilder);
 		addTerminatorSpans(spansBuilder);
 		return new InlineParser(spansBuilder.build());
 	}
 
-	public static InlineParser markdown() {
+	private static InlineParser createMarkdown() {
 		ImmutableList.Builder<SourceSpan> spansBuilder = ImmutableList.builder();
 		addStandardSpans(spansBuilder);
 		spansBuilder.add(new AutoLinkWithoutDemarcationSpan());
@@ -16,36 +16,100 @@ package org.eclipse.mylyn.wikitext.commonmark.internal;
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
+import java.nio.CharBuffer;
 import java.util.Objects;
 
 import org.eclipse.mylyn.wikitext.parser.Locator;
 
 import com.google.common.base.CharMatcher;
 
+/**
+ * A line of a document, which is a view of a range of the characters of its source without a copy of the characters.
+ */
 public class Line {
 
-	private final String text;
+	private final String source;
+
+	private final int start;
+
+	private final int length;
 
 	private final int offset;
 
 	private final int lineNumber;
 
+	private String text;
+
 	public Line(int lineNumber, int offset, String text) {
+		this(lineNumber, offset, Objects.requireNonNull(text), 0, text.length());
+	}
+
+	/**
+	 * Creates a line that is a view of a range of the given source.
+	 *
+	 * @param lineNumber
+	 *            the 0-based line number
+	 * @param offset
+	 *            the 0-based offset of the first character of the line in the document
+	 * @param source
+	 *            the characters of which the line is a view
+	 * @param start
+	 *            the index of the first character of the line in the source
+	 * @param length
+	 *            the number of characters of the line
+	 */
+	Line(int lineNumber, int offset, String source, int start, int length) {
 		checkArgument(offset >= 0);
 		checkArgument(lineNumber >= 0);
+		checkArgument(start >= 0 && length >= 0 && start + length <= source.length());
 		this.lineNumber = lineNumber;
 		this.offset = offset;
-		this.text = Objects.requireNonNull(text);
+		this.source = source;
+		this.start = start;
+		this.length = length;
+		if (start == 0 && length == source.length()) {
+			text = source;
+		}
 	}
 
 	public boolean isEmpty() {
-		return !CharMatcher.whitespace().negate().matchesAnyOf(text);
+		for (int x = start; x < start + length; ++x) {
+			if (!CharMatcher.whitespace().matches(source.charAt(x))) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	public String getText() {
+		if (text == null) {
+			text = source.substring(start, start + length);
+		}
 		return text;
 	}
 
+	/**
+	 * Provides the number of characters of the {@link #getText() text} of this line.
+	 *
+	 * @return the length
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * Provides the {@link #getText() text} of this line as a character sequence that is a view of the source of this
+	 * line, for matching the line without copying its characters.
+	 *
+	 * @return the character sequence
+	 */
+	public CharSequence asCharSequence() {
+		if (text != null) {
+			return text;
+		}
+		return CharBuffer.wrap(source, start, start + length);
+	}
+
 	/**
 	 * Provides the 0-based offset of the first character of the line.
 	 * 
@@ -74,7 +138,8 @@ public class Line {
 	 * @return the segment
 	 */
 	public Line segment(int offset, int length) {
-		return new Line(lineNumber, this.offset + offset, text.substring(offset, offset + length));
+		checkArgument(offset >= 0 && length >= 0 && offset + length <= this.length);
+		return new Line(lineNumber, this.offset + offset, source, start + offset, length);
 	}
 
 	public Locator toLocator() {
@@ -85,7 +150,7 @@ public class Line {
 	public String toString() {
 		return toStringHelper(Line.class).add("lineNumber", lineNumber)
 				.add("offset", offset)
-				.add("text", ToStringHelper.toStringValue(text))
+				.add("text", ToStringHelper.toStringValue(getText()))
 				.toString();
 	}
 }
@@ -43,7 +43,7 @@ public class LinePredicates {
 
 			@Override
 			public boolean test(Line input) {
-				return input != null && pattern.matcher(input.getText()).matches();
+				return input != null && pattern.matcher(input.asCharSequence()).matches();
 			}
 		};
 	}
@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.commonmark.internal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.mylyn.wikitext.parser.Attributes;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.IdGenerator;
+import org.eclipse.mylyn.wikitext.parser.builder.EventDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.builder.MultiplexingDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.builder.event.DocumentBuilderEvents;
+
+/**
+ * Processes the top-level blocks of a document in chunks that are parsed concurrently, producing the same
+ * {@link DocumentBuilder} events as {@link SourceBlocks#process(ProcessingContext, DocumentBuilder, LineSequence)}.
+ * <p>
+ * The document is split before {@link IndependentBlockStarts independent top-level blocks}, so that the chunks can be
+ * processed independently. Link reference definitions of the whole document are collected before the chunks are
+ * processed, and heading ids are generated in document order as the events of each chunk are replayed, so that ids are
+ * unique across the document as they are for a serial parse.
+ * </p>
+ * <p>
+ * A chunk that no thread of the executor has started by the time its events are needed, including a chunk that the
+ * executor rejected, is processed on the calling thread. The calling thread only waits for chunks that are already
+ * being processed, so that it cannot be blocked by a saturated executor, including an executor on which it runs.
+ * </p>
+ */
+public class ParallelSourceBlocksProcessor {
+
+	private static final int DEFAULT_CHUNK_LENGTH = 64 * 1024;
+
+	private static final char ID_PLACEHOLDER_PREFIX = '\uFFFF';
+
+	private final SourceBlocks sourceBlocks;
+
+	private final Executor executor;
+
+	private final int chunkLength;
+
+	private final int maxInFlight;
+
+	public ParallelSourceBlocksProcessor(SourceBlocks sourceBlocks, Executor executor) {
+		this(sourceBlocks, executor, DEFAULT_CHUNK_LENGTH);
+	}
+
+	ParallelSourceBlocksProcessor(SourceBlocks sourceBlocks, Executor executor, int chunkLength) {
+		checkArgument(chunkLength > 0);
+		this.sourceBlocks = requireNonNull(sourceBlocks);
+		this.executor = requireNonNull(executor);
+		this.chunkLength = chunkLength;
+		this.maxInFlight = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+	}
+
+	/**
+	 * Indicates whether the given content is large enough to be processed in more than one chunk.
+	 */
+	public boolean isParallelizable(String content) {
+		return content.length() >= chunkLength * 2;
+	}
+
+	/**
+	 * Creates the context of the given content using the given builder, and processes the content emitting the result
+	 * to the given document builder.
+	 */
+	public void process(ProcessingContextBuilder contextBuilder, DocumentBuilder builder, String content) {
+		SplitPointCollector splitPoints = new SplitPointCollector();
+		sourceBlocks.createContext(contextBuilder, LineSequence.create(content), splitPoints);
+		ProcessingContext context = contextBuilder.build();
+
+		ArrayDeque<ChunkTask> inFlight = new ArrayDeque<>();
+		Line start = null;
+		for (Line end : splitPoints.splitPoints) {
+			submit(inFlight, context, content, start, end);
+			start = end;
+			if (inFlight.size() >= maxInFlight) {
+				replay(inFlight.removeFirst(), context, builder);
+			}
+		}
+		submit(inFlight, context, content, start, null);
+		while (!inFlight.isEmpty()) {
+			replay(inFlight.removeFirst(), context, builder);
+		}
+	}
+
+	private void submit(ArrayDeque<ChunkTask> inFlight, ProcessingContext context, String content,
+			Line start, Line end) {
+		int startOffset = start == null ? 0 : start.getOffset();
+		String chunkContent = content.substring(startOffset, end == null ? content.length() : end.getOffset());
+		LineSequence lineSequence = new ContentLineSequence(chunkContent, start == null ? 0 : start.getLineNumber(),
+				startOffset);
+		ChunkTask task = new ChunkTask(context, lineSequence);
+		inFlight.addLast(task);
+		try {
+			executor.execute(task);
+		} catch (RejectedExecutionException e) {
+			// the chunk is processed on the calling thread when it is replayed
+		}
+	}
+
+	private Chunk processChunk(ProcessingContext context, LineSequence lineSequence) {
+		DeferredIdGenerator idGenerator = new DeferredIdGenerator();
+		EventDocumentBuilder builder = new EventDocumentBuilder();
+		sourceBlocks.process(context.withIdGenerator(idGenerator), builder, lineSequence);
+		return new Chunk(builder.getDocumentBuilderEvents(), idGenerator.requests);
+	}
+
+	private void replay(ChunkTask task, ProcessingContext context, DocumentBuilder builder) {
+		Chunk chunk;
+		try {
+			chunk = task.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+		IdGenerator idGenerator = context.getIdGenerator();
+		String[] ids = new String[chunk.idRequests.size()];
+		for (int x = 0; x < ids.length; ++x) {
+			String[] request = chunk.idRequests.get(x);
+			ids[x] = idGenerator.newId(request[0], request[1]);
+		}
+		chunk.events.applyTo(ids.length == 0 ? builder : new HeadingIdDocumentBuilder(builder, ids));
+	}
+
+	/**
+	 * Processes a chunk once, on whichever of a thread of the executor or the calling thread claims it first.
+	 */
+	private class ChunkTask implements Runnable {
+
+		private final ProcessingContext context;
+
+		private final LineSequence lineSequence;
+
+		private final AtomicBoolean claimed = new AtomicBoolean();
+
+		private final CompletableFuture<Chunk> result = new CompletableFuture<>();
+
+		ChunkTask(ProcessingContext context, LineSequence lineSequence) {
+			this.context = context;
+			this.lineSequence = lineSequence;
+		}
+
+		@Override
+		public void run() {
+			if (claimed.compareAndSet(false, true)) {
+				try {
+					result.complete(processChunk(context, lineSequence));
+				} catch (Throwable t) {
+					result.completeExceptionally(t);
+				}
+			}
+		}
+
+		/**
+		 * Provides the processed chunk, processing it on the calling thread if it has not been started.
+		 */
+		Chunk join() {
+			run();
+			return result.join();
+		}
+	}
+
+	private static class Chunk {
+
+		private final DocumentBuilderEvents events;
+
+		private final List<String[]> idRequests;
+
+		Chunk(DocumentBuilderEvents events, List<String[]> idRequests) {
+			this.events = events;
+			this.idRequests = idRequests;
+		}
+	}
+
+	private class SplitPointCollector extends IndependentBlockStarts {
+
+		private final List<Line> splitPoints = new ArrayList<>();
+
+		private int chunkOffset;
+
+		@Override
+		protected void independentBlockStart(Line line) {
+			if (line.getOffset() - chunkOffset >= chunkLength) {
+				splitPoints.add(line);
+				chunkOffset = line.getOffset();
+			}
+		}
+	}
+
+	/**
+	 * Records the ids requested while processing a chunk, providing a placeholder for each id that is replaced as the
+	 * chunk is replayed.
+	 */
+	private static class DeferredIdGenerator extends IdGenerator {
+
+		private final List<String[]> requests = new ArrayList<>();
+
+		@Override
+		public String newId(String type, String text) {
+			requests.add(new String[] { type, text });
+			return ID_PLACEHOLDER_PREFIX + Integer.toString(requests.size() - 1);
+		}
+	}
+
+	private static class HeadingIdDocumentBuilder extends MultiplexingDocumentBuilder {
+
+		private final String[] ids;
+
+		HeadingIdDocumentBuilder(DocumentBuilder delegate, String[] ids) {
+			super(delegate);
+			this.ids = ids;
+		}
+
+		@Override
+		public void beginHeading(int level, Attributes attributes) {
+			String id = attributes.getId();
+			if (id != null && !id.isEmpty() && id.charAt(0) == ID_PLACEHOLDER_PREFIX) {
+				attributes = attributes.clone();
+				attributes.setId(ids[Integer.parseInt(id.substring(1))]);
+			}
+			super.beginHeading(level, attributes);
+		}
+	}
+}
@@ -59,10 +59,14 @@ public class ProcessingContext {
 
 	private final IdGenerator idGenerator;
 
-	ProcessingContext(InlineParser inlineParser, Map<String, NamedUriWithTitle> links, IdGenerator idGenerator) {
+	private final ReferenceLabelNormalizer labelNormalizer;
+
+	ProcessingContext(InlineParser inlineParser, Map<String, NamedUriWithTitle> links, IdGenerator idGenerator,
+			ReferenceLabelNormalizer labelNormalizer) {
 		this.inlineParser = requireNonNull(inlineParser);
 		this.links = requireNonNull(links);
 		this.idGenerator = requireNonNull(idGenerator);
+		this.labelNormalizer = requireNonNull(labelNormalizer);
 	}
 
 	public boolean isEmpty() {
@@ -70,7 +74,7 @@ public class ProcessingContext {
 	}
 
 	public NamedUriWithTitle namedUriWithTitle(String name) {
-		return links.get(name.toLowerCase());
+		return links.get(labelNormalizer.normalize(name));
 	}
 
 	public String generateHeadingId(int headingLevel, String headingText) {
@@ -80,4 +84,12 @@ public class ProcessingContext {
 	public InlineParser getInlineParser() {
 		return inlineParser;
 	}
+
+	IdGenerator getIdGenerator() {
+		return idGenerator;
+	}
+
+	ProcessingContext withIdGenerator(IdGenerator idGenerator) {
+		return new ProcessingContext(inlineParser, links, idGenerator, labelNormalizer);
+	}
 }
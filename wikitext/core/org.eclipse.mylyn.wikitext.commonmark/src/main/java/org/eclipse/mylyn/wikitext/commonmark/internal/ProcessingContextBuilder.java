@@ -13,8 +13,9 @@
 
 package org.eclipse.mylyn.wikitext.commonmark.internal;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Locale;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext.NamedUriWithTitle;
@@ -28,16 +29,19 @@ public class ProcessingContextBuilder {
 
 	private final Map<String, NamedUriWithTitle> linkByName = new HashMap<>();
 
+	private final List<NamedUriWithTitle> referenceDefinitions = new ArrayList<>();
+
+	private final ReferenceLabelNormalizer labelNormalizer = new ReferenceLabelNormalizer();
+
 	private IdGenerationStrategy idGenerationStrategy = new CommonMarkIdGenerationStrategy();
 
 	private InlineParser inlineParser;
 
 	public ProcessingContextBuilder referenceDefinition(String name, String href, String title) {
 		if (!Strings.isNullOrEmpty(name)) {
-			String key = name.toLowerCase(Locale.ROOT);
-			if (!linkByName.containsKey(key)) {
-				linkByName.put(key, new NamedUriWithTitle(name, href, title));
-			}
+			NamedUriWithTitle definition = new NamedUriWithTitle(name, href, title);
+			referenceDefinitions.add(definition);
+			linkByName.putIfAbsent(labelNormalizer.normalize(name), definition);
 		}
 		return this;
 	}
@@ -48,7 +52,8 @@ public class ProcessingContextBuilder {
 	}
 
 	public ProcessingContext build() {
-		return new ProcessingContext(getInlineParser(), Map.copyOf(linkByName), idGenerator());
+		return new ProcessingContext(getInlineParser(), Map.copyOf(linkByName), idGenerator(),
+				labelNormalizer);
 	}
 
 	public ProcessingContextBuilder inlineParser(InlineParser inlineParser) {
@@ -56,6 +61,14 @@ public class ProcessingContextBuilder {
 		return this;
 	}
 
+	/**
+	 * Provides all of the reference definitions in the order that they were made, including those that are ignored
+	 * because a definition with the same name was made before.
+	 */
+	List<NamedUriWithTitle> getReferenceDefinitions() {
+		return referenceDefinitions;
+	}
+
 	public InlineParser getInlineParser() {
 		return inlineParser == null ? InlineContent.commonMarkStrict() : inlineParser;
 	}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.commonmark.internal;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Normalizes link labels so that labels can be matched by their normalized form: labels are case folded, leading and
+ * trailing whitespace is removed, and consecutive internal whitespace is collapsed to a single space. Normalized forms
+ * are memoized, since the same labels are typically used many times in a document.
+ */
+public class ReferenceLabelNormalizer {
+
+	private final Map<String, String> normalizedLabels = new ConcurrentHashMap<>();
+
+	/**
+	 * Provides the normalized form of the given label.
+	 *
+	 * @param label
+	 *            the link label
+	 * @return the normalized label
+	 */
+	public String normalize(String label) {
+		return normalizedLabels.computeIfAbsent(label, ReferenceLabelNormalizer::normalizeLabel);
+	}
+
+	/**
+	 * Provides the normalized form of the given label, without memoization.
+	 *
+	 * @param label
+	 *            the link label
+	 * @return the normalized label
+	 */
+	public static String normalizeLabel(String label) {
+		return caseFold(trimSpaces(collapseWhitespace(label)));
+	}
+
+	/**
+	 * Replaces each sequence of consecutive whitespace characters of the given text with a single space.
+	 *
+	 * @param text
+	 *            the text
+	 * @return the text with whitespace collapsed
+	 */
+	public static String collapseWhitespace(String text) {
+		StringBuilder builder = null;
+		for (int x = 0; x < text.length(); ++x) {
+			char c = text.charAt(x);
+			if (isWhitespace(c)) {
+				int end = x + 1;
+				while (end < text.length() && isWhitespace(text.charAt(end))) {
+					++end;
+				}
+				if (c != ' ' || end > x + 1) {
+					if (builder == null) {
+						builder = new StringBuilder(text.length());
+						builder.append(text, 0, x);
+					}
+					builder.append(' ');
+					x = end - 1;
+					continue;
+				}
+			}
+			if (builder != null) {
+				builder.append(c);
+			}
+		}
+		return builder == null ? text : builder.toString();
+	}
+
+	private static String trimSpaces(String text) {
+		int start = 0;
+		int end = text.length();
+		while (start < end && text.charAt(start) == ' ') {
+			++start;
+		}
+		while (end > start && text.charAt(end - 1) == ' ') {
+			--end;
+		}
+		return text.substring(start, end);
+	}
+
+	/**
+	 * Approximates Unicode full case folding by converting to lower case and then to upper case, so that for example
+	 * the German sharp s and {@code SS} have the same folded form.
+	 */
+	private static String caseFold(String text) {
+		return text.toLowerCase(Locale.ROOT).toUpperCase(Locale.ROOT);
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000b' || c == '\f' || c == '\r';
+	}
+}
@@ -31,14 +31,14 @@ public class SimpleLocator implements Locator {
 	private final int lineSegmentEndOffset;
 
 	public SimpleLocator(Line line) {
-		this(line, 0, line.getText().length());
+		this(line, 0, line.getLength());
 	}
 
 	public SimpleLocator(Line line, int lineCharacterOffset, int lineSegmentEndOffset) {
 		requireNonNull(line);
 		lineNumber = line.getLineNumber() + 1;
 		lineDocumentOffset = line.getOffset();
-		lineLength = line.getText().length();
+		lineLength = line.getLength();
 		this.lineCharacterOffset = lineCharacterOffset;
 		this.lineSegmentEndOffset = lineSegmentEndOffset;
 	}
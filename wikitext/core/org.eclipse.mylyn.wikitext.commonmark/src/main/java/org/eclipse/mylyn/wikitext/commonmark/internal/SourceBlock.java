@@ -15,13 +15,39 @@ package org.eclipse.mylyn.wikitext.commonmark.internal;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.builder.NoOpDocumentBuilder;
 
+import com.google.common.base.CharMatcher;
+
 public abstract class SourceBlock {
 
+	/**
+	 * The context with which blocks without inline content are processed when creating the context. It has no reference
+	 * definitions and generates no heading ids, so that it can be shared.
+	 */
+	private static final ProcessingContext EMPTY_CONTEXT = ProcessingContext.builder()
+			.idGenerationStrategy(null)
+			.build();
+
 	public abstract void process(ProcessingContext context, DocumentBuilder builder, LineSequence lineSequence);
 
 	public abstract boolean canStart(LineSequence lineSequence);
 
+	/**
+	 * Provides the characters with which a line at which this block can start may begin, after any leading whitespace.
+	 * Lines that are blank are represented by a line feed. {@link SourceBlocks} only tests whether the block
+	 * {@link #canStart(LineSequence) can start} at lines that begin with one of these characters.
+	 *
+	 * @return the start characters, which by default are all characters
+	 */
+	public CharMatcher getStartCharacters() {
+		return CharMatcher.any();
+	}
+
+	/**
+	 * Consumes the lines of this block, adding the reference definitions made by the block to the context builder. By
+	 * default the block is processed without output and adds nothing to the context, which is suitable for blocks that
+	 * have no inline content. Blocks that can make reference definitions override this method.
+	 */
 	public void createContext(ProcessingContextBuilder contextBuilder, LineSequence lineSequence) {
-		process(contextBuilder.build(), new NoOpDocumentBuilder(), lineSequence);
+		process(EMPTY_CONTEXT, new NoOpDocumentBuilder(), lineSequence);
 	}
 }
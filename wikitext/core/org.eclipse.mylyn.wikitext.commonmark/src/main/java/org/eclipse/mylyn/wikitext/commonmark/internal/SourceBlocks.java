@@ -21,7 +21,6 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
-import org.eclipse.mylyn.wikitext.parser.builder.NoOpDocumentBuilder;
 
 public class SourceBlocks extends SourceBlock {
 
@@ -52,14 +51,29 @@ public class SourceBlocks extends SourceBlock {
 		}
 	}
 
+	private static final int DISPATCH_TABLE_SIZE = 128;
+
+	private static final char BLANK_LINE = '\n';
+
 	private final List<SourceBlock> supportedBlocks;
 
+	/**
+	 * The blocks that may start at lines beginning with each ASCII character, in the order of {@link #supportedBlocks}.
+	 */
+	private final SourceBlock[][] blocksByStartCharacter = new SourceBlock[DISPATCH_TABLE_SIZE][];
+
 	public SourceBlocks(SourceBlock... blocks) {
 		this(Arrays.asList(requireNonNull(blocks)));
 	}
 
 	SourceBlocks(List<SourceBlock> supportedBlocks) {
 		this.supportedBlocks = List.copyOf(supportedBlocks);
+		for (int c = 0; c < DISPATCH_TABLE_SIZE; ++c) {
+			char character = (char) c;
+			blocksByStartCharacter[c] = this.supportedBlocks.stream()
+					.filter(block -> block.getStartCharacters().matches(character))
+					.toArray(SourceBlock[]::new);
+		}
 	}
 
 	private interface SourceBlockRunnable {
@@ -89,13 +103,17 @@ public class SourceBlocks extends SourceBlock {
 				predicate);
 	}
 
-	public List<SourceBlock> calculateSourceBlocks(final ProcessingContext context, LineSequence lineSequence,
-			Predicate<BlockContext> predicate) {
+	/**
+	 * Calculates the blocks of the given lines, consuming the lines. Blocks are consumed as for
+	 * {@link SourceBlock#createContext(ProcessingContextBuilder, LineSequence) creating the context}, so that their
+	 * content is neither parsed nor processed.
+	 */
+	public List<SourceBlock> calculateSourceBlocks(LineSequence lineSequence, Predicate<BlockContext> predicate) {
 		final List<SourceBlock> sourceBlocks = new ArrayList<>();
-		final NoOpDocumentBuilder builder = new NoOpDocumentBuilder();
+		final ProcessingContextBuilder contextBuilder = ProcessingContext.builder();
 		process(lineSequence, (lineSequence1, sourceBlock) -> {
 			sourceBlocks.add(sourceBlock);
-			sourceBlock.process(context, builder, lineSequence1);
+			sourceBlock.createContext(contextBuilder, lineSequence1);
 		}, predicate);
 		return sourceBlocks;
 	}
@@ -118,14 +136,41 @@ public class SourceBlocks extends SourceBlock {
 	}
 
 	public SourceBlock selectBlock(LineSequence lineSequence) {
-		for (SourceBlock candidate : supportedBlocks) {
-			if (candidate.canStart(lineSequence)) {
-				return candidate;
+		Line line = lineSequence.getCurrentLine();
+		if (line == null) {
+			return null;
+		}
+		char c = startCharacter(line);
+		if (c < DISPATCH_TABLE_SIZE) {
+			for (SourceBlock candidate : blocksByStartCharacter[c]) {
+				if (candidate.canStart(lineSequence)) {
+					return candidate;
+				}
+			}
+		} else {
+			for (SourceBlock candidate : supportedBlocks) {
+				if (candidate.getStartCharacters().matches(c) && candidate.canStart(lineSequence)) {
+					return candidate;
+				}
 			}
 		}
 		return null;
 	}
 
+	/**
+	 * Provides the first character of the line that is not whitespace, or {@link #BLANK_LINE} if there is none.
+	 */
+	private static char startCharacter(Line line) {
+		CharSequence text = line.asCharSequence();
+		for (int x = 0; x < text.length(); ++x) {
+			char c = text.charAt(x);
+			if (c != ' ' && c != '\t' && c != '\u000b' && c != '\f' && c != '\r' && c != '\n') {
+				return c;
+			}
+		}
+		return BLANK_LINE;
+	}
+
 	@Override
 	public boolean canStart(LineSequence lineSequence) {
 		return true;
@@ -15,7 +15,7 @@ package org.eclipse.mylyn.wikitext.commonmark.internal;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
-import static java.util.Objects.requireNonNull;
+import static com.google.common.base.Preconditions.checkState;
 
 import java.util.List;
 
@@ -27,20 +27,28 @@ public class TextSegment {
 
 	private final String text;
 
+	private final int[] lineTextOffsets;
+
 	public TextSegment(Iterable<Line> lines) {
 		this.lines = ImmutableList.copyOf(lines);
-		text = computeText(this.lines);
+		lineTextOffsets = new int[this.lines.size()];
+		text = computeText(this.lines, lineTextOffsets);
 	}
 
-	private static String computeText(List<Line> lines) {
-		String text = "";
+	private static String computeText(List<Line> lines, int[] lineTextOffsets) {
+		int length = 0;
 		for (Line line : lines) {
+			length += line.getLength() + 1;
+		}
+		StringBuilder text = new StringBuilder(Math.max(0, length - 1));
+		for (int x = 0; x < lines.size(); ++x) {
 			if (text.length() > 0) {
-				text += "\n";
+				text.append('\n');
 			}
-			text += line.getText();
+			lineTextOffsets[x] = x == 0 ? 0 : lineTextOffsets[x - 1] + lines.get(x - 1).getLength() + 1;
+			text.append(lines.get(x).asCharSequence());
 		}
-		return text;
+		return text.toString();
 	}
 
 	public String getText() {
@@ -53,28 +61,30 @@ public class TextSegment {
 
 	public int offsetOf(int textOffset) {
 		checkArgument(textOffset >= 0);
-		int textOffsetOfLine = 0;
-		int remainder = textOffset;
-		for (Line line : lines) {
-			textOffsetOfLine = line.getOffset();
-			int linePlusSeparatorLength = line.getText().length() + 1;
-			if (linePlusSeparatorLength > remainder) {
-				break;
-			}
-			remainder -= linePlusSeparatorLength;
+		if (lines.isEmpty()) {
+			return textOffset;
 		}
-		return textOffsetOfLine + remainder;
+		int index = indexOfLineAtTextOffset(textOffset);
+		return lines.get(index).getOffset() + textOffset - lineTextOffsets[index];
 	}
 
 	public int toTextOffset(int documentOffset) {
-		int textOffset = 0;
-		for (Line line : lines) {
+		int low = 0;
+		int high = lines.size() - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (lines.get(middle).getOffset() <= documentOffset) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+		if (!lines.isEmpty()) {
+			Line line = lines.get(low);
 			int lineRelativeOffset = documentOffset - line.getOffset();
-			int linePlusSeparatorLength = line.getText().length() + 1;
-			if (lineRelativeOffset >= 0 && lineRelativeOffset < linePlusSeparatorLength) {
-				return textOffset + lineRelativeOffset;
+			if (lineRelativeOffset >= 0 && lineRelativeOffset < line.getLength() + 1) {
+				return lineTextOffsets[low] + lineRelativeOffset;
 			}
-			textOffset += linePlusSeparatorLength;
 		}
 		throw new IllegalArgumentException();
 	}
@@ -85,15 +95,22 @@ public class TextSegment {
 	}
 
 	public Line getLineAtOffset(int textOffset) {
-		int documentOffset = offsetOf(textOffset);
-		Line previous = null;
-		for (Line line : lines) {
-			if (line.getOffset() > documentOffset) {
-				break;
+		checkArgument(textOffset >= 0);
+		checkState(!lines.isEmpty());
+		return lines.get(indexOfLineAtTextOffset(textOffset));
+	}
+
+	private int indexOfLineAtTextOffset(int textOffset) {
+		int low = 0;
+		int high = lines.size() - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (lineTextOffsets[middle] <= textOffset) {
+				low = middle;
+			} else {
+				high = middle - 1;
 			}
-			previous = line;
 		}
-		return requireNonNull(previous);
+		return low;
 	}
-
 }
@@ -17,33 +17,56 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.function.Function;
 
+/**
+ * A sequence of lines that are transformed from the lines of another sequence. The most recently transformed lines are
+ * remembered, shared with {@link #lookAhead() look-ahead} sequences, so that a line is transformed to the same
+ * {@link Line} each time it is provided. Sequences that are nested in this one can therefore recognize a line that they
+ * have already tested.
+ */
 class TransformLineSequence extends LineSequence {
 
+	private static final int CACHE_SIZE = 16;
+
 	private final LineSequence delegate;
 
 	private final Function<Line, Line> transform;
 
+	private final Line[] sourceLines;
+
+	private final Line[] transformedLines;
+
 	public TransformLineSequence(LineSequence delegate, Function<Line, Line> transform) {
+		this(delegate, transform, new Line[CACHE_SIZE], new Line[CACHE_SIZE]);
+	}
+
+	private TransformLineSequence(LineSequence delegate, Function<Line, Line> transform, Line[] sourceLines,
+			Line[] transformedLines) {
 		this.delegate = requireNonNull(delegate);
 		this.transform = requireNonNull(transform);
+		this.sourceLines = sourceLines;
+		this.transformedLines = transformedLines;
 	}
 
 	@Override
 	public Line getCurrentLine() {
-		Line line = delegate.getCurrentLine();
-		if (line != null) {
-			line = transform.apply(line);
-		}
-		return line;
+		return transform(delegate.getCurrentLine());
 	}
 
 	@Override
 	public Line getNextLine() {
-		Line line = delegate.getNextLine();
-		if (line != null) {
-			line = transform.apply(line);
+		return transform(delegate.getNextLine());
+	}
+
+	private Line transform(Line line) {
+		if (line == null) {
+			return null;
+		}
+		int slot = line.getLineNumber() & (CACHE_SIZE - 1);
+		if (sourceLines[slot] != line) {
+			transformedLines[slot] = transform.apply(line);
+			sourceLines[slot] = line;
 		}
-		return line;
+		return transformedLines[slot];
 	}
 
 	@Override
@@ -53,7 +76,7 @@ class TransformLineSequence extends LineSequence {
 
 	@Override
 	public LineSequence lookAhead() {
-		return new TransformLineSequence(delegate.lookAhead(), transform);
+		return new TransformLineSequence(delegate.lookAhead(), transform, sourceLines, transformedLines);
 	}
 
 }
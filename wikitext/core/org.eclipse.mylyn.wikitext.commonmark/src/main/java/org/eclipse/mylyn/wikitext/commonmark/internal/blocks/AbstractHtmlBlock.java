@@ -24,8 +24,12 @@ import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext;
 import org.eclipse.mylyn.wikitext.commonmark.internal.SourceBlock;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 
+import com.google.common.base.CharMatcher;
+
 abstract class AbstractHtmlBlock extends SourceBlock {
 
+	private static final CharMatcher START_CHARACTERS = CharMatcher.is('<');
+
 	@Override
 	public void process(ProcessingContext context, DocumentBuilder builder, LineSequence lineSequence) {
 		Line line = lineSequence.getCurrentLine();
@@ -56,11 +60,16 @@ abstract class AbstractHtmlBlock extends SourceBlock {
 		}
 	}
 
+	@Override
+	public CharMatcher getStartCharacters() {
+		return START_CHARACTERS;
+	}
+
 	@Override
 	public boolean canStart(LineSequence lineSequence) {
 		Line line = lineSequence.getCurrentLine();
 		if (line != null) {
-			return startPattern().matcher(line.getText()).matches();
+			return startPattern().matcher(line.asCharSequence()).matches();
 		}
 		return false;
 	}
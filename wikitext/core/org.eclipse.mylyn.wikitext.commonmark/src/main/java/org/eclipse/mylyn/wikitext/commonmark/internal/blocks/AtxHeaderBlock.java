@@ -16,26 +16,38 @@ package org.eclipse.mylyn.wikitext.commonmark.internal.blocks;
 import static com.google.common.base.Preconditions.checkState;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.mylyn.wikitext.commonmark.internal.Line;
 import org.eclipse.mylyn.wikitext.commonmark.internal.LineSequence;
 import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext;
+import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContextBuilder;
 import org.eclipse.mylyn.wikitext.commonmark.internal.SourceBlock;
 import org.eclipse.mylyn.wikitext.commonmark.internal.TextSegment;
+import org.eclipse.mylyn.wikitext.commonmark.internal.inlines.Inline;
 import org.eclipse.mylyn.wikitext.commonmark.internal.inlines.InlineParser;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.HeadingAttributes;
 
+import com.google.common.base.CharMatcher;
+
 public class AtxHeaderBlock extends SourceBlock {
 
+	private static final CharMatcher START_CHARACTERS = CharMatcher.is('#');
+
 	private static final Pattern PATTERN = Pattern.compile(" {0,3}(#{1,6})(?:[ \t]+?(.+?))??(?:[ \t]+#+)?[ \t]*");
 
+	@Override
+	public void createContext(ProcessingContextBuilder contextBuilder, LineSequence lineSequence) {
+		lineSequence.advance();
+	}
+
 	@Override
 	public void process(ProcessingContext context, DocumentBuilder builder, LineSequence lineSequence) {
 		Line currentLine = lineSequence.getCurrentLine();
-		Matcher matcher = PATTERN.matcher(currentLine.getText());
+		Matcher matcher = PATTERN.matcher(currentLine.asCharSequence());
 		checkState(matcher.matches());
 
 		lineSequence.advance();
@@ -51,13 +63,13 @@ public class AtxHeaderBlock extends SourceBlock {
 
 			HeadingAttributes attributes = new HeadingAttributes();
 
-			InlineParser inlineParser = context.getInlineParser();
-			String headingText = inlineParser.toStringContent(context, textSegment);
+			List<Inline> inlines = context.getInlineParser().parse(context, textSegment);
+			String headingText = InlineParser.toStringContent(inlines);
 			attributes.setId(context.generateHeadingId(headingLevel, headingText));
 
 			builder.beginHeading(headingLevel, attributes);
 
-			inlineParser.emit(context, builder, textSegment);
+			InlineParser.emit(builder, inlines);
 
 			builder.endHeading();
 		} else {
@@ -71,10 +83,15 @@ public class AtxHeaderBlock extends SourceBlock {
 		return matcher.group(1).length();
 	}
 
+	@Override
+	public CharMatcher getStartCharacters() {
+		return START_CHARACTERS;
+	}
+
 	@Override
 	public boolean canStart(LineSequence lineSequence) {
 		Line line = lineSequence.getCurrentLine();
-		return line != null && PATTERN.matcher(line.getText()).matches();
+		return line != null && PATTERN.matcher(line.asCharSequence()).matches();
 	}
 
 }
@@ -15,6 +15,7 @@ package org.eclipse.mylyn.wikitext.commonmark.internal.blocks;
 
 import static org.eclipse.mylyn.wikitext.commonmark.internal.LinePredicates.empty;
 
+import java.util.Arrays;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
@@ -27,18 +28,27 @@ import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext;
 import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContextBuilder;
 import org.eclipse.mylyn.wikitext.commonmark.internal.SourceBlock;
 import org.eclipse.mylyn.wikitext.commonmark.internal.SourceBlocks;
-import org.eclipse.mylyn.wikitext.parser.Attributes;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.BlockType;
 
+import com.google.common.base.CharMatcher;
+
 public class BlockQuoteBlock extends BlockWithNestedBlocks {
 
+	private static final CharMatcher START_CHARACTERS = CharMatcher.is('>');
+
+	/**
+	 * The number of lines for which the result of testing whether a block structure starts at the line is remembered.
+	 * Nested block quotes test the same lines repeatedly through their look-ahead sequences.
+	 */
+	private static final int TESTED_LINES_SIZE = 16;
+
 	private static final Pattern START_PATTERN = Pattern.compile("\\s{0,3}>\\s?(.*)");
 
 	@Override
 	public void process(ProcessingContext context, DocumentBuilder builder, LineSequence lineSequence) {
 		builder.setLocator(lineSequence.getCurrentLine().toLocator());
-		builder.beginBlock(BlockType.QUOTE, new Attributes());
+		builder.beginBlock(BlockType.QUOTE, builder.emptyAttributes());
 
 		SourceBlocks sourceBlocks = CommonMark.sourceBlocks();
 		BlockQuoteState blockQuoteState = new BlockQuoteState();
@@ -73,7 +83,7 @@ public class BlockQuoteBlock extends BlockWithNestedBlocks {
 
 		private Function<Line, Line> blockQuoteLineTransform() {
 			return line -> {
-				Matcher matcher = START_PATTERN.matcher(line.getText());
+				Matcher matcher = START_PATTERN.matcher(line.asCharSequence());
 				if (matcher.matches()) {
 					int start = matcher.start(1);
 					return line.segment(start, matcher.end(1) - start);
@@ -89,8 +99,27 @@ public class BlockQuoteBlock extends BlockWithNestedBlocks {
 		private Predicate<Line> blockStructureStart(final LineSequence lineSequence) {
 			return new Predicate<Line>() {
 
+				private final Line[] testedLines = new Line[TESTED_LINES_SIZE];
+
+				private final boolean[] results = new boolean[TESTED_LINES_SIZE];
+
+				private SourceBlock testedCurrentBlock;
+
 				@Override
 				public boolean test(Line line) {
+					if (testedCurrentBlock != currentBlock) {
+						Arrays.fill(testedLines, null);
+						testedCurrentBlock = currentBlock;
+					}
+					int slot = line.getLineNumber() & (TESTED_LINES_SIZE - 1);
+					if (testedLines[slot] != line) {
+						results[slot] = isBlockStructureStart(line);
+						testedLines[slot] = line;
+					}
+					return results[slot];
+				}
+
+				private boolean isBlockStructureStart(Line line) {
 					LineSequence lookAhead = createLookAhead(lineSequence, line);
 					SourceBlock lineBlock = CommonMark.sourceBlocks().selectBlock(lookAhead);
 					return lineBlock != null
@@ -114,13 +143,18 @@ public class BlockQuoteBlock extends BlockWithNestedBlocks {
 		}
 	}
 
+	@Override
+	public CharMatcher getStartCharacters() {
+		return START_CHARACTERS;
+	}
+
 	@Override
 	public boolean canStart(LineSequence lineSequence) {
 		return canStart(lineSequence.getCurrentLine());
 	}
 
 	private boolean canStart(Line line) {
-		return line != null && START_PATTERN.matcher(line.getText()).matches();
+		return line != null && START_PATTERN.matcher(line.asCharSequence()).matches();
 	}
 
 }
@@ -16,6 +16,7 @@ package org.eclipse.mylyn.wikitext.commonmark.internal.blocks;
 import static com.google.common.base.Preconditions.checkState;
 
 import java.util.Collections;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -23,6 +24,7 @@ import org.eclipse.mylyn.wikitext.commonmark.internal.Line;
 import org.eclipse.mylyn.wikitext.commonmark.internal.LinePredicates;
 import org.eclipse.mylyn.wikitext.commonmark.internal.LineSequence;
 import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext;
+import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContextBuilder;
 import org.eclipse.mylyn.wikitext.commonmark.internal.SourceBlock;
 import org.eclipse.mylyn.wikitext.commonmark.internal.TextSegment;
 import org.eclipse.mylyn.wikitext.commonmark.internal.inlines.InlineParser;
@@ -30,13 +32,29 @@ import org.eclipse.mylyn.wikitext.parser.Attributes;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.BlockType;
 
+import com.google.common.base.CharMatcher;
+
 public class FencedCodeBlock extends SourceBlock {
 
+	private static final CharMatcher START_CHARACTERS = CharMatcher.anyOf("`~");
+
 	private final Pattern openingFencePattern = Pattern.compile("(\\s{0,4})(`{3,}|~{3,})\\s*(?:([^\\s~`]+)[^~`]*)?");
 
+	@Override
+	public void createContext(ProcessingContextBuilder contextBuilder, LineSequence lineSequence) {
+		Matcher matcher = openingFencePattern.matcher(lineSequence.getCurrentLine().asCharSequence());
+		checkState(matcher.matches());
+		Predicate<Line> contentLine = LinePredicates.matches(closingFencePattern(matcher)).negate();
+		lineSequence.advance();
+		while (lineSequence.getCurrentLine() != null && contentLine.test(lineSequence.getCurrentLine())) {
+			lineSequence.advance();
+		}
+		lineSequence.advance();
+	}
+
 	@Override
 	public void process(ProcessingContext context, DocumentBuilder builder, LineSequence lineSequence) {
-		Matcher matcher = openingFencePattern.matcher(lineSequence.getCurrentLine().getText());
+		Matcher matcher = openingFencePattern.matcher(lineSequence.getCurrentLine().asCharSequence());
 		checkState(matcher.matches());
 		String indent = matcher.group(1);
 		boolean indentedCodeBlock = indent != null && indent.length() == 4;
@@ -97,17 +115,22 @@ public class FencedCodeBlock extends SourceBlock {
 		}
 	}
 
+	@Override
+	public CharMatcher getStartCharacters() {
+		return START_CHARACTERS;
+	}
+
 	@Override
 	public boolean canStart(LineSequence lineSequence) {
 		Line line = lineSequence.getCurrentLine();
-		return line != null && openingFencePattern.matcher(line.getText()).matches();
+		return line != null && openingFencePattern.matcher(line.asCharSequence()).matches();
 	}
 
 	boolean canEnd(Line line, Line startLine) {
-		Matcher matcher = openingFencePattern.matcher(startLine.getText());
+		Matcher matcher = openingFencePattern.matcher(startLine.asCharSequence());
 		checkState(matcher.matches());
 		Pattern closingFencePattern = closingFencePattern(matcher);
-		return closingFencePattern.matcher(line.getText()).matches();
+		return closingFencePattern.matcher(line.asCharSequence()).matches();
 	}
 
 }
@@ -21,8 +21,12 @@ import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext;
 import org.eclipse.mylyn.wikitext.commonmark.internal.SourceBlock;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 
+import com.google.common.base.CharMatcher;
+
 public class HorizontalRuleBlock extends SourceBlock {
 
+	private static final CharMatcher START_CHARACTERS = CharMatcher.anyOf("*-_");
+
 	private static final Pattern PATTERN = Pattern.compile(" {0,3}((\\*[ \t]*){3,}|(-[ \t]*){3,}|(_[ \t]*){3,})");
 
 	@Override
@@ -32,10 +36,15 @@ public class HorizontalRuleBlock extends SourceBlock {
 		lineSequence.advance();
 	}
 
+	@Override
+	public CharMatcher getStartCharacters() {
+		return START_CHARACTERS;
+	}
+
 	@Override
 	public boolean canStart(LineSequence lineSequence) {
 		Line line = lineSequence.getCurrentLine();
-		return line != null && PATTERN.matcher(line.getText()).matches();
+		return line != null && PATTERN.matcher(line.asCharSequence()).matches();
 	}
 
 }
@@ -21,8 +21,12 @@ import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext;
 import org.eclipse.mylyn.wikitext.commonmark.internal.SourceBlock;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 
+import com.google.common.base.CharMatcher;
+
 public class HtmlBlock extends SourceBlock {
 
+	private static final CharMatcher START_CHARACTERS = CharMatcher.is('<');
+
 	private static final String BLOCK_TAG_NAMES = "address|article|aside|base|basefont|blockquote|body|button|canvas|caption|center|col|colgroup|dd|details|dialog|dir|div|dl|dt|embed|fieldset|figcaption|figure|footer|form|frame|frameset|h1|h2|h3|h4|h5|h6|head|header|hgroup|hr|html|iframe|legend|li|link|main|map|menu|menuitem|meta|nav|noframes|object|ol|optgroup|option|output|p|param|progress|section|source|summary|table|tbody|td|textarea|tfoot|th|thead|title|tr|track|ul|video";
 
 	private final Pattern startPattern = Pattern.compile("\\s{0,3}((</?(?:" + BLOCK_TAG_NAMES + ")(\\s|/>|>)?)).*",
@@ -37,11 +41,16 @@ public class HtmlBlock extends SourceBlock {
 		}
 	}
 
+	@Override
+	public CharMatcher getStartCharacters() {
+		return START_CHARACTERS;
+	}
+
 	@Override
 	public boolean canStart(LineSequence lineSequence) {
 		Line line = lineSequence.getCurrentLine();
 		if (line != null) {
-			return startPattern.matcher(line.getText()).matches();
+			return startPattern.matcher(line.asCharSequence()).matches();
 		}
 		return false;
 	}
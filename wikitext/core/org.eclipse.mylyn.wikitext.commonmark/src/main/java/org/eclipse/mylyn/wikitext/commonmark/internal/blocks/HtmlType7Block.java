@@ -21,8 +21,12 @@ import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext;
 import org.eclipse.mylyn.wikitext.commonmark.internal.SourceBlock;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 
+import com.google.common.base.CharMatcher;
+
 public class HtmlType7Block extends SourceBlock {
 
+	private static final CharMatcher START_CHARACTERS = CharMatcher.is('<');
+
 	private static final String ATTRIBUTE_VALUE_QUOTED = "\"[^\"]*\"";
 
 	private static final String ATTRIBUTE_VALUE_SINGLEQUOTED = "'[^']*'";
@@ -59,11 +63,17 @@ public class HtmlType7Block extends SourceBlock {
 		}
 	}
 
+	@Override
+	public CharMatcher getStartCharacters() {
+		return START_CHARACTERS;
+	}
+
 	@Override
 	public boolean canStart(LineSequence lineSequence) {
 		Line line = lineSequence.getCurrentLine();
 		if (line != null) {
-			return startPattern.matcher(line.getText()).matches() || closePattern.matcher(line.getText()).matches();
+			return startPattern.matcher(line.asCharSequence()).matches()
+					|| closePattern.matcher(line.asCharSequence()).matches();
 		}
 		return false;
 	}
@@ -24,7 +24,6 @@ import org.eclipse.mylyn.wikitext.commonmark.internal.LinePredicates;
 import org.eclipse.mylyn.wikitext.commonmark.internal.LineSequence;
 import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext;
 import org.eclipse.mylyn.wikitext.commonmark.internal.SourceBlock;
-import org.eclipse.mylyn.wikitext.parser.Attributes;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.BlockType;
 
@@ -35,14 +34,14 @@ public class IndentedCodeBlock extends SourceBlock {
 	@Override
 	public void process(ProcessingContext context, DocumentBuilder builder, LineSequence lineSequence) {
 		builder.setLocator(lineSequence.getCurrentLine().toLocator());
-		builder.beginBlock(BlockType.CODE, new Attributes());
+		builder.beginBlock(BlockType.CODE, builder.emptyAttributes());
 
 		boolean blockHasContent = false;
 		Iterator<Line> iterator = lineSequence.with(LinePredicates.matches(PATTERN).or(LinePredicates.empty()))
 				.iterator();
 		while (iterator.hasNext()) {
 			Line line = iterator.next();
-			Matcher matcher = PATTERN.matcher(line.getText());
+			Matcher matcher = PATTERN.matcher(line.asCharSequence());
 			if (!matcher.matches()) {
 				checkState(line.isEmpty());
 				if (iterator.hasNext()) {
@@ -63,7 +62,7 @@ public class IndentedCodeBlock extends SourceBlock {
 	@Override
 	public boolean canStart(LineSequence lineSequence) {
 		Line line = lineSequence.getCurrentLine();
-		return line != null && PATTERN.matcher(line.getText()).matches();
+		return line != null && PATTERN.matcher(line.asCharSequence()).matches();
 	}
 
 }
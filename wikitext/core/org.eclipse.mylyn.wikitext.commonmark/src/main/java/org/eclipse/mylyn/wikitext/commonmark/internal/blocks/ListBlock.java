@@ -32,12 +32,13 @@ import org.eclipse.mylyn.wikitext.parser.Attributes;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.BlockType;
 import org.eclipse.mylyn.wikitext.parser.ListAttributes;
-import org.eclipse.mylyn.wikitext.parser.builder.NoOpDocumentBuilder;
 
 import com.google.common.base.CharMatcher;
 
 public class ListBlock extends BlockWithNestedBlocks {
 
+	private static final CharMatcher START_CHARACTERS = CharMatcher.anyOf("*+-.)").or(CharMatcher.inRange('0', '9'));
+
 	private final Pattern bulletPattern = Pattern
 			.compile("\\s{0,3}(([*+-])|(([0-9]{0,5})[.)]))(?:(?:\\s(\\s*)(.*))|\\s*$)");
 
@@ -47,27 +48,8 @@ public class ListBlock extends BlockWithNestedBlocks {
 		TIGHT, LOOSE, TIGHT_WITH_TRAILING_EMPTY_LINE
 	}
 
-	private interface ListItemHandler {
-
-		void emitListItem(ProcessingContext context, DocumentBuilder builder, ListMode listMode,
-				LineSequence lineSequence);
-	}
-
 	@Override
 	public void process(ProcessingContext context, DocumentBuilder builder, LineSequence lineSequence) {
-		process(context, builder, lineSequence, (context1, builder1, listMode, lineSequence1) -> emitListItem(context1,
-				builder1, listMode, lineSequence1));
-	}
-
-	@Override
-	public void createContext(final ProcessingContextBuilder contextBuilder, LineSequence lineSequence) {
-		process(ProcessingContext.builder().build(), new NoOpDocumentBuilder(), lineSequence,
-				(dummyContext, builder, listMode, lineSequence1) -> CommonMark.sourceBlocks()
-						.createContext(contextBuilder, listItemLineSequence(lineSequence1)));
-	}
-
-	private void process(ProcessingContext context, DocumentBuilder builder, LineSequence lineSequence,
-			ListItemHandler listItemHandler) {
 		builder.setLocator(lineSequence.getCurrentLine().toLocator());
 
 		char bulletType = bulletType(lineSequence.getCurrentLine());
@@ -75,13 +57,13 @@ public class ListBlock extends BlockWithNestedBlocks {
 		ListAttributes listAttributes = new ListAttributes();
 		listAttributes.setStart(listStart(lineSequence.getCurrentLine()));
 
-		ListMode listMode = calculateListMode(context, lineSequence.lookAhead(), bulletType);
+		ListMode listMode = calculateListMode(lineSequence.lookAhead(), bulletType);
 
 		builder.beginBlock(listBlockType(bulletType), listAttributes);
 
 		while (currentLineIsInList(lineSequence, bulletType)) {
 			builder.setLocator(lineSequence.getCurrentLine().toLocator());
-			builder.beginBlock(BlockType.LIST_ITEM, new Attributes());
+			builder.beginBlock(BlockType.LIST_ITEM, builder.emptyAttributes());
 
 			emitListItem(context, builder, listMode, lineSequence);
 
@@ -91,30 +73,49 @@ public class ListBlock extends BlockWithNestedBlocks {
 		builder.endBlock();
 	}
 
+	/**
+	 * Consumes the items of the list, adding the reference definitions made by their content to the context builder.
+	 * The lines of each item are consumed as they are by
+	 * {@link #process(ProcessingContext, DocumentBuilder, LineSequence) processing}, but the mode of the list is not
+	 * calculated, since it only affects the output.
+	 */
+	@Override
+	public void createContext(ProcessingContextBuilder contextBuilder, LineSequence lineSequence) {
+		char bulletType = bulletType(lineSequence.getCurrentLine());
+		while (currentLineIsInList(lineSequence, bulletType)) {
+			int lineNumber = lineSequence.getCurrentLine().getLineNumber();
+			CommonMark.sourceBlocks()
+					.createContext(contextBuilder, listItemLineSequence(lineSequence), listItemBlockContextPredicate());
+			if (lineSequence.getCurrentLine() != null && lineSequence.getCurrentLine().getLineNumber() == lineNumber) {
+				lineSequence.advance();
+			}
+		}
+	}
+
 	private boolean currentLineIsInList(LineSequence lineSequence, char bulletType) {
 		return lineSequence.getCurrentLine() != null && isBulletListItem(lineSequence.getCurrentLine())
 				&& bulletType == bulletType(lineSequence.getCurrentLine())
 				&& !horizontalRuleBlock.canStart(lineSequence);
 	}
 
-	private ListMode calculateListMode(ProcessingContext context, LineSequence lineSequence, char bulletType) {
+	private ListMode calculateListMode(LineSequence lineSequence, char bulletType) {
 		ListMode listMode = ListMode.TIGHT;
 		while (listMode != ListMode.LOOSE && currentLineIsInList(lineSequence, bulletType)) {
 			if (listMode == ListMode.TIGHT_WITH_TRAILING_EMPTY_LINE) {
 				listMode = ListMode.LOOSE;
 			} else {
-				listMode = calculateListItemListMode(context, lineSequence);
+				listMode = calculateListItemListMode(lineSequence);
 			}
 		}
 		return listMode == ListMode.TIGHT_WITH_TRAILING_EMPTY_LINE ? ListMode.TIGHT : listMode;
 	}
 
-	private ListMode calculateListItemListMode(ProcessingContext context, LineSequence lineSequence) {
+	private ListMode calculateListItemListMode(LineSequence lineSequence) {
 		if (isSingleEmptyLineListItem(lineSequence)) {
 			lineSequence.advance();
 			return ListMode.TIGHT;
 		}
-		List<SourceBlock> blocks = calculateListItemBlocks(context, lineSequence);
+		List<SourceBlock> blocks = calculateListItemBlocks(lineSequence);
 		if (blocks.isEmpty()) {
 			lineSequence.advance();
 			return ListMode.TIGHT;
@@ -143,9 +144,9 @@ public class ListBlock extends BlockWithNestedBlocks {
 		return ListMode.TIGHT;
 	}
 
-	private List<SourceBlock> calculateListItemBlocks(ProcessingContext context, LineSequence lineSequence) {
+	private List<SourceBlock> calculateListItemBlocks(LineSequence lineSequence) {
 		SourceBlocks sourceBlocks = CommonMark.sourceBlocks();
-		return sourceBlocks.calculateSourceBlocks(context, listItemLineSequence(lineSequence),
+		return sourceBlocks.calculateSourceBlocks(listItemLineSequence(lineSequence),
 				listItemBlockContextPredicate());
 	}
 
@@ -181,7 +182,7 @@ public class ListBlock extends BlockWithNestedBlocks {
 
 	private void emitListItem(ProcessingContext context, DocumentBuilder builder, ListMode listMode,
 			LineSequence lineSequence) {
-		List<SourceBlock> blocks = calculateListItemBlocks(context, lineSequence.lookAhead());
+		List<SourceBlock> blocks = calculateListItemBlocks(lineSequence.lookAhead());
 		if (blocks.isEmpty()) {
 			lineSequence.advance();
 			return;
@@ -222,23 +223,23 @@ public class ListBlock extends BlockWithNestedBlocks {
 			if (line.isEmpty()) {
 				return line;
 			}
-			int length = Math.max(line.getText().length() - indentOffset, 0);
-			int offset = Math.min(indentOffset, line.getText().length());
+			int length = Math.max(line.getLength() - indentOffset, 0);
+			int offset = Math.min(indentOffset, line.getLength());
 			return line.segment(offset, length);
 		});
 	}
 
 	private boolean isIndented(Line line, int indentSize) {
-		int firstNonWhitespace = CharMatcher.whitespace().negate().indexIn(line.getText());
+		int firstNonWhitespace = CharMatcher.whitespace().negate().indexIn(line.asCharSequence());
 		return firstNonWhitespace >= indentSize;
 	}
 
 	private int calculateLineItemIndent(Line line) {
-		Matcher matcher = bulletPattern.matcher(line.getText());
+		Matcher matcher = bulletPattern.matcher(line.asCharSequence());
 		checkState(matcher.matches());
 		int start = matcher.start(6);
 		if (start == -1) {
-			start = line.getText().length() + 1;
+			start = line.getLength() + 1;
 		} else {
 			String whitespaceAfterListMarker = matcher.group(5);
 			if (whitespaceAfterListMarker != null && whitespaceAfterListMarker.length() >= 4) {
@@ -248,6 +249,11 @@ public class ListBlock extends BlockWithNestedBlocks {
 		return start;
 	}
 
+	@Override
+	public CharMatcher getStartCharacters() {
+		return START_CHARACTERS;
+	}
+
 	@Override
 	public boolean canStart(LineSequence lineSequence) {
 		Line line = lineSequence.getCurrentLine();
@@ -255,14 +261,14 @@ public class ListBlock extends BlockWithNestedBlocks {
 	}
 
 	private char bulletType(Line line) {
-		Matcher matcher = bulletPattern.matcher(line.getText());
+		Matcher matcher = bulletPattern.matcher(line.asCharSequence());
 		checkState(matcher.matches());
 		String text = matcher.group(1);
 		return text.charAt(text.length() - 1);
 	}
 
 	private String listStart(Line line) {
-		Matcher matcher = bulletPattern.matcher(line.getText());
+		Matcher matcher = bulletPattern.matcher(line.asCharSequence());
 		checkState(matcher.matches());
 		String marker = matcher.group(4);
 		if ("1".equals(marker)) {
@@ -272,6 +278,6 @@ public class ListBlock extends BlockWithNestedBlocks {
 	}
 
 	private boolean isBulletListItem(Line line) {
-		return bulletPattern.matcher(line.getText()).matches();
+		return bulletPattern.matcher(line.asCharSequence()).matches();
 	}
 }
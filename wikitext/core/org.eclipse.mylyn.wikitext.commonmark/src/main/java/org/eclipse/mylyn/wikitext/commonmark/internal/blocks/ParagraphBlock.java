@@ -25,10 +25,6 @@ import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext;
 import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContextBuilder;
 import org.eclipse.mylyn.wikitext.commonmark.internal.SourceBlock;
 import org.eclipse.mylyn.wikitext.commonmark.internal.TextSegment;
-import org.eclipse.mylyn.wikitext.commonmark.internal.inlines.Inline;
-import org.eclipse.mylyn.wikitext.commonmark.internal.inlines.InlineParser;
-import org.eclipse.mylyn.wikitext.commonmark.internal.inlines.ReferenceDefinition;
-import org.eclipse.mylyn.wikitext.parser.Attributes;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.BlockType;
 
@@ -51,26 +47,15 @@ public class ParagraphBlock extends SourceBlock {
 	void processInlines(ProcessingContext context, DocumentBuilder builder, LineSequence lineSequence,
 			boolean asBlock) {
 		TextSegment textSegment = extractTextSegment(lineSequence);
-		List<Inline> inlines = context.getInlineParser().parse(context, textSegment);
-		if (!emptyParagraph(inlines)) {
+		boolean content = context.getInlineParser().emit(context, builder, textSegment, () -> {
 			builder.setLocator(textSegment.getLines().get(0).toLocator());
 			if (asBlock) {
-				builder.beginBlock(BlockType.PARAGRAPH, new Attributes());
-			}
-			InlineParser.emit(builder, inlines);
-			if (asBlock) {
-				builder.endBlock();
-			}
-		}
-	}
-
-	private boolean emptyParagraph(List<Inline> inlines) {
-		for (Inline inline : inlines) {
-			if (!(inline instanceof ReferenceDefinition)) {
-				return false;
+				builder.beginBlock(BlockType.PARAGRAPH, builder.emptyAttributes());
 			}
+		});
+		if (content && asBlock) {
+			builder.endBlock();
 		}
-		return true;
 	}
 
 	private TextSegment extractTextSegment(LineSequence lineSequence) {
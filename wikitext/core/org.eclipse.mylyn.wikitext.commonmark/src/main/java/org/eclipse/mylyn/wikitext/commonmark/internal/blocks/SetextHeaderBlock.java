@@ -16,14 +16,17 @@ package org.eclipse.mylyn.wikitext.commonmark.internal.blocks;
 import static com.google.common.base.Preconditions.checkState;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.mylyn.wikitext.commonmark.internal.Line;
 import org.eclipse.mylyn.wikitext.commonmark.internal.LineSequence;
 import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext;
+import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContextBuilder;
 import org.eclipse.mylyn.wikitext.commonmark.internal.SourceBlock;
 import org.eclipse.mylyn.wikitext.commonmark.internal.TextSegment;
+import org.eclipse.mylyn.wikitext.commonmark.internal.inlines.Inline;
 import org.eclipse.mylyn.wikitext.commonmark.internal.inlines.InlineParser;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.HeadingAttributes;
@@ -34,11 +37,17 @@ public class SetextHeaderBlock extends SourceBlock {
 
 	private final Pattern setextUnderlinePattern = Pattern.compile("\\s{0,3}((-|=)+)\\s*");
 
+	@Override
+	public void createContext(ProcessingContextBuilder contextBuilder, LineSequence lineSequence) {
+		lineSequence.advance();
+		lineSequence.advance();
+	}
+
 	@Override
 	public void process(ProcessingContext context, DocumentBuilder builder, LineSequence lineSequence) {
 		Line currentLine = lineSequence.getCurrentLine();
 		Line nextLine = lineSequence.getNextLine();
-		Matcher matcher = setextUnderlinePattern.matcher(nextLine.getText());
+		Matcher matcher = setextUnderlinePattern.matcher(nextLine.asCharSequence());
 		checkState(matcher.matches());
 
 		lineSequence.advance();
@@ -50,13 +59,13 @@ public class SetextHeaderBlock extends SourceBlock {
 
 		HeadingAttributes attributes = new HeadingAttributes();
 
-		InlineParser inlineParser = context.getInlineParser();
-		String headingText = inlineParser.toStringContent(context, textSegment);
+		List<Inline> inlines = context.getInlineParser().parse(context, textSegment);
+		String headingText = InlineParser.toStringContent(inlines);
 		attributes.setId(context.generateHeadingId(headingLevel, headingText));
 
 		builder.beginHeading(headingLevel, attributes);
 
-		inlineParser.emit(context, builder, textSegment);
+		InlineParser.emit(builder, inlines);
 
 		builder.endHeading();
 
@@ -71,8 +80,8 @@ public class SetextHeaderBlock extends SourceBlock {
 	public boolean canStart(LineSequence lineSequence) {
 		Line line = lineSequence.getCurrentLine();
 		Line nextLine = lineSequence.getNextLine();
-		return line != null && nextLine != null && indentPattern.matcher(line.getText()).matches()
-				&& setextUnderlinePattern.matcher(nextLine.getText()).matches();
+		return line != null && nextLine != null && setextUnderlinePattern.matcher(nextLine.asCharSequence()).matches()
+				&& indentPattern.matcher(line.asCharSequence()).matches();
 	}
 
 }
@@ -19,10 +19,13 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.google.common.base.CharMatcher;
 import com.google.common.net.UrlEscapers;
 
 public class AutoLinkSpan extends SourceSpan {
 
+	private static final CharMatcher TRIGGER_CHARACTERS = CharMatcher.is('<');
+
 	private static final Set<String> SCHEMES = Set.of("coap", "doi", "javascript", "aaa", "aaas", "about", "acap",
 			"cap", "cid", "crid", "data", "dav", "dict", "dns", "file", "ftp", "geo", "go", "gopher", "h323", "http",
 			"https", "iax", "icap", "im", "imap", "info", "ipp", "iris", "iris.beep", "iris.xpc", "iris.xpcs",
@@ -47,12 +50,17 @@ public class AutoLinkSpan extends SourceSpan {
 
 	private final Pattern linkPattern = createLinkPattern();
 
+	@Override
+	public CharMatcher getTriggerCharacters() {
+		return TRIGGER_CHARACTERS;
+	}
+
 	@Override
 	public Optional<? extends Inline> createInline(Cursor cursor) {
 		char c = cursor.getChar();
 		if (c == '<') {
 			Matcher matcher = cursor.matcher(linkPattern);
-			if (matcher.matches()) {
+			if (matcher.lookingAt()) {
 				String href = matcher.group(1);
 				String link = href;
 				String email = matcher.group(2);
@@ -83,7 +91,7 @@ public class AutoLinkSpan extends SourceSpan {
 			}
 			regex += scheme.replace(".", "\\.");
 		}
-		regex += "):[^\\s>]+)|(" + EMAIL_REGEX + "))(>).*";
-		return Pattern.compile(regex, Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
+		regex += "):[^\\s>]+)|(" + EMAIL_REGEX + "))(>)";
+		return Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
 	}
 }
@@ -18,18 +18,26 @@ import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.google.common.base.CharMatcher;
 import com.google.common.net.UrlEscapers;
 
 public class AutoLinkWithoutDemarcationSpan extends SourceSpan {
 
+	private static final CharMatcher TRIGGER_CHARACTERS = CharMatcher.is('h');
+
 	private final Pattern linkPattern = Pattern
-			.compile("(https?://[a-zA-Z0-9%._~!$&?#'()*+,;:@/=-]*[a-zA-Z0-9_~!$&?#'(*+@/=-]).*", Pattern.DOTALL);
+			.compile("(https?://[a-zA-Z0-9%._~!$&?#'()*+,;:@/=-]*[a-zA-Z0-9_~!$&?#'(*+@/=-])");
+
+	@Override
+	public CharMatcher getTriggerCharacters() {
+		return TRIGGER_CHARACTERS;
+	}
 
 	@Override
 	public Optional<? extends Inline> createInline(Cursor cursor) {
 		if (cursor.getChar() == 'h') {
 			Matcher matcher = cursor.matcher(linkPattern);
-			if (matcher.matches()) {
+			if (matcher.lookingAt()) {
 				String href = matcher.group(1);
 				String link = href;
 
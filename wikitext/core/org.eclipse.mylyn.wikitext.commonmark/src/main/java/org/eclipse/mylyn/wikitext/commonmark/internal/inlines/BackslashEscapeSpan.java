@@ -19,8 +19,15 @@ import com.google.common.base.CharMatcher;
 
 public class BackslashEscapeSpan extends SourceSpan {
 
+	private static final CharMatcher TRIGGER_CHARACTERS = CharMatcher.is('\\');
+
 	private static CharMatcher ESCAPABLE = CharMatcher.anyOf("!\"\\#$%&'()*+,-./:;<=>?@[]^_`{|}~");
 
+	@Override
+	public CharMatcher getTriggerCharacters() {
+		return TRIGGER_CHARACTERS;
+	}
+
 	@Override
 	public Optional<? extends Inline> createInline(Cursor cursor) {
 		char c = cursor.getChar();
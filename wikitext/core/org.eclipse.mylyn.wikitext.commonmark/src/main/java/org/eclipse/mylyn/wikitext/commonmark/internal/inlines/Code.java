@@ -14,7 +14,6 @@
 package org.eclipse.mylyn.wikitext.commonmark.internal.inlines;
 
 import org.eclipse.mylyn.wikitext.commonmark.internal.Line;
-import org.eclipse.mylyn.wikitext.parser.Attributes;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.SpanType;
 
@@ -26,7 +25,7 @@ public class Code extends InlineWithText {
 
 	@Override
 	public void emit(DocumentBuilder builder) {
-		builder.beginSpan(SpanType.CODE, new Attributes());
+		builder.beginSpan(SpanType.CODE, builder.emptyAttributes());
 		builder.characters(text.trim());
 		builder.endSpan();
 	}
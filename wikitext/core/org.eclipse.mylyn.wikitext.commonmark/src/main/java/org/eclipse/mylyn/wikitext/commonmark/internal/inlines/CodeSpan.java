@@ -14,35 +14,36 @@
 package org.eclipse.mylyn.wikitext.commonmark.internal.inlines;
 
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import com.google.common.base.Strings;
+import com.google.common.base.CharMatcher;
 
 public class CodeSpan extends SourceSpan {
 
-	Pattern pattern = Pattern.compile("(`+).*", Pattern.DOTALL | Pattern.MULTILINE);
+	private static final CharMatcher TRIGGER_CHARACTERS = CharMatcher.is('`');
+
+	@Override
+	public CharMatcher getTriggerCharacters() {
+		return TRIGGER_CHARACTERS;
+	}
 
 	@Override
 	public Optional<? extends Inline> createInline(Cursor cursor) {
 		char c = cursor.getChar();
 		if (c == '`' && (!cursor.hasPrevious() || cursor.getPrevious() != '`')) {
-			Matcher matcher = cursor.matcher(pattern);
-			if (matcher.matches()) {
-				String openingBackticks = matcher.group(1);
-				int backtickCount = openingBackticks.length();
-				Pattern closingPattern = Pattern.compile("(?<!`)(" + Strings.repeat("`", backtickCount) + ")([^`]|$)",
-						Pattern.DOTALL | Pattern.MULTILINE);
-				cursor.advance(backtickCount);
-				String textAtOffset = cursor.getTextAtOffset();
-				cursor.rewind(backtickCount);
-
-				Matcher closingMatcher = closingPattern.matcher(textAtOffset);
-				if (closingMatcher.find()) {
-					String codeText = textAtOffset.substring(0, closingMatcher.start());
+			int backtickCount = 1;
+			while (cursor.hasNext(backtickCount) && cursor.getNext(backtickCount) == '`') {
+				++backtickCount;
+			}
+			if (cursor.hasNext(backtickCount)) {
+				int closingOffset = cursor.indexOfBacktickRun(backtickCount, backtickCount);
+				if (closingOffset != -1) {
+					String codeText = cursor.getTextAtOffset(closingOffset).substring(backtickCount);
 					return Optional.of(new Code(cursor.getLineAtOffset(), cursor.getOffset(), backtickCount, codeText));
 				}
 			}
+			// a backtick string without a matching closing string is literal text
+			return Optional.of(new Characters(cursor.getLineAtOffset(), cursor.getOffset(), backtickCount,
+					cursor.getTextAtOffset(backtickCount)));
 		}
 		return Optional.empty();
 	}
@@ -15,6 +15,11 @@ package org.eclipse.mylyn.wikitext.commonmark.internal.inlines;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -30,6 +35,11 @@ public class Cursor {
 
 	private int textOffset;
 
+	/**
+	 * The offsets of the runs of backticks in the text, by the length of the run. Computed when first needed.
+	 */
+	private Map<Integer, List<Integer>> backtickRunOffsetsByLength;
+
 	public Cursor(TextSegment segment) {
 		this.segment = Objects.requireNonNull(segment);
 		this.text = segment.getText();
@@ -151,6 +161,48 @@ public class Cursor {
 		return matcher;
 	}
 
+	/**
+	 * Provides the offset of the first run of exactly the given number of backticks that starts at or after the given
+	 * offset. The runs of the text are found once, so that looking for runs that do not exist takes constant time.
+	 *
+	 * @param offset
+	 *            the offset relative to the cursor position at which to start looking
+	 * @param length
+	 *            the number of backticks in the run
+	 * @return the offset of the run relative to the cursor position, or -1 if there is no such run
+	 */
+	public int indexOfBacktickRun(int offset, int length) {
+		checkArgument(offset >= 0 && length > 0);
+		if (backtickRunOffsetsByLength == null) {
+			backtickRunOffsetsByLength = calculateBacktickRunOffsets();
+		}
+		List<Integer> runOffsets = backtickRunOffsetsByLength.get(length);
+		if (runOffsets != null) {
+			int index = Collections.binarySearch(runOffsets, textOffset + offset);
+			if (index < 0) {
+				index = -index - 1;
+			}
+			if (index < runOffsets.size()) {
+				return runOffsets.get(index) - textOffset;
+			}
+		}
+		return -1;
+	}
+
+	private Map<Integer, List<Integer>> calculateBacktickRunOffsets() {
+		Map<Integer, List<Integer>> runOffsetsByLength = new HashMap<>();
+		int index = text.indexOf('`');
+		while (index != -1) {
+			int end = index + 1;
+			while (end < text.length() && text.charAt(end) == '`') {
+				++end;
+			}
+			runOffsetsByLength.computeIfAbsent(end - index, length -> new ArrayList<>()).add(index);
+			index = text.indexOf('`', end);
+		}
+		return runOffsetsByLength;
+	}
+
 	public void advance() {
 		if (textOffset < text.length()) {
 			++textOffset;
@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.commonmark.internal.inlines;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolves emphasis using the delimiter stack of the CommonMark specification. Closing delimiters are processed from
+ * left to right, each matching the nearest preceding opening delimiter of the same character. The inlines are held in
+ * a doubly-linked list so that a match only touches the inlines that it encloses, and for each delimiter character the
+ * stack is only searched down to the point at which a previous search failed, so that the time taken is linear in the
+ * number of inlines.
+ */
+class EmphasisResolver {
+
+	private static class Node {
+
+		private Inline inline;
+
+		private Node previous;
+
+		private Node next;
+
+		private Node previousDelimiter;
+
+		private Node nextDelimiter;
+
+		Node(Inline inline) {
+			this.inline = inline;
+		}
+
+		PotentialEmphasisDelimiter delimiter() {
+			return (PotentialEmphasisDelimiter) inline;
+		}
+	}
+
+	private final Node head = new Node(null);
+
+	private final Node tail = new Node(null);
+
+	private Node firstDelimiter;
+
+	private Node asteriskOpenersBottom;
+
+	private Node underscoreOpenersBottom;
+
+	EmphasisResolver(List<Inline> inlines) {
+		head.next = tail;
+		tail.previous = head;
+		Node lastDelimiter = null;
+		for (Inline inline : inlines) {
+			Node node = new Node(inline);
+			insertBefore(tail, node);
+			if (inline instanceof PotentialEmphasisDelimiter) {
+				if (lastDelimiter == null) {
+					firstDelimiter = node;
+				} else {
+					lastDelimiter.nextDelimiter = node;
+					node.previousDelimiter = lastDelimiter;
+				}
+				lastDelimiter = node;
+			}
+		}
+	}
+
+	/**
+	 * Provides the inlines with emphasis resolved.
+	 */
+	List<Inline> resolve() {
+		Node closer = firstDelimiter;
+		while (closer != null) {
+			PotentialEmphasisDelimiter closingDelimiter = closer.delimiter();
+			if (!closingDelimiter.canClose()) {
+				closer = closer.nextDelimiter;
+				continue;
+			}
+			char c = closingDelimiter.getDelimiterChar();
+			Node openersBottom = openersBottom(c);
+			Node opener = closer.previousDelimiter;
+			while (opener != null && opener != openersBottom
+					&& !(opener.delimiter().canOpen() && opener.delimiter().getDelimiterChar() == c)) {
+				opener = opener.previousDelimiter;
+			}
+			if (opener != null && opener != openersBottom) {
+				closer = match(opener, closer);
+			} else {
+				setOpenersBottom(c, closer.previousDelimiter);
+				Node next = closer.nextDelimiter;
+				if (!closingDelimiter.canOpen()) {
+					removeDelimiter(closer);
+				}
+				closer = next;
+			}
+		}
+		List<Inline> inlines = new ArrayList<>();
+		for (Node node = head.next; node != tail; node = node.next) {
+			inlines.add(node.inline);
+		}
+		return List.copyOf(inlines);
+	}
+
+	/**
+	 * Replaces the given delimiters and the inlines between them with emphasis, retaining any unused part of the
+	 * delimiters.
+	 *
+	 * @return the closing delimiter from which processing continues
+	 */
+	private Node match(Node opener, Node closer) {
+		PotentialEmphasisDelimiter openingDelimiter = opener.delimiter();
+		PotentialEmphasisDelimiter closingDelimiter = closer.delimiter();
+		int delimiterSize = closingDelimiter.delimiterSize(openingDelimiter);
+
+		List<Inline> contents = new ArrayList<>();
+		for (Node node = opener.next; node != closer; node = node.next) {
+			contents.add(node.inline);
+			replaceOpenersBottom(node, opener);
+		}
+		Node emphasis = new Node(closingDelimiter.createEmphasis(openingDelimiter, delimiterSize, contents));
+
+		opener.nextDelimiter = closer;
+		closer.previousDelimiter = opener;
+		opener.next = closer;
+		closer.previous = opener;
+		insertBefore(closer, emphasis);
+
+		if (delimiterSize < openingDelimiter.getLength()) {
+			opener.inline = openingDelimiter.createPotentialOpeningDelimiter(delimiterSize);
+		} else {
+			removeDelimiter(opener);
+			remove(opener);
+		}
+		if (delimiterSize < closingDelimiter.getLength()) {
+			closer.inline = closingDelimiter.createPotentialClosingDelimiter(delimiterSize);
+			return closer;
+		}
+		Node next = closer.nextDelimiter;
+		removeDelimiter(closer);
+		remove(closer);
+		return next;
+	}
+
+	private Node openersBottom(char c) {
+		return c == '*' ? asteriskOpenersBottom : underscoreOpenersBottom;
+	}
+
+	private void setOpenersBottom(char c, Node node) {
+		if (c == '*') {
+			asteriskOpenersBottom = node;
+		} else {
+			underscoreOpenersBottom = node;
+		}
+	}
+
+	private void replaceOpenersBottom(Node node, Node replacement) {
+		if (asteriskOpenersBottom == node) {
+			asteriskOpenersBottom = replacement;
+		}
+		if (underscoreOpenersBottom == node) {
+			underscoreOpenersBottom = replacement;
+		}
+	}
+
+	private void insertBefore(Node successor, Node node) {
+		node.previous = successor.previous;
+		node.next = successor;
+		successor.previous.next = node;
+		successor.previous = node;
+	}
+
+	private void remove(Node node) {
+		node.previous.next = node.next;
+		node.next.previous = node.previous;
+	}
+
+	private void removeDelimiter(Node node) {
+		if (node.previousDelimiter != null) {
+			node.previousDelimiter.nextDelimiter = node.nextDelimiter;
+		}
+		if (node.nextDelimiter != null) {
+			node.nextDelimiter.previousDelimiter = node.previousDelimiter;
+		}
+		if (firstDelimiter == node) {
+			firstDelimiter = node.nextDelimiter;
+		}
+		replaceOpenersBottom(node, node.previousDelimiter);
+	}
+}
@@ -19,17 +19,26 @@ import java.util.regex.Pattern;
 
 import org.eclipse.mylyn.wikitext.commonmark.internal.Line;
 
+import com.google.common.base.CharMatcher;
+
 public class HtmlEntitySpan extends SourceSpan {
 
-	private final Pattern pattern = Pattern.compile("&(#x[a-f0-9]{1,8}|#[0-9]{1,8}|[a-z][a-z0-9]{1,31});.*",
-			Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+	private static final CharMatcher TRIGGER_CHARACTERS = CharMatcher.is('&');
+
+	private final Pattern pattern = Pattern.compile("&(#x[a-f0-9]{1,8}|#[0-9]{1,8}|[a-z][a-z0-9]{1,31});",
+			Pattern.CASE_INSENSITIVE);
+
+	@Override
+	public CharMatcher getTriggerCharacters() {
+		return TRIGGER_CHARACTERS;
+	}
 
 	@Override
 	public Optional<? extends Inline> createInline(Cursor cursor) {
 		char c = cursor.getChar();
 		if (c == '&') {
 			Matcher matcher = cursor.matcher(pattern);
-			if (matcher.matches()) {
+			if (matcher.lookingAt()) {
 				String ent = matcher.group(1);
 
 				int offset = cursor.getOffset();
@@ -17,8 +17,12 @@ import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.google.common.base.CharMatcher;
+
 public class HtmlTagSpan extends SourceSpan {
 
+	private static final CharMatcher TRIGGER_CHARACTERS = CharMatcher.is('<');
+
 	private static final String ATTRIBUTE_VALUE_QUOTED = "\"[^\"]*\"";
 
 	private static final String ATTRIBUTE_VALUE_SINGLEQUOTED = "'[^']*'";
@@ -45,16 +49,21 @@ public class HtmlTagSpan extends SourceSpan {
 	private static final String CDATA = "<!\\[CDATA\\[.*?\\]\\]>";
 
 	private static final String REGEX_TAG = "(" + TAG + "|" + CLOSE_TAG + "|" + COMMENT + "|" + PROCESSING_INSTRUCTION
-			+ "|" + XML_DECLARATION + "|" + CDATA + ").*";
+			+ "|" + XML_DECLARATION + "|" + CDATA + ")";
 
 	private final Pattern tagPattern = Pattern.compile(REGEX_TAG, Pattern.DOTALL);
 
+	@Override
+	public CharMatcher getTriggerCharacters() {
+		return TRIGGER_CHARACTERS;
+	}
+
 	@Override
 	public Optional<? extends Inline> createInline(Cursor cursor) {
 		char c = cursor.getChar();
 		if (c == '<') {
 			Matcher matcher = cursor.matcher(tagPattern);
-			if (matcher.matches()) {
+			if (matcher.lookingAt()) {
 				return Optional.of(new HtmlTag(cursor.getLineAtOffset(), cursor.getOffset(), matcher.group(1)));
 			}
 		}
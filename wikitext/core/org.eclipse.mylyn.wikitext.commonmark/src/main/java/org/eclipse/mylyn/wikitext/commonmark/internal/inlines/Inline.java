@@ -18,7 +18,6 @@ import static com.google.common.base.Preconditions.checkArgument;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
 import org.eclipse.mylyn.wikitext.commonmark.internal.Line;
 import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext;
@@ -67,10 +66,6 @@ public abstract class Inline {
 		inlines.add(this);
 	}
 
-	Optional<InlinesSubstitution> secondPass(List<Inline> inlines) {
-		return Optional.empty();
-	}
-
 	public void createContext(ProcessingContextBuilder contextBuilder) {
 		// nothing to do
 	}
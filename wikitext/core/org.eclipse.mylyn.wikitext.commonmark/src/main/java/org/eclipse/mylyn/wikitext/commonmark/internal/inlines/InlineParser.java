@@ -29,19 +29,67 @@ import org.eclipse.mylyn.wikitext.parser.builder.NoOpDocumentBuilder;
 
 public class InlineParser {
 
+	private static final int DISPATCH_TABLE_SIZE = 128;
+
 	private final List<SourceSpan> spans;
 
+	/**
+	 * The spans that are triggered by each ASCII character, in the order of {@link #spans}.
+	 */
+	private final SourceSpan[][] spansByCharacter = new SourceSpan[DISPATCH_TABLE_SIZE][];
+
 	InlineParser(SourceSpan... spans) {
 		this(Arrays.asList(spans));
 	}
 
 	public InlineParser(List<SourceSpan> spans) {
 		this.spans = List.copyOf(spans);
+		for (int c = 0; c < DISPATCH_TABLE_SIZE; ++c) {
+			char character = (char) c;
+			spansByCharacter[c] = this.spans.stream()
+					.filter(span -> span.getTriggerCharacters().matches(character))
+					.toArray(SourceSpan[]::new);
+		}
 	}
 
 	public void emit(ProcessingContext context, DocumentBuilder builder, TextSegment textSegment) {
-		List<Inline> inlines = parse(context, textSegment);
-		emit(builder, inlines);
+		emit(context, builder, textSegment, () -> {
+		});
+	}
+
+	/**
+	 * Emits the inlines of the given text segment as they are parsed. Inlines are emitted without building a list of
+	 * all of the inlines of the segment until an emphasis or link delimiter is encountered, after which the remaining
+	 * inlines are emitted once the delimiters are resolved.
+	 *
+	 * @param beforeContent
+	 *            invoked before the first inline that is not a {@link ReferenceDefinition} is emitted; leading reference
+	 *            definitions are not emitted if there is no such inline
+	 * @return {@code true} if an inline other than a {@link ReferenceDefinition} was emitted
+	 */
+	public boolean emit(ProcessingContext context, DocumentBuilder builder, TextSegment textSegment,
+			Runnable beforeContent) {
+		InlineEmitter emitter = new InlineEmitter(builder, beforeContent);
+		Cursor cursor = new Cursor(textSegment);
+
+		List<Inline> inlines = new ArrayList<>();
+		boolean streaming = true;
+		while (cursor.hasChar()) {
+			consumeOne(context, inlines, cursor);
+			if (streaming && !inlines.isEmpty()) {
+				int last = inlines.size() - 1;
+				if (isDelimiter(inlines.get(last))) {
+					streaming = false;
+				} else if (last > 0) {
+					// the last inline is retained since it may be merged with the next one
+					List<Inline> completeInlines = inlines.subList(0, last);
+					emitter.emit(completeInlines);
+					completeInlines.clear();
+				}
+			}
+		}
+		emitter.emit(streaming ? inlines : secondPass(inlines));
+		return emitter.hasEmittedContent();
 	}
 
 	public String toStringContent(ProcessingContext context, TextSegment textSegment) {
@@ -56,9 +104,15 @@ public class InlineParser {
 		}
 	}
 
+	/**
+	 * Adds the reference definitions of the given paragraph to the context builder. Inlines are only parsed when the
+	 * definitions cannot be determined from the text of the paragraph.
+	 */
 	public void createContext(ProcessingContextBuilder contextBuilder, TextSegment textSegment) {
-		for (Inline inline : parse(contextBuilder.build(), textSegment)) {
-			inline.createContext(contextBuilder);
+		if (!new ReferenceDefinitionScanner(textSegment).createContext(contextBuilder)) {
+			for (Inline inline : parse(contextBuilder.build(), textSegment)) {
+				inline.createContext(contextBuilder);
+			}
 		}
 	}
 
@@ -74,21 +128,10 @@ public class InlineParser {
 	}
 
 	static List<Inline> secondPass(List<Inline> inlines) {
-		List<Inline> processedInlines = List.copyOf(inlines);
-		Optional<InlinesSubstitution> substitution = Optional.empty();
-		do {
-			for (Inline inline : processedInlines) {
-				substitution = inline.secondPass(processedInlines);
-				if (substitution.isPresent()) {
-					processedInlines = substitution.get().apply(processedInlines);
-					break;
-				}
-			}
-		} while (substitution.isPresent());
-		return processedInlines;
+		return new EmphasisResolver(inlines).resolve();
 	}
 
-	static String toStringContent(List<Inline> contents) {
+	public static String toStringContent(List<Inline> contents) {
 		final StringBuilder stringBuilder = new StringBuilder();
 		DocumentBuilder altDocumentBuilder = new NoOpDocumentBuilder() {
 
@@ -108,15 +151,69 @@ public class InlineParser {
 		return stringBuilder.toString();
 	}
 
+	private static boolean isDelimiter(Inline inline) {
+		return inline instanceof PotentialEmphasisDelimiter || inline instanceof PotentialBracketDelimiter;
+	}
+
+	private static class InlineEmitter {
+
+		private final DocumentBuilder builder;
+
+		private Runnable beforeContent;
+
+		private final List<Inline> leadingReferenceDefinitions = new ArrayList<>();
+
+		InlineEmitter(DocumentBuilder builder, Runnable beforeContent) {
+			this.builder = builder;
+			this.beforeContent = beforeContent;
+		}
+
+		void emit(List<Inline> inlines) {
+			for (Inline inline : inlines) {
+				if (beforeContent != null) {
+					if (inline instanceof ReferenceDefinition) {
+						leadingReferenceDefinitions.add(inline);
+						continue;
+					}
+					beforeContent.run();
+					beforeContent = null;
+					InlineParser.emit(builder, leadingReferenceDefinitions);
+				}
+				builder.setLocator(inline.getLocator());
+				inline.emit(builder);
+			}
+		}
+
+		boolean hasEmittedContent() {
+			return beforeContent == null;
+		}
+	}
+
 	private void consumeOne(ProcessingContext context, List<Inline> inlines, Cursor cursor) {
-		for (SourceSpan span : spans) {
-			Optional<? extends Inline> inline = span.createInline(cursor);
-			if (inline.isPresent()) {
-				inline.get().apply(context, inlines, cursor);
-				return;
+		char c = cursor.getChar();
+		if (c < DISPATCH_TABLE_SIZE) {
+			for (SourceSpan span : spansByCharacter[c]) {
+				if (consumeOne(span, context, inlines, cursor)) {
+					return;
+				}
+			}
+		} else {
+			for (SourceSpan span : spans) {
+				if (span.getTriggerCharacters().matches(c) && consumeOne(span, context, inlines, cursor)) {
+					return;
+				}
 			}
 		}
 		throw new IllegalStateException();
 	}
 
+	private boolean consumeOne(SourceSpan span, ProcessingContext context, List<Inline> inlines, Cursor cursor) {
+		Optional<? extends Inline> inline = span.createInline(cursor);
+		if (inline.isPresent()) {
+			inline.get().apply(context, inlines, cursor);
+			return true;
+		}
+		return false;
+	}
+
 }
@@ -17,16 +17,25 @@ import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.google.common.base.CharMatcher;
+
 public class LineBreakSpan extends SourceSpan {
 
-	private final Pattern pattern = Pattern.compile("( *(\\\\)?\n).*", Pattern.DOTALL);
+	private static final CharMatcher TRIGGER_CHARACTERS = CharMatcher.anyOf("\n ");
+
+	private final Pattern pattern = Pattern.compile("( *(\\\\)?\n)");
+
+	@Override
+	public CharMatcher getTriggerCharacters() {
+		return TRIGGER_CHARACTERS;
+	}
 
 	@Override
 	public Optional<? extends Inline> createInline(Cursor cursor) {
 		char c = cursor.getChar();
 		if (c == '\n' || c == ' ') {
 			Matcher matcher = cursor.matcher(pattern);
-			if (matcher.matches()) {
+			if (matcher.lookingAt()) {
 				int length = matcher.group(1).length();
 				if (length > 2 || matcher.group(2) != null) {
 					return Optional.of(new HardLineBreak(cursor.getLineAtOffset(), cursor.getOffset(), length));
@@ -19,13 +19,13 @@ import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.mylyn.wikitext.commonmark.internal.Line;
 import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext;
 import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext.NamedUriWithTitle;
+import org.eclipse.mylyn.wikitext.commonmark.internal.ReferenceLabelNormalizer;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.builder.EntityReferences;
 
@@ -45,30 +45,43 @@ public class PotentialBracketEndDelimiter extends InlineWithText {
 
 	static final String CAPTURING_ESCAPED_CHARS = "\\\\(" + ESCAPABLE_CHARACTER_GROUP + ")";
 
-	static final String PARENS_TITLE_PART = "(?:\\(((?:" + ESCAPED_CHARS + "|[^\\)])*)\\))";
+	static final String PARENS_TITLE_PART = "(?:\\(((?:" + ESCAPED_CHARS + "|[^\\)\\\\]++|\\\\)*)\\))";
 
-	static final String SINGLE_QUOTED_TITLE_PART = "(?:'((?:" + ESCAPED_CHARS + "|[^'])*)')";
+	static final String SINGLE_QUOTED_TITLE_PART = "(?:'((?:" + ESCAPED_CHARS + "|[^'\\\\]++|\\\\)*)')";
 
-	static final String QUOTED_TITLE_PART = "(?:\"((?:" + ESCAPED_CHARS + "|[^\"])*)\")";
+	static final String QUOTED_TITLE_PART = "(?:\"((?:" + ESCAPED_CHARS + "|[^\"\\\\]++|\\\\)*)\")";
 
-	static final String BRACKET_URI_PART = "<((?:[^<>\\\\\r\n]|" + ESCAPED_CHARS + ")*?)>";
+	static final String BRACKET_URI_PART = "<((?:[^<>\\\\\r\n]++|" + ESCAPED_CHARS + ")*?)>";
 
-	private static final String IN_PARENS = "\\((?:[^\\\\()]|" + ESCAPED_CHARS + ")*\\)";
+	private static final String IN_PARENS = "\\((?:[^\\\\()]++|" + ESCAPED_CHARS + ")*\\)";
 
-	static final String NOBRACKET_URI_PART = "((?:[^\\\\\\s()]|" + ESCAPED_CHARS + "|" + IN_PARENS + "|\\\\)+)";
+	/**
+	 * As in the title and bracketed destination parts, runs of ordinary characters are matched possessively, so that
+	 * long destinations are matched without deep recursion. None of the characters of a run can start what may follow
+	 * the run.
+	 */
+	static final String NOBRACKET_URI_PART = "((?:[^\\\\\\s()]++|" + ESCAPED_CHARS + "|" + IN_PARENS + "|\\\\)+)";
 
 	static final String URI_PART = "(?:" + BRACKET_URI_PART + "|" + NOBRACKET_URI_PART + ")";
 
 	static final String TITLE_PART = "(?:" + QUOTED_TITLE_PART + "|" + SINGLE_QUOTED_TITLE_PART + "|"
 			+ PARENS_TITLE_PART + ")";
 
-	final Pattern endPattern = Pattern.compile("\\(\\s*" + URI_PART + "?(?:\\s+" + TITLE_PART + ")?\\s*\\)(.*)",
-			Pattern.DOTALL);
+	private static final int MAX_LINK_LABEL_LENGTH = 999;
 
-	final Pattern referenceLabelPattern = Pattern.compile("(\\s*\\[((?:[^\\]]|\\\\]){0,1000})]).*", Pattern.DOTALL);
+	private static final Pattern END_PATTERN = Pattern
+			.compile("\\(\\s*" + URI_PART + "?(?:\\s+" + TITLE_PART + ")?\\s*\\)");
 
-	final Pattern referenceDefinitionEndPattern = Pattern
-			.compile(":\\s*" + URI_PART + "?(?:\\s+" + TITLE_PART + ")?\\s*(.*)", Pattern.DOTALL);
+	private static final Pattern REFERENCE_LABEL_PATTERN = Pattern.compile("(\\s*\\[((?:[^\\]]|\\\\]){0,1000})])");
+
+	private static final Pattern REFERENCE_DEFINITION_END_PATTERN = Pattern
+			.compile(":\\s*" + URI_PART + "?(?:\\s+" + TITLE_PART + ")?\\s*");
+
+	final Pattern endPattern = END_PATTERN;
+
+	final Pattern referenceLabelPattern = REFERENCE_LABEL_PATTERN;
+
+	final Pattern referenceDefinitionEndPattern = REFERENCE_DEFINITION_END_PATTERN;
 
 	public PotentialBracketEndDelimiter(Line line, int offset) {
 		super(line, offset, 1, "]");
@@ -81,10 +94,10 @@ public class PotentialBracketEndDelimiter extends InlineWithText {
 
 	@Override
 	public void apply(ProcessingContext context, List<Inline> inlines, Cursor cursor) {
-		Optional<PotentialBracketDelimiter> previousDelimiter = findLastPotentialBracketDelimiter(inlines);
-		if (previousDelimiter.isPresent()) {
-			PotentialBracketDelimiter openingDelimiter = previousDelimiter.get();
-			int indexOfOpeningDelimiter = inlines.indexOf(openingDelimiter);
+		int indexOfOpeningDelimiter = indexOfLastPotentialBracketDelimiter(inlines);
+		if (indexOfOpeningDelimiter != -1) {
+			PotentialBracketDelimiter openingDelimiter = (PotentialBracketDelimiter) inlines
+					.get(indexOfOpeningDelimiter);
 
 			boolean referenceDefinition = cursor.hasNext() && cursor.getNext() == ':'
 					&& eligibleForReferenceDefinition(openingDelimiter, cursor);
@@ -92,16 +105,15 @@ public class PotentialBracketEndDelimiter extends InlineWithText {
 					? cursor.matcher(1, referenceDefinition ? referenceDefinitionEndPattern : endPattern)
 					: null;
 
-			List<Inline> contents = InlineParser
-					.secondPass(inlines.subList(indexOfOpeningDelimiter + 1, inlines.size()));
+			List<Inline> contents = inlines.subList(indexOfOpeningDelimiter + 1, inlines.size());
 			if (!openingDelimiter.isLinkDelimiter() || !containsLink(contents)) {
 
-				if (!cursor.hasNext() || !Objects.requireNonNull(matcher).matches()) {
+				if (!cursor.hasNext() || !Objects.requireNonNull(matcher).lookingAt()) {
 					String referenceName = toReferenceName(referenceName(cursor, contents));
 					int size = 1;
 					if (cursor.hasNext()) {
 						Matcher referenceLabelMatcher = cursor.matcher(1, referenceLabelPattern);
-						if (referenceLabelMatcher.matches()) {
+						if (referenceLabelMatcher.lookingAt()) {
 							String label = referenceLabelMatcher.group(2);
 							if (!label.isEmpty()) {
 								referenceName = toReferenceName(label);
@@ -115,15 +127,16 @@ public class PotentialBracketEndDelimiter extends InlineWithText {
 					if (uriWithTitle != null) {
 						cursor.advance(size);
 
+						List<Inline> linkContents = InlineParser.secondPass(contents);
 						truncate(inlines, indexOfOpeningDelimiter);
 
 						int length = getOffset() - openingDelimiter.getOffset();
 						if (openingDelimiter.isLinkDelimiter()) {
 							inlines.add(new Link(openingDelimiter.getLine(), openingDelimiter.getOffset(), length,
-									uriWithTitle.getUri(), uriWithTitle.getTitle(), contents));
+									uriWithTitle.getUri(), uriWithTitle.getTitle(), linkContents));
 						} else {
 							inlines.add(new Image(openingDelimiter.getLine(), openingDelimiter.getOffset(), length,
-									uriWithTitle.getUri(), uriWithTitle.getTitle(), contents));
+									uriWithTitle.getUri(), uriWithTitle.getTitle(), linkContents));
 						}
 						return;
 					}
@@ -138,10 +151,11 @@ public class PotentialBracketEndDelimiter extends InlineWithText {
 							referenceName = toReferenceName(referenceName(cursor, contents));
 						}
 						if ((referenceDefinition && referenceName != null) || !referenceDefinition) {
-							int closingLength = matcher.start(6) - matcher.start() + 1;
+							int closingLength = matcher.end() - matcher.start() + 1;
 							cursor.advance(closingLength);
 							int length = getOffset() - openingDelimiter.getOffset() + closingLength;
 
+							List<Inline> linkContents = referenceDefinition ? null : InlineParser.secondPass(contents);
 							truncate(inlines, indexOfOpeningDelimiter);
 
 							if (referenceDefinition) {
@@ -150,10 +164,10 @@ public class PotentialBracketEndDelimiter extends InlineWithText {
 										openingDelimiter.getOffset(), length, uri, title, referenceName));
 							} else if (openingDelimiter.isImageDelimiter()) {
 								inlines.add(new Image(openingDelimiter.getLine(), openingDelimiter.getOffset(), length,
-										uri, title, contents));
+										uri, title, linkContents));
 							} else {
 								inlines.add(new Link(openingDelimiter.getLine(), openingDelimiter.getOffset(), length,
-										uri, title, contents));
+										uri, title, linkContents));
 							}
 							return;
 						}
@@ -191,9 +205,9 @@ public class PotentialBracketEndDelimiter extends InlineWithText {
 				new Characters(delimiter.getLine(), delimiter.getOffset(), delimiter.getLength(), delimiter.getText()));
 	}
 
-	private boolean hasContentOnSameLine(Matcher matcher, Cursor cursor) {
-		int indexOfContent = matcher.start(6);
-		if (indexOfContent == -1 || matcher.end(6) == indexOfContent) {
+	boolean hasContentOnSameLine(Matcher matcher, Cursor cursor) {
+		int indexOfContent = matcher.end();
+		if (indexOfContent == matcher.regionEnd()) {
 			return false;
 		}
 		int startIndex = titleEndIndex(matcher);
@@ -232,9 +246,7 @@ public class PotentialBracketEndDelimiter extends InlineWithText {
 	}
 
 	public void truncate(List<Inline> inlines, int indexOfOpeningDelimiter) {
-		while (inlines.size() > indexOfOpeningDelimiter) {
-			inlines.remove(indexOfOpeningDelimiter);
-		}
+		inlines.subList(indexOfOpeningDelimiter, inlines.size()).clear();
 	}
 
 	boolean eligibleForReferenceDefinition(PotentialBracketDelimiter openingDelimiter, Cursor cursor) {
@@ -281,7 +293,7 @@ public class PotentialBracketEndDelimiter extends InlineWithText {
 		new Characters(getLine(), getOffset(), getLength(), getText()).apply(context, inlines, cursor);
 	}
 
-	private String linkTitle(Matcher matcher) {
+	String linkTitle(Matcher matcher) {
 		String title = matcher.group(3);
 		if (title == null) {
 			title = matcher.group(4);
@@ -307,7 +319,7 @@ public class PotentialBracketEndDelimiter extends InlineWithText {
 		return index + 1;
 	}
 
-	private String linkUri(Matcher matcher) {
+	String linkUri(Matcher matcher) {
 		String uriWithEscapes = matcher.group(1);
 		if (uriWithEscapes == null) {
 			uriWithEscapes = matcher.group(2);
@@ -359,25 +371,42 @@ public class PotentialBracketEndDelimiter extends InlineWithText {
 	}
 
 	String toReferenceName(String stringWithBackslashEscapes) {
-		String referenceName = stringWithBackslashEscapes.replaceAll("(?s)\\\\(\\[|\\])", "$1").replaceAll("\\s+", " ");
+		if (stringWithBackslashEscapes.length() > MAX_LINK_LABEL_LENGTH) {
+			return null;
+		}
+		String referenceName = ReferenceLabelNormalizer
+				.collapseWhitespace(unescapeBackslashEscapedBrackets(stringWithBackslashEscapes));
 		if (CharMatcher.whitespace().matchesAllOf(referenceName)) {
 			return null;
 		}
 		return referenceName;
 	}
 
+	private static String unescapeBackslashEscapedBrackets(String text) {
+		if (text.indexOf('\\') == -1) {
+			return text;
+		}
+		StringBuilder unescaped = new StringBuilder(text.length());
+		for (int x = 0; x < text.length(); ++x) {
+			char c = text.charAt(x);
+			if (c == '\\' && x + 1 < text.length() && (text.charAt(x + 1) == '[' || text.charAt(x + 1) == ']')) {
+				c = text.charAt(++x);
+			}
+			unescaped.append(c);
+		}
+		return unescaped.toString();
+	}
+
 	String unescapeBackslashEscapes(String stringWithBackslashEscapes) {
 		return stringWithBackslashEscapes.replaceAll(CAPTURING_ESCAPED_CHARS, "$1");
 	}
 
-	private Optional<PotentialBracketDelimiter> findLastPotentialBracketDelimiter(List<Inline> inlines) {
+	private int indexOfLastPotentialBracketDelimiter(List<Inline> inlines) {
 		for (int x = inlines.size() - 1; x >= 0; --x) {
-			Inline inline = inlines.get(x);
-			if (inline instanceof PotentialBracketDelimiter) {
-				PotentialBracketDelimiter delimiter = (PotentialBracketDelimiter) inline;
-				return Optional.of(delimiter);
+			if (inlines.get(x) instanceof PotentialBracketDelimiter) {
+				return x;
 			}
 		}
-		return Optional.empty();
+		return -1;
 	}
 }
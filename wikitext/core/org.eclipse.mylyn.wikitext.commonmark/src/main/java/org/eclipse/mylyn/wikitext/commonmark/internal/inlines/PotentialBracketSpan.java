@@ -15,8 +15,17 @@ package org.eclipse.mylyn.wikitext.commonmark.internal.inlines;
 
 import java.util.Optional;
 
+import com.google.common.base.CharMatcher;
+
 public class PotentialBracketSpan extends SourceSpan {
 
+	private static final CharMatcher TRIGGER_CHARACTERS = CharMatcher.anyOf("![]");
+
+	@Override
+	public CharMatcher getTriggerCharacters() {
+		return TRIGGER_CHARACTERS;
+	}
+
 	@Override
 	public Optional<? extends Inline> createInline(Cursor cursor) {
 		char c = cursor.getChar();
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.commonmark.internal.inlines;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+
+import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContextBuilder;
+import org.eclipse.mylyn.wikitext.commonmark.internal.TextSegment;
+
+import com.google.common.base.CharMatcher;
+
+/**
+ * Collects the link reference definitions of a paragraph without parsing its inlines. Definitions are recognized as
+ * they are by the {@link InlineParser}: a link label at the start of a line that is indented by at most three spaces,
+ * followed by a colon and a destination. When an inline that may span lines, such as a code span, raw HTML, a link
+ * title or a reference label, could consume the start of a definition, the paragraph must be parsed instead.
+ */
+class ReferenceDefinitionScanner {
+
+	private static final CharMatcher ESCAPABLE = CharMatcher.anyOf("!\"\\#$%&'()*+,-./:;<=>?@[]^_`{|}~");
+
+	private static final int NOT_A_DEFINITION = -1;
+
+	private static final int AMBIGUOUS = -2;
+
+	private final TextSegment segment;
+
+	private final String text;
+
+	private final List<ReferenceDefinition> definitions = new ArrayList<>();
+
+	private Cursor cursor;
+
+	ReferenceDefinitionScanner(TextSegment segment) {
+		this.segment = segment;
+		this.text = segment.getText();
+	}
+
+	/**
+	 * Collect the definitions of the paragraph.
+	 *
+	 * @return true if the definitions were added to the given context builder, or false if the paragraph must be
+	 *         parsed to determine its definitions
+	 */
+	boolean createContext(ProcessingContextBuilder contextBuilder) {
+		List<ReferenceDefinition> definitions = scan();
+		if (definitions == null) {
+			return false;
+		}
+		for (ReferenceDefinition definition : definitions) {
+			definition.createContext(contextBuilder);
+		}
+		return true;
+	}
+
+	/**
+	 * Provide the definitions of the paragraph, or null if the paragraph must be parsed to determine its definitions.
+	 */
+	List<ReferenceDefinition> scan() {
+		if (text.indexOf('[') == -1) {
+			return definitions;
+		}
+		int position = 0;
+		int checkedPosition = 0;
+		int lineStart = 0;
+		while (lineStart < text.length()) {
+			int lineEnd = text.indexOf('\n', lineStart);
+			if (lineEnd == -1) {
+				lineEnd = text.length();
+			}
+			int labelStart = lineStart;
+			while (labelStart < lineEnd && labelStart - lineStart < 4 && text.charAt(labelStart) == ' ') {
+				++labelStart;
+			}
+			if (labelStart - lineStart < 4 && labelStart >= position && labelStart < lineEnd
+					&& text.charAt(labelStart) == '[') {
+				if (mayConsumeLineStart(checkedPosition, labelStart) || endsWithLabel(position, labelStart)) {
+					return null;
+				}
+				checkedPosition = labelStart;
+				int end = definitionEnd(labelStart);
+				if (end == AMBIGUOUS) {
+					return null;
+				} else if (end != NOT_A_DEFINITION) {
+					position = end;
+					checkedPosition = end;
+					lineEnd = Math.max(lineEnd, text.lastIndexOf('\n', end - 1));
+				}
+			}
+			lineStart = lineEnd + 1;
+		}
+		return definitions;
+	}
+
+	/**
+	 * Provide the end of the definition that starts with the label at the given offset, as the offset of the content
+	 * that follows it.
+	 */
+	private int definitionEnd(int labelStart) {
+		int labelEnd = NOT_A_DEFINITION;
+		for (int x = labelStart + 1; x < text.length() && labelEnd == NOT_A_DEFINITION; ++x) {
+			char c = text.charAt(x);
+			if (c == '\\' && x + 1 < text.length() && ESCAPABLE.matches(text.charAt(x + 1))) {
+				++x;
+			} else if (c == '[') {
+				return NOT_A_DEFINITION;
+			} else if (c == '`' || c == '<' || text.startsWith("http", x)) {
+				return AMBIGUOUS;
+			} else if (c == ']') {
+				labelEnd = x;
+			}
+		}
+		if (labelEnd == NOT_A_DEFINITION || labelEnd + 1 >= text.length() || text.charAt(labelEnd + 1) != ':') {
+			return NOT_A_DEFINITION;
+		}
+		PotentialBracketEndDelimiter delimiter = new PotentialBracketEndDelimiter(segment.getLineAtOffset(labelEnd),
+				segment.offsetOf(labelEnd));
+		String referenceName = delimiter.toReferenceName(text.substring(labelStart + 1, labelEnd));
+		Matcher matcher = delimiter.referenceDefinitionEndPattern.matcher(text);
+		matcher.region(labelEnd + 1, text.length());
+		if (referenceName == null || !matcher.lookingAt()) {
+			return NOT_A_DEFINITION;
+		}
+		String uri = delimiter.linkUri(matcher);
+		if (uri.isEmpty() || delimiter.hasContentOnSameLine(matcher, cursor())) {
+			return NOT_A_DEFINITION;
+		}
+		int end = matcher.end();
+		int offset = segment.offsetOf(labelStart);
+		int length = delimiter.getOffset() - offset + end - labelEnd;
+		definitions.add(new ReferenceDefinition(segment.getLineAtOffset(labelStart), offset, length, uri,
+				delimiter.linkTitle(matcher), referenceName));
+		return end;
+	}
+
+	/**
+	 * Indicate if the given text that precedes the start of a line may contain the start of an inline that spans lines.
+	 */
+	private boolean mayConsumeLineStart(int start, int end) {
+		for (int x = start; x < end; ++x) {
+			char c = text.charAt(x);
+			if (c == '`' || c == '<' || (c == '(' && x > 0 && text.charAt(x - 1) == ']')) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Indicate if the given text ends with a closing bracket, which may be followed by a reference label on the next
+	 * line.
+	 */
+	private boolean endsWithLabel(int start, int end) {
+		for (int x = end - 1; x >= start; --x) {
+			char c = text.charAt(x);
+			if (!Character.isWhitespace(c)) {
+				return c == ']';
+			}
+		}
+		return false;
+	}
+
+	private Cursor cursor() {
+		if (cursor == null) {
+			cursor = new Cursor(segment);
+		}
+		return cursor;
+	}
+}
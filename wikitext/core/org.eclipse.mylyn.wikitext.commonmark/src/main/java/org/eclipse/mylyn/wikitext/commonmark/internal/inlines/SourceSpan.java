@@ -15,8 +15,20 @@ package org.eclipse.mylyn.wikitext.commonmark.internal.inlines;
 
 import java.util.Optional;
 
+import com.google.common.base.CharMatcher;
+
 public abstract class SourceSpan {
 
 	public abstract Optional<? extends Inline> createInline(Cursor cursor);
 
+	/**
+	 * Provides the characters at which this span can create an inline. The {@link InlineParser} only tries the span at
+	 * positions of the cursor that have one of these characters.
+	 *
+	 * @return the trigger characters, which by default are all characters
+	 */
+	public CharMatcher getTriggerCharacters() {
+		return CharMatcher.any();
+	}
+
 }
@@ -14,22 +14,45 @@
 package org.eclipse.mylyn.wikitext.commonmark.internal.inlines;
 
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+
+import com.google.common.base.CharMatcher;
 
 public class StringCharactersSpan extends SourceSpan {
 
-	private final Pattern pattern = Pattern.compile("((?: *[^\n `\\[\\]\\\\!<&*_h]+)+).*", Pattern.DOTALL);
+	private static final CharMatcher SPECIAL_CHARACTERS = CharMatcher.anyOf("\n`[]\\!<&*_");
+
+	private static final CharMatcher TRIGGER_CHARACTERS = SPECIAL_CHARACTERS.negate();
 
+	@Override
+	public CharMatcher getTriggerCharacters() {
+		return TRIGGER_CHARACTERS;
+	}
+
+	/**
+	 * Creates characters for the text up to the next character that may start another inline, excluding any trailing
+	 * spaces.
+	 */
 	@Override
 	public Optional<? extends Inline> createInline(Cursor cursor) {
-		Matcher matcher = cursor.matcher(pattern);
-		if (matcher.matches()) {
-			String group = matcher.group(1);
-			int length = cursor.getOffset(matcher.end(1)) - cursor.getOffset();
-			return Optional.of(new Characters(cursor.getLineAtOffset(), cursor.getOffset(), length, group));
+		int length = 0;
+		for (int x = 0; x == 0 || cursor.hasNext(x); ++x) {
+			char c = cursor.getNext(x);
+			if (c != ' ') {
+				if (SPECIAL_CHARACTERS.matches(c) || (c == 'h' && isLinkStart(cursor, x))) {
+					break;
+				}
+				length = x + 1;
+			}
+		}
+		if (length > 0) {
+			return Optional.of(new Characters(cursor.getLineAtOffset(), cursor.getOffset(), length,
+					cursor.getTextAtOffset(length)));
 		}
 		return Optional.empty();
 	}
 
+	private boolean isLinkStart(Cursor cursor, int offset) {
+		return cursor.hasNext(offset + 3) && cursor.getNext(offset + 1) == 't' && cursor.getNext(offset + 2) == 't'
+				&& cursor.getNext(offset + 3) == 'p';
+	}
 }
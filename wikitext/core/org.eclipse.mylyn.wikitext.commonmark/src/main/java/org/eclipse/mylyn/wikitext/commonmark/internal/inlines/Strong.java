@@ -16,7 +16,6 @@ package org.eclipse.mylyn.wikitext.commonmark.internal.inlines;
 import java.util.List;
 
 import org.eclipse.mylyn.wikitext.commonmark.internal.Line;
-import org.eclipse.mylyn.wikitext.parser.Attributes;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.SpanType;
 
@@ -28,7 +27,7 @@ public class Strong extends InlineWithNestedContents {
 
 	@Override
 	public void emit(DocumentBuilder builder) {
-		builder.beginSpan(SpanType.STRONG, new Attributes());
+		builder.beginSpan(SpanType.STRONG, builder.emptyAttributes());
 		InlineParser.emit(builder, getContents());
 		builder.endSpan();
 	}
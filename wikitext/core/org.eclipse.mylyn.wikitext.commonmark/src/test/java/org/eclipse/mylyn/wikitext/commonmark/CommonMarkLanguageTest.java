@@ -21,14 +21,18 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.eclipse.mylyn.wikitext.parser.Attributes;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.BlockType;
 import org.eclipse.mylyn.wikitext.parser.MarkupParser;
 import org.eclipse.mylyn.wikitext.parser.builder.EventDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.builder.event.BeginBlockEvent;
 import org.eclipse.mylyn.wikitext.parser.builder.event.BeginDocumentEvent;
 import org.eclipse.mylyn.wikitext.parser.builder.event.CharactersEvent;
@@ -116,6 +120,51 @@ public class CommonMarkLanguageTest {
 
 	}
 
+	@Test
+	public void parseWithExecutor() {
+		StringBuilder content = new StringBuilder();
+		for (int x = 0; x < 5000; ++x) {
+			content.append("## Section\n\nSome *text* and [a link][ref] in section ").append(x).append("\n\n");
+		}
+		content.append("[ref]: /target\n");
+
+		String serial = new MarkupParser(language).parseToHtml(content.toString());
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			MarkupParser parser = new MarkupParser(language);
+			parser.setExecutor(executor);
+			assertEquals(serial, parser.parseToHtml(content.toString()));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void htmlDocumentBuilderSubclassModifiesAttributes() {
+		StringWriter out = new StringWriter();
+		HtmlDocumentBuilder builder = new HtmlDocumentBuilder(out) {
+			@Override
+			public void beginHeading(int level, Attributes attributes) {
+				attributes.appendCssClass("preview");
+				super.beginHeading(level, attributes);
+			}
+
+			@Override
+			public void beginBlock(BlockType type, Attributes attributes) {
+				attributes.appendCssClass("preview");
+				super.beginBlock(type, attributes);
+			}
+		};
+		builder.setEmitAsDocument(false);
+		MarkupParser parser = new MarkupParser(language, builder);
+		parser.parse("# Heading\n\nparagraph\n\n* item\n\n> quote\n\n    code\n");
+		String html = out.toString();
+		assertTrue(html, html.contains("<p class=\"preview\">paragraph</p>"));
+		assertTrue(html, html.contains("<li class=\"preview\">"));
+		assertTrue(html, html.contains("<blockquote class=\"preview\">"));
+		assertTrue(html, html.contains("<pre class=\"preview\"><code class=\"preview\">code"));
+	}
+
 	private void assertEvents(String content, DocumentBuilderEvent... events) {
 		assertEvents(content, true, events);
 	}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.commonmark;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Inputs that cause naive parsers to take time that is quadratic or worse in the size of the input, modeled on the
+ * pathological tests of the CommonMark reference implementation. Each input must be parsed within the time limit.
+ */
+public class PathologicalInputTest {
+
+	private static final int REPETITIONS = 10000;
+
+	@Rule
+	public final Timeout timeout = Timeout.seconds(10);
+
+	@Test
+	public void nestedStrongEmphasis() {
+		String html = parseToHtml("*a **a ".repeat(REPETITIONS / 10) + "b" + " a** a*".repeat(REPETITIONS / 10));
+		assertOccurrences(REPETITIONS / 10, "<em>", html);
+		assertOccurrences(REPETITIONS / 10, "<strong>", html);
+	}
+
+	@Test
+	public void emphasisClosersWithoutOpeners() {
+		String html = parseToHtml("a_ ".repeat(REPETITIONS));
+		assertOccurrences(0, "<em>", html);
+	}
+
+	@Test
+	public void emphasisOpenersWithoutClosers() {
+		String html = parseToHtml("_a ".repeat(REPETITIONS));
+		assertOccurrences(0, "<em>", html);
+	}
+
+	@Test
+	public void mismatchedEmphasisOpenersAndClosers() {
+		String html = parseToHtml("*a_ ".repeat(REPETITIONS));
+		assertOccurrences(0, "<em>", html);
+	}
+
+	@Test
+	public void emphasisOpenerFollowedByClosers() {
+		String html = parseToHtml("a**b" + "c* ".repeat(REPETITIONS));
+		assertOccurrences(2, "<em>", html);
+	}
+
+	@Test
+	public void linkOpenersAndEmphasisClosers() {
+		String html = parseToHtml("[ a_".repeat(REPETITIONS));
+		assertOccurrences(0, "<em>", html);
+	}
+
+	@Test
+	public void linkClosersWithoutOpeners() {
+		String html = parseToHtml("a]".repeat(REPETITIONS));
+		assertOccurrences(0, "<a ", html);
+	}
+
+	@Test
+	public void linkOpenersWithoutClosers() {
+		String html = parseToHtml("[a".repeat(REPETITIONS));
+		assertOccurrences(0, "<a ", html);
+	}
+
+	@Test
+	public void nestedBrackets() {
+		String html = parseToHtml("[".repeat(REPETITIONS) + "a" + "]".repeat(REPETITIONS));
+		assertOccurrences(0, "<a ", html);
+	}
+
+	@Test
+	public void emphasisInLinks() {
+		String html = parseToHtml("[*a* _b_](/url) ".repeat(REPETITIONS / 10));
+		assertOccurrences(REPETITIONS / 10, "<a ", html);
+		assertOccurrences(REPETITIONS / 5, "<em>", html);
+	}
+
+	private String parseToHtml(String markup) {
+		return new MarkupParser(new CommonMarkLanguage()).parseToHtml(markup);
+	}
+
+	private void assertOccurrences(int expected, String substring, String html) {
+		Matcher matcher = Pattern.compile(Pattern.quote(substring)).matcher(html);
+		int count = 0;
+		while (matcher.find()) {
+			++count;
+		}
+		assertEquals(expected, count);
+	}
+}
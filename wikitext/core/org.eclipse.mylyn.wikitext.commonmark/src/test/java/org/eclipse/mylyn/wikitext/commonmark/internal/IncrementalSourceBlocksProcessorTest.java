@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.commonmark.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.util.Random;
+
+import org.eclipse.mylyn.wikitext.commonmark.CommonMarkLanguage;
+import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.incremental.IncrementalParser;
+import org.eclipse.mylyn.wikitext.parser.incremental.ParseDelta;
+import org.eclipse.mylyn.wikitext.parser.incremental.TextEdit;
+import org.junit.Test;
+
+public class IncrementalSourceBlocksProcessorTest {
+
+	private static final String SECTION = "# Heading\n\nSome *text* with a [link][ref] and [other].\n\n"
+			+ "Heading\n-------\n\n* item one\n\n* item two\n\n  continued\n\n1. first\n2. second\n\n"
+			+ "```\ncode\n\nwith blank lines\n```\n\n    indented\n\n    code\n\n> quote\n\n> more quote\n\n"
+			+ "<div>\n\nhtml\n</div>\n\n<!-- comment\n\n-->\n\n***\n\nlazy\nparagraph\n\n";
+
+	private static final String DEFINITIONS = "[ref]: /first\n\n[ref]: /second\n\n[other]: /other \"title\"\n";
+
+	private final IncrementalParser parser = new IncrementalParser(new CommonMarkLanguage());
+
+	@Test
+	public void parse() {
+		parser.parse(document(3));
+
+		assertTrue(parser.getBlocks().size() > 3);
+		assertEquals(fullParse(parser.getContent()), emit());
+	}
+
+	@Test
+	public void updateParagraph() {
+		String content = document(3);
+		parser.parse(content);
+		int offset = content.indexOf("lazy");
+
+		ParseDelta delta = parser.update(new TextEdit(offset, 4, "eager"));
+
+		assertFalse(delta.isFullParse());
+		assertTrue(delta.getInsertedBlocks().size() < parser.getBlocks().size() / 2);
+		assertEquals(fullParse(parser.getContent()), emit());
+	}
+
+	@Test
+	public void updateHeadingShiftsFollowingIds() {
+		String content = document(3);
+		parser.parse(content);
+
+		ParseDelta delta = parser.update(new TextEdit(2, 7, "Other"));
+
+		assertFalse(delta.isFullParse());
+		String html = emit();
+		assertEquals(fullParse(parser.getContent()), html);
+		assertTrue(html, html.contains("<h1 id=\"other\">"));
+		assertTrue(html, html.contains("<h1 id=\"heading2\">"));
+	}
+
+	@Test
+	public void updateReferenceDefinition() {
+		String content = document(3);
+		parser.parse(content);
+
+		ParseDelta delta = parser.update(new TextEdit(content.indexOf("/other"), 6, "/changed"));
+
+		assertTrue(delta.isFullParse());
+		String html = emit();
+		assertEquals(fullParse(parser.getContent()), html);
+		assertTrue(html, html.contains("<a href=\"/changed\" title=\"title\">other</a>"));
+	}
+
+	@Test
+	public void updateAddingReferenceDefinition() {
+		parser.parse("[foo]\n\nparagraph\n\nparagraph\n\nparagraph\n");
+
+		ParseDelta delta = parser.update(new TextEdit(7, 9, "[foo]: /url"));
+
+		assertTrue(delta.isFullParse());
+		assertEquals("<p><a href=\"/url\">foo</a></p><p>paragraph</p><p>paragraph</p>", emit());
+	}
+
+	@Test
+	public void randomEdits() {
+		assertRandomEdits(new CommonMarkLanguage());
+	}
+
+	@Test
+	public void randomEditsStrict() {
+		CommonMarkLanguage language = new CommonMarkLanguage();
+		language.setStrictlyConforming(true);
+		assertRandomEdits(language);
+	}
+
+	private void assertRandomEdits(CommonMarkLanguage language) {
+		IncrementalParser parser = new IncrementalParser(language);
+		Random random = new Random(42);
+		String[] fragments = { "\n", "\n\n", "# ", "* ", "> ", "```", "    ", "---", "<div>", "text", "[ref]", "*", "" };
+		parser.parse(document(2));
+		for (int x = 0; x < 300; ++x) {
+			String current = parser.getContent();
+			int offset = random.nextInt(current.length() + 1);
+			int removedLength = random.nextInt(Math.min(8, current.length() - offset) + 1);
+			parser.update(new TextEdit(offset, removedLength, fragments[random.nextInt(fragments.length)]));
+
+			assertEquals(fullParse(language, parser.getContent()), emit(parser));
+		}
+	}
+
+	private String document(int sectionCount) {
+		StringBuilder content = new StringBuilder();
+		for (int x = 0; x < sectionCount; ++x) {
+			content.append(SECTION);
+		}
+		content.append(DEFINITIONS);
+		return content.toString();
+	}
+
+	private String emit() {
+		return emit(parser);
+	}
+
+	private String emit(IncrementalParser parser) {
+		StringWriter out = new StringWriter();
+		parser.emit(createBuilder(out));
+		return out.toString();
+	}
+
+	private String fullParse(String content) {
+		return fullParse(new CommonMarkLanguage(), content);
+	}
+
+	private String fullParse(CommonMarkLanguage language, String content) {
+		StringWriter out = new StringWriter();
+		new MarkupParser(language, createBuilder(out)).parse(content);
+		return out.toString();
+	}
+
+	private HtmlDocumentBuilder createBuilder(StringWriter out) {
+		HtmlDocumentBuilder builder = new HtmlDocumentBuilder(out);
+		builder.setEmitAsDocument(false);
+		return builder;
+	}
+}
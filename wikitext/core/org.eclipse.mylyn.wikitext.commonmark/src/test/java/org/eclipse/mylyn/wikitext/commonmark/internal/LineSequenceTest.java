@@ -57,6 +57,43 @@ public class LineSequenceTest {
 		assertTwoLines(LineSequence.create("abc\r\ndefg"));
 	}
 
+	@Test
+	public void lineDelimiters() {
+		LineSequence lineSequence = LineSequence.create("a\rb\r\n\nc\n");
+		List<String> lines = new ArrayList<>();
+		List<Integer> offsets = new ArrayList<>();
+		for (Line line = lineSequence.getCurrentLine(); line != null; line = lineSequence.getCurrentLine()) {
+			lines.add(line.getText());
+			offsets.add(line.getOffset());
+			lineSequence.advance();
+		}
+		assertEquals(List.of("a", "b", "", "c"), lines);
+		assertEquals(List.of(0, 2, 5, 6), offsets);
+	}
+
+	@Test
+	public void lookAheadProvidesSameLines() {
+		StringBuilder content = new StringBuilder();
+		for (int x = 0; x < 100; ++x) {
+			content.append(x).append('\n');
+		}
+		LineSequence lineSequence = LineSequence.create(content.toString());
+		lineSequence.advance(3);
+		LineSequence lookAhead = lineSequence.lookAhead();
+		List<Line> lines = new ArrayList<>();
+		for (Line line = lookAhead.getCurrentLine(); line != null; line = lookAhead.getCurrentLine()) {
+			lines.add(line);
+			lookAhead.advance();
+		}
+		assertEquals(97, lines.size());
+		for (Line line : lines) {
+			assertSame(line, lineSequence.getCurrentLine());
+			assertEquals(String.valueOf(line.getLineNumber()), line.getText());
+			lineSequence.advance();
+		}
+		assertNoLinesRemain(lineSequence);
+	}
+
 	@Test
 	public void toStringTest() {
 		assertEquals("LineSequence{currentLine=Line{lineNumber=0, offset=0, text=a}, nextLine=null}",
@@ -84,6 +84,22 @@ public class LineTest {
 		assertEquals("34567", segment.getText());
 	}
 
+	@Test
+	public void segmentOfSegment() {
+		Line segment = new Line(2, 15, "0123456789").segment(3, 5).segment(1, 3);
+		assertEquals(15 + 4, segment.getOffset());
+		assertEquals(3, segment.getLength());
+		assertEquals("456", segment.asCharSequence().toString());
+		assertEquals("456", segment.getText());
+		assertFalse(segment.isEmpty());
+		assertTrue(new Line(0, 0, "a  b").segment(1, 2).isEmpty());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void segmentOutOfBounds() {
+		new Line(0, 0, "abc").segment(2, 2);
+	}
+
 	@Test
 	public void toLocator() {
 		Line line = new Line(2, 15, "0123456789");
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.commonmark.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.mylyn.wikitext.commonmark.internal.inlines.InlineParser;
+import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
+import org.junit.After;
+import org.junit.Test;
+
+public class ParallelSourceBlocksProcessorTest {
+
+	private static final String SECTION = "# Heading\n\nSome *text* with a [link][ref] and [other].\n\n"
+			+ "Heading\n-------\n\n* item one\n\n* item two\n\n  continued\n\n1. first\n2. second\n\n"
+			+ "```\ncode\n\nwith blank lines\n```\n\n    indented\n\n    code\n\n> quote\n\n> more quote\n\n"
+			+ "<div>\n\nhtml\n</div>\n\n<!-- comment\n\n-->\n\n***\n\nlazy\nparagraph\n\n";
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	private final AtomicInteger chunkCount = new AtomicInteger();
+
+	@After
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void sameOutputAsSerial() {
+		assertSameOutputAsSerial(document(20), InlineContent.markdown());
+		assertTrue(chunkCount.get() > 20);
+	}
+
+	@Test
+	public void sameOutputAsSerialStrict() {
+		assertSameOutputAsSerial(document(20), InlineContent.commonMarkStrict());
+	}
+
+	@Test
+	public void headingIdsAreUniqueAcrossChunks() {
+		String html = assertSameOutputAsSerial(document(3), InlineContent.markdown());
+		assertTrue(html, html.contains("<h1 id=\"heading\">"));
+		assertTrue(html, html.contains("<h1 id=\"heading3\">"));
+	}
+
+	@Test
+	public void referenceDefinitionsFromOtherChunks() {
+		String html = assertSameOutputAsSerial(document(3), InlineContent.markdown());
+		assertTrue(html, html.contains("<a href=\"/first\">link</a>"));
+		assertTrue(html, html.contains("<a href=\"/other\" title=\"title\">other</a>"));
+	}
+
+	@Test
+	public void noSplitWithinListOrIndentedCode() {
+		String content = "* a\n\n* b\n\n\n    code\n\n    more\n";
+		assertSameOutputAsSerial(content, InlineContent.markdown());
+		assertEquals(1, chunkCount.get());
+	}
+
+	@Test(timeout = 30000)
+	public void chunksNotStartedAreProcessedByCaller() {
+		String content = document(5);
+		assertEquals(serial(content, InlineContent.markdown()),
+				parallel(content, InlineContent.markdown(), command -> chunkCount.incrementAndGet()));
+		assertTrue(chunkCount.get() > 5);
+	}
+
+	@Test
+	public void rejectedChunksAreProcessedByCaller() {
+		String content = document(5);
+		assertEquals(serial(content, InlineContent.markdown()), parallel(content, InlineContent.markdown(), command -> {
+			throw new RejectedExecutionException();
+		}));
+	}
+
+	@Test
+	public void callerOnSaturatedExecutor() throws Exception {
+		ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+		try {
+			String content = document(5);
+			Future<String> parallel = singleThreadExecutor
+					.submit(() -> parallel(content, InlineContent.markdown(), singleThreadExecutor));
+			assertEquals(serial(content, InlineContent.markdown()), parallel.get(30, TimeUnit.SECONDS));
+		} finally {
+			singleThreadExecutor.shutdownNow();
+		}
+	}
+
+	private String document(int sectionCount) {
+		StringBuilder content = new StringBuilder();
+		for (int x = 0; x < sectionCount; ++x) {
+			content.append(SECTION);
+		}
+		content.append("[ref]: /first\n\n[ref]: /second\n\n[other]: /other \"title\"\n");
+		return content.toString();
+	}
+
+	private String assertSameOutputAsSerial(String content, InlineParser inlineParser) {
+		String serial = serial(content, inlineParser);
+		String parallel = parallel(content, inlineParser);
+		assertEquals(serial, parallel);
+		return parallel;
+	}
+
+	private String serial(String content, InlineParser inlineParser) {
+		StringWriter out = new StringWriter();
+		HtmlDocumentBuilder builder = createBuilder(out);
+		SourceBlocks sourceBlocks = CommonMark.sourceBlocks();
+		ProcessingContextBuilder contextBuilder = ProcessingContext.builder().inlineParser(inlineParser);
+		sourceBlocks.createContext(contextBuilder, LineSequence.create(content));
+		sourceBlocks.process(contextBuilder.build(), builder, LineSequence.create(content));
+		builder.flush();
+		return out.toString();
+	}
+
+	private String parallel(String content, InlineParser inlineParser) {
+		return parallel(content, inlineParser, command -> {
+			chunkCount.incrementAndGet();
+			executor.execute(command);
+		});
+	}
+
+	private String parallel(String content, InlineParser inlineParser, Executor executor) {
+		StringWriter out = new StringWriter();
+		HtmlDocumentBuilder builder = createBuilder(out);
+		ParallelSourceBlocksProcessor processor = new ParallelSourceBlocksProcessor(CommonMark.sourceBlocks(),
+				executor, 1);
+		processor.process(ProcessingContext.builder().inlineParser(inlineParser), builder, content);
+		builder.flush();
+		return out.toString();
+	}
+
+	private HtmlDocumentBuilder createBuilder(StringWriter out) {
+		HtmlDocumentBuilder builder = new HtmlDocumentBuilder(out);
+		builder.setEmitAsDocument(false);
+		return builder;
+	}
+}
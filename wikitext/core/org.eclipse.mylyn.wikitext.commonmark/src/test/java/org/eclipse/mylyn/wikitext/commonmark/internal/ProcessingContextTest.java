@@ -50,6 +50,16 @@ public class ProcessingContextTest {
 		assertNull(context.namedUriWithTitle("Unknown"));
 	}
 
+	@Test
+	public void referenceDefinitionNormalizedName() {
+		ProcessingContext context = ProcessingContext.builder()
+				.referenceDefinition("Stra\u00dfe  One", "/uri", null)
+				.build();
+		assertNotNull(context.namedUriWithTitle("STRASSE one"));
+		assertNotNull(context.namedUriWithTitle(" strasse\none "));
+		assertNull(context.namedUriWithTitle("strase one"));
+	}
+
 	@Test
 	public void referenceDefinitionEmptyName() {
 		assertTrue(ProcessingContext.builder().referenceDefinition("", "one", "two").build().isEmpty());
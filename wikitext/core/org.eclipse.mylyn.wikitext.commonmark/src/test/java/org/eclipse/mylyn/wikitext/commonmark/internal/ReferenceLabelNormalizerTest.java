@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.commonmark.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class ReferenceLabelNormalizerTest {
+
+	@Test
+	public void normalizeLabelCaseFolds() {
+		assertEquals(ReferenceLabelNormalizer.normalizeLabel("foo"), ReferenceLabelNormalizer.normalizeLabel("FoO"));
+		assertEquals(ReferenceLabelNormalizer.normalizeLabel("Толпой"),
+				ReferenceLabelNormalizer.normalizeLabel("ТОЛПОЙ"));
+		assertEquals(ReferenceLabelNormalizer.normalizeLabel("ß"), ReferenceLabelNormalizer.normalizeLabel("SS"));
+		assertEquals(ReferenceLabelNormalizer.normalizeLabel("ẞ"), ReferenceLabelNormalizer.normalizeLabel("ss"));
+		assertNotEquals(ReferenceLabelNormalizer.normalizeLabel("foo"), ReferenceLabelNormalizer.normalizeLabel("bar"));
+	}
+
+	@Test
+	public void normalizeLabelCollapsesWhitespace() {
+		assertEquals(ReferenceLabelNormalizer.normalizeLabel("foo bar"),
+				ReferenceLabelNormalizer.normalizeLabel("foo\n  bar"));
+		assertEquals(ReferenceLabelNormalizer.normalizeLabel("foo bar"),
+				ReferenceLabelNormalizer.normalizeLabel(" \tfoo \t\r\nbar\n"));
+		assertNotEquals(ReferenceLabelNormalizer.normalizeLabel("foo bar"),
+				ReferenceLabelNormalizer.normalizeLabel("foobar"));
+	}
+
+	@Test
+	public void collapseWhitespace() {
+		assertSame("a b c", ReferenceLabelNormalizer.collapseWhitespace("a b c"));
+		assertEquals(" a b ", ReferenceLabelNormalizer.collapseWhitespace("\ta  \n b\r\n"));
+		assertEquals("", ReferenceLabelNormalizer.collapseWhitespace(""));
+	}
+
+	@Test
+	public void normalizeIsMemoized() {
+		ReferenceLabelNormalizer normalizer = new ReferenceLabelNormalizer();
+		String normalized = normalizer.normalize("Foo  Bar");
+		assertEquals(ReferenceLabelNormalizer.normalizeLabel("Foo  Bar"), normalized);
+		assertSame(normalized, normalizer.normalize("Foo  Bar"));
+	}
+}
@@ -15,6 +15,8 @@ package org.eclipse.mylyn.wikitext.commonmark.internal;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.List;
@@ -30,6 +32,8 @@ import org.eclipse.mylyn.wikitext.parser.builder.event.DocumentBuilderEvent;
 import org.eclipse.mylyn.wikitext.parser.builder.event.EndBlockEvent;
 import org.junit.Test;
 
+import com.google.common.base.CharMatcher;
+
 public class SourceBlocksTest {
 
 	private final SourceBlock block1 = mockBlock(BlockType.QUOTE, "b1");
@@ -79,7 +83,35 @@ public class SourceBlocksTest {
 				expectedEvents, builder.getDocumentBuilderEvents().getEvents());
 	}
 
+	@Test
+	public void selectBlock() {
+		assertSame(block1, sourceBlocks.selectBlock(LineSequence.create("b1")));
+		assertSame(block2, sourceBlocks.selectBlock(LineSequence.create("b2")));
+		assertNull(sourceBlocks.selectBlock(LineSequence.create("other")));
+		assertNull(sourceBlocks.selectBlock(LineSequence.create("one\nb1")));
+	}
+
+	@Test
+	public void selectBlockByStartCharacter() {
+		SourceBlock hashBlock = mockBlock(BlockType.QUOTE, "", CharMatcher.is('#'));
+		SourceBlock blankBlock = mockBlock(BlockType.QUOTE, "", CharMatcher.is('\n'));
+		SourceBlock anyBlock = mockBlock(BlockType.PARAGRAPH, "");
+		SourceBlocks blocks = new SourceBlocks(hashBlock, blankBlock, anyBlock);
+		assertSame(hashBlock, blocks.selectBlock(LineSequence.create("#")));
+		assertSame(hashBlock, blocks.selectBlock(LineSequence.create("  \t# heading")));
+		assertSame(blankBlock, blocks.selectBlock(LineSequence.create("\n")));
+		assertSame(blankBlock, blocks.selectBlock(LineSequence.create("   ")));
+		assertSame(anyBlock, blocks.selectBlock(LineSequence.create("text")));
+		assertSame(anyBlock, blocks.selectBlock(LineSequence.create("\u00e9")));
+		assertNull(blocks.selectBlock(LineSequence.create("")));
+	}
+
 	private SourceBlock mockBlock(final BlockType blockType, final String startString) {
+		return mockBlock(blockType, startString, CharMatcher.any());
+	}
+
+	private SourceBlock mockBlock(final BlockType blockType, final String startString,
+			final CharMatcher startCharacters) {
 		return new SourceBlock() {
 
 			@Override
@@ -96,6 +128,11 @@ public class SourceBlocksTest {
 				return lineSequence.getCurrentLine() != null
 						&& lineSequence.getCurrentLine().getText().startsWith(startString);
 			}
+
+			@Override
+			public CharMatcher getStartCharacters() {
+				return startCharacters;
+			}
 		};
 	}
 }
@@ -16,7 +16,9 @@ package org.eclipse.mylyn.wikitext.commonmark.internal;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.junit.Test;
@@ -72,4 +74,34 @@ public class TransformLineSequenceTest {
 		assertNull(lookAhead.getCurrentLine());
 		assertEquals("SECOND", lineSequence.getCurrentLine().getText());
 	}
+
+	@Test
+	public void lineIsTransformedOnceAndSharedWithLookAhead() {
+		AtomicInteger count = new AtomicInteger();
+		LineSequence lineSequence = new TransformLineSequence(delegate, line -> {
+			count.incrementAndGet();
+			return transform.apply(line);
+		});
+		Line first = lineSequence.getCurrentLine();
+		assertSame(first, lineSequence.getCurrentLine());
+		assertSame(first, lineSequence.lookAhead().getCurrentLine());
+		assertSame(lineSequence.getNextLine(), lineSequence.lookAhead().getNextLine());
+		assertEquals(2, count.get());
+	}
+
+	@Test
+	public void linesWithSameRememberedSlot() {
+		StringBuilder content = new StringBuilder();
+		for (int x = 0; x < 40; ++x) {
+			content.append("line").append(x).append('\n');
+		}
+		LineSequence lineSequence = new TransformLineSequence(LineSequence.create(content.toString()), transform);
+		LineSequence lookAhead = lineSequence.lookAhead();
+		for (int x = 0; x < 40; ++x) {
+			assertEquals("LINE" + x, lookAhead.getCurrentLine().getText());
+			lookAhead.advance();
+		}
+		assertEquals("LINE0", lineSequence.getCurrentLine().getText());
+		assertEquals("LINE1", lineSequence.getNextLine().getText());
+	}
 }
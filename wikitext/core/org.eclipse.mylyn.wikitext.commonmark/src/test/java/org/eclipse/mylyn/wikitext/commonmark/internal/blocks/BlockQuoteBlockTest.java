@@ -68,6 +68,17 @@ public class BlockQuoteBlockTest {
 		}
 	}
 
+	@Test
+	public void nestedBlockQuoteLazyContinuationBeyondRememberedLines() {
+		// lines 1 and 17 are tested for lazy continuation; both map to the same remembered slot
+		assertContent("<blockquote><blockquote><p>a lazy" + " x".repeat(15)
+				+ "</p></blockquote></blockquote><ul><li>item</li></ul>",
+				"> > a\nlazy\n" + "> > x\n".repeat(15) + "- item");
+		assertContent("<blockquote><blockquote><p>a</p></blockquote></blockquote><ul><li>item</li></ul>"
+				+ "<blockquote><blockquote><p>x" + " x".repeat(14) + " lazy</p></blockquote></blockquote>",
+				"> > a\n- item\n" + "> > x\n".repeat(15) + "lazy");
+	}
+
 	private void assertCanStart(boolean expected, String string) {
 		assertEquals(expected, new BlockQuoteBlock().canStart(LineSequence.create(string)));
 	}
@@ -116,6 +116,23 @@ public class ListBlockTest {
 				lines.stream().collect(Collectors.joining("\n")));
 	}
 
+	@Test
+	public void headingIdsInListItems() {
+		assertContent("<ul><li><h1 id=\"heading\">Heading</h1></li><li><h1 id=\"heading2\">Heading</h1></li></ul>"
+				+ "<h1 id=\"heading3\">Heading</h1>", "- # Heading\n- # Heading\n\n# Heading");
+		assertContent("<ul><li><p>one</p><h2 id=\"nested\">Nested</h2></li>"
+				+ "<li><blockquote><h2 id=\"quoted\">Quoted</h2></blockquote></li></ul>",
+				"- one\n\n  ## Nested\n- > ## Quoted");
+	}
+
+	@Test
+	public void referenceDefinitionsInListItems() {
+		assertContent("<ul><li>one<ul><li></li></ul></li><li>two</li></ul><p><a href=\"/url\">foo</a></p>",
+				"- one\n  - [foo]: /url\n- two\n\n[foo]");
+		assertContent("<ol><li><blockquote><p>quoted</p></blockquote></li></ol><p><a href=\"/x\">x</a></p>",
+				"1. > [x]: /x\n   > quoted\n\n[x]");
+	}
+
 	private void assertSimpleOrderedList(String delimiter) {
 		List<String> lines = Arrays.asList("1" + delimiter + " one", "2" + delimiter + " two",
 				"3" + delimiter + " three four");
@@ -26,10 +26,10 @@ public class CodeSpanTest extends AbstractSourceSpanTest {
 
 	@Test
 	public void createInline() {
-		assertNoInline(createCursor("``one`"));
 		assertNoInline(createCursor("two"));
-		assertNoInline(createCursor("``"));
-		assertNoInline(createCursor("`one``"));
+		assertCharacters(2, "``", "``one`");
+		assertCharacters(2, "``", "``");
+		assertCharacters(1, "`", "`one``");
 		assertCode(14, "this is code", "`this is code`");
 		assertCode(12, "one\ntwo\n", "``one\ntwo\n``");
 		assertCode(14, "one *two", "```one *two```");
@@ -43,6 +43,28 @@ public class CodeSpanTest extends AbstractSourceSpanTest {
 		assertNoInline(cursor, 1);
 	}
 
+	@Test
+	public void createInlineUnmatchedBackticks() {
+		assertParseToHtml("```one``", "```one``");
+		assertParseToHtml("`one <code>two</code>", "`one ``two``");
+		assertParseToHtml("``one`", "``one`");
+		assertParseToHtml("``", "``");
+		assertParseToHtml("`one``", "`one``");
+		assertParseToHtml("``a<code>b```c</code>", "``a`b```c`");
+	}
+
+	@Test
+	public void createInlineUnmatchedBacktickStringIsConsumedWhole() {
+		String backticks = "`".repeat(1000);
+		assertCharacters(1000, backticks, backticks + "a" + "`".repeat(999));
+		assertParseToHtml(backticks + "a" + "`".repeat(999), backticks + "a" + "`".repeat(999));
+	}
+
+	private void assertCharacters(int length, String text, String content) {
+		Characters characters = assertInline(Characters.class, 0, length, createCursor(content));
+		assertEquals(text, characters.getText());
+	}
+
 	private void assertCode(int length, String codeText, String content) {
 		Code code = assertInline(Code.class, 0, length, createCursor(content));
 		assertEquals(codeText, code.getText());
@@ -14,18 +14,27 @@
 package org.eclipse.mylyn.wikitext.commonmark.internal.inlines;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.mylyn.wikitext.commonmark.internal.Line;
 import org.eclipse.mylyn.wikitext.commonmark.internal.LineSequence;
 import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext;
 import org.eclipse.mylyn.wikitext.commonmark.internal.TextSegment;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.builder.EventDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.builder.NoOpDocumentBuilder;
 import org.junit.Test;
 
+import com.google.common.base.CharMatcher;
+
 public class InlineParserTest {
 
 	private final Line line = new Line(0, 1, "test");
@@ -49,6 +58,63 @@ public class InlineParserTest {
 				new Characters(line, 4, 9, "two three"));
 	}
 
+	@Test
+	public void parseTriesSpansAtTheirTriggerCharacters() {
+		List<Character> triedCharacters = new ArrayList<>();
+		SourceSpan span = new SourceSpan() {
+
+			@Override
+			public Optional<? extends Inline> createInline(Cursor cursor) {
+				triedCharacters.add(cursor.getChar());
+				return Optional.empty();
+			}
+
+			@Override
+			public CharMatcher getTriggerCharacters() {
+				return CharMatcher.anyOf("b\u00e9");
+			}
+		};
+		new InlineParser(span, new AllCharactersSpan()).parse(ProcessingContext.builder().build(),
+				new TextSegment(LineSequence.create("abc\u00e9\u00e8b")));
+		assertEquals(List.of('b', '\u00e9', 'b'), triedCharacters);
+	}
+
+	@Test
+	public void emit() {
+		assertEmit("");
+		assertEmit("one\ntwo three");
+		assertEmit("one *two*\nthree");
+		assertEmit("one [two\nthree] four");
+		assertEmit("one\n[a]: /a\n[b]: /b");
+	}
+
+	@Test
+	public void emitStreamsInlinesWithoutDelimiters() {
+		assertEquals(List.of(1), emittedCharactersWhenTried("a\nb"));
+		assertEquals(List.of(0), emittedCharactersWhenTried("*a\nb"));
+	}
+
+	@Test
+	public void emitInvokesBeforeContent() {
+		InlineParser parser = new InlineParser(new PotentialBracketSpan(), new StringCharactersSpan(),
+				new AllCharactersSpan());
+		ProcessingContext context = ProcessingContext.builder().build();
+		List<String> events = new ArrayList<>();
+		DocumentBuilder builder = new NoOpDocumentBuilder() {
+
+			@Override
+			public void characters(String text) {
+				events.add(text);
+			}
+		};
+		assertFalse(parser.emit(context, builder, new TextSegment(LineSequence.create("[a]: /a")),
+				() -> events.add("before")));
+		assertEquals(List.of(), events);
+		assertTrue(parser.emit(context, builder, new TextSegment(LineSequence.create("[a]: /a\nb")),
+				() -> events.add("before")));
+		assertEquals(List.of("before", "b"), events);
+	}
+
 	@Test
 	public void toStringContent() {
 		InlineParser parser = new InlineParser(new CodeSpan(), new AllCharactersSpan());
@@ -57,6 +123,47 @@ public class InlineParserTest {
 		assertEquals("one two three", stringContent);
 	}
 
+	private void assertEmit(String content) {
+		InlineParser parser = new InlineParser(new LineBreakSpan(), new PotentialEmphasisSpan(),
+				new PotentialBracketSpan(), new StringCharactersSpan(), new AllCharactersSpan());
+		ProcessingContext context = ProcessingContext.builder().build();
+
+		EventDocumentBuilder expected = new EventDocumentBuilder();
+		InlineParser.emit(expected, parser.parse(context, new TextSegment(LineSequence.create(content))));
+		EventDocumentBuilder actual = new EventDocumentBuilder();
+		parser.emit(context, actual, new TextSegment(LineSequence.create(content)));
+
+		assertEquals(expected.getDocumentBuilderEvents().getEvents(), actual.getDocumentBuilderEvents().getEvents());
+	}
+
+	private List<Integer> emittedCharactersWhenTried(String content) {
+		List<Integer> emittedCharacters = new ArrayList<>();
+		List<String> events = new ArrayList<>();
+		SourceSpan span = new SourceSpan() {
+
+			@Override
+			public Optional<? extends Inline> createInline(Cursor cursor) {
+				emittedCharacters.add(events.size());
+				return Optional.empty();
+			}
+
+			@Override
+			public CharMatcher getTriggerCharacters() {
+				return CharMatcher.is('b');
+			}
+		};
+		InlineParser parser = new InlineParser(span, new LineBreakSpan(), new PotentialEmphasisSpan(),
+				new StringCharactersSpan(), new AllCharactersSpan());
+		parser.emit(ProcessingContext.builder().build(), new NoOpDocumentBuilder() {
+
+			@Override
+			public void characters(String text) {
+				events.add(text);
+			}
+		}, new TextSegment(LineSequence.create(content)));
+		return emittedCharacters;
+	}
+
 	private void assertParse(String content, Inline... inlines) {
 		List<Inline> expected = Arrays.asList(inlines);
 		List<Inline> actual = createInlines().parse(ProcessingContext.builder().build(),
@@ -82,6 +82,16 @@ public class PotentialBracketEndDelimiterTest {
 		assertMatch(2, "foo\\)\\:", pattern, "foo\\)\\:");
 	}
 
+	@Test
+	public void longUriAndTitlePart() {
+		String uri = "/path".repeat(50000);
+		assertMatch(2, uri, Pattern.compile(PotentialBracketEndDelimiter.URI_PART), uri);
+		String bracketUri = "/path ".repeat(50000);
+		assertMatch(1, bracketUri, Pattern.compile(PotentialBracketEndDelimiter.URI_PART), "<" + bracketUri + ">");
+		String title = "title ".repeat(50000);
+		assertMatch(1, title, Pattern.compile(PotentialBracketEndDelimiter.TITLE_PART), "\"" + title + "\"");
+	}
+
 	@Test
 	public void titlePart() {
 		Pattern pattern = Pattern.compile(PotentialBracketEndDelimiter.TITLE_PART);
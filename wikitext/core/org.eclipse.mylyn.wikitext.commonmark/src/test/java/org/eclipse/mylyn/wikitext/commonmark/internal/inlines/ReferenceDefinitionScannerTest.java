@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.commonmark.internal.inlines;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.mylyn.wikitext.commonmark.internal.InlineContent;
+import org.eclipse.mylyn.wikitext.commonmark.internal.LineSequence;
+import org.eclipse.mylyn.wikitext.commonmark.internal.ProcessingContext;
+import org.eclipse.mylyn.wikitext.commonmark.internal.TextSegment;
+import org.junit.Test;
+
+public class ReferenceDefinitionScannerTest {
+
+	@Test
+	public void noDefinitions() {
+		assertDefinitions(0, "");
+		assertDefinitions(0, "one two");
+		assertDefinitions(0, "one [two] three\nfour");
+		assertDefinitions(0, "[one] : /url");
+		assertDefinitions(0, "[]: /url");
+		assertDefinitions(0, "[ ]: /url");
+		assertDefinitions(0, "[one]:");
+		assertDefinitions(0, "    [one]: /url");
+		assertDefinitions(0, "![one]: /url");
+		assertDefinitions(0, "\\[one]: /url");
+		assertDefinitions(0, "[one[two]]: /url");
+		assertDefinitions(0, "[one]: /url \"title\" text");
+		assertDefinitions(0, "[one]: /url\n\"title\" text");
+	}
+
+	@Test
+	public void definitions() {
+		assertDefinitions(1, "[one]: /url");
+		assertDefinitions(1, "   [one]: /url");
+		assertDefinitions(1, "[one]: /url 'title'");
+		assertDefinitions(1, "[one]:\n/url\n\"title\"");
+		assertDefinitions(1, "[one]: </my url> (title)");
+		assertDefinitions(1, "[one]: /url \"multi\nline\"\ntext");
+		assertDefinitions(1, "[one\ntwo]: /url");
+		assertDefinitions(1, "[one\\]two]: /url");
+		assertDefinitions(1, "[one]: /url\ntext [two] more");
+		assertDefinitions(1, "text\n[one]: /url");
+		assertDefinitions(2, "[one]: /url\n[two]: /url2 'title'\ntext");
+		assertDefinitions(2, "[one]: /url\n  [two]: /url2");
+		assertDefinitions(2, "[one]: /url\n[one]: /url2");
+		assertDefinitions(1, "[one]:\n[two]: /url");
+	}
+
+	@Test
+	public void ambiguousDefinitions() {
+		assertAmbiguous("`one\n[two]: /url`");
+		assertAmbiguous("<a title='one\n[two]: /url'>");
+		assertAmbiguous("[one](/url 'title\n[two]: /url2')");
+		assertAmbiguous("[one]\n[two]: /url");
+		assertAmbiguous("[one`]`]: /url");
+		assertAmbiguous("[<one>]: /url");
+		assertAmbiguous("[http://example.com]: /url");
+	}
+
+	@Test
+	public void sameDefinitionsAsInlineParser() {
+		String[] fragments = { "[", "]", ":", " ", "   ", "\n", "/url", "<", ">", "'title'", "\"title\"", "(", ")",
+				"\\", "`", "!", "*", "text", "http://x", "&amp;" };
+		Random random = new Random(7);
+		for (int x = 0; x < 20000; ++x) {
+			StringBuilder content = new StringBuilder();
+			int count = 1 + random.nextInt(16);
+			for (int y = 0; y < count; ++y) {
+				content.append(fragments[random.nextInt(fragments.length)]);
+			}
+			String paragraph = content.toString().trim();
+			if (!paragraph.isEmpty()) {
+				List<ReferenceDefinition> definitions = scan(paragraph);
+				if (definitions != null) {
+					assertEquals(paragraph, parse(InlineContent.commonMarkStrict(), paragraph), definitions);
+					assertEquals(paragraph, parse(InlineContent.markdown(), paragraph), definitions);
+				}
+			}
+		}
+	}
+
+	private void assertDefinitions(int count, String paragraph) {
+		List<ReferenceDefinition> definitions = scan(paragraph);
+		assertNotNull(paragraph, definitions);
+		assertEquals(paragraph, count, definitions.size());
+		assertEquals(paragraph, parse(InlineContent.commonMarkStrict(), paragraph), definitions);
+		assertEquals(paragraph, parse(InlineContent.markdown(), paragraph), definitions);
+	}
+
+	private void assertAmbiguous(String paragraph) {
+		assertNull(paragraph, scan(paragraph));
+	}
+
+	private List<ReferenceDefinition> scan(String paragraph) {
+		return new ReferenceDefinitionScanner(segment(paragraph)).scan();
+	}
+
+	private List<ReferenceDefinition> parse(InlineParser inlineParser, String paragraph) {
+		List<ReferenceDefinition> definitions = new ArrayList<>();
+		for (Inline inline : inlineParser.parse(ProcessingContext.builder().build(), segment(paragraph))) {
+			if (inline instanceof ReferenceDefinition) {
+				definitions.add((ReferenceDefinition) inline);
+			}
+		}
+		return definitions;
+	}
+
+	private TextSegment segment(String paragraph) {
+		return new TextSegment(LineSequence.create(paragraph));
+	}
+}
@@ -36,5 +36,7 @@ public class StringCharactersSpanTest extends AbstractSourceSpanTest {
 		assertInline(Characters.class, 0, 8, createCursor(" one two \\[ab"));
 		assertInline(Characters.class, 0, 8, createCursor(" one two !"));
 		assertInline(Characters.class, 0, 8, createCursor(" one two <"));
+		assertInline(Characters.class, 0, 9, createCursor("which one http://example.com"));
+		assertNoInline(createCursor("http://example.com"));
 	}
 }
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.wikitext.commonmark.internal.spec;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.eclipse.mylyn.wikitext.commonmark.CommonMarkLanguage;
+import org.eclipse.mylyn.wikitext.commonmark.internal.spec.CommonMarkSpecTest.Expectation;
+import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.Timeout;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Verifies that the time taken to parse the CommonMark spec examples and a set of adversarial inputs grows with the
+ * size of the input no faster than expected. Each input is generated at a base size and at {@link #SCALE} times that
+ * size and parsed in both strict and non-strict mode; parsing the larger input must not take more than
+ * {@link #TOLERANCE} times as long as its {@link Complexity} predicts. Since the results depend on wall-clock time,
+ * these tests only run with the {@code scaling-tests} profile.
+ */
+@Category(ScalingTests.class)
+@RunWith(Parameterized.class)
+public class CommonMarkScalingTest {
+
+	private static final int SCALE = 8;
+
+	private static final double TOLERANCE = 2.5;
+
+	private static final int MEASUREMENTS = 3;
+
+	private static final int ATTEMPTS = 2;
+
+	private static final long MINIMUM_MEASUREMENT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	/**
+	 * The expected growth of parse time with the size that an input is generated with.
+	 */
+	enum Complexity {
+		LINEAR(1),
+
+		/**
+		 * Container blocks are processed through one line sequence per level of nesting, so a single line of nested
+		 * containers takes time that is quadratic in its depth.
+		 */
+		QUADRATIC(2),
+
+		/**
+		 * Each line of content that is indented to its level of nesting passes through a line sequence per level.
+		 */
+		CUBIC(3);
+
+		private final int exponent;
+
+		private Complexity(int exponent) {
+			this.exponent = exponent;
+		}
+	}
+
+	private static class ScalingInput {
+
+		private final String name;
+
+		private final int baseSize;
+
+		private final Complexity complexity;
+
+		private final IntFunction<String> generator;
+
+		private ScalingInput(String name, int baseSize, Complexity complexity, IntFunction<String> generator) {
+			this.name = name;
+			this.baseSize = baseSize;
+			this.complexity = complexity;
+			this.generator = generator;
+		}
+	}
+
+	@Parameters(name = "{0}")
+	public static List<Object[]> parameters() {
+		ImmutableList.Builder<ScalingInput> inputs = ImmutableList.builder();
+		inputs.add(new ScalingInput("nested brackets", 500, Complexity.LINEAR,
+				size -> "[".repeat(size) + "a" + "]".repeat(size)));
+		inputs.add(
+				new ScalingInput("link openers without closers", 500, Complexity.LINEAR, size -> "[a".repeat(size)));
+		inputs.add(new ScalingInput("alternating emphasis", 500, Complexity.LINEAR,
+				size -> "*a**a".repeat(size) + "*"));
+		inputs.add(new ScalingInput("nested strong emphasis", 100, Complexity.LINEAR,
+				size -> "*a **a ".repeat(size) + "b" + " a** a*".repeat(size)));
+		inputs.add(new ScalingInput("unmatched backtick runs", 200, Complexity.LINEAR,
+				CommonMarkScalingTest::backtickRuns));
+		inputs.add(new ScalingInput("long backtick run", 1000, Complexity.LINEAR,
+				size -> "`".repeat(size) + "a" + "`".repeat(size - 1)));
+		inputs.add(new ScalingInput("nested lists", 8, Complexity.QUADRATIC, size -> "- ".repeat(size) + "a"));
+		inputs.add(new ScalingInput("nested indented lists", 4, Complexity.CUBIC,
+				CommonMarkScalingTest::nestedIndentedLists));
+		inputs.add(new ScalingInput("nested block quotes", 16, Complexity.QUADRATIC, size -> "> ".repeat(size) + "a"));
+		inputs.add(new ScalingInput("flat list", 200, Complexity.LINEAR, size -> "- item\n".repeat(size)));
+		inputs.add(new ScalingInput("huge html block", 200, Complexity.LINEAR,
+				size -> "<div>\n" + "<p class=\"a\">text &amp; more</p>\n".repeat(size) + "</div>\n"));
+		inputs.add(new ScalingInput("unclosed html comment", 200, Complexity.LINEAR,
+				size -> "<!--\n" + "comment text\n".repeat(size)));
+		inputs.add(new ScalingInput("long link destination", 1000, Complexity.LINEAR,
+				size -> "[a](" + "/path".repeat(size) + ")"));
+		inputs.add(new ScalingInput("long bracketed link destination", 1000, Complexity.LINEAR,
+				size -> "[a](<" + "/path ".repeat(size) + ">)"));
+		inputs.add(new ScalingInput("long link title", 1000, Complexity.LINEAR,
+				size -> "[a](/url \"" + "title ".repeat(size) + "\")"));
+		inputs.add(new ScalingInput("unclosed link destination", 1000, Complexity.LINEAR,
+				size -> "[a](" + "/path".repeat(size)));
+		inputs.add(new ScalingInput("link reference definitions", 100, Complexity.LINEAR,
+				CommonMarkScalingTest::linkReferenceDefinitions));
+		for (Object[] parameters : CommonMarkSpecTest.parameters()) {
+			String markup = ((Expectation) parameters[3]).input + "\n\n";
+			inputs.add(new ScalingInput("spec " + parameters[0], 2, Complexity.LINEAR, markup::repeat));
+		}
+
+		ImmutableList.Builder<Object[]> parameters = ImmutableList.builder();
+		for (ScalingInput input : inputs.build()) {
+			for (boolean strict : new boolean[] { false, true }) {
+				parameters.add(new Object[] { input.name + (strict ? " (strict)" : ""), input, strict });
+			}
+		}
+		return parameters.build();
+	}
+
+	private static String backtickRuns(int size) {
+		StringBuilder markup = new StringBuilder();
+		for (int x = 1; x <= size; ++x) {
+			markup.append('e').append("`".repeat(x % 50 + 1));
+		}
+		return markup.toString();
+	}
+
+	private static String nestedIndentedLists(int size) {
+		StringBuilder markup = new StringBuilder();
+		for (int x = 0; x < size; ++x) {
+			markup.append("  ".repeat(x)).append("- item\n");
+		}
+		return markup.toString();
+	}
+
+	private static String linkReferenceDefinitions(int size) {
+		StringBuilder markup = new StringBuilder();
+		for (int x = 0; x < size; ++x) {
+			markup.append("[ref").append(x).append("]: /url").append(x).append(" \"title\"\n");
+		}
+		for (int x = 0; x < size; ++x) {
+			markup.append("[ref").append(x).append("] ");
+		}
+		return markup.toString();
+	}
+
+	@Rule
+	public final Timeout timeout = Timeout.seconds(60);
+
+	private final ScalingInput input;
+
+	private final boolean strict;
+
+	public CommonMarkScalingTest(String title, ScalingInput input, boolean strict) {
+		this.input = input;
+		this.strict = strict;
+	}
+
+	@Test
+	public void scaling() {
+		String markup = input.generator.apply(input.baseSize);
+		String scaledMarkup = input.generator.apply(input.baseSize * SCALE);
+		double budget = Math.pow(SCALE, input.complexity.exponent) * TOLERANCE;
+
+		double ratio = 0;
+		for (int attempt = 0; attempt < ATTEMPTS; ++attempt) {
+			parse(scaledMarkup);
+			ratio = (double) measure(scaledMarkup) / measure(markup);
+			if (ratio <= budget) {
+				break;
+			}
+		}
+		assertTrue(String.format("Parsing the %s times larger input took %.1f times as long, exceeding %.1f", SCALE,
+				ratio, budget), ratio <= budget);
+	}
+
+	private long measure(String markup) {
+		long best = Long.MAX_VALUE;
+		for (int x = 0; x < MEASUREMENTS; ++x) {
+			int count = 0;
+			long start = System.nanoTime();
+			long elapsed;
+			do {
+				parse(markup);
+				++count;
+			} while ((elapsed = System.nanoTime() - start) < MINIMUM_MEASUREMENT_NANOS);
+			best = Math.min(best, Math.max(1, elapsed / count));
+		}
+		return best;
+	}
+
+	private void parse(String markup) {
+		CommonMarkLanguage language = new CommonMarkLanguage();
+		language.setStrictlyConforming(strict);
+		HtmlDocumentBuilder builder = new HtmlDocumentBuilder(new StringWriter());
+		new MarkupParser(language, builder).parse(markup, false);
+	}
+}
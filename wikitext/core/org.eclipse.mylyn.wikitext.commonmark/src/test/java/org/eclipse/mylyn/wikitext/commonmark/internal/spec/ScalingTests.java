@@ -0,0 +1,21 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.wikitext.commonmark.internal.spec;
+
+/**
+ * The category of tests that measure how parse time grows with the size of the input. These tests depend on wall-clock
+ * time, so they are excluded from the default build and run with the {@code scaling-tests} profile.
+ */
+public interface ScalingTests {
+}
@@ -48,6 +48,7 @@ import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.SpanType;
 import org.eclipse.mylyn.wikitext.parser.markup.AbstractMarkupLanguage;
 import org.eclipse.mylyn.wikitext.parser.markup.Block;
 import org.eclipse.mylyn.wikitext.parser.markup.ContentState;
+import org.eclipse.mylyn.wikitext.parser.markup.MarkupLanguage;
 import org.eclipse.mylyn.wikitext.parser.markup.token.EntityReferenceReplacementToken;
 import org.eclipse.mylyn.wikitext.parser.markup.token.PatternEntityReferenceReplacementToken;
 import org.eclipse.mylyn.wikitext.parser.markup.token.PatternLineBreakReplacementToken;
@@ -66,7 +67,7 @@ public class ConfluenceLanguage extends AbstractMarkupLanguage {
 	 *
 	 * @see ExtendedQuoteBlock
 	 */
-	private final List<Block> nestedBlocks = new ArrayList<Block>();
+	private List<Block> nestedBlocks = new ArrayList<Block>();
 
 	private boolean parseRelativeLinks = true;
 
@@ -203,6 +204,24 @@ public class ConfluenceLanguage extends AbstractMarkupLanguage {
 		return copy;
 	}
 
+	/**
+	 * Provide a parse session whose nested blocks are the session's own copies of the {@link #getBlocks() blocks},
+	 * since nested blocks hold matching state.
+	 */
+	@Override
+	public MarkupLanguage createParseSession() {
+		MarkupLanguage session = super.createParseSession();
+		if (session != this) {
+			ConfluenceLanguage confluenceSession = (ConfluenceLanguage) session;
+			List<Block> sessionNestedBlocks = new ArrayList<Block>(nestedBlocks.size());
+			for (Block block : nestedBlocks) {
+				sessionNestedBlocks.add(confluenceSession.getBlocks().get(getBlocks().indexOf(block)));
+			}
+			confluenceSession.nestedBlocks = sessionNestedBlocks;
+		}
+		return session;
+	}
+
 	@Override
 	protected ContentState createState() {
 		return new ConfluenceContentState();
@@ -347,6 +347,7 @@ public class ConfluenceDocumentBuilder extends AbstractMarkupDocumentBuilder {
 		case PANEL:
 		case TIP:
 		case WARNING:
+			attributes = attributes.clone();
 			attributes.appendCssClass(type.name().toLowerCase());
 		case PARAGRAPH:
 			return new ContentBlock(type, "", "", false, false, doubleNewlineDelimiterCount(), //$NON-NLS-1$
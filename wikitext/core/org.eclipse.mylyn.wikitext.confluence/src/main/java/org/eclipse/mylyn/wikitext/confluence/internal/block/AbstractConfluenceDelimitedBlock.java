@@ -104,6 +104,11 @@ public abstract class AbstractConfluenceDelimitedBlock extends ParameterizedBloc
 		super.setClosed(closed);
 	}
 
+	@Override
+	public String getStartCharacters() {
+		return "{"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		resetState();
@@ -102,6 +102,11 @@ public class ColorBlock extends ParameterizedBlock {
 		return -1;
 	}
 
+	@Override
+	public String getStartCharacters() {
+		return "{"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		if (lineOffset > 0) {
@@ -36,6 +36,11 @@ public class TableOfContentsBlock extends ParameterizedBlock {
 
 	private Matcher matcher;
 
+	@Override
+	public boolean requiresMarkupContent() {
+		return getMarkupLanguage() == null || !getMarkupLanguage().isFilterGenerativeContents();
+	}
+
 	@Override
 	public int processLineContent(String line, int offset) {
 		if (blockLineNumber++ > 0) {
@@ -74,6 +79,11 @@ public class TableOfContentsBlock extends ParameterizedBlock {
 		builder.endBlock();
 	}
 
+	@Override
+	public String getStartCharacters() {
+		return "{"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		style = "none"; //$NON-NLS-1$
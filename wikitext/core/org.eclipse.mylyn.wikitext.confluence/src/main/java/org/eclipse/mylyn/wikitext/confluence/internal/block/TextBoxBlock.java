@@ -100,6 +100,11 @@ public class TextBoxBlock extends ParameterizedBlock {
 		return -1;
 	}
 
+	@Override
+	public String getStartCharacters() {
+		return "{"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		blockLineCount = 0;
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.mylyn.wikitext.confluence;
 
+import static org.eclipse.mylyn.wikitext.toolkit.CompiledLanguageAssertions.assertConcurrentParseMatchesParse;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -1392,4 +1393,12 @@ public class ConfluenceLanguageTest extends AbstractMarkupGenerationTest<Conflue
 		language.setParseRelativeLinks(false);
 		parser.setMarkupLanguage(language);
 	}
+
+	@Test
+	public void testCompiledLanguageConcurrentParse() {
+		assertConcurrentParseMatchesParse(new ConfluenceLanguage(),
+				"{quote}\ntext\n* a list\n* second item\n\nmore text\n{quote}\nanother para",
+				"{quote}\n|Names|Occupation|\n|* John\n* Jane|Programmer|\n\nh1. Heading\n{quote}",
+				"h1. Heading\n\n* one\n** two\n# three\n\n||a||b||\n|c|d|");
+	}
 }
@@ -29,6 +29,11 @@ public class HeadingBlock extends Block {
 
 	private Matcher matcher;
 
+	@Override
+	public String getStartCharacters() {
+		return "="; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		blockLineCount = 0;
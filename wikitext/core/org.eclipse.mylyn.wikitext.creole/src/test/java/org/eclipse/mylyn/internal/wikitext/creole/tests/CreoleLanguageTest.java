@@ -13,6 +13,7 @@
 
 package org.eclipse.mylyn.internal.wikitext.creole.tests;
 
+import static org.eclipse.mylyn.wikitext.toolkit.CompiledLanguageAssertions.assertConcurrentParseMatchesParse;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -257,4 +258,9 @@ public class CreoleLanguageTest {
 		return html.substring(begin, end);
 	}
 
+	@Test
+	public void testCompiledLanguageConcurrentParse() {
+		assertConcurrentParseMatchesParse(new CreoleLanguage(), "* one\n** two\n# three\n\n= Heading =\n\n|a|b|",
+				"text //emphasis// **strong**\n\n{{{\ncode\n}}}");
+	}
 }
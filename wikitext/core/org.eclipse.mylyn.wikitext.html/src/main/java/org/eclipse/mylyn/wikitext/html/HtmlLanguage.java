@@ -14,8 +14,10 @@
 package org.eclipse.mylyn.wikitext.html;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
 
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.BlockType;
@@ -171,6 +173,16 @@ public class HtmlLanguage extends MarkupLanguage {
 		return new HtmlDocumentBuilder(out, formatting);
 	}
 
+	@Override
+	public DocumentBuilder createDocumentBuilder(OutputStream out, boolean formatting) {
+		return new HtmlDocumentBuilder(out, formatting);
+	}
+
+	@Override
+	public DocumentBuilder createDocumentBuilder(WritableByteChannel out, boolean formatting) {
+		return new HtmlDocumentBuilder(out, formatting);
+	}
+
 	/**
 	 * Creates a {@link HtmlLanguageBuilder}.
 	 *
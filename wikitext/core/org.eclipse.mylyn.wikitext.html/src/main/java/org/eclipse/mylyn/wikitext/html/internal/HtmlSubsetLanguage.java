@@ -17,7 +17,9 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
+import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -26,6 +28,7 @@ import java.util.Set;
 import org.eclipse.mylyn.wikitext.html.HtmlLanguage;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.BlockType;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.SpanType;
+import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentHandler;
 
 public class HtmlSubsetLanguage extends HtmlLanguage {
@@ -81,7 +84,20 @@ public class HtmlSubsetLanguage extends HtmlLanguage {
 
 	@Override
 	public HtmlSubsetDocumentBuilder createDocumentBuilder(Writer out, boolean formatting) {
-		HtmlSubsetDocumentBuilder builder = new HtmlSubsetDocumentBuilder(out, formatting);
+		return configure(new HtmlSubsetDocumentBuilder(out, formatting));
+	}
+
+	@Override
+	public HtmlSubsetDocumentBuilder createDocumentBuilder(OutputStream out, boolean formatting) {
+		return configure(new HtmlSubsetDocumentBuilder(new HtmlDocumentBuilder(out, formatting)));
+	}
+
+	@Override
+	public HtmlSubsetDocumentBuilder createDocumentBuilder(WritableByteChannel out, boolean formatting) {
+		return configure(new HtmlSubsetDocumentBuilder(new HtmlDocumentBuilder(out, formatting)));
+	}
+
+	private HtmlSubsetDocumentBuilder configure(HtmlSubsetDocumentBuilder builder) {
 		builder.setSupportedHeadingLevel(headingLevel);
 		builder.setSupportedSpanTypes(supportedSpanTypes, spanElementStrategies);
 		builder.setSupportedBlockTypes(supportedBlockTypes);
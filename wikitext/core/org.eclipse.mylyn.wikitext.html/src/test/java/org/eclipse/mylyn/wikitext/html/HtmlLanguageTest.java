@@ -18,10 +18,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.net.URL;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 
 import org.eclipse.mylyn.wikitext.parser.Attributes;
@@ -112,6 +114,30 @@ public class HtmlLanguageTest {
 		assertEquals(loadResourceContent("newDocumentBuilderIsNotFormatting.xml"), out.toString());
 	}
 
+	@Test
+	public void newDocumentBuilderOutputStreamIsFormatting() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		buildParagraph(new HtmlLanguage().createDocumentBuilder(out, true));
+		assertEquals(loadResourceContent("newDocumentBuilderIsFormatting.xml"),
+				new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void newDocumentBuilderChannelIsNotFormatting() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		buildParagraph(new HtmlLanguage().createDocumentBuilder(Channels.newChannel(out), false));
+		assertEquals(loadResourceContent("newDocumentBuilderIsNotFormatting.xml"),
+				new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	private void buildParagraph(DocumentBuilder builder) {
+		builder.beginDocument();
+		builder.beginBlock(BlockType.PARAGRAPH, new Attributes());
+		builder.characters("test");
+		builder.endBlock();
+		builder.endDocument();
+	}
+
 	@Test
 	public void builder() {
 		assertNotNull(HtmlLanguage.builder());
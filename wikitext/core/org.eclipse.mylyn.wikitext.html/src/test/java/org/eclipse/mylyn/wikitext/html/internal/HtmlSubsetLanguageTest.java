@@ -18,7 +18,9 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -162,6 +164,17 @@ public class HtmlSubsetLanguageTest {
 		assertEquals("<new-em>text</new-em>", out.toString());
 	}
 
+	@Test
+	public void createDocumentBuilderOutputStream() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		HtmlSubsetDocumentBuilder builder = newHtmlSubsetLanguage(SpanType.EMPHASIS).createDocumentBuilder(out, false);
+		builder.beginSpan(SpanType.EMPHASIS, new Attributes());
+		builder.characters("text");
+		builder.endSpan();
+		builder.flush();
+		assertEquals("<new-em>text</new-em>", new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
 	@Test
 	public void isXhtmlStrict() {
 		assertXhtmlStrict(true);
@@ -176,6 +176,14 @@ public class MarkdownLanguage extends AbstractMarkupLanguage {
 		return new MarkdownContentState();
 	}
 
+	/**
+	 * The markup content is required since link definitions may be defined anywhere in the document.
+	 */
+	@Override
+	protected boolean requiresMarkupContent() {
+		return true;
+	}
+
 	@Override
 	public DocumentBuilder createDocumentBuilder(Writer out, boolean formatting) {
 		return new MarkdownDocumentBuilder(out);
@@ -45,11 +45,20 @@ public class MarkdownContentState extends ContentState {
 	 * @return the {@link LinkDefinition} or <code>null</code>
 	 */
 	public LinkDefinition getLinkDefinition(String id) {
+		parseLinkDefinitions();
 		linkDefinitionUsageTracker.linkDefinitionRequested(id);
 		return linkDefinitionParser.getLinkDefinition(id);
 	}
 
 	public LinkDefinitionUsageTracker getLinkDefinitionUsageTracker() {
+		parseLinkDefinitions();
 		return linkDefinitionUsageTracker;
 	}
+
+	private void parseLinkDefinitions() {
+		if (linkDefinitionParser == null) {
+			// content streamed from a reader is read in full when a link definition is first requested
+			getMarkupContent();
+		}
+	}
 }
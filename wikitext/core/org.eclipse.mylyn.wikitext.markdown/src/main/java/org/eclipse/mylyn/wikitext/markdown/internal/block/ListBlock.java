@@ -50,6 +50,11 @@ public class ListBlock extends NestableBlock {
 		return matcher.matches();
 	}
 
+	@Override
+	public boolean requiresMarkupContent() {
+		return true;
+	}
+
 	@Override
 	protected int processLineContent(String line, int offset) {
 		String text = line.substring(offset);
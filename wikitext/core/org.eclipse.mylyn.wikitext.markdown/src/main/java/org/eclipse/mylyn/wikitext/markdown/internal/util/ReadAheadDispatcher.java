@@ -19,6 +19,7 @@ import java.util.List;
 
 import org.eclipse.mylyn.wikitext.markdown.internal.block.NestableBlock;
 import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.markup.Block;
 import org.eclipse.mylyn.wikitext.parser.markup.ContentState;
 
 /**
@@ -28,7 +29,7 @@ import org.eclipse.mylyn.wikitext.parser.markup.ContentState;
  */
 public class ReadAheadDispatcher extends NestableBlock {
 
-	private final LookAheadReader lookAheadReader;
+	private LookAheadReader lookAheadReader;
 
 	private List<NestableBlock> blocks;
 
@@ -45,6 +46,11 @@ public class ReadAheadDispatcher extends NestableBlock {
 		return true;
 	}
 
+	@Override
+	public boolean requiresMarkupContent() {
+		return true;
+	}
+
 	@Override
 	protected int processLineContent(String line, int offset) {
 		if (dispatchedBlock == null) {
@@ -101,6 +107,13 @@ public class ReadAheadDispatcher extends NestableBlock {
 		return clone;
 	}
 
+	@Override
+	public Block createParseSessionPrototype() {
+		ReadAheadDispatcher copy = (ReadAheadDispatcher) clone();
+		copy.lookAheadReader = new LookAheadReader();
+		return copy;
+	}
+
 	private List<NestableBlock> cloneBlocks(List<NestableBlock> blocks) {
 		List<NestableBlock> clonedBlocks = new ArrayList<>();
 		for (NestableBlock block : blocks) {
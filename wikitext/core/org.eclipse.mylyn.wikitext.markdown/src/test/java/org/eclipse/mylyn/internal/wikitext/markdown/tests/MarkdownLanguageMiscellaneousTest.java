@@ -13,6 +13,9 @@
 
 package org.eclipse.mylyn.internal.wikitext.markdown.tests;
 
+import static org.eclipse.mylyn.wikitext.toolkit.CompiledLanguageAssertions.assertConcurrentParseMatchesParse;
+
+import org.eclipse.mylyn.wikitext.markdown.MarkdownLanguage;
 import org.junit.Test;
 
 /**
@@ -229,4 +232,11 @@ public class MarkdownLanguageMiscellaneousTest extends MarkdownLanguageTestBase
 		parseAndAssert("&#160;&nbsp;&#xa0;&#xA0;", "<p>&#160;&nbsp;&#xa0;&#xA0;</p>");
 		parseAndAssert("&pound;", "<p>&pound;</p>");
 	}
+
+	@Test
+	public void testCompiledLanguageConcurrentParse() {
+		assertConcurrentParseMatchesParse(new MarkdownLanguage(),
+				"* one\n    * two\n* three\n\n> quote\n> * item\n\n    code\n\n# Heading",
+				"1. one\n2. two\n\n[x][ref]\n\n[ref]: http://example.com\n\nSetext\n======");
+	}
 }
@@ -15,6 +15,10 @@
 
 package org.eclipse.mylyn.internal.wikitext.markdown.tests;
 
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
 import org.junit.Test;
 
 /**
@@ -82,6 +86,13 @@ public class MarkdownLanguageSpanElementsTest extends MarkdownLanguageTestBase {
 		parseAndAssert(markup, expectedHtml);
 	}
 
+	@Test
+	public void testReferenceStyleLinkParseReader() throws IOException {
+		String markup = "This is [an example][id] reference-style link.\n\n[id]: http://example.com/  \"Optional Title Here\"";
+		String expectedHtml = "<p>This is <a href=\"http://example.com/\" title=\"Optional Title Here\">an example</a> reference-style link.</p>";
+		assertEquals(expectedHtml, parseReaderToHtml(markup));
+	}
+
 	@Test
 	public void testReferenceStyleLinkWithEmptyLinkText() {
 		String markup = "Link with empty link text [][id].\n\n[id]: http://example.com/";
@@ -15,6 +15,8 @@ package org.eclipse.mylyn.internal.wikitext.markdown.tests;
 
 import static org.junit.Assert.assertEquals;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.List;
 
@@ -49,6 +51,15 @@ public abstract class MarkdownLanguageTestBase {
 		return out.toString();
 	}
 
+	public String parseReaderToHtml(String markup) throws IOException {
+		StringWriter out = new StringWriter();
+		HtmlDocumentBuilder builder = new HtmlDocumentBuilder(out);
+		builder.setEmitAsDocument(false);
+		parser.setBuilder(builder);
+		parser.parse(new StringReader(markup));
+		return out.toString();
+	}
+
 	public void parseAndAssert(String markup, String expectedHtml) {
 		String html = parseToHtml(markup);
 
@@ -102,6 +102,11 @@ public abstract class AbstractMediaWikiLanguage extends AbstractMarkupLanguage {
 		super.processContent(parser, markupContent, asDocument);
 	}
 
+	@Override
+	protected boolean requiresBufferedContent() {
+		return isEnableMacros() || super.requiresBufferedContent();
+	}
+
 	/**
 	 * preprocess content, which involves template substitution.
 	 */
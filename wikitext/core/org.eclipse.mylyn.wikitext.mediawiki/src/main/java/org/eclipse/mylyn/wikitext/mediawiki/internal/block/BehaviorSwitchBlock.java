@@ -32,6 +32,11 @@ public class BehaviorSwitchBlock extends Block {
 
 	private Matcher matcher;
 
+	@Override
+	public String getStartCharacters() {
+		return "_"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		matcher = PATTERN.matcher(line);
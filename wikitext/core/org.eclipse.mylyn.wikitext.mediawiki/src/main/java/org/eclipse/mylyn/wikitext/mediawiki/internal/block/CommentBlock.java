@@ -46,6 +46,11 @@ public class CommentBlock extends Block {
 		return -1;
 	}
 
+	@Override
+	public String getStartCharacters() {
+		return "<"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		final Matcher matcher = COMMENT_START_PATTERN.matcher(line);
@@ -56,6 +56,11 @@ public class EscapeBlock extends Block {
 		return end;
 	}
 
+	@Override
+	public String getStartCharacters() {
+		return "<"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		if (lineOffset == 0) {
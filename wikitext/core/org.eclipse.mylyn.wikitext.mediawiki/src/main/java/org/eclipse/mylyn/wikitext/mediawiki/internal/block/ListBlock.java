@@ -215,6 +215,11 @@ public class ListBlock extends Block {
 		}
 	}
 
+	@Override
+	public String getStartCharacters() {
+		return "*#;:"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		blockLineCount = 0;
@@ -50,6 +50,11 @@ public class TableOfContentsBlock extends AbstractTableOfContentsBlock {
 		return start;
 	}
 
+	@Override
+	public String getStartCharacters() {
+		return "_"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		if (lineOffset == 0 && !getMarkupLanguage().isFilterGenerativeContents()) {
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.mylyn.wikitext.mediawiki.internal;
 
+import static org.eclipse.mylyn.wikitext.toolkit.CompiledLanguageAssertions.assertConcurrentParseMatchesParse;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -1434,4 +1435,11 @@ public class MediaWikiLanguageTest extends AbstractMarkupGenerationTest<MediaWik
 			fail("Expected " + pattern + " but got " + html);
 		}
 	}
+
+	@Test
+	public void testCompiledLanguageConcurrentParse() {
+		assertConcurrentParseMatchesParse(new MediaWikiLanguage(),
+				"* one\n** two\n# three\n\n; term : definition\n\n{|\n| a || b\n|}",
+				"== Heading ==\n\ntext with ''emphasis''\n\n:indented\n::more");
+	}
 }
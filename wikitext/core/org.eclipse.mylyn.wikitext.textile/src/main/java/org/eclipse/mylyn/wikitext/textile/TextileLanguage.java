@@ -22,6 +22,7 @@ import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.SpanType;
 import org.eclipse.mylyn.wikitext.parser.MarkupParser;
 import org.eclipse.mylyn.wikitext.parser.builder.NoOpDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.incremental.IncrementalParseContext;
 import org.eclipse.mylyn.wikitext.parser.markup.AbstractMarkupLanguage;
 import org.eclipse.mylyn.wikitext.parser.markup.Block;
 import org.eclipse.mylyn.wikitext.parser.markup.ContentState;
@@ -174,11 +175,11 @@ public class TextileLanguage extends AbstractMarkupLanguage {
 			tokenSyntax.add(new EntityWrappingReplacementToken("'", res.getString("singlequote_left"), //$NON-NLS-1$//$NON-NLS-2$
 					res.getString("singlequote_right"))); //$NON-NLS-1$
 
-			tokenSyntax.add(new PatternEntityReferenceReplacementToken("(?:(?<=\\w)(')(?=\\w))", "#8217")); // apostrophe //$NON-NLS-1$ //$NON-NLS-2$
+			tokenSyntax.add(new PatternEntityReferenceReplacementToken("(?:(?<=\\w)(')(?=\\w))", "#8217", "'")); // apostrophe //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		}
-		tokenSyntax.add(new PatternEntityReferenceReplacementToken("(?:(--)(?=\\s\\w))", "#8212")); // emdash //$NON-NLS-1$ //$NON-NLS-2$
-		tokenSyntax.add(new PatternEntityReferenceReplacementToken("(?:(?<=\\w\\s)(-)(?=\\s\\w))", "#8211")); // endash //$NON-NLS-1$ //$NON-NLS-2$
-		tokenSyntax.add(new PatternEntityReferenceReplacementToken("(?:(?<=\\d\\s)(x)(?=\\s\\d))", "#215")); // mul //$NON-NLS-1$ //$NON-NLS-2$
+		tokenSyntax.add(new PatternEntityReferenceReplacementToken("(?:(--)(?=\\s\\w))", "#8212", "-")); // emdash //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		tokenSyntax.add(new PatternEntityReferenceReplacementToken("(?:(?<=\\w\\s)(-)(?=\\s\\w))", "#8211", "-")); // endash //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		tokenSyntax.add(new PatternEntityReferenceReplacementToken("(?:(?<=\\d\\s)(x)(?=\\s\\d))", "#215", "x")); // mul //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		if (configuration == null || !configuration.isOptimizeForRepositoryUsage()) {
 			tokenSyntax.add(new AcronymReplacementToken());
 		}
@@ -225,6 +226,41 @@ public class TextileLanguage extends AbstractMarkupLanguage {
 		return copy;
 	}
 
+	@Override
+	protected boolean requiresBufferedContent() {
+		return preprocessFootnotes || super.requiresBufferedContent();
+	}
+
+	/**
+	 * The markup content is required since named links may be defined anywhere in the document.
+	 */
+	@Override
+	protected boolean requiresMarkupContent() {
+		return true;
+	}
+
+	/**
+	 * Incremental parsing is supported unless footnotes are {@link #isPreprocessFootnotes() preprocessed}, since the
+	 * footnote numbers are otherwise not used. Documents that define named links are parsed in full, see
+	 * {@link #processContent(MarkupParser, String, IncrementalParseContext)}.
+	 */
+	@Override
+	protected boolean isIncrementalParseSupported() {
+		return !preprocessFootnotes;
+	}
+
+	/**
+	 * Require a full parse of documents that define named links, since a named link applies to every block of the
+	 * document and not only to the blocks that follow its definition.
+	 */
+	@Override
+	public void processContent(MarkupParser parser, String markupContent, IncrementalParseContext context) {
+		if (TextileContentState.hasNamedLinks(markupContent)) {
+			context.requireFullParse();
+		}
+		super.processContent(parser, markupContent, context);
+	}
+
 	@Override
 	public void processContent(MarkupParser parser, String markupContent, boolean asDocument) {
 		if (preprocessFootnotes) {
@@ -35,6 +35,8 @@ public class TextileContentState extends ContentState {
 
 	private Set<String> footnoteNumbers;
 
+	private boolean namedLinksProcessed;
+
 	@Override
 	protected void setMarkupContent(String markupContent) {
 		super.setMarkupContent(markupContent);
@@ -42,6 +44,7 @@ public class TextileContentState extends ContentState {
 	}
 
 	private void preprocessContent(String markupContent) {
+		namedLinksProcessed = true;
 		// look for named links
 		Matcher matcher = NAMED_LINK_PATTERN.matcher(markupContent);
 		while (matcher.find()) {
@@ -51,7 +54,20 @@ public class TextileContentState extends ContentState {
 		}
 	}
 
+	/**
+	 * Indicate if the given markup content defines named links. Named links are resolved against the complete markup
+	 * content of a document, wherever in the document they are defined.
+	 */
+	public static boolean hasNamedLinks(String markupContent) {
+		return NAMED_LINK_PATTERN.matcher(markupContent).find();
+	}
+
 	public String getNamedLinkUrl(String name) {
+		if (!namedLinksProcessed) {
+			// content streamed from a reader is read in full when a named link is first looked up
+			namedLinksProcessed = true;
+			getMarkupContent();
+		}
 		return nameToUrl.get(name);
 	}
 
@@ -337,6 +337,7 @@ public class TextileDocumentBuilder extends AbstractMarkupDocumentBuilder {
 		case PANEL:
 		case TIP:
 		case WARNING:
+			attributes = attributes.clone();
 			attributes.appendCssClass(type.name().toLowerCase());
 		case PARAGRAPH:
 			String attributesMarkup = computeAttributes(attributes);
@@ -124,6 +124,11 @@ public class ListBlock extends Block {
 		return listSpec.charAt(listSpec.length() - 1) == '#' ? BlockType.NUMERIC_LIST : BlockType.BULLETED_LIST;
 	}
 
+	@Override
+	public String getStartCharacters() {
+		return "*#"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		blockLineCount = 0;
@@ -48,6 +48,11 @@ public class NotextileTagBlock extends Block {
 		return -1;
 	}
 
+	@Override
+	public String getStartCharacters() {
+		return "<"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		return line.substring(lineOffset).startsWith(NOTEXTILE_OPEN_TAG);
@@ -76,6 +76,11 @@ public class TableOfContentsBlock extends AbstractTableOfContentsBlock {
 		return -1;
 	}
 
+	@Override
+	public String getStartCharacters() {
+		return "{"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		if (lineOffset == 0 && !getMarkupLanguage().isFilterGenerativeContents()) {
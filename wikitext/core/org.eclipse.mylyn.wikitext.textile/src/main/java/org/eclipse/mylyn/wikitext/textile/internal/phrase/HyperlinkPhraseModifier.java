@@ -39,6 +39,11 @@ public class HyperlinkPhraseModifier extends PatternBasedElement {
 		return 3 + Textile.ATTRIBUTES_GROUP_COUNT;
 	}
 
+	@Override
+	protected String getStartCharacters() {
+		return "\""; //$NON-NLS-1$
+	}
+
 	@Override
 	protected PatternBasedElementProcessor newProcessor() {
 		return new HyperlinkProcessor();
@@ -45,6 +45,11 @@ public class ImageTextilePhraseModifier extends PatternBasedElement {
 		return Textile.ATTRIBUTES_GROUP_COUNT + 5;
 	}
 
+	@Override
+	protected String getStartCharacters() {
+		return "!"; //$NON-NLS-1$
+	}
+
 	@Override
 	protected PatternBasedElementProcessor newProcessor() {
 		return new ImagePhraseModifierProcessor();
@@ -147,6 +147,11 @@ public class SimpleTextilePhraseModifier extends PatternBasedElement {
 		return processor.start(CONTENT_GROUP);
 	}
 
+	@Override
+	protected String getStartCharacters() {
+		return getDelimiter().substring(0, 1);
+	}
+
 	@Override
 	protected PatternBasedElementProcessor newProcessor() {
 		return new SimplePhraseModifierProcessor(spanType, mode);
@@ -31,6 +31,11 @@ public class TagEscapeTextilePhraseModifier extends PatternBasedElement {
 		return 1;
 	}
 
+	@Override
+	protected String getStartCharacters() {
+		return "<"; //$NON-NLS-1$
+	}
+
 	@Override
 	protected PatternBasedElementProcessor newProcessor() {
 		return new LiteralPhraseModifierProcessor(false);
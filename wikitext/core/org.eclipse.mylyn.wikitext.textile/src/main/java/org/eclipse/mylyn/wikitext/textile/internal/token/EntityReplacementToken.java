@@ -33,6 +33,11 @@ public class EntityReplacementToken extends PatternBasedElement {
 		return 1;
 	}
 
+	@Override
+	protected String getStartCharacters() {
+		return "&"; //$NON-NLS-1$
+	}
+
 	@Override
 	protected PatternBasedElementProcessor newProcessor() {
 
@@ -34,6 +34,11 @@ public class FootnoteReferenceReplacementToken extends PatternBasedElement {
 		return 1;
 	}
 
+	@Override
+	protected String getStartCharacters() {
+		return "["; //$NON-NLS-1$
+	}
+
 	@Override
 	protected PatternBasedElementProcessor newProcessor() {
 		return new FootnoteReferenceReplacementTokenProcessor();
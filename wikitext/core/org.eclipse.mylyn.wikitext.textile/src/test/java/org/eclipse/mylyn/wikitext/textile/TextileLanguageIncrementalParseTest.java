@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.textile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.util.Random;
+
+import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.incremental.IncrementalParser;
+import org.eclipse.mylyn.wikitext.parser.incremental.ParseDelta;
+import org.eclipse.mylyn.wikitext.parser.incremental.TextEdit;
+import org.junit.Test;
+
+public class TextileLanguageIncrementalParseTest {
+
+	private static final String SECTION = "h1. Heading\n\nSome *text* with ABC(A Better Code) and \"link\":http://example.com\n\n"
+			+ "* item one\n* item two\n\n|a|table|\n|with|rows|\n\nbc.. code\n\nwith blank lines\n\np. para\n\n"
+			+ "h2. Sub heading\n\n# first\n# second\n\n";
+
+	private final IncrementalParser parser = new IncrementalParser(new TextileLanguage());
+
+	@Test
+	public void updateParagraph() {
+		String content = document(4);
+		parser.parse(content);
+		int offset = content.indexOf("para\n");
+
+		ParseDelta delta = parser.update(new TextEdit(offset, 4, "paragraph"));
+
+		assertFalse(delta.isFullParse());
+		assertTrue(delta.getInsertedBlocks().size() < parser.getBlocks().size() / 2);
+		assertEquals(fullParse(new TextileLanguage(), parser.getContent()), emit(parser));
+	}
+
+	@Test
+	public void updateHeadingShiftsFollowingIds() {
+		parser.parse(document(3));
+
+		ParseDelta delta = parser.update(new TextEdit(4, 7, "Sub heading"));
+
+		assertFalse(delta.isFullParse());
+		String html = emit(parser);
+		assertEquals(fullParse(new TextileLanguage(), parser.getContent()), html);
+		assertTrue(html, html.contains("<h1 id=\"Subheading\">"));
+		assertTrue(html, html.contains("<h2 id=\"Subheading2\">"));
+	}
+
+	@Test
+	public void updateGlossaryTerm() {
+		String content = "{glossary}\n\n" + document(2);
+		parser.parse(content);
+
+		ParseDelta delta = parser.update(new TextEdit(content.indexOf("Better"), 6, "Best"));
+
+		assertTrue(delta.isFullParse());
+		assertEquals(fullParse(new TextileLanguage(), parser.getContent()), emit(parser));
+	}
+
+	@Test
+	public void updateWithTableOfContents() {
+		String content = "{toc}\n\n" + document(2);
+		parser.parse(content);
+
+		ParseDelta delta = parser.update(new TextEdit(content.indexOf("Sub heading"), 3, "Other"));
+
+		assertTrue(delta.isFullParse());
+		assertEquals(fullParse(new TextileLanguage(), parser.getContent()), emit(parser));
+	}
+
+	@Test
+	public void updateWithPreprocessedFootnotes() {
+		TextileLanguage language = new TextileLanguage();
+		language.setPreprocessFootnotes(true);
+		IncrementalParser parser = new IncrementalParser(language);
+		parser.parse("one[1]\n\ntwo\n\nfn1. footnote");
+
+		assertEquals(1, parser.getBlocks().size());
+		assertTrue(parser.update(new TextEdit(0, 3, "ONE")).isFullParse());
+		assertEquals(fullParse(language, parser.getContent()), emit(parser));
+	}
+
+	@Test
+	public void updateRemovesNamedLink() {
+		parser.parse("a \"x\":ref\n\n\n[ref]http://e.com\n");
+
+		ParseDelta delta = parser.update(new TextEdit(15, 6, ""));
+
+		assertTrue(delta.isFullParse());
+		String html = emit(parser);
+		assertEquals(fullParse(new TextileLanguage(), parser.getContent()), html);
+		assertTrue(html, html.contains("<a href=\"ref\">x</a>"));
+	}
+
+	@Test
+	public void updateAddsNamedLink() {
+		String content = "a \"x\":ref\n\n" + document(2);
+		parser.parse(content);
+
+		ParseDelta delta = parser.update(new TextEdit(content.length(), 0, "[ref]http://example.com/ref\n"));
+
+		assertTrue(delta.isFullParse());
+		String html = emit(parser);
+		assertEquals(fullParse(new TextileLanguage(), parser.getContent()), html);
+		assertTrue(html, html.contains("<a href=\"http://example.com/ref\">x</a>"));
+	}
+
+	@Test
+	public void randomEditsWithNamedLinks() {
+		Random random = new Random(42);
+		String[] fragments = { "\n", "\n\n", "\"x\":ref ", "[ref]http://e.com\n", "[ref]", "http://", "ref", "* ",
+				"" };
+		parser.parse("a \"x\":ref\n\n" + document(1) + "[ref]http://e.com\n");
+		for (int x = 0; x < 300; ++x) {
+			String current = parser.getContent();
+			int offset = random.nextInt(current.length() + 1);
+			int removedLength = random.nextInt(Math.min(8, current.length() - offset) + 1);
+			parser.update(new TextEdit(offset, removedLength, fragments[random.nextInt(fragments.length)]));
+
+			assertEquals(fullParse(new TextileLanguage(), parser.getContent()), emit(parser));
+		}
+	}
+
+	@Test
+	public void randomEdits() {
+		Random random = new Random(42);
+		String[] fragments = { "\n", "\n\n", "h1. ", "* ", "# ", "|", "bc.. ", "p. ", "ABC(def)", "*", "text", "" };
+		parser.parse(document(2));
+		for (int x = 0; x < 300; ++x) {
+			String current = parser.getContent();
+			int offset = random.nextInt(current.length() + 1);
+			int removedLength = random.nextInt(Math.min(8, current.length() - offset) + 1);
+			parser.update(new TextEdit(offset, removedLength, fragments[random.nextInt(fragments.length)]));
+
+			assertEquals(fullParse(new TextileLanguage(), parser.getContent()), emit(parser));
+		}
+	}
+
+	private String document(int sectionCount) {
+		StringBuilder content = new StringBuilder();
+		for (int x = 0; x < sectionCount; ++x) {
+			content.append(SECTION);
+		}
+		return content.toString();
+	}
+
+	private String emit(IncrementalParser parser) {
+		StringWriter out = new StringWriter();
+		parser.emit(createBuilder(out));
+		return out.toString();
+	}
+
+	private String fullParse(TextileLanguage language, String content) {
+		StringWriter out = new StringWriter();
+		new MarkupParser(language, createBuilder(out)).parse(content);
+		return out.toString();
+	}
+
+	private HtmlDocumentBuilder createBuilder(StringWriter out) {
+		HtmlDocumentBuilder builder = new HtmlDocumentBuilder(out);
+		builder.setEmitAsDocument(false);
+		return builder;
+	}
+}
@@ -15,18 +15,35 @@ package org.eclipse.mylyn.wikitext.textile;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterReader;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.eclipse.mylyn.wikitext.parser.Attributes;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.BlockType;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.SpanType;
 import org.eclipse.mylyn.wikitext.parser.MarkupParser;
 import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
@@ -36,7 +53,9 @@ import org.eclipse.mylyn.wikitext.toolkit.AbstractMarkupGenerationTest;
 import org.eclipse.mylyn.wikitext.toolkit.RecordingDocumentBuilder;
 import org.eclipse.mylyn.wikitext.toolkit.RecordingDocumentBuilder.Event;
 import org.eclipse.mylyn.wikitext.util.ServiceLocator;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * NOTE: most textile test cases can be found in {@link MarkupParserTest}
@@ -48,6 +67,9 @@ public class TextileLanguageTest extends AbstractMarkupGenerationTest<TextileLan
 
 	private static final String REGEX_NEWLINE = "(?:\\s*?^)";
 
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	@Override
 	protected TextileLanguage createMarkupLanguage() {
 		return new TextileLanguage();
@@ -1321,6 +1343,203 @@ public class TextileLanguageTest extends AbstractMarkupGenerationTest<TextileLan
 		assertTrue(html.contains("<h3 id=\"Subhead4\">"));
 	}
 
+	@Test
+	public void testTableOfContentsParseReader() throws IOException {
+		String markup = "h1. Table Of Contents\n\n{toc}\n\nh1. Top Header\n\nsome text\n\nh2. Subhead\n\nh2. Subhead2";
+		StringWriter out = new StringWriter();
+		parser.setBuilder(new HtmlDocumentBuilder(out));
+		parser.parse(new StringReader(markup));
+
+		String html = out.toString();
+		assertTrue(html.contains("<a href=\"#Subhead2\">"));
+		assertTrue(html.contains("<h2 id=\"Subhead2\">"));
+	}
+
+	@Test
+	public void testParseReaderMatchesParseString() throws IOException {
+		String markup = "h1. Header\n\nsome *strong* text\r\nwith a line break\n\n* one\n** two\n\n|a|b|\n|c|d|\n\nbc.. code\n\nmore code\n\np. text";
+		String expected = parser.parseToHtml(markup);
+
+		StringWriter out = new StringWriter();
+		parser.setBuilder(new HtmlDocumentBuilder(out));
+		parser.parse(new StringReader(markup));
+
+		assertEquals(expected, out.toString());
+	}
+
+	@Test
+	public void testParseReaderStreamsContent() throws IOException {
+		String markup = "h1. Header\n\n" + "some *strong* text\n\n".repeat(1000);
+
+		assertParseReaderStreams(markup);
+	}
+
+	@Test
+	public void testParseReaderStreamsContentBeforeTableOfContents() throws IOException {
+		String markup = "h1. Header\n\n" + "some text\n\n".repeat(1000)
+				+ "{toc}\n\nh1. Top Header\n\nsome text\n\nh2. Subhead\n\n" + "more text\n\n".repeat(1000);
+
+		String html = assertParseReaderStreams(markup);
+		assertTrue(html.contains("<a href=\"#Subhead\">"));
+	}
+
+	@Test
+	public void testParseReaderResolvesNamedLinkDefinedLater() throws IOException {
+		String markup = "a \"x\":ref\n\n" + "some text\n\n".repeat(1000) + "[ref]http://example.com\n";
+		String expected = parser.parseToHtml(markup);
+
+		StringWriter out = new StringWriter();
+		parser.setBuilder(new HtmlDocumentBuilder(out));
+		parser.parse(new StringReader(markup));
+
+		assertTrue(out.toString().contains("<a href=\"http://example.com\">x</a>"));
+		assertEquals(expected, out.toString());
+	}
+
+	/**
+	 * Assert that parsing the given markup from a reader emits the first heading before all of the markup is read, and
+	 * that the output is the same as parsing the markup as a string.
+	 */
+	private String assertParseReaderStreams(String markup) throws IOException {
+		String expected = parser.parseToHtml(markup);
+
+		int[] charactersRead = { 0 };
+		int[] charactersReadAtFirstHeading = { -1 };
+		Reader reader = new FilterReader(new StringReader(markup)) {
+
+			@Override
+			public int read(char[] cbuf, int off, int len) throws IOException {
+				int count = super.read(cbuf, off, len);
+				if (count > 0) {
+					charactersRead[0] += count;
+				}
+				return count;
+			}
+		};
+		StringWriter out = new StringWriter();
+		parser.setBuilder(new HtmlDocumentBuilder(out) {
+
+			@Override
+			public void endHeading() {
+				super.endHeading();
+				if (charactersReadAtFirstHeading[0] == -1) {
+					charactersReadAtFirstHeading[0] = charactersRead[0];
+				}
+			}
+		});
+		parser.parse(reader);
+
+		assertTrue(charactersReadAtFirstHeading[0] < markup.length());
+		assertEquals(expected, out.toString());
+		return out.toString();
+	}
+
+	@Test
+	public void testParseCharSequenceAndPathMatchParseString() throws IOException {
+		String markup = "h1. Header\n\nsome _emphasized_ text with a caf\u00e9\n\n# one\n# two";
+		String expected = parser.parseToHtml(markup);
+
+		StringWriter out = new StringWriter();
+		parser.setBuilder(new HtmlDocumentBuilder(out));
+		parser.parse(new StringBuilder(markup));
+		assertEquals(expected, out.toString());
+
+		// the mapped file may not be deletable until the mapping is garbage collected, which the temporary folder
+		// tolerates
+		Path file = temporaryFolder.newFile("markup.textile").toPath();
+		Files.write(file, markup.getBytes(StandardCharsets.UTF_8));
+		out = new StringWriter();
+		parser.setBuilder(new HtmlDocumentBuilder(out));
+		parser.parse(file, StandardCharsets.UTF_8);
+		assertEquals(expected, out.toString());
+	}
+
+	@Test
+	public void testCreateDocumentBuilderOutputStream() {
+		StringWriter expected = new StringWriter();
+		buildParagraph(markupLanguage.createDocumentBuilder(expected));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		buildParagraph(markupLanguage.createDocumentBuilder(out));
+
+		assertEquals("caf\u00e9\n\n", expected.toString());
+		assertEquals(expected.toString(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testCreateDocumentBuilderChannel() {
+		StringWriter expected = new StringWriter();
+		buildParagraph(markupLanguage.createDocumentBuilder(expected));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		buildParagraph(markupLanguage.createDocumentBuilder(Channels.newChannel(out)));
+
+		assertEquals(expected.toString(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testCreateDocumentBuilderOutputStreamFlush() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		DocumentBuilder builder = markupLanguage.createDocumentBuilder(out);
+		builder.beginDocument();
+		builder.beginBlock(BlockType.PARAGRAPH, new Attributes());
+		builder.characters("test");
+		builder.endBlock();
+		builder.flush();
+
+		assertTrue(new String(out.toByteArray(), StandardCharsets.UTF_8).startsWith("test"));
+	}
+
+	private void buildParagraph(DocumentBuilder builder) {
+		builder.beginDocument();
+		builder.beginBlock(BlockType.PARAGRAPH, new Attributes());
+		builder.characters("caf\u00e9");
+		builder.endBlock();
+		builder.endDocument();
+	}
+
+	@Test
+	public void testCompiledLanguageMatchesLanguage() {
+		String markup = "h1. Header\n\nsome _emphasized_ text (c) with fn1[1]\n\n# one\n# two\n\n|a|b|\n\nfn1. footnote";
+		String expected = parser.parseToHtml(markup);
+
+		TextileLanguage compiledLanguage = (TextileLanguage) markupLanguage.compile();
+		assertTrue(compiledLanguage.isCompiled());
+		MarkupParser compiledParser = new MarkupParser(compiledLanguage);
+		assertEquals(expected, compiledParser.parseToHtml(markup));
+		assertEquals(expected, compiledParser.parseToHtml(markup));
+		assertSame(compiledLanguage, compiledParser.getMarkupLanguage());
+	}
+
+	@Test
+	public void testCompiledLanguageConcurrentParse() throws Exception {
+		TextileLanguage compiledLanguage = (TextileLanguage) markupLanguage.compile();
+		List<Callable<Void>> parses = new ArrayList<>();
+		for (int x = 0; x < 16; ++x) {
+			String markup = "h1. Header " + x + "\n\nsome *strong* text " + x + "\n\n* item " + x;
+			String expected = parser.parseToHtml(markup);
+			parses.add(() -> {
+				for (int y = 0; y < 50; ++y) {
+					assertEquals(expected, new MarkupParser(compiledLanguage).parseToHtml(markup));
+				}
+				return null;
+			});
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			for (Future<Void> future : executor.invokeAll(parses)) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testCompiledLanguageCannotBeConfigured() {
+		markupLanguage.compile().configure(new MarkupLanguageConfiguration());
+	}
+
 	@Test
 	public void testTableOfContentsWithNoClass() throws IOException {
 		String html = parser.parseToHtml(
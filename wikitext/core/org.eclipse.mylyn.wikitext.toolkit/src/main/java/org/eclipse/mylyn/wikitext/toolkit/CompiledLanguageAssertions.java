@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.toolkit;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.markup.AbstractMarkupLanguage;
+
+/**
+ * Assertions for {@link AbstractMarkupLanguage#compile() compiled} markup languages.
+ *
+ * @since 3.0.49
+ */
+public class CompiledLanguageAssertions {
+
+	private static final int THREADS = 8;
+
+	private static final int ITERATIONS = 50;
+
+	/**
+	 * Assert that many threads parsing the given documents with one compiled copy of the given markup language produce
+	 * the same HTML as the markup language itself.
+	 *
+	 * @param markupLanguage
+	 *            the markup language to compile
+	 * @param documents
+	 *            the markup of the documents to parse
+	 */
+	public static void assertConcurrentParseMatchesParse(AbstractMarkupLanguage markupLanguage, String... documents) {
+		List<String> expected = new ArrayList<>();
+		for (String document : documents) {
+			expected.add(new MarkupParser(markupLanguage.clone()).parseToHtml(document));
+		}
+		AbstractMarkupLanguage compiledLanguage = markupLanguage.compile();
+		List<Callable<Void>> parses = new ArrayList<>();
+		for (int x = 0; x < THREADS; ++x) {
+			int offset = x;
+			parses.add(() -> {
+				for (int y = 0; y < ITERATIONS * documents.length; ++y) {
+					int index = (offset + y) % documents.length;
+					assertEquals(expected.get(index),
+							new MarkupParser(compiledLanguage).parseToHtml(documents[index]));
+				}
+				return null;
+			});
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			for (Future<Void> future : executor.invokeAll(parses)) {
+				future.get();
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw new RuntimeException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private CompiledLanguageAssertions() {
+		// prevent instantiation
+	}
+}
@@ -40,7 +40,7 @@ public class ListBlock extends Block {
 
 	private Matcher matcher;
 
-	private final Stack<ListState> listState = new Stack<ListState>();
+	private Stack<ListState> listState = new Stack<ListState>();
 
 	public ListBlock() {
 	}
@@ -145,6 +145,11 @@ public class ListBlock extends Block {
 		return level;
 	}
 
+	@Override
+	public String getStartCharacters() {
+		return "*-0123456789"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		blockLineCount = 0;
@@ -167,6 +172,13 @@ public class ListBlock extends Block {
 		super.setClosed(closed);
 	}
 
+	@Override
+	public Block createParseSessionPrototype() {
+		ListBlock copy = (ListBlock) super.createParseSessionPrototype();
+		copy.listState = new Stack<ListState>();
+		return copy;
+	}
+
 	private void closeOne() {
 		ListState e = listState.pop();
 		if (e.openItem) {
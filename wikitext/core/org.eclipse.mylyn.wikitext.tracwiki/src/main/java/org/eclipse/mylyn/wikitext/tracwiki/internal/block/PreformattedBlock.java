@@ -61,6 +61,11 @@ public class PreformattedBlock extends Block {
 		super.setClosed(closed);
 	}
 
+	@Override
+	public String getStartCharacters() {
+		return "{"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		if (lineOffset == 0) {
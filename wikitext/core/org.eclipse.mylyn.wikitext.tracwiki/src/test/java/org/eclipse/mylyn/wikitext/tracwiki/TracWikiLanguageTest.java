@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.mylyn.wikitext.tracwiki;
 
+import static org.eclipse.mylyn.wikitext.toolkit.CompiledLanguageAssertions.assertConcurrentParseMatchesParse;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -864,4 +865,10 @@ public class TracWikiLanguageTest {
 				"<body><p>A Asource:/trunk/COPYING or Asource:/trunk/COPYING@200 or Asource:/trunk/COPYING@200#L26 more text</p></body>"));
 	}
 
+	@Test
+	public void testCompiledLanguageConcurrentParse() {
+		assertConcurrentParseMatchesParse(new TracWikiLanguage(),
+				" * one\n   * two\n     * three\n * four\n\n 1. a\n   1. b\n",
+				"> quote\n>> nested\n\n term:: definition\n\n * item\n   continued\n * item");
+	}
 }
@@ -155,6 +155,11 @@ public class ListBlock extends Block {
 		return listSpec.charAt(listSpec.length() - 1) == '*' ? BlockType.BULLETED_LIST : BlockType.NUMERIC_LIST;
 	}
 
+	@Override
+	public String getStartCharacters() {
+		return "*1aAiI"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		blockLineCount = 0;
@@ -63,6 +63,11 @@ public class LiteralBlock extends Block {
 		super.setClosed(closed);
 	}
 
+	@Override
+	public String getStartCharacters() {
+		return "<"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		if (lineOffset == 0) {
@@ -35,6 +35,11 @@ public class TableOfContentsBlock extends Block {
 
 	private Matcher matcher;
 
+	@Override
+	public boolean requiresMarkupContent() {
+		return getMarkupLanguage() == null || !getMarkupLanguage().isFilterGenerativeContents();
+	}
+
 	@Override
 	public int processLineContent(String line, int offset) {
 		if (blockLineNumber++ > 0) {
@@ -68,6 +73,11 @@ public class TableOfContentsBlock extends Block {
 		builder.endBlock();
 	}
 
+	@Override
+	public String getStartCharacters() {
+		return "%"; //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean canStart(String line, int lineOffset) {
 		if (lineOffset == 0 && !getMarkupLanguage().isFilterGenerativeContents()) {
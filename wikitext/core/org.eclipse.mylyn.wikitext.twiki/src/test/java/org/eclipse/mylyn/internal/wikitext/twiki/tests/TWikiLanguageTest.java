@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.mylyn.internal.wikitext.twiki.tests;
 
+import static org.eclipse.mylyn.wikitext.toolkit.CompiledLanguageAssertions.assertConcurrentParseMatchesParse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -338,4 +339,10 @@ public class TWikiLanguageTest {
 		}
 	}
 
+	@Test
+	public void testCompiledLanguageConcurrentParse() {
+		assertConcurrentParseMatchesParse(new TWikiLanguage(),
+				"   * one\n      * two\n   1. three\n\n---+ Heading\n\ntext",
+				"   $ term: definition\n\n| a | b |\n| c | d |");
+	}
 }
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.mylyn.wikitext.internal.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * a reader that decodes a file through a memory-mapped {@link FileChannel} into a reusable {@link CharBuffer}, so that
+ * neither the bytes nor the characters of the file are copied onto the heap as a whole. Large files are mapped in
+ * consecutive windows.
+ */
+public class MappedFileReader extends Reader {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private static final long DEFAULT_MAPPING_SIZE = 64L * 1024 * 1024;
+
+	private final FileChannel channel;
+
+	private final CharsetDecoder decoder;
+
+	private final CharBuffer chars;
+
+	private final long mappingSize;
+
+	private ByteBuffer bytes;
+
+	private long mappingOffset;
+
+	private boolean endOfInput;
+
+	private boolean flushed;
+
+	public MappedFileReader(Path path, Charset charset) throws IOException {
+		this(path, charset, DEFAULT_BUFFER_SIZE, DEFAULT_MAPPING_SIZE);
+	}
+
+	MappedFileReader(Path path, Charset charset, int bufferSize, long mappingSize) throws IOException {
+		this.mappingSize = mappingSize;
+		decoder = charset.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		chars = CharBuffer.allocate(bufferSize);
+		chars.flip();
+		channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			map(0);
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (!chars.hasRemaining() && !fill()) {
+			return -1;
+		}
+		int length = Math.min(len, chars.remaining());
+		chars.get(cbuf, off, length);
+		return length;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private boolean fill() throws IOException {
+		chars.clear();
+		try {
+			while (chars.position() == 0 && !flushed) {
+				CoderResult result = decoder.decode(bytes, chars, endOfInput);
+				if (result.isUnderflow()) {
+					if (endOfInput) {
+						flushed = decoder.flush(chars).isUnderflow();
+					} else {
+						map(mappingOffset + bytes.position());
+					}
+				}
+			}
+		} finally {
+			chars.flip();
+		}
+		return chars.hasRemaining();
+	}
+
+	private void map(long offset) throws IOException {
+		long size = Math.min(mappingSize, channel.size() - offset);
+		bytes = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+		mappingOffset = offset;
+		endOfInput = offset + size >= channel.size();
+	}
+}
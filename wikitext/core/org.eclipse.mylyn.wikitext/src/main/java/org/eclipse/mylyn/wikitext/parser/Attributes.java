@@ -25,6 +25,8 @@ import java.util.Objects;
  */
 public class Attributes implements Cloneable {
 
+	private static final Attributes EMPTY = new EmptyAttributes();
+
 	private String cssClass;
 
 	private String id;
@@ -45,6 +47,20 @@ public class Attributes implements Cloneable {
 		this.language = language;
 	}
 
+	/**
+	 * Provides shared attributes without any values, which cannot be modified. These may be passed to any
+	 * {@link DocumentBuilder} that does not {@link DocumentBuilder#retainsAttributes() retain attributes}. The setters
+	 * of the shared attributes throw {@link UnsupportedOperationException}, and their {@link #clone() clone} can be
+	 * modified.
+	 *
+	 * @return the shared empty attributes
+	 * @see DocumentBuilder#emptyAttributes()
+	 * @since 3.0.49
+	 */
+	public static Attributes empty() {
+		return EMPTY;
+	}
+
 	public String getCssClass() {
 		return cssClass;
 	}
@@ -63,7 +79,7 @@ public class Attributes implements Cloneable {
 		if (priorCssClasses == null) {
 			setCssClass(cssClass);
 		} else {
-			setCssClass(priorCssClasses + ' ' + cssClass);
+			setCssClass(Combinations.combine(priorCssClasses, cssClass));
 		}
 	}
 
@@ -93,7 +109,7 @@ public class Attributes implements Cloneable {
 		if (priorCssStyle == null) {
 			setCssStyle(cssStyle);
 		} else {
-			setCssStyle(priorCssStyle + ' ' + cssStyle);
+			setCssStyle(Combinations.combine(priorCssStyle, cssStyle));
 		}
 	}
 
@@ -138,4 +154,94 @@ public class Attributes implements Cloneable {
 			throw new RuntimeException(e);
 		}
 	}
+
+	private static final class EmptyAttributes extends Attributes {
+
+		@Override
+		public void setCssClass(String cssClass) {
+			throw unmodifiable();
+		}
+
+		@Override
+		public void setId(String id) {
+			throw unmodifiable();
+		}
+
+		@Override
+		public void setCssStyle(String cssStyle) {
+			throw unmodifiable();
+		}
+
+		@Override
+		public void setLanguage(String language) {
+			throw unmodifiable();
+		}
+
+		@Override
+		public void setTitle(String title) {
+			throw unmodifiable();
+		}
+
+		@Override
+		public Attributes clone() {
+			return new Attributes();
+		}
+
+		private UnsupportedOperationException unmodifiable() {
+			return new UnsupportedOperationException("Shared empty attributes cannot be modified"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Caches the space-separated combinations of CSS classes and styles that are made by appending to attributes, so
+	 * that commonly used combinations are shared instead of being concatenated each time. Only short values are
+	 * cached, in a fixed number of slots. Each combination may be held by either slot of a pair, where the most recent
+	 * combination replaces the older one. Slots are updated without synchronization, which is safe since a combination
+	 * is immutable and is only used when it matches the values being combined.
+	 */
+	private static final class Combinations {
+
+		private static final int MAXIMUM_LENGTH = 128;
+
+		private static final Combination[] COMBINATIONS = new Combination[512];
+
+		static String combine(String prefix, String suffix) {
+			if (suffix == null || prefix.length() + suffix.length() >= MAXIMUM_LENGTH) {
+				return prefix + ' ' + suffix;
+			}
+			int hash = 31 * prefix.hashCode() + suffix.hashCode();
+			int index = ((hash ^ (hash >>> 16)) << 1) & (COMBINATIONS.length - 1);
+			Combination first = COMBINATIONS[index];
+			if (first != null && first.matches(prefix, suffix)) {
+				return first.value;
+			}
+			Combination second = COMBINATIONS[index + 1];
+			if (second != null && second.matches(prefix, suffix)) {
+				return second.value;
+			}
+			Combination combination = new Combination(prefix, suffix);
+			COMBINATIONS[index + 1] = first;
+			COMBINATIONS[index] = combination;
+			return combination.value;
+		}
+	}
+
+	private static final class Combination {
+
+		final String prefix;
+
+		final String suffix;
+
+		final String value;
+
+		Combination(String prefix, String suffix) {
+			this.prefix = prefix;
+			this.suffix = suffix;
+			this.value = prefix + ' ' + suffix;
+		}
+
+		boolean matches(String prefix, String suffix) {
+			return this.prefix.equals(prefix) && this.suffix.equals(suffix);
+		}
+	}
 }
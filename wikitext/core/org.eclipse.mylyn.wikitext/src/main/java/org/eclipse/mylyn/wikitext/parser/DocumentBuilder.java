@@ -275,6 +275,32 @@ public abstract class DocumentBuilder {
 	 */
 	public abstract void charactersUnescaped(String literal);
 
+	/**
+	 * Indicates whether this builder may retain or modify the attributes that are passed to it. Builders that return
+	 * {@code false} only read attributes for the duration of each call, which allows callers to pass
+	 * {@link Attributes#empty() shared empty attributes} and to reuse the same mutable attributes for more than one
+	 * call. Subclasses of such builders that retain or modify attributes must override this method. The default
+	 * implementation returns {@code true}.
+	 *
+	 * @return true if this builder may retain or modify attributes, otherwise false
+	 * @see #emptyAttributes()
+	 * @since 3.0.49
+	 */
+	public boolean retainsAttributes() {
+		return true;
+	}
+
+	/**
+	 * Provides attributes without any values for a call to this builder: the {@link Attributes#empty() shared empty
+	 * attributes} if this builder does not {@link #retainsAttributes() retain attributes}, otherwise new attributes.
+	 *
+	 * @return the attributes
+	 * @since 3.0.49
+	 */
+	public final Attributes emptyAttributes() {
+		return retainsAttributes() ? new Attributes() : Attributes.empty();
+	}
+
 	/**
 	 * Set the locator for the current session
 	 *
@@ -15,10 +15,16 @@ package org.eclipse.mylyn.wikitext.parser;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
 
+import org.eclipse.mylyn.wikitext.internal.util.MappedFileReader;
 import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.markup.MarkupLanguage;
 
+import com.google.common.io.CharSource;
+
 /**
  * A markup processor that can process lightweight markup formats such as Textile.
  *
@@ -31,6 +37,8 @@ public class MarkupParser {
 
 	private DocumentBuilder builder;
 
+	private Executor executor;
+
 	public MarkupParser() {
 	}
 
@@ -71,12 +79,128 @@ public class MarkupParser {
 		this.builder = builder;
 	}
 
+	/**
+	 * the executor on which parts of a document may be parsed concurrently, or null if documents are parsed serially
+	 *
+	 * @since 3.0.49
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Set the executor on which markup languages that support it may parse independent parts of a single document
+	 * concurrently. The events received by the {@link #getBuilder() builder} are the same as those of a serial parse,
+	 * and are delivered in order on the thread that invokes {@code parse}; the {@link DocumentBuilder#setLocator(Locator)
+	 * locator} of the builder is not updated for the parts of a document that are parsed concurrently. By default no
+	 * executor is set, and documents are parsed serially.
+	 * <p>
+	 * The executor may be bounded, and may be the executor that invokes {@code parse}: a part that no thread of the
+	 * executor has started by the time it is needed, or that the executor rejects, is parsed on the thread that invokes
+	 * {@code parse}, which only waits for parts that are already being parsed.
+	 * </p>
+	 *
+	 * @param executor
+	 *            the executor, or null to parse serially
+	 * @since 3.0.49
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
 	public void parse(Reader markupContent) throws IOException {
 		parse(markupContent, true);
 	}
 
+	/**
+	 * Parse the content provided by the given reader. Markup languages that support it process the content as it is
+	 * read, without first buffering the whole document in memory.
+	 *
+	 * @param markupContent
+	 *            the reader providing the content to parse
+	 * @param asDocument
+	 *            indicate if the content should be parsed as a complete document
+	 * @see MarkupLanguage#processContent(MarkupParser, Reader, boolean)
+	 */
 	public void parse(Reader markupContent, boolean asDocument) throws IOException {
-		parse(readFully(markupContent), asDocument);
+		MarkupLanguage language = beginParse();
+		try {
+			markupLanguage.processContent(this, markupContent, asDocument);
+		} finally {
+			endParse(language);
+		}
+	}
+
+	/**
+	 * Parse the given file, decoding it through a memory-mapped channel so that the file content is not copied onto the
+	 * heap as a whole. Equivalent to {@code parse(path, charset, true)}.
+	 *
+	 * @param path
+	 *            the file to parse
+	 * @param charset
+	 *            the character encoding of the file
+	 * @since 3.0.49
+	 */
+	public void parse(Path path, Charset charset) throws IOException {
+		parse(path, charset, true);
+	}
+
+	/**
+	 * Parse the given file, decoding it through a memory-mapped channel so that the file content is not copied onto the
+	 * heap as a whole.
+	 *
+	 * @param path
+	 *            the file to parse
+	 * @param charset
+	 *            the character encoding of the file
+	 * @param asDocument
+	 *            indicate if the content should be parsed as a complete document
+	 * @since 3.0.49
+	 */
+	public void parse(Path path, Charset charset, boolean asDocument) throws IOException {
+		MarkupLanguage language = beginParse();
+		try (Reader reader = new MappedFileReader(path, charset)) {
+			markupLanguage.processContent(this, reader, asDocument);
+		} finally {
+			endParse(language);
+		}
+	}
+
+	/**
+	 * Parse the given content, which may be a view such as a {@link java.nio.CharBuffer CharBuffer} or a
+	 * {@link StringBuilder}, without first copying it into a string. Equivalent to {@code parse(markupContent, true)}.
+	 *
+	 * @param markupContent
+	 *            the content to parse
+	 * @since 3.0.49
+	 */
+	public void parse(CharSequence markupContent) {
+		parse(markupContent, true);
+	}
+
+	/**
+	 * Parse the given content, which may be a view such as a {@link java.nio.CharBuffer CharBuffer} or a
+	 * {@link StringBuilder}, without first copying it into a string.
+	 *
+	 * @param markupContent
+	 *            the content to parse
+	 * @param asDocument
+	 *            indicate if the content should be parsed as a complete document
+	 * @since 3.0.49
+	 */
+	public void parse(CharSequence markupContent, boolean asDocument) {
+		if (markupContent instanceof String) {
+			parse((String) markupContent, asDocument);
+			return;
+		}
+		MarkupLanguage language = beginParse();
+		try (Reader reader = CharSource.wrap(markupContent).openStream()) {
+			markupLanguage.processContent(this, reader, asDocument);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		} finally {
+			endParse(language);
+		}
 	}
 
 	public void parse(String markupContent) {
@@ -84,22 +208,34 @@ public class MarkupParser {
 	}
 
 	public void parse(String markupContent, boolean asDocument) {
+		MarkupLanguage language = beginParse();
+		try {
+			markupLanguage.processContent(this, markupContent, asDocument);
+		} finally {
+			endParse(language);
+		}
+	}
+
+	/**
+	 * Check that the parser is ready and switch to the {@link MarkupLanguage#createParseSession() parse session} of the
+	 * markup language.
+	 *
+	 * @return the markup language to restore once the parse has ended
+	 */
+	private MarkupLanguage beginParse() {
 		if (markupLanguage == null) {
 			throw new IllegalStateException("markup language is not set"); //$NON-NLS-1$
 		}
 		if (builder == null) {
 			throw new IllegalStateException("builder is not set"); //$NON-NLS-1$
 		}
-		markupLanguage.processContent(this, markupContent, asDocument);
+		MarkupLanguage language = markupLanguage;
+		markupLanguage = language.createParseSession();
+		return language;
 	}
 
-	private String readFully(Reader reader) throws IOException {
-		StringWriter writer = new StringWriter();
-		int c;
-		while ((c = reader.read()) != -1) {
-			writer.write(c);
-		}
-		return writer.toString();
+	private void endParse(MarkupLanguage language) {
+		markupLanguage = language;
 	}
 
 	/**
@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.batch;
+
+import java.io.Reader;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.markup.AbstractMarkupLanguage;
+import org.eclipse.mylyn.wikitext.parser.markup.MarkupLanguage;
+
+/**
+ * Converts many independent documents concurrently. Each {@link ConversionJob job} is parsed on a thread of an
+ * {@link Executor}, and a {@link ConversionResult result} is provided for every job in the order in which the jobs
+ * were given, whether or not the conversion of the document succeeded: a failure to convert one document does not
+ * affect the others.
+ * <p>
+ * Markup languages are shared by the jobs of a batch without being modified. A markup language that is
+ * {@link AbstractMarkupLanguage#compile() compiled} is shared by all documents and parsed in a lightweight session per
+ * document; callers that know a language to be safe to compile can provide a compiled copy in the jobs. Any other
+ * markup language is {@link MarkupLanguage#clone() cloned} as needed so that each document being converted has its own
+ * instance; clones are reused by the later documents of the batch, so that no more clones are created than documents
+ * are converted at the same time.
+ * </p>
+ * <p>
+ * At most {@link #setMaxInFlight(int) a bounded number} of documents are converted or awaiting delivery at any time,
+ * so that the memory used by a batch does not depend on the number of jobs. On Java 21 or later, documents can be
+ * converted on virtual threads by providing {@code Executors.newVirtualThreadPerTaskExecutor()}.
+ * </p>
+ *
+ * @since 3.0.49
+ */
+public class BatchConverter {
+
+	private final Executor executor;
+
+	private int maxInFlight;
+
+	/**
+	 * Create a converter that converts documents on a pool of as many threads as there are available processors. The
+	 * pool is created for each batch and shut down once the batch is converted.
+	 */
+	public BatchConverter() {
+		this.executor = null;
+		this.maxInFlight = defaultMaxInFlight(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Create a converter that converts documents on the given executor, which is not shut down by the converter.
+	 */
+	public BatchConverter(Executor executor) {
+		this.executor = Objects.requireNonNull(executor, "Must provide an executor"); //$NON-NLS-1$
+		this.maxInFlight = defaultMaxInFlight(Runtime.getRuntime().availableProcessors());
+	}
+
+	private static int defaultMaxInFlight(int processors) {
+		return processors * 2;
+	}
+
+	/**
+	 * Set the maximum number of documents that are converted or awaiting delivery at any time. The default is twice the
+	 * number of available processors.
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+		if (maxInFlight < 1) {
+			throw new IllegalArgumentException();
+		}
+		this.maxInFlight = maxInFlight;
+	}
+
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	/**
+	 * Convert the given jobs.
+	 *
+	 * @return the results of the conversion in the order of the jobs
+	 */
+	public List<ConversionResult> convert(Iterable<ConversionJob> jobs) {
+		List<ConversionResult> results = new ArrayList<>();
+		convert(jobs, results::add);
+		return results;
+	}
+
+	/**
+	 * Convert the given jobs, providing each result to the given consumer in the order of the jobs. Results are
+	 * provided on the calling thread as soon as they and the results of all preceding jobs are available; this method
+	 * returns once all results have been provided.
+	 */
+	public void convert(Iterable<ConversionJob> jobs, Consumer<ConversionResult> resultConsumer) {
+		Objects.requireNonNull(jobs, "Must provide jobs"); //$NON-NLS-1$
+		Objects.requireNonNull(resultConsumer, "Must provide a resultConsumer"); //$NON-NLS-1$
+
+		ExecutorService ownExecutor = executor == null
+				? Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors())
+				: null;
+		Executor jobExecutor = ownExecutor == null ? executor : ownExecutor;
+		try {
+			Map<MarkupLanguage, LanguagePool> languages = new IdentityHashMap<>();
+			ArrayDeque<CompletableFuture<ConversionResult>> inFlight = new ArrayDeque<>(maxInFlight);
+			int index = 0;
+			for (ConversionJob job : jobs) {
+				Objects.requireNonNull(job, "Must provide a job"); //$NON-NLS-1$
+				if (inFlight.size() >= maxInFlight) {
+					resultConsumer.accept(inFlight.removeFirst().join());
+				}
+				LanguagePool languagePool = languages.computeIfAbsent(job.getMarkupLanguage(), LanguagePool::new);
+				int jobIndex = index++;
+				inFlight.addLast(
+						CompletableFuture.supplyAsync(() -> convert(jobIndex, job, languagePool), jobExecutor));
+			}
+			while (!inFlight.isEmpty()) {
+				resultConsumer.accept(inFlight.removeFirst().join());
+			}
+		} finally {
+			if (ownExecutor != null) {
+				ownExecutor.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Provides the instances of a markup language with which the documents of a batch are parsed. A compiled language
+	 * is shared by all documents. Otherwise clones that are not in use are kept for later documents, so that the number
+	 * of clones is bounded by the number of documents that are converted at the same time. A clone whose parse failed
+	 * is discarded, since it may have been left in an inconsistent state.
+	 */
+	private static class LanguagePool {
+
+		private final MarkupLanguage markupLanguage;
+
+		private final AbstractMarkupLanguage compiledLanguage;
+
+		private final Queue<MarkupLanguage> idleClones = new ConcurrentLinkedQueue<>();
+
+		LanguagePool(MarkupLanguage markupLanguage) {
+			this.markupLanguage = markupLanguage;
+			if (markupLanguage instanceof AbstractMarkupLanguage
+					&& ((AbstractMarkupLanguage) markupLanguage).isCompiled()) {
+				compiledLanguage = (AbstractMarkupLanguage) markupLanguage;
+			} else {
+				compiledLanguage = null;
+			}
+		}
+
+		MarkupLanguage acquire() {
+			if (compiledLanguage != null) {
+				return compiledLanguage;
+			}
+			MarkupLanguage clone = idleClones.poll();
+			return clone == null ? markupLanguage.clone() : clone;
+		}
+
+		void release(MarkupLanguage language) {
+			if (language != compiledLanguage) {
+				idleClones.offer(language);
+			}
+		}
+	}
+
+	private static ConversionResult convert(int index, ConversionJob job, LanguagePool languagePool) {
+		long start = System.nanoTime();
+		DocumentBuilder builder = null;
+		Throwable failure = null;
+		ConversionTarget target = job.getTarget();
+		try {
+			builder = target.createDocumentBuilder();
+			MarkupLanguage markupLanguage = languagePool.acquire();
+			try (Reader reader = job.getSource().openReader()) {
+				new MarkupParser(markupLanguage, builder).parse(reader);
+			}
+			languagePool.release(markupLanguage);
+		} catch (Throwable e) {
+			failure = e;
+		} finally {
+			try {
+				target.close();
+			} catch (Throwable e) {
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+		return new ConversionResult(index, job, builder, Duration.ofNanos(System.nanoTime() - start), failure);
+	}
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.batch;
+
+import java.util.Objects;
+
+import org.eclipse.mylyn.wikitext.parser.markup.MarkupLanguage;
+
+/**
+ * A document to be converted by a {@link BatchConverter}: the source of its markup, the markup language of the source
+ * and the target of the conversion.
+ *
+ * @since 3.0.49
+ */
+public final class ConversionJob {
+
+	private final String name;
+
+	private final ConversionSource source;
+
+	private final MarkupLanguage markupLanguage;
+
+	private final ConversionTarget target;
+
+	/**
+	 * @param name
+	 *            the name of the document, used to identify it in results
+	 * @param source
+	 *            the source of the markup content
+	 * @param markupLanguage
+	 *            the markup language of the content, which may be shared by many jobs; it is not modified by the
+	 *            conversion
+	 * @param target
+	 *            the target of the conversion
+	 */
+	public ConversionJob(String name, ConversionSource source, MarkupLanguage markupLanguage,
+			ConversionTarget target) {
+		this.name = Objects.requireNonNull(name, "Must provide a name"); //$NON-NLS-1$
+		this.source = Objects.requireNonNull(source, "Must provide a source"); //$NON-NLS-1$
+		this.markupLanguage = Objects.requireNonNull(markupLanguage, "Must provide a markupLanguage"); //$NON-NLS-1$
+		this.target = Objects.requireNonNull(target, "Must provide a target"); //$NON-NLS-1$
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public ConversionSource getSource() {
+		return source;
+	}
+
+	public MarkupLanguage getMarkupLanguage() {
+		return markupLanguage;
+	}
+
+	public ConversionTarget getTarget() {
+		return target;
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}
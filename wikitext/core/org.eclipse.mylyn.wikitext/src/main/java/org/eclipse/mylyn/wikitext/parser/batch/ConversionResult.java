@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.batch;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+
+/**
+ * The outcome of converting a single {@link ConversionJob}.
+ *
+ * @since 3.0.49
+ */
+public final class ConversionResult {
+
+	private final int index;
+
+	private final ConversionJob job;
+
+	private final DocumentBuilder documentBuilder;
+
+	private final Duration duration;
+
+	private final Throwable failure;
+
+	ConversionResult(int index, ConversionJob job, DocumentBuilder documentBuilder, Duration duration,
+			Throwable failure) {
+		this.index = index;
+		this.job = job;
+		this.documentBuilder = documentBuilder;
+		this.duration = duration;
+		this.failure = failure;
+	}
+
+	/**
+	 * The position of the job in the batch, starting at 0.
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	public ConversionJob getJob() {
+		return job;
+	}
+
+	/**
+	 * The builder to which the document was converted, or null if it could not be created.
+	 */
+	public DocumentBuilder getDocumentBuilder() {
+		return documentBuilder;
+	}
+
+	/**
+	 * The time taken to convert the document, including opening the source and the target.
+	 */
+	public Duration getDuration() {
+		return duration;
+	}
+
+	public boolean isSuccessful() {
+		return failure == null;
+	}
+
+	/**
+	 * The reason for which the conversion failed, if it did.
+	 */
+	public Optional<Throwable> getFailure() {
+		return Optional.ofNullable(failure);
+	}
+
+	@Override
+	public String toString() {
+		return job.getName() + (failure == null ? " converted in " : " failed in ") + duration.toMillis() + "ms"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
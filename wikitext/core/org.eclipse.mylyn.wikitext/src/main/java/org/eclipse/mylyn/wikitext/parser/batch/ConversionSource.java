@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.batch;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import org.eclipse.mylyn.wikitext.internal.util.MappedFileReader;
+
+/**
+ * Provides the markup content of a {@link ConversionJob}. The content is opened on the thread that converts the
+ * document, so that the source need not be held in memory until the document is converted.
+ *
+ * @since 3.0.49
+ */
+@FunctionalInterface
+public interface ConversionSource {
+
+	/**
+	 * Open a reader providing the markup content. The reader is closed once the content has been parsed.
+	 *
+	 * @return the reader
+	 * @throws IOException
+	 *             if the content cannot be opened
+	 */
+	Reader openReader() throws IOException;
+
+	/**
+	 * Create a source providing the given content.
+	 */
+	static ConversionSource of(String markupContent) {
+		Objects.requireNonNull(markupContent, "Must provide markupContent"); //$NON-NLS-1$
+		return () -> new StringReader(markupContent);
+	}
+
+	/**
+	 * Create a source providing the content of the given file, which is read through a memory-mapped channel.
+	 */
+	static ConversionSource of(Path path, Charset charset) {
+		Objects.requireNonNull(path, "Must provide a path"); //$NON-NLS-1$
+		Objects.requireNonNull(charset, "Must provide a charset"); //$NON-NLS-1$
+		return () -> new MappedFileReader(path, charset);
+	}
+}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.batch;
+
+import java.io.IOException;
+
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+
+/**
+ * Provides the {@link DocumentBuilder} to which the document of a {@link ConversionJob} is converted. The builder is
+ * created on the thread that converts the document, so that output resources are only open while the document is
+ * converted.
+ *
+ * @since 3.0.49
+ */
+@FunctionalInterface
+public interface ConversionTarget {
+
+	/**
+	 * Create the builder to which the document is converted.
+	 *
+	 * @return the builder
+	 * @throws IOException
+	 *             if the output cannot be opened
+	 */
+	DocumentBuilder createDocumentBuilder() throws IOException;
+
+	/**
+	 * Release the output of the builder once the document has been converted, whether or not the conversion succeeded.
+	 * The default implementation does nothing.
+	 *
+	 * @throws IOException
+	 *             if the output cannot be closed
+	 */
+	default void close() throws IOException {
+	}
+}
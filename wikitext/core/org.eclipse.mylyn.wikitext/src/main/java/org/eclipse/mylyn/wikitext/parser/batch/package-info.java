@@ -0,0 +1,18 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+/**
+ * conversion of many independent documents concurrently
+ *
+ * @see org.eclipse.mylyn.wikitext.parser.batch.BatchConverter
+ */
+package org.eclipse.mylyn.wikitext.parser.batch;
@@ -0,0 +1,648 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.builder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.mylyn.wikitext.parser.Attributes;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.Locator;
+
+import com.google.common.base.Throwables;
+
+/**
+ * A document builder that dispatches events to one or more delegates, each of which runs on its own thread. Events are
+ * published into a bounded ring buffer by the thread that invokes this builder, and every delegate consumes them from
+ * the buffer in order, so that the delegates build concurrently rather than one after the other on the parser thread.
+ * The invoking thread only waits when the buffer is full, and in {@link #endDocument()} and {@link #flush()}, which
+ * return once every delegate has processed all preceding events. A failure of a delegate is rethrown by the next
+ * {@link #endDocument()} or {@link #flush()}; the failed delegate receives no further events of the document.
+ * <p>
+ * Events are published without copying their {@link Attributes}: callers must not modify attributes that they have
+ * passed to this builder, and delegates must not modify the attributes that they receive, which the document builders
+ * provided by WikiText do not. Delegates are given a {@link #setLocator(Locator) locator} that reports the location of
+ * the event that they are processing.
+ * <p>
+ * The threads of the delegates are started by the first event of a document and end after {@link #endDocument()}. A
+ * document that is abandoned before it ends should be {@link #close() closed}. This builder must not be invoked by more
+ * than one thread at a time.
+ *
+ * @see MultiplexingDocumentBuilder
+ * @since 3.0.49
+ */
+public class ConcurrentMultiplexingDocumentBuilder extends DocumentBuilder implements AutoCloseable {
+
+	private static final int DEFAULT_BUFFER_SIZE = 1024;
+
+	private static final int SPIN_TRIES = 100;
+
+	private static final int YIELD_TRIES = 100;
+
+	private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+	private static final Executor THREAD_PER_DELEGATE = command -> {
+		Thread thread = new Thread(command, ConcurrentMultiplexingDocumentBuilder.class.getSimpleName());
+		thread.setDaemon(true);
+		thread.start();
+	};
+
+	private enum Kind {
+		ACRONYM, BEGIN_BLOCK, BEGIN_DOCUMENT, BEGIN_HEADING, BEGIN_SPAN, CHARACTERS, CHARACTERS_UNESCAPED, END_BLOCK,
+		END_DOCUMENT, END_HEADING, END_SPAN, ENTITY_REFERENCE, FLUSH, HORIZONTAL_RULE, IMAGE, IMAGE_LINK, LINE_BREAK,
+		LINK, SET_LOCATOR, STOP
+	}
+
+	/**
+	 * An entry of the ring buffer. Slots are allocated once and overwritten by the producer; only the fields used by
+	 * the {@link Kind} of the event are meaningful.
+	 */
+	private static final class Slot {
+
+		Kind kind;
+
+		BlockType blockType;
+
+		SpanType spanType;
+
+		int level;
+
+		Attributes attributes;
+
+		Attributes imageAttributes;
+
+		String text;
+
+		String text2;
+
+		boolean hasLocation;
+
+		int lineNumber;
+
+		int lineDocumentOffset;
+
+		int documentOffset;
+
+		int lineLength;
+
+		int lineCharacterOffset;
+
+		int lineSegmentEndOffset;
+	}
+
+	/**
+	 * The location of the event that a consumer is processing, copied from its slot.
+	 */
+	private static final class EventLocator implements Locator {
+
+		private int lineNumber;
+
+		private int lineDocumentOffset;
+
+		private int documentOffset;
+
+		private int lineLength;
+
+		private int lineCharacterOffset;
+
+		private int lineSegmentEndOffset;
+
+		void update(Slot slot) {
+			lineNumber = slot.lineNumber;
+			lineDocumentOffset = slot.lineDocumentOffset;
+			documentOffset = slot.documentOffset;
+			lineLength = slot.lineLength;
+			lineCharacterOffset = slot.lineCharacterOffset;
+			lineSegmentEndOffset = slot.lineSegmentEndOffset;
+		}
+
+		@Override
+		public int getLineNumber() {
+			return lineNumber;
+		}
+
+		@Override
+		public int getLineDocumentOffset() {
+			return lineDocumentOffset;
+		}
+
+		@Override
+		public int getDocumentOffset() {
+			return documentOffset;
+		}
+
+		@Override
+		public int getLineLength() {
+			return lineLength;
+		}
+
+		@Override
+		public int getLineCharacterOffset() {
+			return lineCharacterOffset;
+		}
+
+		@Override
+		public int getLineSegmentEndOffset() {
+			return lineSegmentEndOffset;
+		}
+	}
+
+	/**
+	 * The events of a single document, from its first event to {@link Kind#END_DOCUMENT} or {@link Kind#STOP}.
+	 */
+	private final class Session {
+
+		private final AtomicLong published = new AtomicLong(-1);
+
+		private final Consumer[] consumers;
+
+		private long next;
+
+		/**
+		 * The lowest sequence processed by all consumers when last read, which may be stale.
+		 */
+		private long processedByAll = -1;
+
+		Session() {
+			consumers = new Consumer[builders.size()];
+			for (int x = 0; x < consumers.length; ++x) {
+				consumers[x] = new Consumer(this, builders.get(x));
+			}
+		}
+
+		long minimumProcessed() {
+			long minimum = Long.MAX_VALUE;
+			for (Consumer consumer : consumers) {
+				minimum = Math.min(minimum, consumer.processed.get());
+			}
+			return minimum;
+		}
+
+		void awaitProcessed(long sequence) {
+			for (Consumer consumer : consumers) {
+				int tries = 0;
+				while (consumer.processed.get() < sequence) {
+					idle(tries++);
+				}
+			}
+		}
+
+		void rethrowFailure() {
+			for (Consumer consumer : consumers) {
+				Throwable failure = consumer.failure;
+				if (failure != null) {
+					Throwables.throwIfUnchecked(failure);
+					throw new RuntimeException(failure);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Drains the ring buffer into a single delegate.
+	 */
+	private final class Consumer implements Runnable {
+
+		private final Session session;
+
+		private final DocumentBuilder delegate;
+
+		private final EventLocator locator = new EventLocator();
+
+		private final AtomicLong processed = new AtomicLong(-1);
+
+		private volatile Throwable failure;
+
+		Consumer(Session session, DocumentBuilder delegate) {
+			this.session = session;
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void run() {
+			long next = 0;
+			int tries = 0;
+			for (;;) {
+				long available = session.published.get();
+				if (available < next) {
+					idle(tries++);
+					continue;
+				}
+				tries = 0;
+				for (; next <= available; ++next) {
+					Slot slot = slots[(int) next & mask];
+					Kind kind = slot.kind;
+					if (kind != Kind.STOP && failure == null) {
+						try {
+							dispatch(slot);
+						} catch (Throwable t) {
+							failure = t;
+						}
+					}
+					processed.lazySet(next);
+					if (kind == Kind.END_DOCUMENT || kind == Kind.STOP) {
+						return;
+					}
+				}
+			}
+		}
+
+		private void dispatch(Slot slot) {
+			if (slot.hasLocation) {
+				locator.update(slot);
+			}
+			switch (slot.kind) {
+			case ACRONYM:
+				delegate.acronym(slot.text, slot.text2);
+				break;
+			case BEGIN_BLOCK:
+				delegate.beginBlock(slot.blockType, slot.attributes);
+				break;
+			case BEGIN_DOCUMENT:
+				delegate.beginDocument();
+				break;
+			case BEGIN_HEADING:
+				delegate.beginHeading(slot.level, slot.attributes);
+				break;
+			case BEGIN_SPAN:
+				delegate.beginSpan(slot.spanType, slot.attributes);
+				break;
+			case CHARACTERS:
+				delegate.characters(slot.text);
+				break;
+			case CHARACTERS_UNESCAPED:
+				delegate.charactersUnescaped(slot.text);
+				break;
+			case END_BLOCK:
+				delegate.endBlock();
+				break;
+			case END_DOCUMENT:
+				delegate.endDocument();
+				break;
+			case END_HEADING:
+				delegate.endHeading();
+				break;
+			case END_SPAN:
+				delegate.endSpan();
+				break;
+			case ENTITY_REFERENCE:
+				delegate.entityReference(slot.text);
+				break;
+			case FLUSH:
+				delegate.flush();
+				break;
+			case HORIZONTAL_RULE:
+				delegate.horizontalRule();
+				break;
+			case IMAGE:
+				delegate.image(slot.attributes, slot.text);
+				break;
+			case IMAGE_LINK:
+				delegate.imageLink(slot.attributes, slot.imageAttributes, slot.text, slot.text2);
+				break;
+			case LINE_BREAK:
+				delegate.lineBreak();
+				break;
+			case LINK:
+				delegate.link(slot.attributes, slot.text, slot.text2);
+				break;
+			case SET_LOCATOR:
+				delegate.setLocator(slot.hasLocation ? locator : null);
+				break;
+			default:
+				throw new IllegalStateException(slot.kind.name());
+			}
+		}
+	}
+
+	private final List<DocumentBuilder> builders = new ArrayList<>();
+
+	private final Executor executor;
+
+	private final Slot[] slots;
+
+	private final int mask;
+
+	private Session session;
+
+	/**
+	 * Creates a builder that runs each delegate on a new daemon thread, with a buffer of 1024 events.
+	 *
+	 * @param delegates
+	 *            the builders to which events are dispatched
+	 */
+	public ConcurrentMultiplexingDocumentBuilder(DocumentBuilder... delegates) {
+		this(THREAD_PER_DELEGATE, DEFAULT_BUFFER_SIZE, delegates);
+	}
+
+	/**
+	 * Creates a builder that runs each delegate on the given executor.
+	 *
+	 * @param executor
+	 *            the executor, which must run each delegate on its own thread for as long as a document is being built,
+	 *            such as a cached thread pool or a virtual-thread executor
+	 * @param bufferSize
+	 *            the number of events that can be published before the slowest delegate has processed them, rounded
+	 *            up to a power of two
+	 * @param delegates
+	 *            the builders to which events are dispatched
+	 */
+	public ConcurrentMultiplexingDocumentBuilder(Executor executor, int bufferSize, DocumentBuilder... delegates) {
+		checkArgument(bufferSize > 0 && bufferSize <= 1 << 30, "bufferSize must be positive"); //$NON-NLS-1$
+		this.executor = requireNonNull(executor, "Must provide an executor"); //$NON-NLS-1$
+		int size = Integer.highestOneBit(bufferSize);
+		if (size < bufferSize) {
+			size <<= 1;
+		}
+		slots = new Slot[size];
+		for (int x = 0; x < size; ++x) {
+			slots[x] = new Slot();
+		}
+		mask = size - 1;
+		builders.addAll(Arrays.asList(delegates));
+	}
+
+	/**
+	 * Adds a delegate. Delegates cannot be added while a document is being built.
+	 */
+	public void addDocumentBuilder(DocumentBuilder delegate) {
+		checkState(session == null, "Cannot add a delegate while a document is being built"); //$NON-NLS-1$
+		builders.add(requireNonNull(delegate));
+	}
+
+	@Override
+	public void acronym(String text, String definition) {
+		Slot slot = claim(Kind.ACRONYM);
+		slot.text = text;
+		slot.text2 = definition;
+		publish();
+	}
+
+	@Override
+	public void beginBlock(BlockType type, Attributes attributes) {
+		Slot slot = claim(Kind.BEGIN_BLOCK);
+		slot.blockType = type;
+		slot.attributes = attributes;
+		publish();
+	}
+
+	@Override
+	public void beginDocument() {
+		claim(Kind.BEGIN_DOCUMENT);
+		publish();
+	}
+
+	@Override
+	public void beginHeading(int level, Attributes attributes) {
+		Slot slot = claim(Kind.BEGIN_HEADING);
+		slot.level = level;
+		slot.attributes = attributes;
+		publish();
+	}
+
+	@Override
+	public void beginSpan(SpanType type, Attributes attributes) {
+		Slot slot = claim(Kind.BEGIN_SPAN);
+		slot.spanType = type;
+		slot.attributes = attributes;
+		publish();
+	}
+
+	@Override
+	public void characters(String text) {
+		Slot slot = claim(Kind.CHARACTERS);
+		slot.text = text;
+		publish();
+	}
+
+	@Override
+	public void charactersUnescaped(String literal) {
+		Slot slot = claim(Kind.CHARACTERS_UNESCAPED);
+		slot.text = literal;
+		publish();
+	}
+
+	@Override
+	public void endBlock() {
+		claim(Kind.END_BLOCK);
+		publish();
+	}
+
+	/**
+	 * Ends the document, waiting until every delegate has ended it.
+	 */
+	@Override
+	public void endDocument() {
+		claim(Kind.END_DOCUMENT);
+		Session ended = session;
+		ended.awaitProcessed(publish());
+		session = null;
+		ended.rethrowFailure();
+	}
+
+	/**
+	 * Flushes the delegates, waiting until every delegate has processed all preceding events and has been flushed.
+	 */
+	@Override
+	public void flush() {
+		if (session == null) {
+			for (DocumentBuilder builder : builders) {
+				builder.flush();
+			}
+		} else {
+			claim(Kind.FLUSH);
+			session.awaitProcessed(publish());
+			session.rethrowFailure();
+		}
+	}
+
+	@Override
+	public void endHeading() {
+		claim(Kind.END_HEADING);
+		publish();
+	}
+
+	@Override
+	public void endSpan() {
+		claim(Kind.END_SPAN);
+		publish();
+	}
+
+	@Override
+	public void entityReference(String entity) {
+		Slot slot = claim(Kind.ENTITY_REFERENCE);
+		slot.text = entity;
+		publish();
+	}
+
+	@Override
+	public void image(Attributes attributes, String url) {
+		Slot slot = claim(Kind.IMAGE);
+		slot.attributes = attributes;
+		slot.text = url;
+		publish();
+	}
+
+	@Override
+	public void imageLink(Attributes linkAttributes, Attributes imageAttributes, String href, String imageUrl) {
+		Slot slot = claim(Kind.IMAGE_LINK);
+		slot.attributes = linkAttributes;
+		slot.imageAttributes = imageAttributes;
+		slot.text = href;
+		slot.text2 = imageUrl;
+		publish();
+	}
+
+	@Override
+	public void lineBreak() {
+		claim(Kind.LINE_BREAK);
+		publish();
+	}
+
+	@Override
+	public void horizontalRule() {
+		claim(Kind.HORIZONTAL_RULE);
+		publish();
+	}
+
+	@Override
+	public void link(Attributes attributes, String hrefOrHashName, String text) {
+		Slot slot = claim(Kind.LINK);
+		slot.attributes = attributes;
+		slot.text = hrefOrHashName;
+		slot.text2 = text;
+		publish();
+	}
+
+	/**
+	 * Returns {@code true} since attributes are passed to the delegates after the call that provides them has returned.
+	 */
+	@Override
+	public boolean retainsAttributes() {
+		return true;
+	}
+
+	@Override
+	public void setLocator(Locator locator) {
+		super.setLocator(locator);
+		if (session != null) {
+			claim(Kind.SET_LOCATOR);
+			publish();
+		} else if (locator == null) {
+			for (DocumentBuilder builder : builders) {
+				builder.setLocator(null);
+			}
+		}
+	}
+
+	/**
+	 * Ends the threads of the delegates if a document is being built, without ending the document. Has no effect
+	 * otherwise.
+	 */
+	@Override
+	public void close() {
+		if (session != null) {
+			claim(Kind.STOP);
+			Session stopped = session;
+			stopped.awaitProcessed(publish());
+			session = null;
+		}
+	}
+
+	private Slot claim(Kind kind) {
+		Session current = session;
+		if (current == null) {
+			current = start();
+		}
+		long wrapPoint = current.next - slots.length;
+		int tries = 0;
+		while (current.processedByAll < wrapPoint) {
+			current.processedByAll = current.minimumProcessed();
+			if (current.processedByAll < wrapPoint) {
+				idle(tries++);
+			}
+		}
+		Slot slot = slots[(int) current.next & mask];
+		slot.kind = kind;
+		Locator locator = getLocator();
+		slot.hasLocation = locator != null;
+		if (locator != null) {
+			slot.lineNumber = locator.getLineNumber();
+			slot.lineDocumentOffset = locator.getLineDocumentOffset();
+			slot.documentOffset = locator.getDocumentOffset();
+			slot.lineLength = locator.getLineLength();
+			slot.lineCharacterOffset = locator.getLineCharacterOffset();
+			slot.lineSegmentEndOffset = locator.getLineSegmentEndOffset();
+		}
+		return slot;
+	}
+
+	/**
+	 * Publishes the most recently claimed slot to the consumers.
+	 *
+	 * @return the sequence of the published slot
+	 */
+	private long publish() {
+		long sequence = session.next++;
+		session.published.lazySet(sequence);
+		return sequence;
+	}
+
+	private Session start() {
+		Session started = new Session();
+		session = started;
+		for (Consumer consumer : started.consumers) {
+			if (getLocator() != null) {
+				consumer.delegate.setLocator(consumer.locator);
+			}
+		}
+		int executed = 0;
+		try {
+			for (Consumer consumer : started.consumers) {
+				executor.execute(consumer);
+				++executed;
+			}
+		} catch (RuntimeException e) {
+			slots[0].kind = Kind.STOP;
+			started.published.set(0);
+			for (int x = 0; x < executed; ++x) {
+				int tries = 0;
+				while (started.consumers[x].processed.get() < 0) {
+					idle(tries++);
+				}
+			}
+			session = null;
+			throw e;
+		}
+		return started;
+	}
+
+	private static void idle(int tries) {
+		if (tries < SPIN_TRIES) {
+			Thread.onSpinWait();
+		} else if (tries < SPIN_TRIES + YIELD_TRIES) {
+			Thread.yield();
+		} else {
+			LockSupport.parkNanos(PARK_NANOS);
+		}
+	}
+}
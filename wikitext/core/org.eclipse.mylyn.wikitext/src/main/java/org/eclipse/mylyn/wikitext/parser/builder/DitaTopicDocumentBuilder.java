@@ -388,6 +388,7 @@ public class DitaTopicDocumentBuilder extends AbstractXmlDocumentBuilder {
 		case DELETED:
 			// no equivalent?
 			writer.writeStartElement("ph"); //$NON-NLS-1$
+			attributes = attributes.clone();
 			attributes
 					.setCssClass(attributes.getCssClass() == null ? "deleted" : attributes.getCssClass() + " deleted"); //$NON-NLS-1$ //$NON-NLS-2$
 			break;
@@ -397,6 +398,7 @@ public class DitaTopicDocumentBuilder extends AbstractXmlDocumentBuilder {
 		case INSERTED:
 			// no equivalent?
 			writer.writeStartElement("ph"); //$NON-NLS-1$
+			attributes = attributes.clone();
 			attributes.setCssClass(attributes.getCssClass() == null
 					? "inserted" //$NON-NLS-1$
 					: attributes.getCssClass() + " inserted"); //$NON-NLS-1$
@@ -12,7 +12,9 @@
  *******************************************************************************/
 package org.eclipse.mylyn.wikitext.parser.builder;
 
+import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -29,6 +31,7 @@ import org.eclipse.mylyn.wikitext.parser.LinkAttributes;
 import org.eclipse.mylyn.wikitext.parser.css.CssParser;
 import org.eclipse.mylyn.wikitext.parser.css.CssRule;
 import org.eclipse.mylyn.wikitext.parser.util.MarkupToDocbook;
+import org.eclipse.mylyn.wikitext.util.BufferedXmlStreamWriter;
 import org.eclipse.mylyn.wikitext.util.FormattingXMLStreamWriter;
 import org.eclipse.mylyn.wikitext.util.XmlStreamWriter;
 
@@ -81,6 +84,26 @@ public class DocBookDocumentBuilder extends AbstractXmlDocumentBuilder {
 		super(writer);
 	}
 
+	/**
+	 * Creates a builder that encodes content as UTF-8 to the given stream through a {@link BufferedXmlStreamWriter}.
+	 * The stream is not closed by the builder.
+	 *
+	 * @since 3.0.49
+	 */
+	public DocBookDocumentBuilder(OutputStream out) {
+		this(new BufferedXmlStreamWriter(out));
+	}
+
+	/**
+	 * Creates a builder that encodes content as UTF-8 to the given channel through a {@link BufferedXmlStreamWriter}.
+	 * The channel is not closed by the builder.
+	 *
+	 * @since 3.0.49
+	 */
+	public DocBookDocumentBuilder(WritableByteChannel out) {
+		this(new BufferedXmlStreamWriter(out));
+	}
+
 	protected XmlStreamWriter createFormattingXmlStreamWriter(Writer out) {
 		XmlStreamWriter writer = super.createXmlStreamWriter(out);
 		return new FormattingXMLStreamWriter(writer) {
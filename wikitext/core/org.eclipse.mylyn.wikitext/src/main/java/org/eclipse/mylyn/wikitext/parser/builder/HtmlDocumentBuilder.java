@@ -17,13 +17,14 @@ package org.eclipse.mylyn.wikitext.parser.builder;
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Map.entry;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -43,6 +44,7 @@ import org.eclipse.mylyn.wikitext.parser.QuoteAttributes;
 import org.eclipse.mylyn.wikitext.parser.TableAttributes;
 import org.eclipse.mylyn.wikitext.parser.TableCellAttributes;
 import org.eclipse.mylyn.wikitext.parser.TableRowAttributes;
+import org.eclipse.mylyn.wikitext.util.BufferedXmlStreamWriter;
 import org.eclipse.mylyn.wikitext.util.DefaultXmlStreamWriter;
 import org.eclipse.mylyn.wikitext.util.FormattingXMLStreamWriter;
 import org.eclipse.mylyn.wikitext.util.XmlStreamWriter;
@@ -110,6 +112,25 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 					"border: 1px solid #ccc;background-color: #FFFFCE;margin: 10px;padding: 0px 6px 0px 6px;")) //$NON-NLS-1$
 	);
 
+	/**
+	 * Indicates whether a subclass uses the default {@link #getReader(File)}, so that the content of stylesheet files
+	 * can be shared through the {@link StylesheetContentCache}.
+	 */
+	private static final ClassValue<Boolean> USES_DEFAULT_READER = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			for (Class<?> c = type; c != HtmlDocumentBuilder.class; c = c.getSuperclass()) {
+				try {
+					c.getDeclaredMethod("getReader", File.class); //$NON-NLS-1$
+					return false;
+				} catch (NoSuchMethodException e) {
+					// not overridden by this class
+				}
+			}
+			return true;
+		}
+	};
+
 	private Map<SpanType, String> spanTypeToElementName = Map.copyOf(defaultSpanTypeToElementName);
 
 	private String htmlNsUri = "http://www.w3.org/1999/xhtml"; //$NON-NLS-1$
@@ -182,6 +203,71 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 		super(writer);
 	}
 
+	/**
+	 * construct the HtmlDocumentBuilder.
+	 *
+	 * @param writer
+	 *            the writer to which content is written
+	 * @param formatting
+	 *            indicate if the output should be formatted
+	 * @since 3.0.49
+	 */
+	public HtmlDocumentBuilder(XmlStreamWriter writer, boolean formatting) {
+		super(formatting ? createFormattingXmlStreamWriter(writer) : writer);
+	}
+
+	/**
+	 * construct the HtmlDocumentBuilder, encoding content as UTF-8 through a {@link BufferedXmlStreamWriter}. The
+	 * stream is not closed by the builder.
+	 *
+	 * @param out
+	 *            the stream to which content is written
+	 * @since 3.0.49
+	 */
+	public HtmlDocumentBuilder(OutputStream out) {
+		this(out, false);
+	}
+
+	/**
+	 * construct the HtmlDocumentBuilder, encoding content as UTF-8 through a {@link BufferedXmlStreamWriter}. The
+	 * stream is not closed by the builder.
+	 *
+	 * @param out
+	 *            the stream to which content is written
+	 * @param formatting
+	 *            indicate if the output should be formatted
+	 * @since 3.0.49
+	 */
+	public HtmlDocumentBuilder(OutputStream out, boolean formatting) {
+		this(new BufferedXmlStreamWriter(out), formatting);
+	}
+
+	/**
+	 * construct the HtmlDocumentBuilder, encoding content as UTF-8 through a {@link BufferedXmlStreamWriter}. The
+	 * channel is not closed by the builder.
+	 *
+	 * @param out
+	 *            the channel to which content is written
+	 * @since 3.0.49
+	 */
+	public HtmlDocumentBuilder(WritableByteChannel out) {
+		this(out, false);
+	}
+
+	/**
+	 * construct the HtmlDocumentBuilder, encoding content as UTF-8 through a {@link BufferedXmlStreamWriter}. The
+	 * channel is not closed by the builder.
+	 *
+	 * @param out
+	 *            the channel to which content is written
+	 * @param formatting
+	 *            indicate if the output should be formatted
+	 * @since 3.0.49
+	 */
+	public HtmlDocumentBuilder(WritableByteChannel out, boolean formatting) {
+		this(new BufferedXmlStreamWriter(out), formatting);
+	}
+
 	/**
 	 * Copy the configuration of this builder to the provided one. After calling this method the configuration of the
 	 * other builder should be the same as this one, including stylesheets. Subclasses that have configurable settings
@@ -230,7 +316,17 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 	}
 
 	protected static XmlStreamWriter createFormattingXmlStreamWriter(Writer out) {
-		return new FormattingXMLStreamWriter(new DefaultXmlStreamWriter(out)) {
+		return createFormattingXmlStreamWriter(new DefaultXmlStreamWriter(out));
+	}
+
+	/**
+	 * Wraps the given writer so that output is formatted, preserving whitespace within {@code pre} and {@code code}
+	 * elements.
+	 *
+	 * @since 3.0.49
+	 */
+	protected static XmlStreamWriter createFormattingXmlStreamWriter(XmlStreamWriter writer) {
+		return new FormattingXMLStreamWriter(writer) {
 			@Override
 			protected boolean preserveWhitespace(String elementName) {
 				return elementName.equals("pre") || elementName.equals("code"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -447,7 +543,8 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 
 	/**
 	 * Add a CSS stylesheet to the output document. Calling this method after {@link #beginDocument() starting the
-	 * document} has no effect.
+	 * document} has no effect. The content of an embedded stylesheet file may be shared with other builders, as
+	 * described by {@link #getReader(File)}.
 	 */
 	public void addCssStylesheet(Stylesheet stylesheet) {
 		if (stylesheet.file != null) {
@@ -650,8 +747,7 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 				ElementInfo elementInfo = ent.getValue();
 				while (elementInfo != null) {
 					if (elementInfo.cssStyles != null && elementInfo.cssClass != null) {
-						String[] classes = elementInfo.cssClass.split("\\s+"); //$NON-NLS-1$
-						for (String cssClass : classes) {
+						for (String cssClass : elementInfo.cssClassTokens) {
 							writer.writeCharacters("."); //$NON-NLS-1$
 							writer.writeCharacters(cssClass);
 							writer.writeCharacters(" "); //$NON-NLS-1$
@@ -698,22 +794,29 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 				}
 			}
 
-			String css;
+			StylesheetContentCache.Content content;
 			if (stylesheet.file != null) {
 				try {
-					css = readFully(stylesheet.file);
+					content = USES_DEFAULT_READER.get(getClass())
+							? StylesheetContentCache.INSTANCE.get(stylesheet.file, () -> readFully(stylesheet.file))
+							: new StylesheetContentCache.Content(readFully(stylesheet.file));
 				} catch (IOException e) {
 					throw new IllegalStateException(MessageFormat.format(Messages.getString("HtmlDocumentBuilder.4"), //$NON-NLS-1$
 							stylesheet.file), e);
 				}
 			} else {
 				try {
-					css = readFully(stylesheet.reader, 1024);
+					content = stylesheet.getContent(this);
 				} catch (IOException e) {
 					throw new IllegalStateException(Messages.getString("HtmlDocumentBuilder.5"), e); //$NON-NLS-1$
 				}
 			}
-			writer.writeCharacters(css);
+			Class<?> writerClass = writer.getClass();
+			if (writerClass == DefaultXmlStreamWriter.class || writerClass == BufferedXmlStreamWriter.class) {
+				writer.writeLiteral(content.getEscapedCss());
+			} else {
+				writer.writeCharacters(content.getCss());
+			}
 			writer.writeEndElement();
 		}
 	}
@@ -772,6 +875,15 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 		writer.writeEndElement();
 	}
 
+	/**
+	 * Returns {@code false} since attributes are written as each element is started. Subclasses may retain or modify
+	 * attributes, so they are assumed to do so unless they override this method.
+	 */
+	@Override
+	public boolean retainsAttributes() {
+		return getClass() != HtmlDocumentBuilder.class;
+	}
+
 	@Override
 	public void link(Attributes attributes, String hrefOrHashName, String text) {
 		writer.writeStartElement(htmlNsUri, spanTypeToElementName.get(SpanType.LINK));
@@ -787,7 +899,7 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 		if (elementInfo == null) {
 			throw new IllegalStateException(type.name());
 		}
-		writeBlockElements(attributes, elementInfo);
+		attributes = writeBlockElements(attributes, elementInfo);
 		blockState.push(elementInfo);
 		if (type == BlockType.TABLE) {
 			applyTableAttributes(attributes);
@@ -804,8 +916,8 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 
 			// create the titled panel effect if a title is specified
 			if (attributes.getTitle() != null) {
-				beginBlock(BlockType.PARAGRAPH, new Attributes());
-				beginSpan(SpanType.BOLD, new Attributes());
+				beginBlock(BlockType.PARAGRAPH, emptyAttributes());
+				beginSpan(SpanType.BOLD, emptyAttributes());
 				characters(attributes.getTitle());
 				endSpan();
 				endBlock();
@@ -813,13 +925,21 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 		}
 	}
 
-	private void writeBlockElements(Attributes attributes, ElementInfo elementInfo) {
+	/**
+	 * Writes the start of the elements of a block, providing the attributes to apply to the innermost element. The
+	 * given attributes are copied rather than modified if the element adds classes or styles.
+	 */
+	private Attributes writeBlockElements(Attributes attributes, ElementInfo elementInfo) {
 		writer.writeStartElement(htmlNsUri, elementInfo.name);
 		String originalCssClasses = attributes.getCssClass();
+		boolean appendCssStyles = useInlineStyles && !suppressBuiltInStyles && elementInfo.cssStyles != null;
+		if (elementInfo.cssClass != null || appendCssStyles) {
+			attributes = attributes.clone();
+		}
 		if (elementInfo.cssClass != null) {
 			attributes.appendCssClass(elementInfo.cssClass);
 		}
-		if (useInlineStyles && !suppressBuiltInStyles && elementInfo.cssStyles != null) {
+		if (appendCssStyles) {
 			attributes.appendCssStyle(elementInfo.cssStyles);
 		}
 		if (elementInfo.next != null) {
@@ -831,6 +951,7 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 			childAttributes.setCssClass(originalCssClasses);
 			writeBlockElements(childAttributes, elementInfo.next);
 		}
+		return attributes;
 	}
 
 	@Override
@@ -998,7 +1119,7 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 			align = imageAttributes.getAlign();
 		}
 		if (xhtmlStrict) {
-			String borderStyle = String.format("border-width: %spx;", border); //$NON-NLS-1$
+			String borderStyle = "border-width: " + border + "px;"; //$NON-NLS-1$ //$NON-NLS-2$
 			String alignStyle = null;
 			if (align != null) {
 				switch (align) {
@@ -1028,6 +1149,7 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 			if (alignStyle != null) {
 				additionalStyles += alignStyle;
 			}
+			attributes = attributes.clone();
 			if (attributes.getCssStyle() == null || attributes.getCssStyle().length() == 0) {
 				attributes.setCssStyle(additionalStyles);
 			} else {
@@ -1273,6 +1395,8 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 
 		final String cssClass;
 
+		final String[] cssClassTokens;
+
 		final String cssStyles;
 
 		final ElementInfo next;
@@ -1284,6 +1408,7 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 		public ElementInfo(String name, String cssClass, String cssStyles, ElementInfo next) {
 			this.name = name;
 			this.cssClass = cssClass;
+			this.cssClassTokens = cssClass == null ? null : cssClass.split("\\s+"); //$NON-NLS-1$
 			this.cssStyles = cssStyles != null && !cssStyles.endsWith(";") ? cssStyles + ';' : cssStyles; //$NON-NLS-1$
 			this.next = next;
 		}
@@ -1310,6 +1435,8 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 
 		private final Map<String, String> attributes = new HashMap<>();
 
+		private StylesheetContentCache.Content content;
+
 		/**
 		 * Create a CSS stylesheet where the contents of the CSS stylesheet are embedded in the HTML. Generates code
 		 * similar to the following:
@@ -1409,6 +1536,17 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 		public Reader getReader() {
 			return reader;
 		}
+
+		/**
+		 * Provides the content of the {@link #getReader() reader}, which is read once so that the stylesheet can be
+		 * emitted in more than one document.
+		 */
+		private synchronized StylesheetContentCache.Content getContent(HtmlDocumentBuilder builder) throws IOException {
+			if (content == null) {
+				content = new StylesheetContentCache.Content(builder.readFully(reader, 1024));
+			}
+			return content;
+		}
 	}
 
 	private String readFully(File inputFile) throws IOException {
@@ -1421,15 +1559,30 @@ public class HtmlDocumentBuilder extends AbstractXmlDocumentBuilder {
 
 	private String readFully(Reader input, int bufferSize) throws IOException {
 		StringBuilder buf = new StringBuilder(bufferSize);
-		try (Reader reader = new BufferedReader(input)) {
-			int c;
-			while ((c = reader.read()) != -1) {
-				buf.append((char) c);
+		try (Reader reader = input) {
+			char[] chars = new char[Math.min(bufferSize, 8192)];
+			int length;
+			while ((length = reader.read(chars)) != -1) {
+				buf.append(chars, 0, length);
 			}
 		}
 		return buf.toString();
 	}
 
+	/**
+	 * Provides a reader for the content of an embedded stylesheet file.
+	 * <p>
+	 * If this method is not overridden, the content of a file is cached and shared with all other builders that do not
+	 * override this method, and is read again only when the path, modification time or length of the file changes. If
+	 * this method is overridden, it is called each time the stylesheet is embedded and its content is not shared.
+	 * </p>
+	 *
+	 * @param inputFile
+	 *            the stylesheet file
+	 * @return a reader for the content of the file
+	 * @throws FileNotFoundException
+	 *             if the file cannot be read
+	 */
 	protected Reader getReader(File inputFile) throws FileNotFoundException {
 		return new FileReader(inputFile);
 	}
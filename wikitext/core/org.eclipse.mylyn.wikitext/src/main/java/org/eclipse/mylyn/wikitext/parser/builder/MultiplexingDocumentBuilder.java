@@ -23,6 +23,7 @@ import org.eclipse.mylyn.wikitext.parser.Locator;
 /**
  * A document builder that dispatches events to one or more delegates.
  *
+ * @see ConcurrentMultiplexingDocumentBuilder
  * @author David Green
  * @since 3.0
  */
@@ -38,6 +39,19 @@ public class MultiplexingDocumentBuilder extends DocumentBuilder {
 		builders.add(delegate);
 	}
 
+	/**
+	 * Returns {@code true} if any of the delegates retain attributes.
+	 */
+	@Override
+	public boolean retainsAttributes() {
+		for (DocumentBuilder builder : builders) {
+			if (builder.retainsAttributes()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public void acronym(String text, String definition) {
 		for (DocumentBuilder builder : builders) {
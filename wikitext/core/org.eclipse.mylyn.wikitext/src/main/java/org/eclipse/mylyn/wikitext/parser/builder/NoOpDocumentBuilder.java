@@ -121,4 +121,12 @@ public class NoOpDocumentBuilder extends DocumentBuilder {
 
 	}
 
+	/**
+	 * Returns {@code false} since attributes are ignored. Subclasses may retain or modify attributes, so they are
+	 * assumed to do so unless they override this method.
+	 */
+	@Override
+	public boolean retainsAttributes() {
+		return getClass() != NoOpDocumentBuilder.class;
+	}
 }
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.builder;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.mylyn.wikitext.util.BufferedXmlStreamWriter;
+import org.eclipse.mylyn.wikitext.util.DefaultXmlStreamWriter;
+
+import com.google.common.xml.XmlEscapers;
+
+/**
+ * A bounded cache of the content of stylesheet files that are embedded in HTML documents, shared by all
+ * {@link HtmlDocumentBuilder HtmlDocumentBuilders} that do not override {@link HtmlDocumentBuilder#getReader(File)}.
+ * Entries are keyed by the absolute path, modification time and
+ * length of the file, so that a modified file is read again. Files that are larger than {@link #MAXIMUM_LENGTH} or that
+ * have no modification time, such as those that do not exist, are never cached. Thread-safe.
+ */
+final class StylesheetContentCache {
+
+	static final StylesheetContentCache INSTANCE = new StylesheetContentCache(32);
+
+	/**
+	 * The maximum length of a file in bytes for its content to be cached.
+	 */
+	private static final long MAXIMUM_LENGTH = 1024 * 1024;
+
+	@FunctionalInterface
+	interface Loader {
+		String load() throws IOException;
+	}
+
+	/**
+	 * The content of a stylesheet, with its XML-escaped form computed on first use.
+	 */
+	static final class Content {
+
+		private final String css;
+
+		private volatile String escapedCss;
+
+		Content(String css) {
+			this.css = requireNonNull(css);
+		}
+
+		String getCss() {
+			return css;
+		}
+
+		/**
+		 * Provides the content escaped as XML character data, as the {@link DefaultXmlStreamWriter} and
+		 * {@link BufferedXmlStreamWriter} escape it.
+		 */
+		String getEscapedCss() {
+			String escaped = escapedCss;
+			if (escaped == null) {
+				escaped = XmlEscapers.xmlContentEscaper().escape(css);
+				escapedCss = escaped;
+			}
+			return escaped;
+		}
+	}
+
+	private static final class Key {
+
+		private final String path;
+
+		private final long lastModified;
+
+		private final long length;
+
+		private Key(File file) {
+			this.path = file.getAbsolutePath();
+			this.lastModified = file.lastModified();
+			this.length = file.length();
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(path, lastModified, length);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return path.equals(other.path) && lastModified == other.lastModified && length == other.length;
+		}
+	}
+
+	private final Map<Key, Content> contentByKey;
+
+	StylesheetContentCache(int maximumSize) {
+		contentByKey = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Content> eldest) {
+				return size() > maximumSize;
+			}
+		};
+	}
+
+	/**
+	 * Provides the content of the given file, using the loader to read it if it is not already cached. The loader is
+	 * called without holding a lock, so concurrent requests for the same uncached file may each read it.
+	 */
+	Content get(File file, Loader loader) throws IOException {
+		Key key = new Key(file);
+		if (key.lastModified == 0 || key.length > MAXIMUM_LENGTH) {
+			return new Content(loader.load());
+		}
+		synchronized (contentByKey) {
+			Content content = contentByKey.get(key);
+			if (content != null) {
+				return content;
+			}
+		}
+		Content content = new Content(loader.load());
+		synchronized (contentByKey) {
+			contentByKey.put(key, content);
+		}
+		return content;
+	}
+
+	void clear() {
+		synchronized (contentByKey) {
+			contentByKey.clear();
+		}
+	}
+
+	int size() {
+		synchronized (contentByKey) {
+			return contentByKey.size();
+		}
+	}
+}
@@ -14,7 +14,9 @@
 
 package org.eclipse.mylyn.wikitext.parser.builder;
 
+import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -34,6 +36,7 @@ import org.eclipse.mylyn.wikitext.parser.TableRowAttributes;
 import org.eclipse.mylyn.wikitext.parser.css.CssParser;
 import org.eclipse.mylyn.wikitext.parser.css.CssRule;
 import org.eclipse.mylyn.wikitext.parser.outline.OutlineItem;
+import org.eclipse.mylyn.wikitext.util.BufferedXmlStreamWriter;
 import org.eclipse.mylyn.wikitext.util.XmlStreamWriter;
 
 /**
@@ -119,6 +122,26 @@ public class XslfoDocumentBuilder extends AbstractXmlDocumentBuilder {
 		super(writer);
 	}
 
+	/**
+	 * Creates a builder that encodes content as UTF-8 to the given stream through a {@link BufferedXmlStreamWriter}.
+	 * The stream is not closed by the builder.
+	 *
+	 * @since 3.0.49
+	 */
+	public XslfoDocumentBuilder(OutputStream out) {
+		this(new BufferedXmlStreamWriter(out));
+	}
+
+	/**
+	 * Creates a builder that encodes content as UTF-8 to the given channel through a {@link BufferedXmlStreamWriter}.
+	 * The channel is not closed by the builder.
+	 *
+	 * @since 3.0.49
+	 */
+	public XslfoDocumentBuilder(WritableByteChannel out) {
+		this(new BufferedXmlStreamWriter(out));
+	}
+
 	@Override
 	public void acronym(String text, String definition) {
 		characters(text);
@@ -0,0 +1,459 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.builder.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.text.MessageFormat.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import org.eclipse.mylyn.wikitext.parser.Attributes;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.BlockType;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.SpanType;
+import org.eclipse.mylyn.wikitext.parser.HeadingAttributes;
+import org.eclipse.mylyn.wikitext.parser.ImageAttributes;
+import org.eclipse.mylyn.wikitext.parser.ImageAttributes.Align;
+import org.eclipse.mylyn.wikitext.parser.LinkAttributes;
+import org.eclipse.mylyn.wikitext.parser.ListAttributes;
+import org.eclipse.mylyn.wikitext.parser.QuoteAttributes;
+import org.eclipse.mylyn.wikitext.parser.TableAttributes;
+import org.eclipse.mylyn.wikitext.parser.TableCellAttributes;
+import org.eclipse.mylyn.wikitext.parser.TableRowAttributes;
+import org.eclipse.mylyn.wikitext.parser.builder.EventDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.builder.NoOpDocumentBuilder;
+
+/**
+ * A compact binary encoding of the calls made on a {@link DocumentBuilder}, suitable for storing the result of parsing
+ * markup so that it can later be {@link #applyTo(DocumentBuilder) replayed} into any builder without parsing it again.
+ * Instances are produced by a {@link BinaryEventDocumentBuilder} and are immutable and thread-safe.
+ * <p>
+ * The encoding consists of a header, a pool of characters, a table of strings and the events. Integers are encoded as
+ * variable-length quantities of 7 bits per byte. Strings that are likely to be repeated, such as attribute values, CSS
+ * classes and styles, URLs and the names of block and span types, are interned in the string table, which holds their
+ * location in the character pool. Text is not interned: events refer to it by its location in the character pool.
+ * </p>
+ *
+ * @see BinaryEventDocumentBuilder
+ * @see DocumentBuilderEvents
+ * @since 3.0.49
+ */
+public final class BinaryDocumentBuilderEvents {
+
+	static final byte[] MAGIC = { 'W', 'T', 'E', 'V' };
+
+	static final int VERSION = 1;
+
+	static final int BEGIN_DOCUMENT = 1;
+
+	static final int END_DOCUMENT = 2;
+
+	static final int BEGIN_BLOCK = 3;
+
+	static final int END_BLOCK = 4;
+
+	static final int BEGIN_SPAN = 5;
+
+	static final int END_SPAN = 6;
+
+	static final int BEGIN_HEADING = 7;
+
+	static final int END_HEADING = 8;
+
+	static final int CHARACTERS = 9;
+
+	static final int CHARACTERS_UNESCAPED = 10;
+
+	static final int ENTITY_REFERENCE = 11;
+
+	static final int IMAGE = 12;
+
+	static final int LINK = 13;
+
+	static final int IMAGE_LINK = 14;
+
+	static final int ACRONYM = 15;
+
+	static final int LINE_BREAK = 16;
+
+	static final int HORIZONTAL_RULE = 17;
+
+	static final int NO_ATTRIBUTES = 0;
+
+	static final int ATTRIBUTES = 1;
+
+	static final int HEADING_ATTRIBUTES = 2;
+
+	static final int IMAGE_ATTRIBUTES = 3;
+
+	static final int LINK_ATTRIBUTES = 4;
+
+	static final int LIST_ATTRIBUTES = 5;
+
+	static final int QUOTE_ATTRIBUTES = 6;
+
+	static final int TABLE_ATTRIBUTES = 7;
+
+	static final int TABLE_ROW_ATTRIBUTES = 8;
+
+	static final int TABLE_CELL_ATTRIBUTES = 9;
+
+	private final byte[] bytes;
+
+	private final String charPool;
+
+	private final String[] strings;
+
+	private final int eventsOffset;
+
+	BinaryDocumentBuilderEvents(byte[] bytes) {
+		this.bytes = bytes;
+		Input input = new Input(0);
+		for (byte b : MAGIC) {
+			checkArgument(input.readByte() == b, "Not an encoding of document builder events"); //$NON-NLS-1$
+		}
+		int version = input.readVarint();
+		checkArgument(version == VERSION, "Unsupported version %s", version); //$NON-NLS-1$
+
+		int poolLength = input.readVarint();
+		checkArgument(poolLength <= bytes.length, "Invalid char pool length"); //$NON-NLS-1$
+		char[] pool = new char[poolLength];
+		for (int x = 0; x < poolLength; ++x) {
+			pool[x] = (char) input.readVarint();
+		}
+		charPool = new String(pool);
+
+		int stringCount = input.readVarint();
+		checkArgument(stringCount <= bytes.length, "Invalid string count"); //$NON-NLS-1$
+		strings = new String[stringCount];
+		int stringPoolEnd = 0;
+		for (int x = 0; x < stringCount; ++x) {
+			int offset = stringPoolEnd + input.readVarint();
+			stringPoolEnd = offset + input.readVarint();
+			strings[x] = poolSubstring(offset, stringPoolEnd);
+		}
+
+		int eventsLength = input.readVarint();
+		checkArgument(eventsLength == bytes.length - input.position, "Invalid events length"); //$NON-NLS-1$
+		eventsOffset = input.position;
+	}
+
+	/**
+	 * Creates events from their binary encoding as provided by {@link #toByteArray()}. The encoding is verified by
+	 * decoding all of the events.
+	 *
+	 * @param bytes
+	 *            the encoded events
+	 * @return the events
+	 * @throws IllegalArgumentException
+	 *             if the bytes are not a valid encoding of events
+	 */
+	public static BinaryDocumentBuilderEvents fromByteArray(byte[] bytes) {
+		requireNonNull(bytes, "Must provide bytes"); //$NON-NLS-1$
+		BinaryDocumentBuilderEvents events = new BinaryDocumentBuilderEvents(bytes.clone());
+		events.applyTo(new NoOpDocumentBuilder());
+		return events;
+	}
+
+	/**
+	 * Creates the binary encoding of the given events.
+	 *
+	 * @param events
+	 *            the events to encode
+	 * @return the encoded events
+	 */
+	public static BinaryDocumentBuilderEvents of(DocumentBuilderEvents events) {
+		requireNonNull(events, "Must provide events"); //$NON-NLS-1$
+		BinaryEventDocumentBuilder builder = new BinaryEventDocumentBuilder();
+		events.applyTo(builder);
+		return builder.getBinaryDocumentBuilderEvents();
+	}
+
+	/**
+	 * Provides a copy of the binary encoding of these events.
+	 *
+	 * @return the encoded events
+	 */
+	public byte[] toByteArray() {
+		return bytes.clone();
+	}
+
+	/**
+	 * Writes the binary encoding of these events to the given stream.
+	 *
+	 * @param out
+	 *            the stream to write to
+	 * @throws IOException
+	 *             if the stream cannot be written
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		out.write(bytes);
+	}
+
+	/**
+	 * Provides these events as {@link DocumentBuilderEvents}.
+	 *
+	 * @return the events
+	 */
+	public DocumentBuilderEvents toDocumentBuilderEvents() {
+		EventDocumentBuilder builder = new EventDocumentBuilder();
+		applyTo(builder);
+		return builder.getDocumentBuilderEvents();
+	}
+
+	/**
+	 * Invokes the events on the given {@code builder}. New attributes are created for each event, so that the builder
+	 * may retain or modify them.
+	 *
+	 * @param builder
+	 *            the builder
+	 * @throws IllegalArgumentException
+	 *             if the encoding is not valid
+	 */
+	public void applyTo(DocumentBuilder builder) {
+		requireNonNull(builder, "Must provide a builder"); //$NON-NLS-1$
+		Input input = new Input(eventsOffset);
+		while (input.position < bytes.length) {
+			int opcode = input.readVarint();
+			switch (opcode) {
+			case BEGIN_DOCUMENT:
+				builder.beginDocument();
+				break;
+			case END_DOCUMENT:
+				builder.endDocument();
+				break;
+			case BEGIN_BLOCK:
+				builder.beginBlock(input.readEnum(BlockType.class), input.readAttributes());
+				break;
+			case END_BLOCK:
+				builder.endBlock();
+				break;
+			case BEGIN_SPAN:
+				builder.beginSpan(input.readEnum(SpanType.class), input.readAttributes());
+				break;
+			case END_SPAN:
+				builder.endSpan();
+				break;
+			case BEGIN_HEADING:
+				builder.beginHeading(input.readVarint(), input.readAttributes());
+				break;
+			case END_HEADING:
+				builder.endHeading();
+				break;
+			case CHARACTERS:
+				builder.characters(input.readText());
+				break;
+			case CHARACTERS_UNESCAPED:
+				builder.charactersUnescaped(input.readText());
+				break;
+			case ENTITY_REFERENCE:
+				builder.entityReference(input.readString());
+				break;
+			case IMAGE:
+				builder.image(input.readAttributes(), input.readString());
+				break;
+			case LINK:
+				builder.link(input.readAttributes(), input.readString(), input.readString());
+				break;
+			case IMAGE_LINK:
+				builder.imageLink(input.readAttributes(), input.readAttributes(), input.readString(),
+						input.readString());
+				break;
+			case ACRONYM:
+				builder.acronym(input.readString(), input.readString());
+				break;
+			case LINE_BREAK:
+				builder.lineBreak();
+				break;
+			case HORIZONTAL_RULE:
+				builder.horizontalRule();
+				break;
+			default:
+				throw new IllegalArgumentException(format("Unexpected opcode {0}", opcode)); //$NON-NLS-1$
+			}
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(bytes);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof BinaryDocumentBuilderEvents)) {
+			return false;
+		}
+		return Arrays.equals(bytes, ((BinaryDocumentBuilderEvents) obj).bytes);
+	}
+
+	@Override
+	public String toString() {
+		return format("BinaryDocumentBuilderEvents [bytes={0}, strings={1}]", bytes.length, strings.length); //$NON-NLS-1$
+	}
+
+	private String poolSubstring(int start, int end) {
+		checkArgument(start >= 0 && start <= end && end <= charPool.length(), "Invalid char pool reference"); //$NON-NLS-1$
+		return charPool.substring(start, end);
+	}
+
+	private final class Input {
+
+		private int position;
+
+		private int textPoolEnd;
+
+		private Input(int position) {
+			this.position = position;
+		}
+
+		private byte readByte() {
+			checkArgument(position < bytes.length, "Unexpected end of encoding"); //$NON-NLS-1$
+			return bytes[position++];
+		}
+
+		private int readVarint() {
+			int value = 0;
+			for (int shift = 0; shift < 32; shift += 7) {
+				byte b = readByte();
+				value |= (b & 0x7F) << shift;
+				if (b >= 0) {
+					return value;
+				}
+			}
+			throw new IllegalArgumentException("Invalid variable-length integer"); //$NON-NLS-1$
+		}
+
+		private int readSignedVarint() {
+			int value = readVarint();
+			return (value >>> 1) ^ -(value & 1);
+		}
+
+		private String readString() {
+			int reference = readVarint();
+			if (reference == 0) {
+				return null;
+			}
+			checkArgument(reference <= strings.length, "Invalid string reference"); //$NON-NLS-1$
+			return strings[reference - 1];
+		}
+
+		private String readText() {
+			int length = readVarint();
+			if (length == 0) {
+				return null;
+			}
+			int offset = textPoolEnd + readVarint();
+			textPoolEnd = offset + length - 1;
+			return poolSubstring(offset, textPoolEnd);
+		}
+
+		private <T extends Enum<T>> T readEnum(Class<T> type) {
+			String name = readString();
+			checkArgument(name != null, "Missing %s", type.getSimpleName()); //$NON-NLS-1$
+			return Enum.valueOf(type, name);
+		}
+
+		private Attributes readAttributes() {
+			int kind = readVarint();
+			switch (kind) {
+			case NO_ATTRIBUTES:
+				return null;
+			case ATTRIBUTES:
+				return readCommonAttributes(new Attributes());
+			case HEADING_ATTRIBUTES: {
+				HeadingAttributes attributes = readCommonAttributes(new HeadingAttributes());
+				attributes.setOmitFromTableOfContents(readVarint() != 0);
+				return attributes;
+			}
+			case IMAGE_ATTRIBUTES: {
+				ImageAttributes attributes = readCommonAttributes(new ImageAttributes());
+				attributes.setWidth(readSignedVarint());
+				attributes.setHeight(readSignedVarint());
+				int flags = readVarint();
+				attributes.setWidthPercentage((flags & 1) != 0);
+				attributes.setHeightPercentage((flags & 2) != 0);
+				attributes.setBorder(readSignedVarint());
+				String align = readString();
+				attributes.setAlign(align == null ? null : Align.valueOf(align));
+				attributes.setAlt(readString());
+				return attributes;
+			}
+			case LINK_ATTRIBUTES: {
+				LinkAttributes attributes = readCommonAttributes(new LinkAttributes());
+				attributes.setTarget(readString());
+				attributes.setRel(readString());
+				attributes.setHref(readString());
+				return attributes;
+			}
+			case LIST_ATTRIBUTES: {
+				ListAttributes attributes = readCommonAttributes(new ListAttributes());
+				attributes.setStart(readString());
+				return attributes;
+			}
+			case QUOTE_ATTRIBUTES: {
+				QuoteAttributes attributes = readCommonAttributes(new QuoteAttributes());
+				attributes.setCitation(readString());
+				return attributes;
+			}
+			case TABLE_ATTRIBUTES: {
+				TableAttributes attributes = readCommonAttributes(new TableAttributes());
+				attributes.setBorder(readString());
+				attributes.setAlign(readString());
+				attributes.setSummary(readString());
+				attributes.setWidth(readString());
+				attributes.setFrame(readString());
+				attributes.setRules(readString());
+				attributes.setCellspacing(readString());
+				attributes.setCellpadding(readString());
+				attributes.setBgcolor(readString());
+				return attributes;
+			}
+			case TABLE_ROW_ATTRIBUTES: {
+				TableRowAttributes attributes = readCommonAttributes(new TableRowAttributes());
+				attributes.setBgcolor(readString());
+				attributes.setAlign(readString());
+				attributes.setValign(readString());
+				return attributes;
+			}
+			case TABLE_CELL_ATTRIBUTES: {
+				TableCellAttributes attributes = readCommonAttributes(new TableCellAttributes());
+				attributes.setBgcolor(readString());
+				attributes.setAlign(readString());
+				attributes.setValign(readString());
+				attributes.setRowspan(readString());
+				attributes.setColspan(readString());
+				attributes.setScope(readString());
+				return attributes;
+			}
+			default:
+				throw new IllegalArgumentException(format("Unexpected attributes kind {0}", kind)); //$NON-NLS-1$
+			}
+		}
+
+		private <T extends Attributes> T readCommonAttributes(T attributes) {
+			attributes.setId(readString());
+			attributes.setCssClass(readString());
+			attributes.setCssStyle(readString());
+			attributes.setLanguage(readString());
+			attributes.setTitle(readString());
+			return attributes;
+		}
+	}
+}
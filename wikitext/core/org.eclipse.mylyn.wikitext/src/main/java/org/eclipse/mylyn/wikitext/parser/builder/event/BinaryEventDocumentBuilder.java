@@ -0,0 +1,366 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.builder.event;
+
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.ACRONYM;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.ATTRIBUTES;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.BEGIN_BLOCK;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.BEGIN_DOCUMENT;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.BEGIN_HEADING;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.BEGIN_SPAN;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.CHARACTERS;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.CHARACTERS_UNESCAPED;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.END_BLOCK;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.END_DOCUMENT;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.END_HEADING;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.END_SPAN;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.ENTITY_REFERENCE;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.HEADING_ATTRIBUTES;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.HORIZONTAL_RULE;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.IMAGE;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.IMAGE_ATTRIBUTES;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.IMAGE_LINK;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.LINE_BREAK;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.LINK;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.LINK_ATTRIBUTES;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.LIST_ATTRIBUTES;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.MAGIC;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.NO_ATTRIBUTES;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.QUOTE_ATTRIBUTES;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.TABLE_ATTRIBUTES;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.TABLE_CELL_ATTRIBUTES;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.TABLE_ROW_ATTRIBUTES;
+import static org.eclipse.mylyn.wikitext.parser.builder.event.BinaryDocumentBuilderEvents.VERSION;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.mylyn.wikitext.parser.Attributes;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.HeadingAttributes;
+import org.eclipse.mylyn.wikitext.parser.ImageAttributes;
+import org.eclipse.mylyn.wikitext.parser.LinkAttributes;
+import org.eclipse.mylyn.wikitext.parser.ListAttributes;
+import org.eclipse.mylyn.wikitext.parser.QuoteAttributes;
+import org.eclipse.mylyn.wikitext.parser.TableAttributes;
+import org.eclipse.mylyn.wikitext.parser.TableCellAttributes;
+import org.eclipse.mylyn.wikitext.parser.TableRowAttributes;
+import org.eclipse.mylyn.wikitext.parser.builder.EventDocumentBuilder;
+
+/**
+ * A {@link DocumentBuilder} that produces {@link BinaryDocumentBuilderEvents} as its output. Unlike the
+ * {@link EventDocumentBuilder} no event objects are created: each call is appended to a compact binary encoding as it
+ * is made.
+ * <p>
+ * Attributes are recorded as the most specific of the attribute types provided by WikiText, so attributes of other
+ * types are replayed as an instance of the type that they extend.
+ * </p>
+ *
+ * @see BinaryDocumentBuilderEvents
+ * @since 3.0.49
+ */
+public class BinaryEventDocumentBuilder extends DocumentBuilder {
+
+	private final ByteSink events = new ByteSink(256);
+
+	private final ByteSink stringTable = new ByteSink(64);
+
+	private final StringBuilder charPool = new StringBuilder(256);
+
+	private final Map<String, Integer> stringIndexes = new HashMap<>();
+
+	private int stringPoolEnd;
+
+	private int textPoolEnd;
+
+	/**
+	 * Provides the {@link BinaryDocumentBuilderEvents} that were created as a result of using this builder.
+	 *
+	 * @return the events
+	 */
+	public BinaryDocumentBuilderEvents getBinaryDocumentBuilderEvents() {
+		ByteSink out = new ByteSink(events.size + stringTable.size + charPool.length() + 32);
+		out.write(MAGIC, MAGIC.length);
+		out.writeVarint(VERSION);
+		out.writeVarint(charPool.length());
+		for (int x = 0; x < charPool.length(); ++x) {
+			out.writeVarint(charPool.charAt(x));
+		}
+		out.writeVarint(stringIndexes.size());
+		out.write(stringTable.bytes, stringTable.size);
+		out.writeVarint(events.size);
+		out.write(events.bytes, events.size);
+		return new BinaryDocumentBuilderEvents(Arrays.copyOf(out.bytes, out.size));
+	}
+
+	@Override
+	public void beginDocument() {
+		events.writeVarint(BEGIN_DOCUMENT);
+	}
+
+	@Override
+	public void endDocument() {
+		events.writeVarint(END_DOCUMENT);
+	}
+
+	@Override
+	public void beginBlock(BlockType type, Attributes attributes) {
+		events.writeVarint(BEGIN_BLOCK);
+		writeString(type.name());
+		writeAttributes(attributes);
+	}
+
+	@Override
+	public void endBlock() {
+		events.writeVarint(END_BLOCK);
+	}
+
+	@Override
+	public void beginSpan(SpanType type, Attributes attributes) {
+		events.writeVarint(BEGIN_SPAN);
+		writeString(type.name());
+		writeAttributes(attributes);
+	}
+
+	@Override
+	public void endSpan() {
+		events.writeVarint(END_SPAN);
+	}
+
+	@Override
+	public void beginHeading(int level, Attributes attributes) {
+		events.writeVarint(BEGIN_HEADING);
+		events.writeVarint(level);
+		writeAttributes(attributes);
+	}
+
+	@Override
+	public void endHeading() {
+		events.writeVarint(END_HEADING);
+	}
+
+	@Override
+	public void characters(String text) {
+		events.writeVarint(CHARACTERS);
+		writeText(text);
+	}
+
+	@Override
+	public void entityReference(String entity) {
+		events.writeVarint(ENTITY_REFERENCE);
+		writeString(entity);
+	}
+
+	@Override
+	public void image(Attributes attributes, String url) {
+		events.writeVarint(IMAGE);
+		writeAttributes(attributes);
+		writeString(url);
+	}
+
+	@Override
+	public void link(Attributes attributes, String hrefOrHashName, String text) {
+		events.writeVarint(LINK);
+		writeAttributes(attributes);
+		writeString(hrefOrHashName);
+		writeString(text);
+	}
+
+	@Override
+	public void imageLink(Attributes linkAttributes, Attributes imageAttributes, String href, String imageUrl) {
+		events.writeVarint(IMAGE_LINK);
+		writeAttributes(linkAttributes);
+		writeAttributes(imageAttributes);
+		writeString(href);
+		writeString(imageUrl);
+	}
+
+	@Override
+	public void acronym(String text, String definition) {
+		events.writeVarint(ACRONYM);
+		writeString(text);
+		writeString(definition);
+	}
+
+	@Override
+	public void lineBreak() {
+		events.writeVarint(LINE_BREAK);
+	}
+
+	@Override
+	public void horizontalRule() {
+		events.writeVarint(HORIZONTAL_RULE);
+	}
+
+	@Override
+	public void charactersUnescaped(String literal) {
+		events.writeVarint(CHARACTERS_UNESCAPED);
+		writeText(literal);
+	}
+
+	private void writeAttributes(Attributes attributes) {
+		if (attributes == null) {
+			events.writeVarint(NO_ATTRIBUTES);
+			return;
+		}
+		if (attributes instanceof HeadingAttributes) {
+			events.writeVarint(HEADING_ATTRIBUTES);
+			writeCommonAttributes(attributes);
+			events.writeVarint(((HeadingAttributes) attributes).isOmitFromTableOfContents() ? 1 : 0);
+		} else if (attributes instanceof ImageAttributes) {
+			ImageAttributes imageAttributes = (ImageAttributes) attributes;
+			events.writeVarint(IMAGE_ATTRIBUTES);
+			writeCommonAttributes(attributes);
+			events.writeSignedVarint(imageAttributes.getWidth());
+			events.writeSignedVarint(imageAttributes.getHeight());
+			events.writeVarint(
+					(imageAttributes.isWidthPercentage() ? 1 : 0) | (imageAttributes.isHeightPercentage() ? 2 : 0));
+			events.writeSignedVarint(imageAttributes.getBorder());
+			writeString(imageAttributes.getAlign() == null ? null : imageAttributes.getAlign().name());
+			writeString(imageAttributes.getAlt());
+		} else if (attributes instanceof LinkAttributes) {
+			LinkAttributes linkAttributes = (LinkAttributes) attributes;
+			events.writeVarint(LINK_ATTRIBUTES);
+			writeCommonAttributes(attributes);
+			writeString(linkAttributes.getTarget());
+			writeString(linkAttributes.getRel());
+			writeString(linkAttributes.getHref());
+		} else if (attributes instanceof ListAttributes) {
+			events.writeVarint(LIST_ATTRIBUTES);
+			writeCommonAttributes(attributes);
+			writeString(((ListAttributes) attributes).getStart());
+		} else if (attributes instanceof QuoteAttributes) {
+			events.writeVarint(QUOTE_ATTRIBUTES);
+			writeCommonAttributes(attributes);
+			writeString(((QuoteAttributes) attributes).getCitation());
+		} else if (attributes instanceof TableAttributes) {
+			TableAttributes tableAttributes = (TableAttributes) attributes;
+			events.writeVarint(TABLE_ATTRIBUTES);
+			writeCommonAttributes(attributes);
+			writeString(tableAttributes.getBorder());
+			writeString(tableAttributes.getAlign());
+			writeString(tableAttributes.getSummary());
+			writeString(tableAttributes.getWidth());
+			writeString(tableAttributes.getFrame());
+			writeString(tableAttributes.getRules());
+			writeString(tableAttributes.getCellspacing());
+			writeString(tableAttributes.getCellpadding());
+			writeString(tableAttributes.getBgcolor());
+		} else if (attributes instanceof TableRowAttributes) {
+			TableRowAttributes rowAttributes = (TableRowAttributes) attributes;
+			events.writeVarint(TABLE_ROW_ATTRIBUTES);
+			writeCommonAttributes(attributes);
+			writeString(rowAttributes.getBgcolor());
+			writeString(rowAttributes.getAlign());
+			writeString(rowAttributes.getValign());
+		} else if (attributes instanceof TableCellAttributes) {
+			TableCellAttributes cellAttributes = (TableCellAttributes) attributes;
+			events.writeVarint(TABLE_CELL_ATTRIBUTES);
+			writeCommonAttributes(attributes);
+			writeString(cellAttributes.getBgcolor());
+			writeString(cellAttributes.getAlign());
+			writeString(cellAttributes.getValign());
+			writeString(cellAttributes.getRowspan());
+			writeString(cellAttributes.getColspan());
+			writeString(cellAttributes.getScope());
+		} else {
+			events.writeVarint(ATTRIBUTES);
+			writeCommonAttributes(attributes);
+		}
+	}
+
+	private void writeCommonAttributes(Attributes attributes) {
+		writeString(attributes.getId());
+		writeString(attributes.getCssClass());
+		writeString(attributes.getCssStyle());
+		writeString(attributes.getLanguage());
+		writeString(attributes.getTitle());
+	}
+
+	/**
+	 * Writes a reference to an interned string: zero for {@code null}, otherwise one more than its index in the string
+	 * table.
+	 */
+	private void writeString(String value) {
+		if (value == null) {
+			events.writeVarint(0);
+			return;
+		}
+		Integer index = stringIndexes.get(value);
+		if (index == null) {
+			index = stringIndexes.size();
+			stringIndexes.put(value, index);
+			int offset = appendToPool(value);
+			stringTable.writeVarint(offset - stringPoolEnd);
+			stringTable.writeVarint(value.length());
+			stringPoolEnd = offset + value.length();
+		}
+		events.writeVarint(index + 1);
+	}
+
+	/**
+	 * Writes text that is not interned: zero for {@code null}, otherwise one more than its length followed by its
+	 * offset in the char pool relative to the end of the previous text.
+	 */
+	private void writeText(String text) {
+		if (text == null) {
+			events.writeVarint(0);
+			return;
+		}
+		int offset = appendToPool(text);
+		events.writeVarint(text.length() + 1);
+		events.writeVarint(offset - textPoolEnd);
+		textPoolEnd = offset + text.length();
+	}
+
+	private int appendToPool(String value) {
+		int offset = charPool.length();
+		charPool.append(value);
+		return offset;
+	}
+
+	private static final class ByteSink {
+
+		private byte[] bytes;
+
+		private int size;
+
+		private ByteSink(int capacity) {
+			bytes = new byte[capacity];
+		}
+
+		private void writeVarint(int value) {
+			if (size + 5 > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + 5));
+			}
+			while ((value & ~0x7F) != 0) {
+				bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			bytes[size++] = (byte) value;
+		}
+
+		private void writeSignedVarint(int value) {
+			writeVarint((value << 1) ^ (value >> 31));
+		}
+
+		private void write(byte[] source, int length) {
+			if (size + length > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+			}
+			System.arraycopy(source, 0, bytes, size, length);
+			size += length;
+		}
+	}
+}
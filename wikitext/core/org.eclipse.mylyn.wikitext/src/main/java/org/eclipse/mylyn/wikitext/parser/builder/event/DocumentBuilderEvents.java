@@ -26,6 +26,7 @@ import org.eclipse.mylyn.wikitext.parser.builder.EventDocumentBuilder;
  *
  * @author david.green
  * @see EventDocumentBuilder
+ * @see BinaryDocumentBuilderEvents
  * @noextend This class is not intended to be subclassed by clients.
  * @since 3.0
  */
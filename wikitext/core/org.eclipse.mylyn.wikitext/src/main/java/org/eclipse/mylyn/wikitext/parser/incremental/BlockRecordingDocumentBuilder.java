@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.incremental;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.mylyn.wikitext.parser.Attributes;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.builder.EventDocumentBuilder;
+
+/**
+ * A {@link DocumentBuilder} that records events as {@link ParsedBlock blocks}, starting a new block at each
+ * {@link IncrementalParseContext#blockStart(int) block start} reported by the markup language.
+ */
+class BlockRecordingDocumentBuilder extends DocumentBuilder {
+
+	private static class PendingBlock {
+
+		final int offset;
+
+		final EventDocumentBuilder builder = new EventDocumentBuilder();
+
+		final List<IdOperation> idOperations = new ArrayList<>();
+
+		final List<Map.Entry<String, Object>> definitions = new ArrayList<>();
+
+		PendingBlock(int offset) {
+			this.offset = offset;
+		}
+	}
+
+	private final int partOffset;
+
+	private final RecordingIdGenerator idGenerator;
+
+	private final List<PendingBlock> blocks = new ArrayList<>();
+
+	private PendingBlock current;
+
+	BlockRecordingDocumentBuilder(int partOffset, RecordingIdGenerator idGenerator) {
+		this.partOffset = partOffset;
+		this.idGenerator = idGenerator;
+		startBlock(partOffset);
+	}
+
+	/**
+	 * Start a new block at the given offset of the part being parsed.
+	 */
+	void blockStart(int offset) {
+		int documentOffset = partOffset + offset;
+		if (documentOffset > current.offset) {
+			startBlock(documentOffset);
+		}
+	}
+
+	void addDefinition(String name, Object value) {
+		current.definitions.add(Map.entry(name, value));
+	}
+
+	private void startBlock(int offset) {
+		current = new PendingBlock(offset);
+		blocks.add(current);
+		idGenerator.recordTo(current.idOperations);
+	}
+
+	/**
+	 * Provide the recorded blocks.
+	 *
+	 * @param endOffset
+	 *            the offset in the document of the end of the part that was parsed
+	 */
+	List<ParsedBlock> getBlocks(int endOffset) {
+		idGenerator.recordTo(null);
+		List<ParsedBlock> parsedBlocks = new ArrayList<>(blocks.size());
+		for (int x = 0; x < blocks.size(); ++x) {
+			PendingBlock block = blocks.get(x);
+			int end = x + 1 < blocks.size() ? blocks.get(x + 1).offset : endOffset;
+			parsedBlocks.add(new ParsedBlock(block.offset, end - block.offset,
+					block.builder.getDocumentBuilderEvents(), List.copyOf(block.idOperations),
+					List.copyOf(block.definitions)));
+		}
+		return parsedBlocks;
+	}
+
+	@Override
+	public void beginDocument() {
+		current.builder.beginDocument();
+	}
+
+	@Override
+	public void endDocument() {
+		current.builder.endDocument();
+	}
+
+	@Override
+	public void beginBlock(BlockType type, Attributes attributes) {
+		current.builder.beginBlock(type, attributes);
+	}
+
+	@Override
+	public void endBlock() {
+		current.builder.endBlock();
+	}
+
+	@Override
+	public void beginSpan(SpanType type, Attributes attributes) {
+		current.builder.beginSpan(type, attributes);
+	}
+
+	@Override
+	public void endSpan() {
+		current.builder.endSpan();
+	}
+
+	@Override
+	public void beginHeading(int level, Attributes attributes) {
+		current.builder.beginHeading(level, attributes);
+	}
+
+	@Override
+	public void endHeading() {
+		current.builder.endHeading();
+	}
+
+	@Override
+	public void characters(String text) {
+		current.builder.characters(text);
+	}
+
+	@Override
+	public void entityReference(String entity) {
+		current.builder.entityReference(entity);
+	}
+
+	@Override
+	public void image(Attributes attributes, String url) {
+		current.builder.image(attributes, url);
+	}
+
+	@Override
+	public void link(Attributes attributes, String hrefOrHashName, String text) {
+		current.builder.link(attributes, hrefOrHashName, text);
+	}
+
+	@Override
+	public void imageLink(Attributes linkAttributes, Attributes imageAttributes, String href, String imageUrl) {
+		current.builder.imageLink(linkAttributes, imageAttributes, href, imageUrl);
+	}
+
+	@Override
+	public void acronym(String text, String definition) {
+		current.builder.acronym(text, definition);
+	}
+
+	@Override
+	public void lineBreak() {
+		current.builder.lineBreak();
+	}
+
+	@Override
+	public void horizontalRule() {
+		current.builder.horizontalRule();
+	}
+
+	@Override
+	public void charactersUnescaped(String literal) {
+		current.builder.charactersUnescaped(literal);
+	}
+}
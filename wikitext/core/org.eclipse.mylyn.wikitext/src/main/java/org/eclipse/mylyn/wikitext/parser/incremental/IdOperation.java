@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.incremental;
+
+import java.util.Objects;
+
+/**
+ * An id that was generated or reserved by a {@link RecordingIdGenerator}.
+ */
+class IdOperation {
+
+	final String type;
+
+	final String id;
+
+	final boolean reserved;
+
+	IdOperation(String type, String id, boolean reserved) {
+		this.type = type;
+		this.id = id;
+		this.reserved = reserved;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(type, id, reserved);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof IdOperation)) {
+			return false;
+		}
+		IdOperation other = (IdOperation) obj;
+		return reserved == other.reserved && Objects.equals(type, other.type) && Objects.equals(id, other.id);
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.incremental;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.mylyn.wikitext.parser.IdGenerator;
+import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.markup.MarkupLanguage;
+
+/**
+ * The context in which a {@link MarkupLanguage} processes the content of a document, or of a part of a document that
+ * starts at the beginning of a top-level block, for an {@link IncrementalParser}. Markup languages that support
+ * incremental parsing report the start of each top-level block, generate ids using the {@link #getIdGenerator() id
+ * generator} of the context, and report definitions on which other blocks of the document depend.
+ *
+ * @see MarkupLanguage#processContent(MarkupParser, String, IncrementalParseContext)
+ * @since 3.0.49
+ */
+public final class IncrementalParseContext {
+
+	private final BlockRecordingDocumentBuilder recorder;
+
+	private final RecordingIdGenerator idGenerator;
+
+	private final boolean document;
+
+	private final List<Map.Entry<String, Object>> precedingDefinitions;
+
+	private Object documentState;
+
+	private boolean fullParseRequired;
+
+	IncrementalParseContext(BlockRecordingDocumentBuilder recorder, RecordingIdGenerator idGenerator,
+			boolean document, List<Map.Entry<String, Object>> precedingDefinitions, Object documentState) {
+		this.recorder = recorder;
+		this.idGenerator = idGenerator;
+		this.document = document;
+		this.precedingDefinitions = precedingDefinitions;
+		this.documentState = documentState;
+	}
+
+	/**
+	 * Indicate if the content being processed is the whole document, or a part of the document.
+	 */
+	public boolean isDocument() {
+		return document;
+	}
+
+	/**
+	 * The id generator with which ids must be generated. When processing a part of a document, the generator holds the
+	 * ids of the preceding content of the document.
+	 */
+	public IdGenerator getIdGenerator() {
+		return idGenerator;
+	}
+
+	/**
+	 * Report the start of a top-level block, at which the content could be parsed independently of the preceding
+	 * content given the {@link #getIdGenerator() ids} and {@link #getPrecedingDefinitions() definitions} of the
+	 * preceding content.
+	 *
+	 * @param offset
+	 *            the 0-based offset of the start of the block in the content being processed
+	 */
+	public void blockStart(int offset) {
+		recorder.blockStart(offset);
+	}
+
+	/**
+	 * Report a definition made by the current block on which other blocks of the document may depend, such as a link
+	 * reference definition or a glossary term. A change to the definitions of a document causes it to be parsed in
+	 * full.
+	 *
+	 * @param name
+	 *            the name of the definition
+	 * @param value
+	 *            the value of the definition, which must implement {@link Object#equals(Object)}
+	 */
+	public void addDefinition(String name, Object value) {
+		recorder.addDefinition(name, value);
+	}
+
+	/**
+	 * The definitions of the content of the document that precedes the content being processed, in document order.
+	 */
+	public List<Map.Entry<String, Object>> getPrecedingDefinitions() {
+		return precedingDefinitions;
+	}
+
+	/**
+	 * The state recorded by the markup language when the whole document was last processed, such as all of the
+	 * definitions of the document.
+	 */
+	public Object getDocumentState() {
+		return documentState;
+	}
+
+	/**
+	 * Record state of the whole document for use when processing parts of the document.
+	 */
+	public void setDocumentState(Object documentState) {
+		this.documentState = documentState;
+	}
+
+	/**
+	 * Indicate that the content being processed depends on the whole document, so that the document must be parsed in
+	 * full whenever it changes.
+	 */
+	public void requireFullParse() {
+		fullParseRequired = true;
+	}
+
+	boolean isFullParseRequired() {
+		return fullParseRequired;
+	}
+}
@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.incremental;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.markup.MarkupLanguage;
+
+/**
+ * Parses a document incrementally as it is edited. The result of the last parse is kept as a sequence of top-level
+ * {@link ParsedBlock blocks} with their source offsets and events. When the document is {@link #update(TextEdit)
+ * edited}, only the content from the start of the block preceding the edit is re-parsed, until the re-parsed blocks
+ * re-synchronize with the blocks of the previous parse, and the change is provided as a {@link ParseDelta}.
+ * <p>
+ * The blocks are the same as those of a full parse of the edited document, provided that the markup language reports
+ * the start of each top-level block at which content can be parsed independently of the preceding content. Ids are
+ * generated with the ids of the preceding blocks, so that they are unique as they are in a full parse, and the document
+ * is parsed in full when an edit changes the definitions on which the document depends. Markup languages that do not
+ * support incremental parsing are always parsed in full, as a single block.
+ * </p>
+ *
+ * @see MarkupLanguage#processContent(MarkupParser, String, IncrementalParseContext)
+ * @since 3.0.49
+ */
+public class IncrementalParser {
+
+	private static final int RESYNCHRONIZATION_MARGIN = 2;
+
+	private static class PartResult {
+
+		final List<ParsedBlock> blocks;
+
+		final IncrementalParseContext context;
+
+		PartResult(List<ParsedBlock> blocks, IncrementalParseContext context) {
+			this.blocks = blocks;
+			this.context = context;
+		}
+	}
+
+	private final MarkupLanguage markupLanguage;
+
+	private String content = ""; //$NON-NLS-1$
+
+	private List<ParsedBlock> blocks = List.of();
+
+	private Object documentState;
+
+	private boolean fullParseRequired;
+
+	public IncrementalParser(MarkupLanguage markupLanguage) {
+		this.markupLanguage = Objects.requireNonNull(markupLanguage, "Must provide a markupLanguage"); //$NON-NLS-1$
+	}
+
+	public MarkupLanguage getMarkupLanguage() {
+		return markupLanguage;
+	}
+
+	/**
+	 * The content of the document as of the last parse.
+	 */
+	public String getContent() {
+		return content;
+	}
+
+	/**
+	 * The top-level blocks of the document as of the last parse.
+	 */
+	public List<ParsedBlock> getBlocks() {
+		return blocks;
+	}
+
+	/**
+	 * Parse the given document in full.
+	 *
+	 * @return the blocks of the document
+	 */
+	public List<ParsedBlock> parse(String content) {
+		Objects.requireNonNull(content, "Must provide content"); //$NON-NLS-1$
+		PartResult result = parsePart(content, 0, content.length(), 0, true);
+		this.content = content;
+		this.blocks = Collections.unmodifiableList(result.blocks);
+		this.documentState = result.context.getDocumentState();
+		this.fullParseRequired = result.context.isFullParseRequired();
+		return blocks;
+	}
+
+	/**
+	 * Apply the given edit to the document and re-parse the content affected by the edit.
+	 *
+	 * @return the change to the {@link #getBlocks() blocks} of the document
+	 */
+	public ParseDelta update(TextEdit edit) {
+		Objects.requireNonNull(edit, "Must provide an edit"); //$NON-NLS-1$
+		String newContent = edit.apply(content);
+		if (fullParseRequired || blocks.isEmpty()) {
+			return fullParse(newContent);
+		}
+		int delta = edit.getInsertedText().length() - edit.getRemovedLength();
+		int editEnd = edit.getOffset() + edit.getRemovedLength();
+		int firstIndex = Math.max(0, indexOfBlockAt(edit.getOffset()) - 1);
+		int start = blocks.get(firstIndex).getOffset();
+		int followingIndex = indexOfBlockAt(editEnd) + 1;
+
+		for (int margin = RESYNCHRONIZATION_MARGIN;; margin *= 2) {
+			int endIndex = followingIndex + margin;
+			boolean toEnd = endIndex >= blocks.size();
+			int end = toEnd ? newContent.length() : blocks.get(endIndex).getOffset() + delta;
+			PartResult result = parsePart(newContent, start, end, firstIndex, false);
+			if (result.context.isFullParseRequired()) {
+				return fullParse(newContent);
+			}
+			List<ParsedBlock> newBlocks = result.blocks;
+			if (toEnd) {
+				if (!sameDefinitions(newBlocks, blocks.subList(firstIndex, blocks.size()))) {
+					return fullParse(newContent);
+				}
+				return applyDelta(newContent, firstIndex, blocks.size() - firstIndex, newBlocks, delta);
+			}
+			int newIndex = resynchronizationIndex(newBlocks, delta, editEnd, firstIndex, endIndex);
+			if (newIndex == -1) {
+				continue;
+			}
+			int oldIndex = indexOfBlockAt(newBlocks.get(newIndex).getOffset() - delta);
+			List<ParsedBlock> insertedBlocks = newBlocks.subList(0, newIndex);
+			List<ParsedBlock> removedBlocks = blocks.subList(firstIndex, oldIndex);
+			if (!sameDefinitions(insertedBlocks, removedBlocks)) {
+				return fullParse(newContent);
+			}
+			if (sameIds(insertedBlocks, removedBlocks)) {
+				return applyDelta(newContent, firstIndex, oldIndex - firstIndex, insertedBlocks, delta);
+			}
+			// the ids of the following blocks may differ: re-parse to the end of the document
+			result = parsePart(newContent, start, newContent.length(), firstIndex, false);
+			if (result.context.isFullParseRequired()
+					|| !sameDefinitions(result.blocks, blocks.subList(firstIndex, blocks.size()))) {
+				return fullParse(newContent);
+			}
+			return applyDelta(newContent, firstIndex, blocks.size() - firstIndex, result.blocks, delta);
+		}
+	}
+
+	/**
+	 * Emit the events of the whole document to the given builder.
+	 */
+	public void emit(DocumentBuilder builder) {
+		builder.beginDocument();
+		for (ParsedBlock block : blocks) {
+			block.getEvents().applyTo(builder);
+		}
+		builder.endDocument();
+		builder.flush();
+	}
+
+	/**
+	 * Find the first re-parsed block that starts after the edit at the start of a block of the previous parse, other
+	 * than the last re-parsed block which may be truncated.
+	 *
+	 * @return the index of the re-parsed block, or -1 if there is none
+	 */
+	private int resynchronizationIndex(List<ParsedBlock> newBlocks, int delta, int editEnd, int firstIndex,
+			int endIndex) {
+		for (int newIndex = 1; newIndex < newBlocks.size() - 1; ++newIndex) {
+			int oldOffset = newBlocks.get(newIndex).getOffset() - delta;
+			if (oldOffset >= editEnd) {
+				int oldIndex = indexOfBlockAt(oldOffset);
+				if (oldIndex > firstIndex && oldIndex < endIndex && blocks.get(oldIndex).getOffset() == oldOffset) {
+					return newIndex;
+				}
+			}
+		}
+		return -1;
+	}
+
+	private ParseDelta fullParse(String newContent) {
+		int removedBlockCount = blocks.size();
+		parse(newContent);
+		return new ParseDelta(0, removedBlockCount, blocks, true);
+	}
+
+	private ParseDelta applyDelta(String newContent, int blockIndex, int removedBlockCount,
+			List<ParsedBlock> insertedBlocks, int delta) {
+		List<ParsedBlock> newBlocks = new ArrayList<>(blocks.size() - removedBlockCount + insertedBlocks.size());
+		newBlocks.addAll(blocks.subList(0, blockIndex));
+		newBlocks.addAll(insertedBlocks);
+		for (ParsedBlock block : blocks.subList(blockIndex + removedBlockCount, blocks.size())) {
+			newBlocks.add(block.withOffset(block.getOffset() + delta));
+		}
+		content = newContent;
+		blocks = Collections.unmodifiableList(newBlocks);
+		return new ParseDelta(blockIndex, removedBlockCount, insertedBlocks, false);
+	}
+
+	private PartResult parsePart(String documentContent, int start, int end, int precedingBlockCount,
+			boolean document) {
+		RecordingIdGenerator idGenerator = new RecordingIdGenerator();
+		List<Map.Entry<String, Object>> precedingDefinitions = new ArrayList<>();
+		for (ParsedBlock block : blocks.subList(0, precedingBlockCount)) {
+			idGenerator.replay(block.idOperations);
+			precedingDefinitions.addAll(block.definitions);
+		}
+		BlockRecordingDocumentBuilder recorder = new BlockRecordingDocumentBuilder(start, idGenerator);
+		IncrementalParseContext context = new IncrementalParseContext(recorder, idGenerator, document,
+				Collections.unmodifiableList(precedingDefinitions), document ? null : documentState);
+
+		MarkupLanguage language = markupLanguage.createParseSession();
+		MarkupParser parser = new MarkupParser(language, recorder);
+		language.processContent(parser, documentContent.substring(start, end), context);
+		return new PartResult(recorder.getBlocks(end), context);
+	}
+
+	private int indexOfBlockAt(int offset) {
+		int low = 0;
+		int high = blocks.size() - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (blocks.get(middle).getOffset() <= offset) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+
+	private static boolean sameDefinitions(List<ParsedBlock> blocks, List<ParsedBlock> otherBlocks) {
+		return flatten(blocks, b -> b.definitions).equals(flatten(otherBlocks, b -> b.definitions));
+	}
+
+	private static boolean sameIds(List<ParsedBlock> blocks, List<ParsedBlock> otherBlocks) {
+		return flatten(blocks, b -> b.idOperations).equals(flatten(otherBlocks, b -> b.idOperations));
+	}
+
+	private static <T> List<T> flatten(List<ParsedBlock> blocks, Function<ParsedBlock, List<T>> elements) {
+		List<T> list = new ArrayList<>();
+		for (ParsedBlock block : blocks) {
+			list.addAll(elements.apply(block));
+		}
+		return list;
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.incremental;
+
+import java.util.List;
+
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+
+/**
+ * The change to the {@link IncrementalParser#getBlocks() blocks} of a document resulting from an
+ * {@link IncrementalParser#update(TextEdit) edit}: a range of the blocks before the edit is replaced by new blocks. The
+ * blocks that follow the range are unchanged other than their offset.
+ *
+ * @since 3.0.49
+ */
+public final class ParseDelta {
+
+	private final int blockIndex;
+
+	private final int removedBlockCount;
+
+	private final List<ParsedBlock> insertedBlocks;
+
+	private final boolean fullParse;
+
+	ParseDelta(int blockIndex, int removedBlockCount, List<ParsedBlock> insertedBlocks, boolean fullParse) {
+		this.blockIndex = blockIndex;
+		this.removedBlockCount = removedBlockCount;
+		this.insertedBlocks = List.copyOf(insertedBlocks);
+		this.fullParse = fullParse;
+	}
+
+	/**
+	 * The index of the first block that was replaced.
+	 */
+	public int getBlockIndex() {
+		return blockIndex;
+	}
+
+	/**
+	 * The number of blocks that were replaced.
+	 */
+	public int getRemovedBlockCount() {
+		return removedBlockCount;
+	}
+
+	/**
+	 * The blocks that replace the removed blocks, starting at the {@link #getBlockIndex() block index}.
+	 */
+	public List<ParsedBlock> getInsertedBlocks() {
+		return insertedBlocks;
+	}
+
+	/**
+	 * The 0-based offset in the edited document of the source that was re-parsed.
+	 */
+	public int getOffset() {
+		return insertedBlocks.isEmpty() ? 0 : insertedBlocks.get(0).getOffset();
+	}
+
+	/**
+	 * The length of the source that was re-parsed.
+	 */
+	public int getLength() {
+		if (insertedBlocks.isEmpty()) {
+			return 0;
+		}
+		ParsedBlock last = insertedBlocks.get(insertedBlocks.size() - 1);
+		return last.getOffset() + last.getLength() - getOffset();
+	}
+
+	/**
+	 * Indicate if the whole document was re-parsed, which is the case when the edit affects content on which the whole
+	 * document depends, or when the markup language does not support incremental parsing.
+	 */
+	public boolean isFullParse() {
+		return fullParse;
+	}
+
+	/**
+	 * Emit the events of the {@link #getInsertedBlocks() inserted blocks} to the given builder.
+	 */
+	public void applyTo(DocumentBuilder builder) {
+		for (ParsedBlock block : insertedBlocks) {
+			block.getEvents().applyTo(builder);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ParseDelta(%s, %s, %s)", blockIndex, removedBlockCount, insertedBlocks.size()); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.incremental;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.mylyn.wikitext.parser.builder.event.DocumentBuilderEvents;
+
+/**
+ * A top-level block of a document parsed by an {@link IncrementalParser}: the range of the source of the block and the
+ * events produced by parsing it. The blocks of a document are contiguous, so that the range of a block includes any
+ * blank lines or other content that follows it and produces no events.
+ *
+ * @since 3.0.49
+ */
+public final class ParsedBlock {
+
+	private final int offset;
+
+	private final int length;
+
+	private final DocumentBuilderEvents events;
+
+	final List<IdOperation> idOperations;
+
+	final List<Map.Entry<String, Object>> definitions;
+
+	ParsedBlock(int offset, int length, DocumentBuilderEvents events, List<IdOperation> idOperations,
+			List<Map.Entry<String, Object>> definitions) {
+		this.offset = offset;
+		this.length = length;
+		this.events = events;
+		this.idOperations = idOperations;
+		this.definitions = definitions;
+	}
+
+	/**
+	 * The 0-based offset of the block in the document.
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * The length of the source of the block.
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * The events produced by parsing the block.
+	 */
+	public DocumentBuilderEvents getEvents() {
+		return events;
+	}
+
+	ParsedBlock withOffset(int offset) {
+		return offset == this.offset ? this : new ParsedBlock(offset, length, events, idOperations, definitions);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ParsedBlock(%s, %s, %s events)", offset, length, events.getEvents().size()); //$NON-NLS-1$
+	}
+}
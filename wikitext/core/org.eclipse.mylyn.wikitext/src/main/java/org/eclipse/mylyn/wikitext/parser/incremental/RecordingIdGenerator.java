@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.incremental;
+
+import java.util.List;
+
+import org.eclipse.mylyn.wikitext.parser.IdGenerator;
+import org.eclipse.mylyn.wikitext.parser.markup.IdGenerationStrategy;
+
+/**
+ * An {@link IdGenerator} that records the ids that it generates or reserves, so that the state of the generator at the
+ * start of any block of a document can be restored by {@link #replay(List) replaying} the ids of the preceding blocks
+ * without parsing them.
+ */
+class RecordingIdGenerator extends IdGenerator {
+
+	private static class ReplayStrategy extends IdGenerationStrategy {
+
+		private String id;
+
+		@Override
+		public String generateId(String headingText) {
+			return id;
+		}
+	}
+
+	private List<IdOperation> operations;
+
+	/**
+	 * Set the list to which ids are recorded.
+	 */
+	void recordTo(List<IdOperation> operations) {
+		this.operations = operations;
+	}
+
+	/**
+	 * Restore the state resulting from the given operations, which must not conflict with the ids already known to this
+	 * generator.
+	 */
+	void replay(List<IdOperation> replayedOperations) {
+		List<IdOperation> previousOperations = operations;
+		IdGenerationStrategy previousStrategy = getGenerationStrategy();
+		ReplayStrategy strategy = new ReplayStrategy();
+		operations = null;
+		setGenerationStrategy(strategy);
+		try {
+			for (IdOperation operation : replayedOperations) {
+				if (operation.reserved) {
+					reserveId(operation.id);
+				} else {
+					strategy.id = operation.id;
+					newId(operation.type, ""); //$NON-NLS-1$
+				}
+			}
+		} finally {
+			setGenerationStrategy(previousStrategy);
+			operations = previousOperations;
+		}
+	}
+
+	@Override
+	public String newId(String type, String text) {
+		String id = super.newId(type, text);
+		if (operations != null) {
+			operations.add(new IdOperation(type, id, false));
+		}
+		return id;
+	}
+
+	@Override
+	public boolean reserveId(String id) {
+		boolean reserved = super.reserveId(id);
+		if (reserved && operations != null) {
+			operations.add(new IdOperation(null, id, true));
+		}
+		return reserved;
+	}
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.incremental;
+
+import java.util.Objects;
+
+/**
+ * An edit of the text of a document: the replacement of a range of the text with new text.
+ *
+ * @since 3.0.49
+ */
+public final class TextEdit {
+
+	private final int offset;
+
+	private final int removedLength;
+
+	private final String insertedText;
+
+	/**
+	 * @param offset
+	 *            the 0-based offset of the edit in the text before the edit
+	 * @param removedLength
+	 *            the number of characters removed at the offset
+	 * @param insertedText
+	 *            the text inserted at the offset
+	 */
+	public TextEdit(int offset, int removedLength, String insertedText) {
+		if (offset < 0 || removedLength < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.offset = offset;
+		this.removedLength = removedLength;
+		this.insertedText = Objects.requireNonNull(insertedText, "Must provide insertedText"); //$NON-NLS-1$
+	}
+
+	public int getOffset() {
+		return offset;
+	}
+
+	public int getRemovedLength() {
+		return removedLength;
+	}
+
+	public String getInsertedText() {
+		return insertedText;
+	}
+
+	/**
+	 * Apply this edit to the given text.
+	 *
+	 * @return the edited text
+	 * @throws IllegalArgumentException
+	 *             if the edit is outside of the text
+	 */
+	public String apply(String text) {
+		if (offset + removedLength > text.length()) {
+			throw new IllegalArgumentException(String.format("Edit [%s,%s] is outside of text of length %s", offset, //$NON-NLS-1$
+					offset + removedLength, text.length()));
+		}
+		return new StringBuilder(text.length() - removedLength + insertedText.length())
+				.append(text, 0, offset)
+				.append(insertedText)
+				.append(text, offset + removedLength, text.length())
+				.toString();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("TextEdit(%s, %s, %s)", offset, removedLength, insertedText.length()); //$NON-NLS-1$
+	}
+}
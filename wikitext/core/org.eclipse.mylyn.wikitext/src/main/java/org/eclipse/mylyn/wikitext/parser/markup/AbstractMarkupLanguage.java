@@ -14,17 +14,20 @@
 package org.eclipse.mylyn.wikitext.parser.markup;
 
 import java.io.IOException;
-import java.io.StringReader;
+import java.io.Reader;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Stack;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.incremental.IncrementalParseContext;
+import org.eclipse.mylyn.wikitext.parser.incremental.IncrementalParser;
 import org.eclipse.mylyn.wikitext.parser.markup.token.ImpliedHyperlinkReplacementToken;
 import org.eclipse.mylyn.wikitext.parser.outline.OutlineParser;
 import org.eclipse.mylyn.wikitext.util.LocationTrackingReader;
@@ -49,6 +52,15 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 
 	private boolean syntaxInitialized = false;
 
+	private BlockStartIndex blockStartIndex;
+
+	private List<SyntaxMatcher> syntaxMatchers = new ArrayList<>();
+
+	/**
+	 * the compiled language of which this language is a parse session, this language if it is compiled, otherwise null
+	 */
+	private AbstractMarkupLanguage compiledLanguage;
+
 	/**
 	 *
 	 */
@@ -80,6 +92,9 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 		private int patternGroup = 0;
 
 		private final Stack<Group> groups = new Stack<>();
+
+		private volatile CompiledSyntax compiledSyntax;
+
 		{
 			groups.push(new Group());
 		}
@@ -89,6 +104,7 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 
 		public void add(PatternBasedElement element) {
 			elementPattern = null;
+			compiledSyntax = null;
 			elements.add(element);
 			if (groups.peek().count++ > 0) {
 				patternBuffer.append('|');
@@ -118,6 +134,7 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 
 		private void add(String regexFragment, int size, boolean beginGroup) {
 			elementPattern = null;
+			compiledSyntax = null;
 			if (beginGroup) {
 				if (groups.peek().count++ > 0) {
 					patternBuffer.append('|');
@@ -135,49 +152,34 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 		}
 
 		public PatternBasedElementProcessor findPatternBasedElement(String lineText, int offset) {
-			Matcher matcher = getPattern().matcher(lineText);
-			if (offset > 0) {
-				matcher.region(offset, lineText.length());
-			}
-			if (matcher.find()) {
-				int size = elementGroup.size();
-				for (int x = 0; x < size; ++x) {
-					int group = elementGroup.get(x);
-					String value = matcher.group(group);
-					if (value != null) {
-						PatternBasedElement element = elements.get(x);
-						PatternBasedElementProcessor processor = element.newProcessor();
-						processor.setLineStartOffset(matcher.start());
-						processor.setLineEndOffset(matcher.end());
-						processor.setGroup(0, matcher.group(0), matcher.start(0), matcher.end(0));
-						for (int y = 0; y < element.getPatternGroupCount(); ++y) {
-							final int groupIndex = group + y + 1;
-							processor.setGroup(y + 1, matcher.group(groupIndex), matcher.start(groupIndex),
-									matcher.end(groupIndex));
-						}
-						return processor;
-					}
-				}
-				throw new IllegalStateException();
-			} else {
-				return null;
-			}
+			CompiledSyntax syntax = compile();
+			return syntax == null ? null : new SyntaxMatcher(syntax).find(lineText, offset);
 		}
 
 		public Pattern getPattern() {
-			if (elementPattern == null) {
-				if (patternBuffer.length() > 0) {
-					elementPattern = Pattern.compile(patternBuffer.toString());
-				} else {
-					return null;
-				}
+			CompiledSyntax syntax = compile();
+			return syntax == null ? null : syntax.getPattern();
+		}
+
+		/**
+		 * Compile this syntax, or provide the result of a previous compilation if the syntax has not changed since.
+		 *
+		 * @return the compiled syntax, or null if the syntax is empty
+		 */
+		CompiledSyntax compile() {
+			CompiledSyntax syntax = compiledSyntax;
+			if (syntax == null && patternBuffer.length() > 0) {
+				syntax = new CompiledSyntax(Pattern.compile(patternBuffer.toString()), elements, elementGroup);
+				elementPattern = syntax.getPattern();
+				compiledSyntax = syntax;
 			}
-			return elementPattern;
+			return syntax;
 		}
 
 		public void clear() {
 			elements.clear();
 			elementPattern = null;
+			compiledSyntax = null;
 			elementGroup.clear();
 			patternBuffer.delete(0, patternBuffer.length());
 			patternGroup = 0;
@@ -200,6 +202,9 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 
 	@Override
 	public void configure(MarkupLanguageConfiguration configuration) throws UnsupportedOperationException {
+		if (compiledLanguage != null) {
+			throw new IllegalStateException("a compiled markup language cannot be configured"); //$NON-NLS-1$
+		}
 		this.configuration = configuration;
 		initializeSyntax(true);
 	}
@@ -234,108 +239,227 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 		ContentState state = newContentState();
 		state.setMarkupContent(markupContent);
 
+		try {
+			processContent(parser, state, new LocationTrackingReader(markupContent), asDocument);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Process the content provided by the given reader line by line, without buffering the whole document, unless
+	 * {@link #requiresBufferedContent() buffered content is required}. If the {@link #requiresMarkupContent() markup
+	 * content is required}, the content that is read is retained, and the remainder of the document is only read when
+	 * {@link ContentState#getMarkupContent()} is first called, for example at a table of contents. Otherwise
+	 * {@link ContentState#getMarkupContent()} is not available.
+	 */
+	@Override
+	public void processContent(MarkupParser parser, Reader markupContent, boolean asDocument) throws IOException {
+		initializeSyntax(false);
+		initProcessors();
+		if (requiresBufferedContent()) {
+			super.processContent(parser, markupContent, asDocument);
+			return;
+		}
+		ContentState state = newContentState();
+		Reader reader = markupContent;
+		if (requiresMarkupContent()) {
+			MarkupContentReader contentReader = new MarkupContentReader(markupContent);
+			state.setMarkupContentSupplier(contentReader::getMarkupContent);
+			reader = contentReader;
+		}
+		processContent(parser, state, new LocationTrackingReader(reader), asDocument);
+	}
+
+	/**
+	 * Indicate if the whole document must be available as a string before processing content. Blocks that
+	 * {@link Block#requiresMarkupContent() require the markup content} do not require buffering, since the markup
+	 * content is read on demand. Subclasses that preprocess the complete document should override this method.
+	 *
+	 * @return true if content must be buffered before processing, otherwise false
+	 * @see #processContent(MarkupParser, Reader, boolean)
+	 * @since 3.0.49
+	 */
+	protected boolean requiresBufferedContent() {
+		return false;
+	}
+
+	/**
+	 * Indicate if the {@link ContentState#getMarkupContent() markup content} may be used while processing content
+	 * provided by a reader, which is the case if any of the {@link #getBlocks() blocks}
+	 * {@link Block#requiresMarkupContent() require the markup content}. Subclasses with a {@link #createState() state}
+	 * that uses the markup content should override this method.
+	 *
+	 * @return true if the markup content may be used, otherwise false
+	 * @see #processContent(MarkupParser, Reader, boolean)
+	 * @since 3.0.49
+	 */
+	protected boolean requiresMarkupContent() {
+		return blocksRequireMarkupContent();
+	}
+
+	private boolean blocksRequireMarkupContent() {
+		for (Block block : getBlocks()) {
+			if (block.requiresMarkupContent()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Indicate if this markup language supports {@link IncrementalParser incremental parsing}, which requires that the
+	 * state of the parse at the start of a top-level block is fully described by the ids and glossary terms of the
+	 * preceding blocks. The default implementation returns true if the content is not preprocessed and the
+	 * {@link #createState() state} is a {@link ContentState}. Subclasses that track additional state should override
+	 * this method.
+	 *
+	 * @return true if incremental parsing is supported, otherwise false
+	 * @see #processContent(MarkupParser, String, IncrementalParseContext)
+	 * @since 3.0.49
+	 */
+	protected boolean isIncrementalParseSupported() {
+		if (requiresBufferedContent()) {
+			return false;
+		}
+		return createState().getClass() == ContentState.class;
+	}
+
+	/**
+	 * Process the content for an {@link IncrementalParser}, reporting the start of each top-level block and the
+	 * glossary terms of each block. The document is parsed in full if incremental parsing is not
+	 * {@link #isIncrementalParseSupported() supported}, or if a block uses the {@link ContentState#getMarkupContent()
+	 * complete markup content}.
+	 */
+	@Override
+	public void processContent(MarkupParser parser, String markupContent, IncrementalParseContext context) {
+		initializeSyntax(false);
+		initProcessors();
+		if (!isIncrementalParseSupported()) {
+			super.processContent(parser, markupContent, context);
+			return;
+		}
+		ContentState state = createState();
+		state.setIdGenerator(context.getIdGenerator());
+		state.getIdGenerator().setGenerationStrategy(getIdGenerationStrategy());
+		state.setMarkupContent(markupContent);
+		for (Map.Entry<String, Object> definition : context.getPrecedingDefinitions()) {
+			if (definition.getKey().startsWith(ContentState.GLOSSARY_DEFINITION_PREFIX)) {
+				state.addGlossaryTerm(definition.getKey().substring(ContentState.GLOSSARY_DEFINITION_PREFIX.length()),
+						(String) definition.getValue());
+			}
+		}
+		state.setIncrementalParseContext(context);
+		try {
+			processContent(parser, state, new LocationTrackingReader(markupContent), false);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		} finally {
+			state.setIncrementalParseContext(null);
+		}
+	}
+
+	private void processContent(MarkupParser parser, ContentState state, LocationTrackingReader reader,
+			boolean asDocument) throws IOException {
 		DocumentBuilder builder = parser.getBuilder();
 		builder.setLocator(state);
 
-		@SuppressWarnings("resource")
-		LocationTrackingReader reader = new LocationTrackingReader(new StringReader(markupContent));
 		try {
 			if (asDocument) {
 				builder.beginDocument();
 			}
 			Stack<Block> nestedBlocks = null;
 			Stack<LineState> lineStates = null;
-			String line;
 			Block currentBlock = null;
-			try {
-				line = reader.readLine();
-				int lineOffset = 0;
-				while (line != null) {
-
-					state.setLineNumber(reader.getLineNumber() + 1);
-					state.setLineOffset(reader.getLineOffset());
-					state.setLineCharacterOffset(lineOffset);
-					state.setLineSegmentEndOffset(0);
-					state.setLineLength(line.length());
-
-					for (;;) {
-						popClosedBlocks(nestedBlocks);
+			String line;
+			line = reader.readLine();
+			int lineOffset = 0;
+			while (line != null) {
+
+				state.setLineNumber(reader.getLineNumber() + 1);
+				state.setLineOffset(reader.getLineOffset());
+				state.setLineCharacterOffset(lineOffset);
+				state.setLineSegmentEndOffset(0);
+				state.setLineLength(line.length());
+
+				for (;;) {
+					popClosedBlocks(nestedBlocks);
+					if (nestedBlocks != null && !nestedBlocks.isEmpty()) {
+						Block nestedParent = nestedBlocks.peek();
+						int closeOffset = nestedParent.findCloseOffset(line, lineOffset);
+						if (closeOffset != -1) {
+							if (closeOffset > lineOffset) {
+								String truncatedLine = line.substring(0, closeOffset);
+								if (lineStates == null) {
+									lineStates = new Stack<>();
+								}
+								lineStates.push(new LineState(line, closeOffset));
+								line = truncatedLine;
+							} else {
+								if (currentBlock != null) {
+									currentBlock.setClosed(true);
+									currentBlock = null;
+								}
+								currentBlock = nestedBlocks.pop();
+								lineOffset = closeOffset;
+								state.setLineCharacterOffset(lineOffset);
+							}
+						}
+					}
+					if (currentBlock == null) {
 						if (nestedBlocks != null && !nestedBlocks.isEmpty()) {
 							Block nestedParent = nestedBlocks.peek();
-							int closeOffset = nestedParent.findCloseOffset(line, lineOffset);
-							if (closeOffset != -1) {
-								if (closeOffset > lineOffset) {
-									String truncatedLine = line.substring(0, closeOffset);
-									if (lineStates == null) {
-										lineStates = new Stack<>();
-									}
-									lineStates.push(new LineState(line, closeOffset));
-									line = truncatedLine;
-								} else {
-									if (currentBlock != null) {
-										currentBlock.setClosed(true);
-										currentBlock = null;
-									}
-									currentBlock = nestedBlocks.pop();
-									lineOffset = closeOffset;
-									state.setLineCharacterOffset(lineOffset);
-								}
+							if (nestedParent.canResume(line, lineOffset)) {
+								currentBlock = nestedBlocks.pop();
 							}
 						}
 						if (currentBlock == null) {
-							if (nestedBlocks != null && !nestedBlocks.isEmpty()) {
-								Block nestedParent = nestedBlocks.peek();
-								if (nestedParent.canResume(line, lineOffset)) {
-									currentBlock = nestedBlocks.pop();
-								}
+							if (lineOffset == 0 && (nestedBlocks == null || nestedBlocks.isEmpty())
+									&& state.getIncrementalParseContext() != null) {
+								state.getIncrementalParseContext().blockStart(reader.getLineOffset());
 							}
+							currentBlock = startBlock(line, lineOffset);
 							if (currentBlock == null) {
-								currentBlock = startBlock(line, lineOffset);
-								if (currentBlock == null) {
-									break;
-								}
-								currentBlock.setMarkupLanguage(this);
-								currentBlock.setState(state);
-								currentBlock.setParser(parser);
-							}
-						}
-						lineOffset = currentBlock.processLineContent(line, lineOffset);
-						if (currentBlock.isClosed()) {
-							currentBlock = null;
-						} else if (currentBlock.beginNesting()) {
-							if (nestedBlocks == null) {
-								nestedBlocks = new Stack<>();
+								break;
 							}
-							nestedBlocks.push(currentBlock);
-							currentBlock = null;
+							currentBlock.setMarkupLanguage(this);
+							currentBlock.setState(state);
+							currentBlock.setParser(parser);
 						}
-						if (lineOffset < line.length() && lineOffset >= 0) {
-							if (currentBlock != null) {
-								throw new IllegalStateException(String.format(
-										"if a block does not fully process a line then it must be closed, at or near line %s lineOffset %s, block %s", //$NON-NLS-1$
-										reader.getLineNumber(), lineOffset, currentBlock.getClass().getName()));
-							}
-						} else {
-							break;
+					}
+					lineOffset = currentBlock.processLineContent(line, lineOffset);
+					if (currentBlock.isClosed()) {
+						currentBlock = null;
+					} else if (currentBlock.beginNesting()) {
+						if (nestedBlocks == null) {
+							nestedBlocks = new Stack<>();
 						}
+						nestedBlocks.push(currentBlock);
+						currentBlock = null;
 					}
-					if (lineStates != null && !lineStates.isEmpty()) {
-						LineState lineState = lineStates.pop();
-						line = lineState.line;
-						lineOffset = lineState.lineOffset;
+					if (lineOffset < line.length() && lineOffset >= 0) {
+						if (currentBlock != null) {
+							throw new IllegalStateException(String.format(
+									"if a block does not fully process a line then it must be closed, at or near line %s lineOffset %s, block %s", //$NON-NLS-1$
+									reader.getLineNumber(), lineOffset, currentBlock.getClass().getName()));
+						}
 					} else {
-						lineOffset = 0;
-						line = reader.readLine();
+						break;
 					}
 				}
-				state.setLineNumber(reader.getLineNumber() + 1);
-				state.setLineOffset(reader.getLineOffset());
-				state.setLineCharacterOffset(0);
-				state.setLineLength(0);
-
-			} catch (IOException e) {
-				throw new IllegalStateException(e);
+				if (lineStates != null && !lineStates.isEmpty()) {
+					LineState lineState = lineStates.pop();
+					line = lineState.line;
+					lineOffset = lineState.lineOffset;
+				} else {
+					lineOffset = 0;
+					line = reader.readLine();
+				}
 			}
+			state.setLineNumber(reader.getLineNumber() + 1);
+			state.setLineOffset(reader.getLineOffset());
+			state.setLineCharacterOffset(0);
+			state.setLineLength(0);
 
 			if (currentBlock != null && !currentBlock.isClosed()) {
 				currentBlock.setClosed(true);
@@ -384,7 +508,12 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 			// nothing starts on an empty line
 			return null;
 		}
-		for (Block block : getBlocks()) {
+		List<Block> blocks = getBlocks();
+		if (blockStartIndex == null || !blockStartIndex.isIndexOf(blocks)) {
+			blockStartIndex = new BlockStartIndex(blocks);
+		}
+		for (int candidate : blockStartIndex.getCandidates(line, lineOffset)) {
+			Block block = blockStartIndex.getBlock(candidate);
 			if (block.canStart(line, lineOffset)) {
 				return block.clone();
 			}
@@ -435,8 +564,8 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 		int previousShift = state.getShift();
 		state.setShift(previousShift + textLineOffset);
 		for (;;) {
-			PatternBasedElementProcessor phraseModifier = getPhraseModifierSyntax().findPatternBasedElement(line,
-					offset);
+			SyntaxMatcher matcher = getSyntaxMatcher(getPhraseModifierSyntax());
+			PatternBasedElementProcessor phraseModifier = matcher == null ? null : matcher.find(line, offset);
 			if (phraseModifier != null) {
 				int newOffset = phraseModifier.getLineStartOffset();
 				if (offset < newOffset) {
@@ -452,6 +581,7 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 				state.setLineSegmentEndOffset(state.getShift() + phraseModifier.getLineEndOffset());
 				phraseModifier.emit();
 				offset = phraseModifier.getLineEndOffset();
+				matcher.release(phraseModifier);
 				if (offset >= line.length()) {
 					break;
 				}
@@ -491,8 +621,8 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 		}
 		int offset = 0;
 		for (;;) {
-			PatternBasedElementProcessor tokenReplacement = getReplacementTokenSyntax().findPatternBasedElement(text,
-					offset);
+			SyntaxMatcher matcher = getSyntaxMatcher(getReplacementTokenSyntax());
+			PatternBasedElementProcessor tokenReplacement = matcher == null ? null : matcher.find(text, offset);
 			if (tokenReplacement != null) {
 				int newOffset = tokenReplacement.getLineStartOffset();
 				if (offset < newOffset) {
@@ -508,6 +638,7 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 
 				tokenReplacement.emit();
 				offset = tokenReplacement.getLineEndOffset();
+				matcher.release(tokenReplacement);
 				if (offset >= text.length()) {
 					break;
 				}
@@ -522,6 +653,21 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 		int count;
 	}
 
+	private SyntaxMatcher getSyntaxMatcher(PatternBasedSyntax syntax) {
+		CompiledSyntax compiledSyntax = syntax.compile();
+		if (compiledSyntax == null) {
+			return null;
+		}
+		for (SyntaxMatcher matcher : syntaxMatchers) {
+			if (matcher.isMatcherOf(compiledSyntax)) {
+				return matcher;
+			}
+		}
+		SyntaxMatcher matcher = new SyntaxMatcher(compiledSyntax);
+		syntaxMatchers.add(matcher);
+		return matcher;
+	}
+
 	public List<Block> getBlocks() {
 		return blocks;
 	}
@@ -543,6 +689,8 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 	}
 
 	protected void clearLanguageSyntax() {
+		blockStartIndex = null;
+		syntaxMatchers.clear();
 		blocks.clear();
 		paragraphBreakingBlocks.clear();
 		tokenSyntax.clear();
@@ -746,6 +894,72 @@ public abstract class AbstractMarkupLanguage extends MarkupLanguage {
 		this.enableMacros = enableMacros;
 	}
 
+	/**
+	 * Create a compiled copy of this markup language. The syntax of the compiled language is initialized and compiled
+	 * once, and is shared read-only by concurrent {@link MarkupParser parsers}: each parse runs in a lightweight
+	 * {@link #createParseSession() session} that holds the state of the parse, so that the compiled language can be
+	 * used by many threads without cloning or re-initialization. The compiled language has the settings of a
+	 * {@link #clone() clone} of this language and cannot be {@link #configure(MarkupLanguageConfiguration)
+	 * configured}; its settings should not be changed once it is in use.
+	 * <p>
+	 * Sharing requires that {@link PatternBasedElement pattern-based elements} are stateless, and that {@link Block
+	 * blocks} do not share mutable state with their {@link Block#createParseSessionPrototype() parse session
+	 * prototypes}.
+	 * </p>
+	 *
+	 * @return the compiled markup language
+	 * @since 3.0.49
+	 */
+	public AbstractMarkupLanguage compile() {
+		AbstractMarkupLanguage language = (AbstractMarkupLanguage) clone();
+		language.initializeSyntax(false);
+		language.blockStartIndex = new BlockStartIndex(language.getBlocks());
+		language.getPhraseModifierSyntax().compile();
+		language.getReplacementTokenSyntax().compile();
+		language.compiledLanguage = language;
+		return language;
+	}
+
+	/**
+	 * Indicate if this markup language is {@link #compile() compiled}, or is a parse session of a compiled language.
+	 *
+	 * @since 3.0.49
+	 */
+	public boolean isCompiled() {
+		return compiledLanguage != null;
+	}
+
+	/**
+	 * Provide a parse session for a {@link #compile() compiled} markup language: a shallow copy of the compiled
+	 * language that shares its syntax, with its own copies of the {@link #getBlocks() blocks} and its own matching
+	 * state. Markup languages that are not compiled return this instance.
+	 */
+	@Override
+	public MarkupLanguage createParseSession() {
+		if (compiledLanguage == null) {
+			return this;
+		}
+		return compiledLanguage.newParseSession();
+	}
+
+	private AbstractMarkupLanguage newParseSession() {
+		AbstractMarkupLanguage session = (AbstractMarkupLanguage) shallowCopy();
+		Map<Block, Block> copies = new IdentityHashMap<>();
+		session.blocks = copyBlocks(blocks, copies);
+		session.paragraphBreakingBlocks = copyBlocks(paragraphBreakingBlocks, copies);
+		session.blockStartIndex = blockStartIndex.isIndexOf(blocks) ? blockStartIndex.withBlocks(session.blocks) : null;
+		session.syntaxMatchers = new ArrayList<>();
+		return session;
+	}
+
+	private static List<Block> copyBlocks(List<Block> blocks, Map<Block, Block> copies) {
+		List<Block> blockCopies = new ArrayList<>(blocks.size());
+		for (Block block : blocks) {
+			blockCopies.add(copies.computeIfAbsent(block, Block::createParseSessionPrototype));
+		}
+		return blockCopies;
+	}
+
 	@Override
 	public MarkupLanguage clone() {
 		AbstractMarkupLanguage copy = (AbstractMarkupLanguage) super.clone();
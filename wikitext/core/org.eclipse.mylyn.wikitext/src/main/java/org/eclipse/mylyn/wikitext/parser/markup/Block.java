@@ -69,6 +69,20 @@ public abstract class Block extends Processor {
 	 */
 	public abstract boolean canStart(String line, int lineOffset);
 
+	/**
+	 * Provide a hint of the characters with which markup for this block can start, used to avoid calling
+	 * {@link #canStart(String, int)} for lines that this block cannot possibly start. The characters are compared with
+	 * the first non-whitespace character of the line at or after the given line offset, so blocks that may start with
+	 * leading whitespace must provide the characters that follow such whitespace. The default implementation returns
+	 * null.
+	 *
+	 * @return the characters with which this block can start, or null if the block can start with any character
+	 * @since 3.0.49
+	 */
+	public String getStartCharacters() {
+		return null;
+	}
+
 	/**
 	 * Indicate if block nesting should begin. Called after {@link #processLineContent(String, int)}.
 	 *
@@ -113,6 +127,19 @@ public abstract class Block extends Processor {
 		return false;
 	}
 
+	/**
+	 * Indicate if the block requires the {@link ContentState#getMarkupContent() complete markup content} of the
+	 * document, for example to look ahead or to compute a table of contents. When any block of a markup language
+	 * requires the markup content, content provided by a {@link java.io.Reader} is retained as it is processed, and the
+	 * remainder of the document is read when the markup content is first requested.
+	 *
+	 * @return true if the block requires the markup content, otherwise false.
+	 * @since 3.0.49
+	 */
+	public boolean requiresMarkupContent() {
+		return false;
+	}
+
 	/**
 	 * Indicate if the current block is closed
 	 */
@@ -139,4 +166,18 @@ public abstract class Block extends Processor {
 		return (Block) super.clone();
 	}
 
+	/**
+	 * Create a copy of this block to serve as the template of a parse session of a
+	 * {@link AbstractMarkupLanguage#compile() compiled} markup language. Unlike a {@link #clone() clone}, which may
+	 * share state with this block for the duration of a single parse, the copy must not share any mutable state with
+	 * this block, since the parse sessions of a compiled language run concurrently. The default implementation returns
+	 * a clone.
+	 *
+	 * @return the copy of this block
+	 * @since 3.0.49
+	 */
+	public Block createParseSessionPrototype() {
+		return clone();
+	}
+
 }
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.markup;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A dispatch table of {@link Block blocks} by the first non-whitespace character of a line, computed from the
+ * {@link Block#getStartCharacters() start characters} of each block. Candidates are provided as indexes of the blocks
+ * in the order in which the blocks were registered. The table is immutable, and may be shared by the copies of the
+ * blocks of {@link AbstractMarkupLanguage#createParseSession() parse sessions}.
+ *
+ * @see AbstractMarkupLanguage#startBlock(String, int)
+ */
+class BlockStartIndex {
+
+	private static final int INDEXED_CHARACTER_COUNT = 128;
+
+	private final List<Block> blocks;
+
+	private final Block[] blockArray;
+
+	private final int[] allCandidates;
+
+	private final int[][] candidatesByStartCharacter;
+
+	private final int[] otherCandidates;
+
+	BlockStartIndex(List<Block> blocks) {
+		this.blocks = blocks;
+		blockArray = blocks.toArray(new Block[blocks.size()]);
+		int blockCount = blockArray.length;
+
+		String[] startCharacters = new String[blockCount];
+		allCandidates = new int[blockCount];
+		for (int x = 0; x < blockCount; ++x) {
+			startCharacters[x] = blockArray[x].getStartCharacters();
+			allCandidates[x] = x;
+		}
+		candidatesByStartCharacter = new int[INDEXED_CHARACTER_COUNT][];
+		int[] candidates = new int[blockCount];
+		for (char c = 0; c < INDEXED_CHARACTER_COUNT; ++c) {
+			int count = 0;
+			for (int x = 0; x < blockCount; ++x) {
+				if (startCharacters[x] == null || startCharacters[x].indexOf(c) != -1) {
+					candidates[count++] = x;
+				}
+			}
+			candidatesByStartCharacter[c] = Arrays.copyOf(candidates, count);
+		}
+		int count = 0;
+		for (int x = 0; x < blockCount; ++x) {
+			if (startCharacters[x] == null || hasOtherCharacter(startCharacters[x])) {
+				candidates[count++] = x;
+			}
+		}
+		otherCandidates = Arrays.copyOf(candidates, count);
+	}
+
+	private BlockStartIndex(BlockStartIndex index, List<Block> blocks) {
+		this.blocks = blocks;
+		blockArray = blocks.toArray(new Block[blocks.size()]);
+		allCandidates = index.allCandidates;
+		candidatesByStartCharacter = index.candidatesByStartCharacter;
+		otherCandidates = index.otherCandidates;
+	}
+
+	/**
+	 * Create an index of the given blocks, which must be copies of the blocks of this index in the same order.
+	 */
+	BlockStartIndex withBlocks(List<Block> blocks) {
+		if (blocks.size() != blockArray.length) {
+			throw new IllegalArgumentException();
+		}
+		return new BlockStartIndex(this, blocks);
+	}
+
+	/**
+	 * Indicate if this index was computed from the given blocks in their current state.
+	 */
+	boolean isIndexOf(List<Block> blocks) {
+		return this.blocks == blocks && blockArray.length == blocks.size();
+	}
+
+	/**
+	 * Get the indexes of the blocks that could start on the given line at the given offset, in registration order.
+	 *
+	 * @see #getBlock(int)
+	 */
+	int[] getCandidates(String line, int lineOffset) {
+		int length = line.length();
+		for (int x = lineOffset; x < length; ++x) {
+			char c = line.charAt(x);
+			if (!Character.isWhitespace(c)) {
+				return c < INDEXED_CHARACTER_COUNT ? candidatesByStartCharacter[c] : otherCandidates;
+			}
+		}
+		return allCandidates;
+	}
+
+	Block getBlock(int index) {
+		return blockArray[index];
+	}
+
+	private static boolean hasOtherCharacter(String startCharacters) {
+		for (int x = 0; x < startCharacters.length(); ++x) {
+			if (startCharacters.charAt(x) >= INDEXED_CHARACTER_COUNT) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
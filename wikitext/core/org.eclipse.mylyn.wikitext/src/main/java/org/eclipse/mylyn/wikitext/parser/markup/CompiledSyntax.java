@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.markup;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipse.mylyn.wikitext.parser.markup.AbstractMarkupLanguage.PatternBasedSyntax;
+
+/**
+ * The immutable, compiled form of a {@link PatternBasedSyntax}, which may be shared by concurrent parsers. Matching
+ * state is kept separately by a {@link SyntaxMatcher}.
+ */
+class CompiledSyntax {
+
+	private static final int INDEXED_CHARACTER_COUNT = 128;
+
+	private final Pattern pattern;
+
+	private final PatternBasedElement[] elements;
+
+	private final int[] elementGroups;
+
+	private final int[] elementGroupCounts;
+
+	private final boolean[] startCharacters;
+
+	private final String otherStartCharacters;
+
+	CompiledSyntax(Pattern pattern, List<PatternBasedElement> elements, List<Integer> elementGroup) {
+		this.pattern = pattern;
+		int size = elements.size();
+		this.elements = elements.toArray(new PatternBasedElement[size]);
+		elementGroups = new int[size];
+		elementGroupCounts = new int[size];
+		boolean[] asciiStartCharacters = new boolean[INDEXED_CHARACTER_COUNT];
+		StringBuilder otherCharacters = new StringBuilder();
+		for (int x = 0; x < size; ++x) {
+			elementGroups[x] = elementGroup.get(x);
+			elementGroupCounts[x] = this.elements[x].getPatternGroupCount();
+			String characters = this.elements[x].getStartCharacters();
+			if (characters == null) {
+				asciiStartCharacters = null;
+			} else if (asciiStartCharacters != null) {
+				for (int y = 0; y < characters.length(); ++y) {
+					char c = characters.charAt(y);
+					if (c < INDEXED_CHARACTER_COUNT) {
+						asciiStartCharacters[c] = true;
+					} else {
+						otherCharacters.append(c);
+					}
+				}
+			}
+		}
+		startCharacters = asciiStartCharacters;
+		otherStartCharacters = otherCharacters.toString();
+	}
+
+	Pattern getPattern() {
+		return pattern;
+	}
+
+	int getElementCount() {
+		return elements.length;
+	}
+
+	PatternBasedElement getElement(int index) {
+		return elements[index];
+	}
+
+	int getElementGroup(int index) {
+		return elementGroups[index];
+	}
+
+	int getElementGroupCount(int index) {
+		return elementGroupCounts[index];
+	}
+
+	/**
+	 * Get the offset of the first character at or after the given offset with which an element could start.
+	 *
+	 * @return the offset, or -1 if no element can start in the remainder of the text
+	 */
+	int indexOfStartCharacter(String text, int offset) {
+		if (startCharacters == null) {
+			return offset;
+		}
+		int length = text.length();
+		for (int x = offset; x < length; ++x) {
+			char c = text.charAt(x);
+			if (c < INDEXED_CHARACTER_COUNT ? startCharacters[c] : otherStartCharacters.indexOf(c) != -1) {
+				return x;
+			}
+		}
+		return -1;
+	}
+}
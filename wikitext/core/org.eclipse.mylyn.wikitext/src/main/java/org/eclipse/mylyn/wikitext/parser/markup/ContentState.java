@@ -14,9 +14,11 @@ package org.eclipse.mylyn.wikitext.parser.markup;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.eclipse.mylyn.wikitext.parser.IdGenerator;
 import org.eclipse.mylyn.wikitext.parser.Locator;
+import org.eclipse.mylyn.wikitext.parser.incremental.IncrementalParseContext;
 
 /**
  * State related to parsing content, propagated to {@link Block blocks} and other {@link Processor processors} during
@@ -26,13 +28,20 @@ import org.eclipse.mylyn.wikitext.parser.Locator;
  * @since 3.0
  */
 public class ContentState implements Locator {
+
+	static final String GLOSSARY_DEFINITION_PREFIX = "glossary:"; //$NON-NLS-1$
+
 	private final Map<String, String> footnoteIdToHtmlId = new HashMap<>();
 
 	private final Map<String, String> glossaryItems = new HashMap<>();
 
 	private String markupContent;
 
-	private final IdGenerator idGenerator = new IdGenerator();
+	private Supplier<String> markupContentSupplier;
+
+	private IdGenerator idGenerator = new IdGenerator();
+
+	private IncrementalParseContext incrementalParseContext;
 
 	private int lineNumber = -1;
 
@@ -49,7 +58,23 @@ public class ContentState implements Locator {
 	public ContentState() {
 	}
 
+	/**
+	 * Get the complete markup content of the document being processed. When the content is streamed from a reader,
+	 * the remainder of the content is read when this method is first called.
+	 *
+	 * @return the markup content, or null if the content is being streamed from a reader and the markup language does
+	 *         not {@link AbstractMarkupLanguage#requiresMarkupContent() require the markup content}
+	 * @see Block#requiresMarkupContent()
+	 */
 	public String getMarkupContent() {
+		if (incrementalParseContext != null) {
+			incrementalParseContext.requireFullParse();
+		}
+		if (markupContentSupplier != null) {
+			Supplier<String> supplier = markupContentSupplier;
+			markupContentSupplier = null;
+			setMarkupContent(supplier.get());
+		}
 		return markupContent;
 	}
 
@@ -57,6 +82,10 @@ public class ContentState implements Locator {
 		this.markupContent = markupContent;
 	}
 
+	void setMarkupContentSupplier(Supplier<String> markupContentSupplier) {
+		this.markupContentSupplier = markupContentSupplier;
+	}
+
 	public String getFootnoteId(String footnote) {
 		// Create a stable id.  This has a greater chance of collisions, however
 		// it's an acceptable risk to gain stable ids.  Unfortunately there's no way to
@@ -76,6 +105,9 @@ public class ContentState implements Locator {
 	 *            the definition of the term.
 	 */
 	public void addGlossaryTerm(String term, String definition) {
+		if (incrementalParseContext != null) {
+			incrementalParseContext.addDefinition(GLOSSARY_DEFINITION_PREFIX + term, definition);
+		}
 		String previousDef = glossaryItems.put(term, definition);
 		if (previousDef != null && previousDef.length() > definition.length()) {
 			glossaryItems.put(term, previousDef);
@@ -93,6 +125,22 @@ public class ContentState implements Locator {
 		return idGenerator;
 	}
 
+	void setIdGenerator(IdGenerator idGenerator) {
+		this.idGenerator = idGenerator;
+	}
+
+	IncrementalParseContext getIncrementalParseContext() {
+		return incrementalParseContext;
+	}
+
+	/**
+	 * Set the context of an incremental parse, to which glossary terms are reported as definitions, and which requires
+	 * a full parse if the complete markup content is used.
+	 */
+	void setIncrementalParseContext(IncrementalParseContext incrementalParseContext) {
+		this.incrementalParseContext = incrementalParseContext;
+	}
+
 	/**
 	 * Get the 1-based line number of the current line.
 	 *
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.markup;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A reader that retains the content read from its delegate, so that the complete markup content can be provided on
+ * demand while content is streamed. The remainder of the delegate is only read when the
+ * {@link #getMarkupContent() markup content} is first requested, after which content is read from the retained
+ * copy.
+ *
+ * @see ContentState#getMarkupContent()
+ */
+class MarkupContentReader extends Reader {
+
+	private final Reader delegate;
+
+	private final StringBuilder content = new StringBuilder();
+
+	private boolean complete;
+
+	private int offset;
+
+	MarkupContentReader(Reader delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (complete) {
+			if (offset >= content.length()) {
+				return -1;
+			}
+			int count = Math.min(len, content.length() - offset);
+			content.getChars(offset, offset + count, cbuf, off);
+			offset += count;
+			return count;
+		}
+		int count = delegate.read(cbuf, off, len);
+		if (count > 0) {
+			content.append(cbuf, off, count);
+			offset += count;
+		}
+		return count;
+	}
+
+	/**
+	 * Provides the complete markup content, reading the remainder of the delegate if necessary.
+	 */
+	String getMarkupContent() {
+		if (!complete) {
+			char[] buffer = new char[2048];
+			try {
+				int count;
+				while ((count = delegate.read(buffer)) != -1) {
+					content.append(buffer, 0, count);
+				}
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+			complete = true;
+		}
+		return content.toString();
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+}
@@ -14,13 +14,23 @@ package org.eclipse.mylyn.wikitext.parser.markup;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
 import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
 
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
 import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.builder.MultiplexingDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.incremental.IncrementalParseContext;
+import org.eclipse.mylyn.wikitext.parser.incremental.IncrementalParser;
 import org.eclipse.mylyn.wikitext.util.ServiceLocator;
 
 /**
@@ -66,6 +76,31 @@ public abstract class MarkupLanguage implements Cloneable {
 		return markupLanguage;
 	}
 
+	/**
+	 * Create a shallow copy of this markup language, sharing all of its fields.
+	 */
+	MarkupLanguage shallowCopy() {
+		try {
+			return (MarkupLanguage) super.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Provide the markup language instance that processes the content of a single parse. The {@link MarkupParser}
+	 * parses with the returned instance, which is also the {@link MarkupParser#getMarkupLanguage() markup language of
+	 * the parser} for the duration of the parse. The default implementation returns this instance, which is
+	 * appropriate for markup languages that do not modify themselves while processing content. Markup languages that
+	 * can be shared by concurrent parsers return a new instance that holds the state of the parse.
+	 *
+	 * @return the markup language that processes content for a single parse
+	 * @since 3.0.49
+	 */
+	public MarkupLanguage createParseSession() {
+		return this;
+	}
+
 	/**
 	 * get the id strategy employed by this markup language.
 	 */
@@ -152,6 +187,65 @@ public abstract class MarkupLanguage implements Cloneable {
 
 	public abstract void processContent(MarkupParser parser, String markupContent, boolean asDocument);
 
+	/**
+	 * Process the content provided by the given reader. The default implementation reads the content fully and
+	 * delegates to {@link #processContent(MarkupParser, String, boolean)}. Subclasses that are capable of processing
+	 * content line by line may override this method to avoid buffering the whole document.
+	 *
+	 * @param parser
+	 *            the parser
+	 * @param markupContent
+	 *            the reader providing the markup content
+	 * @param asDocument
+	 *            indicate if the content should be processed as a complete document
+	 * @throws IOException
+	 *             if the content cannot be read
+	 * @since 3.0.49
+	 */
+	public void processContent(MarkupParser parser, Reader markupContent, boolean asDocument) throws IOException {
+		processContent(parser, readFully(markupContent), asDocument);
+	}
+
+	/**
+	 * Process the content of a document, or of a part of a document that starts at the beginning of a top-level block,
+	 * for an {@link IncrementalParser}. Subclasses that support incremental parsing report the start of each top-level
+	 * block and the definitions made by each block to the given context, and generate ids using the
+	 * {@link IncrementalParseContext#getIdGenerator() id generator} of the context. The default implementation
+	 * {@link IncrementalParseContext#requireFullParse() requires a full parse} and processes the content as a single
+	 * block.
+	 *
+	 * @param parser
+	 *            the parser
+	 * @param markupContent
+	 *            the markup content of the document or of the part of the document
+	 * @param context
+	 *            the context of the incremental parse
+	 * @since 3.0.49
+	 */
+	public void processContent(MarkupParser parser, String markupContent, IncrementalParseContext context) {
+		context.requireFullParse();
+		processContent(parser, markupContent, false);
+	}
+
+	/**
+	 * Read the given reader fully into a string.
+	 *
+	 * @param reader
+	 *            the reader
+	 * @return the content of the reader
+	 * @throws IOException
+	 *             if the content cannot be read
+	 */
+	protected static String readFully(Reader reader) throws IOException {
+		StringBuilder content = new StringBuilder();
+		char[] buffer = new char[8192];
+		int length;
+		while ((length = reader.read(buffer)) != -1) {
+			content.append(buffer, 0, length);
+		}
+		return content.toString();
+	}
+
 	/**
 	 * Creates a {@link DocumentBuilder} suitable for emitting content in this markup language. Equivalent to
 	 * {@code createDocumentBuilder(out,false)}.
@@ -182,4 +276,116 @@ public abstract class MarkupLanguage implements Cloneable {
 	public DocumentBuilder createDocumentBuilder(Writer out, boolean formatting) {
 		throw new UnsupportedOperationException();
 	}
+
+	/**
+	 * Creates a {@link DocumentBuilder} suitable for emitting content in this markup language, encoded as UTF-8.
+	 * Equivalent to {@code createDocumentBuilder(out,false)}.
+	 *
+	 * @param out
+	 *            the stream to which content is written
+	 * @return a document builder
+	 * @throws UnsupportedOperationException
+	 *             if the markup language has no corresponding document builder
+	 * @see #createDocumentBuilder(OutputStream, boolean)
+	 * @since 3.0.49
+	 */
+	public DocumentBuilder createDocumentBuilder(OutputStream out) {
+		return createDocumentBuilder(out, false);
+	}
+
+	/**
+	 * Creates a {@link DocumentBuilder} suitable for emitting content in this markup language, encoded as UTF-8. The
+	 * content is written to the stream when the document ends or the builder is {@link DocumentBuilder#flush()
+	 * flushed}; the stream is not closed by the builder. The default implementation wraps the stream in a writer and
+	 * delegates to {@link #createDocumentBuilder(Writer, boolean)}; markup languages with XML document builders
+	 * override it to encode their output directly.
+	 *
+	 * @param out
+	 *            the stream to which content is written
+	 * @param formatting
+	 *            indicates if the builder should format the output using pretty-print rules. If not supported by the
+	 *            document builder this parameter is ignored.
+	 * @return a document builder
+	 * @throws UnsupportedOperationException
+	 *             if the markup language has no corresponding document builder
+	 * @since 3.0.49
+	 */
+	public DocumentBuilder createDocumentBuilder(OutputStream out, boolean formatting) {
+		return createEncodingDocumentBuilder(new OutputStreamWriter(out, StandardCharsets.UTF_8), formatting);
+	}
+
+	/**
+	 * Creates a {@link DocumentBuilder} suitable for emitting content in this markup language, encoded as UTF-8.
+	 * Equivalent to {@code createDocumentBuilder(out,false)}.
+	 *
+	 * @param out
+	 *            the channel to which content is written
+	 * @return a document builder
+	 * @throws UnsupportedOperationException
+	 *             if the markup language has no corresponding document builder
+	 * @see #createDocumentBuilder(WritableByteChannel, boolean)
+	 * @since 3.0.49
+	 */
+	public DocumentBuilder createDocumentBuilder(WritableByteChannel out) {
+		return createDocumentBuilder(out, false);
+	}
+
+	/**
+	 * Creates a {@link DocumentBuilder} suitable for emitting content in this markup language, encoded as UTF-8. The
+	 * content is written to the channel when the document ends or the builder is {@link DocumentBuilder#flush()
+	 * flushed}; the channel is not closed by the builder. The default implementation wraps the channel in a writer and
+	 * delegates to {@link #createDocumentBuilder(Writer, boolean)}; markup languages with XML document builders
+	 * override it to encode their output directly.
+	 *
+	 * @param out
+	 *            the channel to which content is written
+	 * @param formatting
+	 *            indicates if the builder should format the output using pretty-print rules. If not supported by the
+	 *            document builder this parameter is ignored.
+	 * @return a document builder
+	 * @throws UnsupportedOperationException
+	 *             if the markup language has no corresponding document builder
+	 * @since 3.0.49
+	 */
+	public DocumentBuilder createDocumentBuilder(WritableByteChannel out, boolean formatting) {
+		return createEncodingDocumentBuilder(Channels.newWriter(out, StandardCharsets.UTF_8), formatting);
+	}
+
+	private DocumentBuilder createEncodingDocumentBuilder(Writer writer, boolean formatting) {
+		return new EncodingDocumentBuilder(createDocumentBuilder(writer, formatting), writer);
+	}
+
+	/**
+	 * Delegates to the document builder of a markup language, flushing the writer that encodes its output when the
+	 * document ends or the builder is flushed.
+	 */
+	private static class EncodingDocumentBuilder extends MultiplexingDocumentBuilder {
+
+		private final Writer writer;
+
+		EncodingDocumentBuilder(DocumentBuilder delegate, Writer writer) {
+			super(delegate);
+			this.writer = writer;
+		}
+
+		@Override
+		public void endDocument() {
+			super.endDocument();
+			flushWriter();
+		}
+
+		@Override
+		public void flush() {
+			super.flush();
+			flushWriter();
+		}
+
+		private void flushWriter() {
+			try {
+				writer.flush();
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
 }
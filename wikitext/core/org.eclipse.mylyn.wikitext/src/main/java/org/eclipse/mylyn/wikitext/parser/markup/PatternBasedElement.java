@@ -38,6 +38,20 @@ public abstract class PatternBasedElement implements Cloneable {
 	 */
 	protected abstract int getPatternGroupCount();
 
+	/**
+	 * Get the characters with which any text matched by the {@link #getPattern(int) pattern} begins. Zero-width
+	 * constructs such as lookbehind or <code>^</code> are not considered part of the match. Providing the start
+	 * characters enables the markup language to skip text that cannot contain the element without evaluating the
+	 * regular expression, provided that every element of the syntax does so and that the fragments of enclosing
+	 * {@link AbstractMarkupLanguage.PatternBasedSyntax#beginGroup(String, int) groups} are zero-width.
+	 *
+	 * @return the start characters, or null if the pattern may begin with any character
+	 * @since 3.0.49
+	 */
+	protected String getStartCharacters() {
+		return null;
+	}
+
 	/**
 	 * create a new processor for processing the type of element detected by this class.
 	 */
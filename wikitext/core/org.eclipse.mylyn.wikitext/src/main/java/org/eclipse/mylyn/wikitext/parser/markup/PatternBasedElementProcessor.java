@@ -31,6 +31,16 @@ public abstract class PatternBasedElementProcessor extends Processor
 
 	protected Map<Integer, Group> groupByIndex;
 
+	private String matchedText;
+
+	private int[] matchedGroupOffsets = new int[0];
+
+	private int matchedGroupCount;
+
+	PatternBasedElementProcessor[] pool;
+
+	int poolIndex;
+
 	private static class Group {
 		private final String text;
 
@@ -61,6 +71,34 @@ public abstract class PatternBasedElementProcessor extends Processor
 		groupByIndex.put(group, new Group(capturedText, start, end));
 	}
 
+	/**
+	 * Set the captured groups from the given match, without copying any of the captured text.
+	 *
+	 * @param text
+	 *            the text that was matched
+	 * @param matcher
+	 *            the matcher positioned at the match
+	 * @param firstGroup
+	 *            the group of the matcher that corresponds to the element
+	 * @param groupCount
+	 *            the number of groups of the element
+	 */
+	void setMatch(String text, Matcher matcher, int firstGroup, int groupCount) {
+		groupByIndex = null;
+		matchedText = text;
+		matchedGroupCount = groupCount;
+		int length = (groupCount + 1) * 2;
+		if (matchedGroupOffsets.length < length) {
+			matchedGroupOffsets = new int[length];
+		}
+		matchedGroupOffsets[0] = matcher.start();
+		matchedGroupOffsets[1] = matcher.end();
+		for (int x = 1; x <= groupCount; ++x) {
+			matchedGroupOffsets[x * 2] = matcher.start(firstGroup + x);
+			matchedGroupOffsets[x * 2 + 1] = matcher.end(firstGroup + x);
+		}
+	}
+
 	/**
 	 * Get the offset within the line at which this element was started
 	 *
@@ -98,7 +136,8 @@ public abstract class PatternBasedElementProcessor extends Processor
 	@Override
 	public String group(int groupNumber) {
 		if (groupByIndex == null) {
-			return null;
+			int start = start(groupNumber);
+			return start == -1 ? null : matchedText.substring(start, matchedGroupOffsets[groupNumber * 2 + 1]);
 		}
 		Group group = groupByIndex.get(groupNumber);
 		return group == null ? null : group.text;
@@ -115,7 +154,7 @@ public abstract class PatternBasedElementProcessor extends Processor
 	@Override
 	public int start(int groupNumber) {
 		if (groupByIndex == null) {
-			return -1;
+			return isMatchedGroup(groupNumber) ? matchedGroupOffsets[groupNumber * 2] : -1;
 		}
 		Group group = groupByIndex.get(groupNumber);
 		return group == null ? -1 : group.start;
@@ -132,12 +171,16 @@ public abstract class PatternBasedElementProcessor extends Processor
 	@Override
 	public int end(int groupNumber) {
 		if (groupByIndex == null) {
-			return -1;
+			return isMatchedGroup(groupNumber) ? matchedGroupOffsets[groupNumber * 2 + 1] : -1;
 		}
 		Group group = groupByIndex.get(groupNumber);
 		return group == null ? -1 : group.end;
 	}
 
+	private boolean isMatchedGroup(int groupNumber) {
+		return matchedText != null && groupNumber >= 0 && groupNumber <= matchedGroupCount;
+	}
+
 	/**
 	 * Emit the content of the element
 	 */
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.markup;
+
+import java.util.regex.Matcher;
+
+/**
+ * Finds the elements of a {@link CompiledSyntax} in text, reusing its {@link Matcher} and the processors that have been
+ * {@link #release(PatternBasedElementProcessor) released}. Not thread-safe: a matcher is owned by a single parse.
+ */
+class SyntaxMatcher {
+
+	private final CompiledSyntax syntax;
+
+	private final Matcher matcher;
+
+	private final PatternBasedElementProcessor[] idleProcessors;
+
+	SyntaxMatcher(CompiledSyntax syntax) {
+		this.syntax = syntax;
+		matcher = syntax.getPattern().matcher(""); //$NON-NLS-1$
+		idleProcessors = new PatternBasedElementProcessor[syntax.getElementCount()];
+	}
+
+	boolean isMatcherOf(CompiledSyntax syntax) {
+		return this.syntax == syntax;
+	}
+
+	/**
+	 * Find the first element in the given text at or after the given offset.
+	 *
+	 * @return the processor of the element, or null if there is none
+	 * @see AbstractMarkupLanguage.PatternBasedSyntax#findPatternBasedElement(String, int)
+	 */
+	PatternBasedElementProcessor find(String lineText, int offset) {
+		int searchOffset = syntax.indexOfStartCharacter(lineText, offset);
+		if (searchOffset == -1) {
+			return null;
+		}
+		matcher.reset(lineText);
+		if (offset > 0) {
+			matcher.useTransparentBounds(false).useAnchoringBounds(true).region(offset, lineText.length());
+		} else if (searchOffset > 0) {
+			// transparent, non-anchoring bounds match exactly as if searching the whole line
+			matcher.useTransparentBounds(true).useAnchoringBounds(false).region(searchOffset, lineText.length());
+		}
+		if (matcher.find()) {
+			int size = syntax.getElementCount();
+			for (int x = 0; x < size; ++x) {
+				int group = syntax.getElementGroup(x);
+				if (matcher.start(group) != -1) {
+					PatternBasedElementProcessor processor = idleProcessors[x];
+					if (processor == null) {
+						processor = syntax.getElement(x).newProcessor();
+						processor.pool = idleProcessors;
+						processor.poolIndex = x;
+					} else {
+						idleProcessors[x] = null;
+					}
+					processor.setLineStartOffset(matcher.start());
+					processor.setLineEndOffset(matcher.end());
+					processor.setMatch(lineText, matcher, group, syntax.getElementGroupCount(x));
+					return processor;
+				}
+			}
+			throw new IllegalStateException();
+		}
+		return null;
+	}
+
+	/**
+	 * Make a processor provided by {@link #find(String, int)} available for reuse once it has been emitted.
+	 */
+	void release(PatternBasedElementProcessor processor) {
+		if (processor.pool == idleProcessors) {
+			processor.setParser(null);
+			processor.setState(null);
+			idleProcessors[processor.poolIndex] = processor;
+		}
+	}
+}
@@ -33,6 +33,11 @@ public abstract class AbstractTableOfContentsBlock extends Block {
 		super();
 	}
 
+	@Override
+	public boolean requiresMarkupContent() {
+		return getMarkupLanguage() == null || !getMarkupLanguage().isFilterGenerativeContents();
+	}
+
 	protected void emitToc(OutlineItem item) {
 
 		Attributes nullAttributes = new Attributes();
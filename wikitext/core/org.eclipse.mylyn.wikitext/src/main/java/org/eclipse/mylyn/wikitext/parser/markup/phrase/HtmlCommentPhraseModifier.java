@@ -28,6 +28,11 @@ public class HtmlCommentPhraseModifier extends PatternBasedElement {
 		return "(<!--|-->)"; //$NON-NLS-1$
 	}
 
+	@Override
+	protected String getStartCharacters() {
+		return "<"; //$NON-NLS-1$
+	}
+
 	@Override
 	protected PatternBasedElementProcessor newProcessor() {
 		return new LiteralPhraseModifierProcessor(false);
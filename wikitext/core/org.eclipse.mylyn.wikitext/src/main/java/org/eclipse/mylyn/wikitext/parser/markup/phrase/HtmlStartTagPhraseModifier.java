@@ -47,6 +47,11 @@ public class HtmlStartTagPhraseModifier extends PatternBasedElement {
 		return "(<[a-zA-Z][a-zA-Z0-9_:-]*(?:\\s*[a-zA-Z][a-zA-Z0-9_:-]*=\"[^\"]*\")*\\s*/?>)"; //$NON-NLS-1$
 	}
 
+	@Override
+	protected String getStartCharacters() {
+		return "<"; //$NON-NLS-1$
+	}
+
 	@Override
 	protected PatternBasedElementProcessor newProcessor() {
 		return new LiteralPhraseModifierProcessor(escaping);
@@ -51,6 +51,11 @@ public class LimitedHtmlEndTagPhraseModifier extends PatternBasedElement {
 		return pattern;
 	}
 
+	@Override
+	protected String getStartCharacters() {
+		return "<"; //$NON-NLS-1$
+	}
+
 	@Override
 	protected PatternBasedElementProcessor newProcessor() {
 		return new LiteralPhraseModifierProcessor(false);
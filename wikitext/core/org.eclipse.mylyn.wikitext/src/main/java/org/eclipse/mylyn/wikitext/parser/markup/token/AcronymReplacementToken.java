@@ -34,6 +34,11 @@ public class AcronymReplacementToken extends PatternBasedElement {
 		return 2;
 	}
 
+	@Override
+	protected String getStartCharacters() {
+		return "ABCDEFGHIJKLMNOPQRSTUVWXYZ"; //$NON-NLS-1$
+	}
+
 	@Override
 	protected PatternBasedElementProcessor newProcessor() {
 		return new AcronymReplacementTokenProcessor();
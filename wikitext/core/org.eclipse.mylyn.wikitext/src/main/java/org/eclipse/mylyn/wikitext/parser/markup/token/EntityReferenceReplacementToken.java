@@ -21,7 +21,7 @@ import java.util.regex.Pattern;
 public class EntityReferenceReplacementToken extends PatternEntityReferenceReplacementToken {
 
 	public EntityReferenceReplacementToken(String token, String replacement) {
-		super("(" + Pattern.quote(token) + ")", replacement); //$NON-NLS-1$ //$NON-NLS-2$
+		super("(" + Pattern.quote(token) + ")", replacement, token.substring(0, 1)); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
 }
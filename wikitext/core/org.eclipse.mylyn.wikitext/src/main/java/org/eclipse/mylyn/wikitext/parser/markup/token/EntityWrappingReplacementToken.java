@@ -51,6 +51,11 @@ public class EntityWrappingReplacementToken extends PatternBasedElement {
 		return 1;
 	}
 
+	@Override
+	protected String getStartCharacters() {
+		return delimiter.substring(0, 1);
+	}
+
 	@Override
 	protected PatternBasedElementProcessor newProcessor() {
 		return new EntityWrappingReplacementTokenProcessor(leftEntity, rightEntity);
@@ -36,6 +36,11 @@ public class ImpliedHyperlinkReplacementToken extends PatternBasedElement {
 		return 1;
 	}
 
+	@Override
+	protected String getStartCharacters() {
+		return "h"; //$NON-NLS-1$
+	}
+
 	@Override
 	protected PatternBasedElementProcessor newProcessor() {
 		return new HyperlinkReplacementTokenProcessor();
@@ -28,9 +28,26 @@ public class PatternEntityReferenceReplacementToken extends PatternBasedElement
 
 	private final String replacement;
 
+	private final String startCharacters;
+
 	public PatternEntityReferenceReplacementToken(String pattern, String replacement) {
+		this(pattern, replacement, null);
+	}
+
+	/**
+	 * @param pattern
+	 *            the pattern to replace
+	 * @param replacement
+	 *            the entity reference
+	 * @param startCharacters
+	 *            the characters with which any text matched by the pattern begins, or null if unknown
+	 * @see #getStartCharacters()
+	 * @since 3.0.49
+	 */
+	public PatternEntityReferenceReplacementToken(String pattern, String replacement, String startCharacters) {
 		this.pattern = pattern;
 		this.replacement = replacement;
+		this.startCharacters = startCharacters;
 	}
 
 	@Override
@@ -43,6 +60,11 @@ public class PatternEntityReferenceReplacementToken extends PatternBasedElement
 		return 1;
 	}
 
+	@Override
+	protected String getStartCharacters() {
+		return startCharacters;
+	}
+
 	@Override
 	protected PatternBasedElementProcessor newProcessor() {
 		return new EntityReplacementTokenProcessor(replacement);
@@ -17,9 +17,7 @@ import static com.google.common.base.Preconditions.checkState;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
-import java.nio.charset.StandardCharsets;
+import java.io.OutputStream;
 import java.util.List;
 
 import org.eclipse.mylyn.wikitext.parser.Attributes;
@@ -49,7 +47,7 @@ public class SplittingHtmlDocumentBuilder extends DocumentBuilder {
 
 	private HtmlDocumentBuilder out;
 
-	private Writer writer;
+	private OutputStream outputStream;
 
 	private File currentFile;
 
@@ -99,14 +97,14 @@ public class SplittingHtmlDocumentBuilder extends DocumentBuilder {
 			try {
 				documentFooter();
 				out.endDocument();
-				if (writer != null) {
-					writer.close();
-					writer = null;
+				if (outputStream != null) {
+					outputStream.close();
+					outputStream = null;
 				}
 				currentFile = new File(rootFile.getParent(), item.getSplitTarget());
 
-				writer = new OutputStreamWriter(new FileOutputStream(currentFile), StandardCharsets.UTF_8);
-				HtmlDocumentBuilder builder = new HtmlDocumentBuilder(writer, formatting);
+				outputStream = new FileOutputStream(currentFile);
+				HtmlDocumentBuilder builder = new HtmlDocumentBuilder(outputStream, formatting);
 				rootBuilder.copyConfiguration(builder);
 				if (item.getLabel() != null) {
 					String title = rootBuilder.getTitle();
@@ -346,9 +344,9 @@ public class SplittingHtmlDocumentBuilder extends DocumentBuilder {
 	public void endDocument() {
 		documentFooter();
 		out.endDocument();
-		if (writer != null) {
+		if (outputStream != null) {
 			try {
-				writer.close();
+				outputStream.close();
 			} catch (IOException e) {
 				throw new IllegalStateException();
 			}
@@ -0,0 +1,491 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An implementation of {@link XmlStreamWriter} that creates the same XML character output as
+ * {@link DefaultXmlStreamWriter} through an internal character buffer. Output is written to the underlying
+ * {@link Writer}, or encoded directly as UTF-8 to the underlying {@link OutputStream} or {@link WritableByteChannel},
+ * when the buffer is full and when the writer is {@link #flush() flushed} or {@link #close() closed}. Document builders
+ * that are given this writer emit their content to the underlying stream when the document ends or when the builder
+ * is flushed. Closing the writer does not close the underlying stream.
+ *
+ * @since 3.0.49
+ */
+public class BufferedXmlStreamWriter extends XmlStreamWriter {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	/**
+	 * The size of the buffer when encoding to bytes, which is larger so that files and sockets receive fewer writes.
+	 */
+	private static final int ENCODING_BUFFER_SIZE = 32768;
+
+	/**
+	 * The maximum number of UTF-8 bytes that encode a single {@code char}.
+	 */
+	private static final int MAX_BYTES_PER_CHAR = 3;
+
+	private final char[] buffer;
+
+	private int position;
+
+	private Writer writer;
+
+	private OutputStream stream;
+
+	private WritableByteChannel channel;
+
+	private final ByteBuffer bytes;
+
+	private boolean closed;
+
+	private final Map<String, String> prefixToUri = new HashMap<>();
+
+	private final Map<String, String> uriToPrefix = new HashMap<>();
+
+	private boolean inEmptyElement = false;
+
+	private boolean inStartElement = false;
+
+	private final Deque<String> elements = new ArrayDeque<>();
+
+	private char xmlHeaderQuoteChar = '\'';
+
+	public BufferedXmlStreamWriter(Writer out) {
+		this(out, '\'');
+	}
+
+	public BufferedXmlStreamWriter(Writer out, char xmlHeaderQuoteChar) {
+		this.writer = out;
+		this.xmlHeaderQuoteChar = xmlHeaderQuoteChar;
+		this.buffer = new char[DEFAULT_BUFFER_SIZE];
+		this.bytes = null;
+	}
+
+	/**
+	 * Creates a writer that encodes its output as UTF-8 to the given stream.
+	 */
+	public BufferedXmlStreamWriter(OutputStream out) {
+		this.stream = out;
+		this.buffer = new char[ENCODING_BUFFER_SIZE];
+		this.bytes = ByteBuffer.allocate(ENCODING_BUFFER_SIZE * MAX_BYTES_PER_CHAR);
+	}
+
+	/**
+	 * Creates a writer that encodes its output as UTF-8 to the given channel through a direct buffer.
+	 */
+	public BufferedXmlStreamWriter(WritableByteChannel out) {
+		this.channel = out;
+		this.buffer = new char[ENCODING_BUFFER_SIZE];
+		this.bytes = ByteBuffer.allocateDirect(ENCODING_BUFFER_SIZE * MAX_BYTES_PER_CHAR);
+	}
+
+	@Override
+	public void close() {
+		if (!closed) {
+			closeElement();
+			drainBuffer(true);
+			flush();
+			closed = true;
+		}
+	}
+
+	@Override
+	public void flush() {
+		if (closed) {
+			return;
+		}
+		drainBuffer(false);
+		try {
+			if (writer != null) {
+				writer.flush();
+			} else if (stream != null) {
+				stream.flush();
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Override
+	public String getPrefix(String uri) {
+		return uriToPrefix.get(uri);
+	}
+
+	@Override
+	public String getNamespaceURI(String prefix) {
+		return prefixToUri.get(prefix);
+	}
+
+	@Override
+	public void setDefaultNamespace(String uri) {
+		setPrefix("", uri); //$NON-NLS-1$
+	}
+
+	@Override
+	public void setPrefix(String prefix, String uri) {
+		prefixToUri.put(prefix, uri);
+		uriToPrefix.put(uri, prefix);
+	}
+
+	@Override
+	public void writeAttribute(String localName, String value) {
+		writeAttribute(null, null, localName, value);
+	}
+
+	@Override
+	public void writeAttribute(String namespaceURI, String localName, String value) {
+		String prefix = uriToPrefix.get(namespaceURI);
+		writeAttribute(prefix, namespaceURI, localName, value);
+	}
+
+	@Override
+	public void writeAttribute(String prefix, String namespaceURI, String localName, String value) {
+		write(' ');
+		writePrefix(prefix);
+		write(localName);
+		write('=');
+		write('"');
+		if (value != null) {
+			writeEscaped(value, XmlEscaping.ATTRIBUTE_REPLACEMENTS);
+		}
+		write('"');
+	}
+
+	@Override
+	public void writeCData(String data) {
+		closeElement();
+		write("<![CDATA["); //$NON-NLS-1$
+		write(data);
+		write("]]>"); //$NON-NLS-1$
+	}
+
+	@Override
+	public void writeCharacters(String text) {
+		closeElement();
+		if (text != null) {
+			writeEscaped(text, XmlEscaping.CONTENT_REPLACEMENTS);
+		}
+	}
+
+	@Override
+	public void writeCharacters(char[] text, int start, int len) {
+		closeElement();
+		String[] replacements = XmlEscaping.CONTENT_REPLACEMENTS;
+		int end = start + len;
+		while (start < end) {
+			int index = XmlEscaping.indexOfReplaced(replacements, text, start, end);
+			write(text, start, index);
+			if (index < end) {
+				write(XmlEscaping.replacement(replacements, text[index]));
+			}
+			start = index + 1;
+		}
+	}
+
+	public void writeCharactersUnescaped(String text) {
+		closeElement();
+		write(String.valueOf(text));
+	}
+
+	@Override
+	public void writeLiteral(String literal) {
+		writeCharactersUnescaped(literal);
+	}
+
+	@Override
+	public void writeComment(String data) {
+		closeElement();
+		write("<!-- "); //$NON-NLS-1$
+		write(data);
+		write(" -->"); //$NON-NLS-1$
+	}
+
+	@Override
+	public void writeDTD(String dtd) {
+		write(dtd);
+	}
+
+	@Override
+	public void writeDefaultNamespace(String namespaceURI) {
+		writeAttribute("xmlns", namespaceURI); //$NON-NLS-1$
+	}
+
+	private void closeElement() {
+		if (inEmptyElement) {
+			write('/');
+			write('>');
+			inEmptyElement = false;
+		} else if (inStartElement) {
+			write('>');
+			inStartElement = false;
+		}
+	}
+
+	@Override
+	public void writeEmptyElement(String localName) {
+		closeElement();
+		inEmptyElement = true;
+		write('<');
+		write(localName);
+	}
+
+	@Override
+	public void writeEmptyElement(String namespaceURI, String localName) {
+		String prefix = uriToPrefix.get(namespaceURI);
+		writeEmptyElement(prefix, localName, namespaceURI);
+	}
+
+	@Override
+	public void writeEmptyElement(String prefix, String localName, String namespaceURI) {
+		closeElement();
+		inEmptyElement = true;
+		write('<');
+		writePrefix(prefix);
+		write(localName);
+	}
+
+	@Override
+	public void writeEndDocument() {
+		if (!elements.isEmpty()) {
+			throw new IllegalStateException(elements.size() + " elements not closed"); //$NON-NLS-1$
+		}
+	}
+
+	@Override
+	public void writeEndElement() {
+		closeElement();
+		if (elements.isEmpty()) {
+			throw new IllegalStateException();
+		}
+		String name = elements.pop();
+		write('<');
+		write('/');
+		write(name);
+		write('>');
+	}
+
+	@Override
+	public void writeEntityRef(String name) {
+		closeElement();
+		write('&');
+		write(name);
+		write(';');
+	}
+
+	@Override
+	public void writeNamespace(String prefix, String namespaceURI) {
+		if (prefix == null || prefix.length() == 0 || prefix.equals("xmlns")) { //$NON-NLS-1$
+			writeDefaultNamespace(namespaceURI);
+		} else {
+			writeAttribute("xmlns:" + prefix, namespaceURI); //$NON-NLS-1$
+		}
+	}
+
+	@Override
+	public void writeProcessingInstruction(String target) {
+		closeElement();
+	}
+
+	@Override
+	public void writeProcessingInstruction(String target, String data) {
+		closeElement();
+	}
+
+	@Override
+	public void writeStartDocument() {
+		writeXmlHeader("<?xml version='1.0' ?>"); //$NON-NLS-1$
+	}
+
+	@Override
+	public void writeStartDocument(String version) {
+		writeXmlHeader("<?xml version='" + version + "' ?>"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Override
+	public void writeStartDocument(String encoding, String version) {
+		writeXmlHeader("<?xml version='" + version + "' encoding='" + encoding + "' ?>"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	@Override
+	public void writeStartElement(String localName) {
+		closeElement();
+		inStartElement = true;
+		elements.push(localName);
+		write('<');
+		write(localName);
+	}
+
+	@Override
+	public void writeStartElement(String namespaceURI, String localName) {
+		String prefix = uriToPrefix.get(namespaceURI);
+		writeStartElement(prefix, localName, namespaceURI);
+	}
+
+	@Override
+	public void writeStartElement(String prefix, String localName, String namespaceURI) {
+		closeElement();
+		inStartElement = true;
+		write('<');
+		if (prefix != null && prefix.length() > 0) {
+			elements.push(prefix + ':' + localName);
+		} else {
+			elements.push(localName);
+		}
+		writePrefix(prefix);
+		write(localName);
+	}
+
+	public char getXmlHeaderQuoteChar() {
+		return xmlHeaderQuoteChar;
+	}
+
+	public void setXmlHeaderQuoteChar(char xmlHeaderQuoteChar) {
+		this.xmlHeaderQuoteChar = xmlHeaderQuoteChar;
+	}
+
+	private void writeXmlHeader(String header) {
+		write(xmlHeaderQuoteChar == '\'' ? header : header.replace('\'', xmlHeaderQuoteChar));
+	}
+
+	private void writePrefix(String prefix) {
+		if (prefix != null && prefix.length() > 0) {
+			write(prefix);
+			write(':');
+		}
+	}
+
+	private void writeEscaped(String text, String[] replacements) {
+		int start = 0;
+		int end = text.length();
+		while (start < end) {
+			int index = XmlEscaping.indexOfReplaced(replacements, text, start, end);
+			write(text, start, index);
+			if (index < end) {
+				write(XmlEscaping.replacement(replacements, text.charAt(index)));
+			}
+			start = index + 1;
+		}
+	}
+
+	private void write(char c) {
+		if (position == buffer.length) {
+			drainBuffer(false);
+		}
+		buffer[position++] = c;
+	}
+
+	private void write(String text) {
+		write(text, 0, text.length());
+	}
+
+	private void write(String text, int start, int end) {
+		while (start < end) {
+			if (position == buffer.length) {
+				drainBuffer(false);
+			}
+			int count = Math.min(end - start, buffer.length - position);
+			text.getChars(start, start + count, buffer, position);
+			position += count;
+			start += count;
+		}
+	}
+
+	private void write(char[] text, int start, int end) {
+		while (start < end) {
+			if (position == buffer.length) {
+				drainBuffer(false);
+			}
+			int count = Math.min(end - start, buffer.length - position);
+			System.arraycopy(text, start, buffer, position, count);
+			position += count;
+			start += count;
+		}
+	}
+
+	/**
+	 * Writes the content of the buffer to the underlying writer, stream or channel. When encoding to bytes a trailing
+	 * high surrogate is retained in the buffer so that it can be encoded together with the low surrogate that follows
+	 * it, unless the buffer is drained for the last time.
+	 */
+	private void drainBuffer(boolean last) {
+		try {
+			if (writer != null) {
+				writer.write(buffer, 0, position);
+				position = 0;
+			} else {
+				int end = position;
+				if (!last && end > 0 && Character.isHighSurrogate(buffer[end - 1])) {
+					--end;
+				}
+				bytes.clear();
+				encodeUtf8(end);
+				if (stream != null) {
+					stream.write(bytes.array(), 0, bytes.position());
+				} else {
+					bytes.flip();
+					while (bytes.hasRemaining()) {
+						channel.write(bytes);
+					}
+				}
+				position -= end;
+				if (position > 0) {
+					buffer[0] = buffer[end];
+				}
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Encodes the given number of characters of the buffer as UTF-8 into the byte buffer, replacing unpaired
+	 * surrogates with {@code '?'} as the {@link java.nio.charset.StandardCharsets#UTF_8 UTF-8 charset} does.
+	 */
+	private void encodeUtf8(int end) {
+		for (int index = 0; index < end; ++index) {
+			char c = buffer[index];
+			if (c < 0x80) {
+				bytes.put((byte) c);
+			} else if (c < 0x800) {
+				bytes.put((byte) (0xC0 | (c >> 6)));
+				bytes.put((byte) (0x80 | (c & 0x3F)));
+			} else if (Character.isSurrogate(c)) {
+				if (Character.isHighSurrogate(c) && index + 1 < end && Character.isLowSurrogate(buffer[index + 1])) {
+					int codePoint = Character.toCodePoint(c, buffer[++index]);
+					bytes.put((byte) (0xF0 | (codePoint >> 18)));
+					bytes.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+					bytes.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+					bytes.put((byte) (0x80 | (codePoint & 0x3F)));
+				} else {
+					bytes.put((byte) '?');
+				}
+			} else {
+				bytes.put((byte) (0xE0 | (c >> 12)));
+				bytes.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+				bytes.put((byte) (0x80 | (c & 0x3F)));
+			}
+		}
+	}
+}
@@ -17,25 +17,20 @@ import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Stack;
-
-import com.google.common.escape.Escaper;
-import com.google.common.xml.XmlEscapers;
 
 /**
- * A default implementation of {@link XmlStreamWriter} that creates XML character output.
+ * A default implementation of {@link XmlStreamWriter} that creates XML character output. Output is written to the
+ * underlying writer as it is produced; see {@link BufferedXmlStreamWriter} for an implementation that buffers output.
  *
  * @author David Green
  * @since 3.0
  */
 public class DefaultXmlStreamWriter extends XmlStreamWriter {
 
-	private final Escaper attributeEscaper = XmlEscapers.xmlAttributeEscaper();
-
-	private final Escaper contentEscaper = XmlEscapers.xmlContentEscaper();
-
 	private PrintWriter out;
 
 	private final Map<String, String> prefixToUri = new HashMap<>();
@@ -46,7 +41,7 @@ public class DefaultXmlStreamWriter extends XmlStreamWriter {
 
 	private boolean inStartElement = false;
 
-	private final Stack<String> elements = new Stack<>();
+	private final Deque<String> elements = new ArrayDeque<>();
 
 	private char xmlHeaderQuoteChar = '\'';
 
@@ -181,7 +176,7 @@ public class DefaultXmlStreamWriter extends XmlStreamWriter {
 	@Override
 	public void writeCharacters(char[] text, int start, int len) {
 		closeElement();
-		encode(new String(text, start, len));
+		printEscaped(out, text, start, start + len);
 	}
 
 	@Override
@@ -372,9 +367,30 @@ public class DefaultXmlStreamWriter extends XmlStreamWriter {
 		return xmlHeaderQuoteChar == '\'' ? header : header.replace('\'', xmlHeaderQuoteChar);
 	}
 
-	private void printEscaped(PrintWriter writer, CharSequence s, boolean attribute) {
-		Escaper escaper = attribute ? attributeEscaper : contentEscaper;
-		writer.write(escaper.escape(s.toString()));
+	private void printEscaped(PrintWriter writer, String s, boolean attribute) {
+		String[] replacements = attribute ? XmlEscaping.ATTRIBUTE_REPLACEMENTS : XmlEscaping.CONTENT_REPLACEMENTS;
+		int start = 0;
+		int end = s.length();
+		while (start < end) {
+			int index = XmlEscaping.indexOfReplaced(replacements, s, start, end);
+			writer.write(s, start, index - start);
+			if (index < end) {
+				writer.write(XmlEscaping.replacement(replacements, s.charAt(index)));
+			}
+			start = index + 1;
+		}
+	}
+
+	private void printEscaped(PrintWriter writer, char[] s, int start, int end) {
+		String[] replacements = XmlEscaping.CONTENT_REPLACEMENTS;
+		while (start < end) {
+			int index = XmlEscaping.indexOfReplaced(replacements, s, start, end);
+			writer.write(s, start, index - start);
+			if (index < end) {
+				writer.write(XmlEscaping.replacement(replacements, s[index]));
+			}
+			start = index + 1;
+		}
 	}
 
 	/**
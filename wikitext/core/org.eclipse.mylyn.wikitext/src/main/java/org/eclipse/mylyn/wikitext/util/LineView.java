@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.util;
+
+import java.util.Objects;
+
+/**
+ * A view of a line of text read by a {@link LocationTrackingReader}, without the line delimiters. The view refers to
+ * the characters of the reader and is reused for each line that is read, so it is only valid until the next read from
+ * the reader. The text of the line is only copied when it is {@link #toString() materialized}.
+ *
+ * @see LocationTrackingReader#readLineView()
+ * @since 3.0.49
+ */
+public final class LineView implements CharSequence {
+
+	private char[] chars;
+
+	private String content;
+
+	private int start;
+
+	private int length;
+
+	private int lineNumber;
+
+	private int offset;
+
+	private String text;
+
+	LineView() {
+	}
+
+	LineView set(char[] chars, int start, int length, int lineNumber, int offset) {
+		this.chars = chars;
+		this.content = null;
+		return set(start, length, lineNumber, offset);
+	}
+
+	LineView set(String content, int start, int length, int lineNumber, int offset) {
+		this.chars = null;
+		this.content = content;
+		return set(start, length, lineNumber, offset);
+	}
+
+	private LineView set(int start, int length, int lineNumber, int offset) {
+		this.start = start;
+		this.length = length;
+		this.lineNumber = lineNumber;
+		this.offset = offset;
+		this.text = null;
+		return this;
+	}
+
+	/**
+	 * Get the 0-based line number of the line.
+	 */
+	public int getLineNumber() {
+		return lineNumber;
+	}
+
+	/**
+	 * Get the character offset of the first character of the line.
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public char charAt(int index) {
+		Objects.checkIndex(index, length);
+		return chars != null ? chars[start + index] : content.charAt(start + index);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		Objects.checkFromToIndex(start, end, length);
+		return chars != null
+				? new String(chars, this.start + start, end - start)
+				: content.substring(this.start + start, this.start + end);
+	}
+
+	/**
+	 * Materialize the text of the line. The text is copied at most once for each line.
+	 */
+	@Override
+	public String toString() {
+		if (text == null) {
+			text = chars != null ? new String(chars, start, length) : content.substring(start, start + length);
+		}
+		return text;
+	}
+}
@@ -14,10 +14,12 @@ package org.eclipse.mylyn.wikitext.util;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.Objects;
 
 /**
  * A reader class that tracks the character offset based on the number of characters read. Also provides a means for
- * reading lines of text, tracking the offset of the last line read.
+ * reading lines of text, tracking the offset of the last line read. Lines can be read as a {@link LineView view} of the
+ * characters of the reader, so that the text of a line is only copied if it is needed.
  *
  * @author David Green
  * @since 3.0
@@ -25,6 +27,10 @@ import java.io.Reader;
 public class LocationTrackingReader extends Reader {
 	private final Reader delegate;
 
+	private final String content;
+
+	private final LineView lineView = new LineView();
+
 	private int offset = -1;
 
 	private int lineOffset = -1;
@@ -43,17 +49,41 @@ public class LocationTrackingReader extends Reader {
 
 	public LocationTrackingReader(Reader delegate, int bufferSize) {
 		this.delegate = delegate;
+		this.content = null;
 		buf = new char[bufferSize];
 	}
 
+	/**
+	 * Create a reader of the given content, which reads lines directly from the content without buffering it.
+	 *
+	 * @param content
+	 *            the content to read
+	 * @since 3.0.49
+	 */
+	public LocationTrackingReader(String content) {
+		this.delegate = null;
+		this.content = Objects.requireNonNull(content, "Must provide content"); //$NON-NLS-1$
+	}
+
 	@Override
 	public void close() throws IOException {
-		delegate.close();
+		if (delegate != null) {
+			delegate.close();
+		}
 	}
 
 	@Override
 	public int read(char[] cbuf, int off, int len) throws IOException {
-		if (bufLength > 0) {
+		if (content != null) {
+			int position = offset + 1;
+			if (position >= content.length()) {
+				return len == 0 ? 0 : -1;
+			}
+			int length = Math.min(len, content.length() - position);
+			content.getChars(position, position + length, cbuf, off);
+			offset += length;
+			return length;
+		} else if (bufLength > 0) {
 			int length = Math.min(len, bufLength);
 			System.arraycopy(buf, bufOffset, cbuf, off, length);
 			bufLength -= length;
@@ -74,7 +104,14 @@ public class LocationTrackingReader extends Reader {
 
 	@Override
 	public int read() throws IOException {
-		if (bufLength > 0) {
+		if (content != null) {
+			int position = offset + 1;
+			if (position >= content.length()) {
+				return -1;
+			}
+			++offset;
+			return content.charAt(position);
+		} else if (bufLength > 0) {
 			int c = buf[bufOffset];
 			bufLength -= 1;
 			bufOffset += 1;
@@ -97,9 +134,26 @@ public class LocationTrackingReader extends Reader {
 	 *
 	 * @return the text or null if the end of input has been reached
 	 * @see #getLineOffset()
+	 * @see #readLineView()
 	 */
 	public String readLine() throws IOException {
+		LineView line = readLineView();
+		return line == null ? null : line.toString();
+	}
+
+	/**
+	 * Read a line of text as a view of the characters of this reader, omitting the line delimiters. The returned view
+	 * is reused and is only valid until the next read from this reader.
+	 *
+	 * @return the view of the line, or null if the end of input has been reached
+	 * @see #getLineOffset()
+	 * @since 3.0.49
+	 */
+	public LineView readLineView() throws IOException {
 		lineOffset = offset + 1;
+		if (content != null) {
+			return readContentLine();
+		}
 
 		int lineBufOffset = bufOffset;
 		int c = -1;
@@ -145,7 +199,7 @@ public class LocationTrackingReader extends Reader {
 
 				int stringLength = c == '\r' ? length - 2 : length - 1;
 				++lineNumber;
-				return new String(buf, lineBufOffset, stringLength);
+				return lineView.set(buf, lineBufOffset, stringLength, lineNumber, lineOffset);
 			} else if (c == '\r') {
 				int length = x - lineBufOffset;
 				bufOffset += length;
@@ -153,23 +207,47 @@ public class LocationTrackingReader extends Reader {
 				offset += length;
 				int stringLength = length - 1;
 				++lineNumber;
-				return new String(buf, lineBufOffset, stringLength);
+				return lineView.set(buf, lineBufOffset, stringLength, lineNumber, lineOffset);
 			}
 			c = nc;
 		}
 		if (bufLength > 0) {
-			String line = new String(buf, bufOffset, c == '\r' ? bufLength - 1 : bufLength);
+			++lineNumber;
+			lineView.set(buf, bufOffset, c == '\r' ? bufLength - 1 : bufLength, lineNumber, lineOffset);
 			bufOffset = 0;
 			offset += bufLength;
 			bufLength = 0;
-			++lineNumber;
-			return line;
+			return lineView;
 		} else {
 			++lineNumber;
 			return null;
 		}
 	}
 
+	private LineView readContentLine() {
+		int length = content.length();
+		if (lineOffset >= length) {
+			++lineNumber;
+			return null;
+		}
+		int end = lineOffset;
+		char c = 0;
+		while (end < length) {
+			c = content.charAt(end);
+			if (c == '\n' || c == '\r') {
+				break;
+			}
+			++end;
+		}
+		int next = end + 1;
+		if (c == '\r' && next < length && content.charAt(next) == '\n') {
+			++next;
+		}
+		offset = Math.min(next, length) - 1;
+		++lineNumber;
+		return lineView.set(content, lineOffset, end - lineOffset, lineNumber, lineOffset);
+	}
+
 	/**
 	 * Get the character offset of the last character read.
 	 */
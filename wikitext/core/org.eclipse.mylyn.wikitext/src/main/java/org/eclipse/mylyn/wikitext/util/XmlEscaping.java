@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.util;
+
+/**
+ * Table-driven escaping of XML content and attribute values, producing the same output as the Guava
+ * {@link com.google.common.xml.XmlEscapers XML escapers}. Text is scanned for the next character that must be
+ * replaced so that the runs of characters between them can be copied to the output in bulk.
+ */
+final class XmlEscaping {
+
+	private static final int TABLE_SIZE = 128;
+
+	/**
+	 * Characters above this value are not valid in XML and are replaced with {@link #INVALID_REPLACEMENT}.
+	 */
+	private static final char SAFE_MAX = '\uFFFD';
+
+	private static final String INVALID_REPLACEMENT = "\uFFFD"; //$NON-NLS-1$
+
+	static final String[] CONTENT_REPLACEMENTS = createContentReplacements();
+
+	static final String[] ATTRIBUTE_REPLACEMENTS = createAttributeReplacements();
+
+	private static String[] createContentReplacements() {
+		String[] replacements = new String[TABLE_SIZE];
+		for (char c = 0; c < ' '; ++c) {
+			if (c != '\t' && c != '\n' && c != '\r') {
+				replacements[c] = INVALID_REPLACEMENT;
+			}
+		}
+		replacements['&'] = "&amp;"; //$NON-NLS-1$
+		replacements['<'] = "&lt;"; //$NON-NLS-1$
+		replacements['>'] = "&gt;"; //$NON-NLS-1$
+		return replacements;
+	}
+
+	private static String[] createAttributeReplacements() {
+		String[] replacements = createContentReplacements();
+		replacements['\''] = "&apos;"; //$NON-NLS-1$
+		replacements['"'] = "&quot;"; //$NON-NLS-1$
+		replacements['\t'] = "&#x9;"; //$NON-NLS-1$
+		replacements['\n'] = "&#xA;"; //$NON-NLS-1$
+		replacements['\r'] = "&#xD;"; //$NON-NLS-1$
+		return replacements;
+	}
+
+	/**
+	 * Provides the index of the first character in the given range of the text that must be replaced, or {@code end}
+	 * if there is none.
+	 */
+	static int indexOfReplaced(String[] replacements, String text, int start, int end) {
+		for (int index = start; index < end; ++index) {
+			char c = text.charAt(index);
+			if (c < TABLE_SIZE ? replacements[c] != null : c > SAFE_MAX) {
+				return index;
+			}
+		}
+		return end;
+	}
+
+	/**
+	 * Provides the index of the first character in the given range of the text that must be replaced, or {@code end}
+	 * if there is none.
+	 */
+	static int indexOfReplaced(String[] replacements, char[] text, int start, int end) {
+		for (int index = start; index < end; ++index) {
+			char c = text[index];
+			if (c < TABLE_SIZE ? replacements[c] != null : c > SAFE_MAX) {
+				return index;
+			}
+		}
+		return end;
+	}
+
+	/**
+	 * Provides the replacement of a character for which {@link #indexOfReplaced(String[], String, int, int)} stopped.
+	 */
+	static String replacement(String[] replacements, char c) {
+		return c < TABLE_SIZE ? replacements[c] : INVALID_REPLACEMENT;
+	}
+
+	private XmlEscaping() {
+		// prevent instantiation
+	}
+}
@@ -14,11 +14,13 @@ package org.eclipse.mylyn.wikitext.internal.util;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringReader;
 
+import org.eclipse.mylyn.wikitext.util.LineView;
 import org.eclipse.mylyn.wikitext.util.LocationTrackingReader;
 import org.junit.Test;
 
@@ -30,8 +32,12 @@ public class LocationTrackingReaderTest {
 	@Test
 	public void testCharOffset() throws IOException {
 		String content = "aaflkjsdf \nas;dfj asl;fj\r\naslfkjasd";
+		assertCharOffset(content, new LocationTrackingReader(new StringReader(content), 16));
+		assertCharOffset(content, new LocationTrackingReader(content));
+	}
+
+	private void assertCharOffset(String content, LocationTrackingReader reader) throws IOException {
 		int count = 0;
-		LocationTrackingReader reader = new LocationTrackingReader(new StringReader(content), 16);
 		int c;
 		while ((c = reader.read()) != -1) {
 			++count;
@@ -51,7 +57,13 @@ public class LocationTrackingReaderTest {
 	}
 
 	private void doTest(String content, int[] lineOffsets, int bufSize) throws IOException {
-		LocationTrackingReader reader = new LocationTrackingReader(new StringReader(content), bufSize);
+		doTest(content, lineOffsets, new LocationTrackingReader(new StringReader(content), bufSize));
+		doTest(content, lineOffsets, new LocationTrackingReader(content));
+		doTestLineView(content, lineOffsets, new LocationTrackingReader(new StringReader(content), bufSize));
+		doTestLineView(content, lineOffsets, new LocationTrackingReader(content));
+	}
+
+	private void doTest(String content, int[] lineOffsets, LocationTrackingReader reader) throws IOException {
 		BufferedReader refReader = new BufferedReader(new StringReader(content));
 
 		int lineNumber = 0;
@@ -71,6 +83,53 @@ public class LocationTrackingReaderTest {
 		assertNull(testLine);
 	}
 
+	private void doTestLineView(String content, int[] lineOffsets, LocationTrackingReader reader) throws IOException {
+		BufferedReader refReader = new BufferedReader(new StringReader(content));
+
+		int lineNumber = 0;
+		String refLine;
+		while ((refLine = refReader.readLine()) != null) {
+			LineView line = reader.readLineView();
+
+			assertEquals(refLine.length(), line.length());
+			for (int x = 0; x < refLine.length(); ++x) {
+				assertEquals(refLine.charAt(x), line.charAt(x));
+			}
+			assertEquals(refLine, line.toString());
+			assertEquals(lineOffsets[lineNumber], line.getOffset());
+			assertEquals(lineNumber++, line.getLineNumber());
+		}
+		assertNull(reader.readLineView());
+	}
+
+	@Test
+	public void testLineViewIsReused() throws IOException {
+		LocationTrackingReader reader = new LocationTrackingReader("one\ntwo three");
+
+		LineView line = reader.readLineView();
+		assertEquals("one", line.toString());
+		assertSame(line.toString(), line.toString());
+
+		assertSame(line, reader.readLineView());
+		assertEquals("two three", line.toString());
+		assertEquals("three", line.subSequence(4, 9).toString());
+		assertEquals(4, line.getOffset());
+	}
+
+	@Test
+	public void testReadFromContent() throws IOException {
+		LocationTrackingReader reader = new LocationTrackingReader("abc\ndef");
+		char[] chars = new char[2];
+
+		assertEquals(2, reader.read(chars, 0, 2));
+		assertEquals("ab", new String(chars));
+		assertEquals("c", reader.readLine());
+		assertEquals(2, reader.getLineOffset());
+		assertEquals('d', reader.read());
+		assertEquals("ef", reader.readLine());
+		assertEquals(-1, reader.read(chars, 0, 2));
+	}
+
 	@Test
 	public void testReadLineWithWindowsNewlines() throws IOException {
 		String content = "abc\r\ndef\r\n\r\nfoo bar";
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.internal.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.io.CharStreams;
+
+public class MappedFileReaderTest {
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void emptyFile() throws IOException {
+		assertRead("", StandardCharsets.UTF_8, 16, 16);
+	}
+
+	@Test
+	public void readsContent() throws IOException {
+		assertRead("h1. Heading\n\nsome text\r\nmore text", StandardCharsets.UTF_8, 8192, 1024);
+	}
+
+	@Test
+	public void multiByteCharactersAcrossBufferAndMappingBoundaries() throws IOException {
+		StringBuilder content = new StringBuilder();
+		for (int x = 0; x < 200; ++x) {
+			content.append("été € 😀 line ").append(x).append('\n');
+		}
+		assertRead(content.toString(), StandardCharsets.UTF_8, 7, 13);
+	}
+
+	@Test
+	public void singleByteCharset() throws IOException {
+		assertRead("café au lait", StandardCharsets.ISO_8859_1, 3, 5);
+	}
+
+	private void assertRead(String content, Charset charset, int bufferSize, long mappingSize) throws IOException {
+		Path file = temporaryFolder.newFile().toPath();
+		Files.write(file, content.getBytes(charset));
+		try (Reader reader = new MappedFileReader(file, charset, bufferSize, mappingSize)) {
+			assertEquals(content, CharStreams.toString(reader));
+		}
+	}
+}
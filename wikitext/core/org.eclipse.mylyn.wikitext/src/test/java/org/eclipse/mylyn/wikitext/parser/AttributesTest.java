@@ -15,6 +15,10 @@ package org.eclipse.mylyn.wikitext.parser;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 
 import org.junit.Test;
 
@@ -39,6 +43,60 @@ public class AttributesTest {
 		assertValuesEqual(original, other);
 	}
 
+	@Test
+	public void emptyCannotBeModified() {
+		Attributes empty = Attributes.empty();
+		assertSame(empty, Attributes.empty());
+		assertThrows(UnsupportedOperationException.class, () -> empty.setCssClass("class"));
+		assertThrows(UnsupportedOperationException.class, () -> empty.appendCssClass("class"));
+		assertThrows(UnsupportedOperationException.class, () -> empty.setId("1"));
+		assertThrows(UnsupportedOperationException.class, () -> empty.setCssStyle("style"));
+		assertThrows(UnsupportedOperationException.class, () -> empty.setLanguage("lang"));
+		assertThrows(UnsupportedOperationException.class, () -> empty.setTitle("title"));
+		assertValuesEqual(new Attributes(), empty);
+	}
+
+	@Test
+	public void cloneOfEmptyCanBeModified() {
+		Attributes copy = Attributes.empty().clone();
+		assertNotSame(Attributes.empty(), copy);
+		copy.setCssClass("class");
+		assertEquals("class", copy.getCssClass());
+		assertNull(Attributes.empty().getCssClass());
+	}
+
+	@Test
+	public void appendCssClass() {
+		Attributes attributes = new Attributes();
+		attributes.appendCssClass("one");
+		assertEquals("one", attributes.getCssClass());
+		attributes.appendCssClass("two");
+		assertEquals("one two", attributes.getCssClass());
+
+		Attributes other = new Attributes(null, "one", null, null);
+		other.appendCssClass("two");
+		assertSame(attributes.getCssClass(), other.getCssClass());
+	}
+
+	@Test
+	public void appendCssStyle() {
+		Attributes attributes = new Attributes(null, null, "color: red;", null);
+		attributes.appendCssStyle("margin: 0;");
+		assertEquals("color: red; margin: 0;", attributes.getCssStyle());
+
+		Attributes other = new Attributes(null, null, "color: red;", null);
+		other.appendCssStyle("margin: 0;");
+		assertSame(attributes.getCssStyle(), other.getCssStyle());
+	}
+
+	@Test
+	public void appendLongCssClass() {
+		String longCssClass = "long".repeat(40);
+		Attributes attributes = new Attributes(null, "one", null, null);
+		attributes.appendCssClass(longCssClass);
+		assertEquals("one " + longCssClass, attributes.getCssClass());
+	}
+
 	private void assertValuesEqual(Attributes original, Attributes other) {
 		assertEquals(original.getId(), other.getId());
 		assertEquals(original.getCssClass(), other.getCssClass());
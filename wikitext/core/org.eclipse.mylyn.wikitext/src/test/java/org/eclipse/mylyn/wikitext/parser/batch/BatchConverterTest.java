@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.mylyn.wikitext.parser.Attributes;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.BlockType;
+import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.markup.AbstractMarkupLanguage;
+import org.eclipse.mylyn.wikitext.parser.markup.AbstractMarkupLanguage.PatternBasedSyntax;
+import org.eclipse.mylyn.wikitext.parser.markup.Block;
+import org.eclipse.mylyn.wikitext.parser.markup.MarkupLanguage;
+import org.junit.After;
+import org.junit.Test;
+
+public class BatchConverterTest {
+
+	private static class ParagraphLanguage extends MarkupLanguage {
+
+		private final Set<MarkupLanguage> instances;
+
+		ParagraphLanguage(Set<MarkupLanguage> instances) {
+			this.instances = instances;
+			setName("Paragraph"); //$NON-NLS-1$
+		}
+
+		@Override
+		public void processContent(MarkupParser parser, String markupContent, boolean asDocument) {
+			instances.add(this);
+			if (markupContent.startsWith("fail")) { //$NON-NLS-1$
+				throw new IllegalStateException(markupContent);
+			}
+			if (markupContent.startsWith("error")) { //$NON-NLS-1$
+				throw new AssertionError(markupContent);
+			}
+			parser.getBuilder().beginDocument();
+			parser.getBuilder().beginBlock(BlockType.PARAGRAPH, new Attributes());
+			parser.getBuilder().characters(markupContent);
+			parser.getBuilder().endBlock();
+			parser.getBuilder().endDocument();
+		}
+
+		@Override
+		public MarkupLanguage clone() {
+			return new ParagraphLanguage(instances);
+		}
+	}
+
+	private static class LineLanguage extends AbstractMarkupLanguage {
+
+		private final Set<MarkupLanguage> instances;
+
+		LineLanguage(Set<MarkupLanguage> instances) {
+			this.instances = instances;
+			setName("Line"); //$NON-NLS-1$
+		}
+
+		@Override
+		public void processContent(MarkupParser parser, Reader markupContent, boolean asDocument) throws IOException {
+			instances.add(this);
+			super.processContent(parser, markupContent, asDocument);
+		}
+
+		@Override
+		protected void addStandardTokens(PatternBasedSyntax tokenSyntax) {
+		}
+
+		@Override
+		protected void addStandardPhraseModifiers(PatternBasedSyntax phraseModifierSyntax) {
+		}
+
+		@Override
+		protected void addStandardBlocks(List<Block> blocks, List<Block> paragraphBreakingBlocks) {
+		}
+
+		@Override
+		protected Block createParagraphBlock() {
+			return new Block() {
+
+				@Override
+				public boolean canStart(String line, int lineOffset) {
+					return true;
+				}
+
+				@Override
+				protected int processLineContent(String line, int offset) {
+					builder.beginBlock(BlockType.PARAGRAPH, new Attributes());
+					builder.characters(line.substring(offset));
+					builder.endBlock();
+					setClosed(true);
+					return -1;
+				}
+			};
+		}
+
+		@Override
+		public LineLanguage clone() {
+			return new LineLanguage(instances);
+		}
+	}
+
+	private static class StringTarget implements ConversionTarget {
+
+		private final StringWriter out = new StringWriter();
+
+		private boolean closed;
+
+		@Override
+		public HtmlDocumentBuilder createDocumentBuilder() {
+			HtmlDocumentBuilder builder = new HtmlDocumentBuilder(out);
+			builder.setEmitAsDocument(false);
+			return builder;
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+
+	private final Set<MarkupLanguage> instances = ConcurrentHashMap.newKeySet();
+
+	private final ParagraphLanguage language = new ParagraphLanguage(instances);
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@After
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void resultsInJobOrder() {
+		List<ConversionJob> jobs = new ArrayList<>();
+		List<StringTarget> targets = new ArrayList<>();
+		for (int x = 0; x < 100; ++x) {
+			StringTarget target = new StringTarget();
+			targets.add(target);
+			jobs.add(new ConversionJob("doc" + x, ConversionSource.of("text " + x), language, target)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		BatchConverter converter = new BatchConverter(executor);
+		converter.setMaxInFlight(3);
+		List<ConversionResult> results = converter.convert(jobs);
+
+		assertEquals(jobs.size(), results.size());
+		for (int x = 0; x < results.size(); ++x) {
+			ConversionResult result = results.get(x);
+			assertEquals(x, result.getIndex());
+			assertTrue(result.isSuccessful());
+			assertEquals("doc" + x, result.getJob().getName()); //$NON-NLS-1$
+			assertEquals("<p>text " + x + "</p>", targets.get(x).out.toString()); //$NON-NLS-1$ //$NON-NLS-2$
+			assertTrue(targets.get(x).closed);
+		}
+		assertFalse(instances.contains(language));
+		assertTrue(instances.size() <= 4);
+	}
+
+	@Test
+	public void failuresAreIsolated() {
+		StringTarget failedTarget = new StringTarget();
+		List<ConversionJob> jobs = List.of(
+				new ConversionJob("a", ConversionSource.of("a"), language, new StringTarget()), //$NON-NLS-1$ //$NON-NLS-2$
+				new ConversionJob("b", ConversionSource.of("fail b"), language, failedTarget), //$NON-NLS-1$ //$NON-NLS-2$
+				new ConversionJob("c", () -> { //$NON-NLS-1$
+					throw new IOException("cannot open"); //$NON-NLS-1$
+				}, language, new StringTarget()),
+				new ConversionJob("d", ConversionSource.of("d"), language, new StringTarget())); //$NON-NLS-1$ //$NON-NLS-2$
+
+		List<ConversionResult> results = new BatchConverter(executor).convert(jobs);
+
+		assertTrue(results.get(0).isSuccessful());
+		assertFalse(results.get(1).isSuccessful());
+		assertEquals(IllegalStateException.class, results.get(1).getFailure().get().getClass());
+		assertTrue(failedTarget.closed);
+		assertFalse(results.get(2).isSuccessful());
+		assertEquals("cannot open", results.get(2).getFailure().get().getMessage()); //$NON-NLS-1$
+		assertTrue(results.get(3).isSuccessful());
+	}
+
+	@Test
+	public void errorsAreIsolated() {
+		List<ConversionJob> jobs = List.of(
+				new ConversionJob("a", ConversionSource.of("error a"), language, new StringTarget()), //$NON-NLS-1$ //$NON-NLS-2$
+				new ConversionJob("b", ConversionSource.of("b"), language, new StringTarget())); //$NON-NLS-1$ //$NON-NLS-2$
+
+		List<ConversionResult> results = new BatchConverter(executor).convert(jobs);
+
+		assertEquals(2, results.size());
+		assertFalse(results.get(0).isSuccessful());
+		assertEquals(AssertionError.class, results.get(0).getFailure().get().getClass());
+		assertTrue(results.get(1).isSuccessful());
+	}
+
+	@Test
+	public void languageIsNotCompiled() {
+		LineLanguage lineLanguage = new LineLanguage(instances);
+		List<ConversionJob> jobs = new ArrayList<>();
+		List<StringTarget> targets = new ArrayList<>();
+		for (int x = 0; x < 20; ++x) {
+			StringTarget target = new StringTarget();
+			targets.add(target);
+			jobs.add(new ConversionJob("doc" + x, ConversionSource.of("text " + x), lineLanguage, target)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		List<ConversionResult> results = new BatchConverter(executor).convert(jobs);
+
+		for (int x = 0; x < results.size(); ++x) {
+			assertTrue(results.get(x).isSuccessful());
+			assertEquals("<p>text " + x + "</p>", targets.get(x).out.toString()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		assertFalse(instances.contains(lineLanguage));
+		assertTrue(instances.stream().noneMatch(instance -> ((AbstractMarkupLanguage) instance).isCompiled()));
+	}
+
+	@Test
+	public void compiledLanguageIsShared() {
+		AbstractMarkupLanguage compiledLanguage = new LineLanguage(instances).compile();
+		List<ConversionJob> jobs = new ArrayList<>();
+		List<StringTarget> targets = new ArrayList<>();
+		for (int x = 0; x < 20; ++x) {
+			StringTarget target = new StringTarget();
+			targets.add(target);
+			jobs.add(new ConversionJob("doc" + x, ConversionSource.of("text " + x), compiledLanguage, target)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		List<ConversionResult> results = new BatchConverter(executor).convert(jobs);
+
+		for (int x = 0; x < results.size(); ++x) {
+			assertTrue(results.get(x).isSuccessful());
+			assertEquals("<p>text " + x + "</p>", targets.get(x).out.toString()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		assertTrue(instances.stream().allMatch(instance -> ((AbstractMarkupLanguage) instance).isCompiled()));
+	}
+
+	@Test
+	public void resultsDeliveredWhileConverting() {
+		AtomicInteger delivered = new AtomicInteger();
+		AtomicInteger started = new AtomicInteger();
+		List<ConversionJob> jobs = new ArrayList<>();
+		for (int x = 0; x < 20; ++x) {
+			jobs.add(new ConversionJob("doc" + x, () -> { //$NON-NLS-1$
+				started.incrementAndGet();
+				return ConversionSource.of("text").openReader(); //$NON-NLS-1$
+			}, language, new StringTarget()));
+		}
+		BatchConverter converter = new BatchConverter(executor);
+		converter.setMaxInFlight(2);
+		converter.convert(jobs, result -> {
+			assertTrue(started.get() <= delivered.incrementAndGet() + 2);
+		});
+		assertEquals(20, delivered.get());
+	}
+
+	@Test
+	public void clonesAreBoundedByDocumentsInFlight() {
+		List<ConversionJob> jobs = new ArrayList<>();
+		for (int x = 0; x < 50; ++x) {
+			jobs.add(new ConversionJob("doc" + x, ConversionSource.of("text"), language, new StringTarget())); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		BatchConverter converter = new BatchConverter(command -> new Thread(command).start());
+		converter.setMaxInFlight(2);
+		List<ConversionResult> results = converter.convert(jobs);
+
+		assertTrue(results.stream().allMatch(ConversionResult::isSuccessful));
+		assertFalse(instances.contains(language));
+		assertTrue(instances.size() <= 2);
+	}
+
+	@Test
+	public void defaultExecutor() {
+		List<ConversionResult> results = new BatchConverter().convert(Collections
+				.singletonList(new ConversionJob("a", ConversionSource.of("a"), language, new StringTarget()))); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(1, results.size());
+		assertTrue(results.get(0).isSuccessful());
+		assertTrue(instances.size() == 1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void maxInFlightMustBePositive() {
+		new BatchConverter().setMaxInFlight(0);
+	}
+}
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.mylyn.wikitext.parser.Attributes;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.BlockType;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.SpanType;
+import org.eclipse.mylyn.wikitext.parser.HeadingAttributes;
+import org.eclipse.mylyn.wikitext.parser.ImageAttributes;
+import org.eclipse.mylyn.wikitext.parser.LinkAttributes;
+import org.eclipse.mylyn.wikitext.parser.Locator;
+import org.eclipse.mylyn.wikitext.parser.builder.event.AcronymEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.BeginBlockEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.BeginDocumentEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.BeginHeadingEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.BeginSpanEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.CharactersEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.CharactersUnescapedEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.DocumentBuilderEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.EndBlockEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.EndDocumentEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.EndHeadingEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.EndSpanEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.EntityReferenceEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.HorizontalRuleEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.ImageEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.ImageLinkEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.LineBreakEvent;
+import org.eclipse.mylyn.wikitext.parser.builder.event.LinkEvent;
+import org.junit.Test;
+
+public class ConcurrentMultiplexingDocumentBuilderTest {
+
+	private final EventDocumentBuilder delegate1 = new EventDocumentBuilder();
+
+	private final EventDocumentBuilder delegate2 = new EventDocumentBuilder();
+
+	private final ConcurrentMultiplexingDocumentBuilder multiplexer = new ConcurrentMultiplexingDocumentBuilder(
+			delegate1, delegate2);
+
+	@Test
+	public void dispatchesAllEventsInOrder() {
+		multiplexer.beginDocument();
+		multiplexer.beginHeading(2, new HeadingAttributes());
+		multiplexer.characters("heading");
+		multiplexer.endHeading();
+		multiplexer.beginBlock(BlockType.PARAGRAPH, new Attributes());
+		multiplexer.beginSpan(SpanType.BOLD, new Attributes());
+		multiplexer.charactersUnescaped("<b>");
+		multiplexer.endSpan();
+		multiplexer.entityReference("amp");
+		multiplexer.acronym("one", "two");
+		multiplexer.image(new ImageAttributes(), "foo.png");
+		multiplexer.imageLink(new LinkAttributes(), new ImageAttributes(), "https://example.com", "foo.png");
+		multiplexer.link(new LinkAttributes(), "https://example.com", "test");
+		multiplexer.lineBreak();
+		multiplexer.endBlock();
+		multiplexer.horizontalRule();
+		multiplexer.endDocument();
+
+		assertEvents(new BeginDocumentEvent(), new BeginHeadingEvent(2, new HeadingAttributes()),
+				new CharactersEvent("heading"), new EndHeadingEvent(),
+				new BeginBlockEvent(BlockType.PARAGRAPH, new Attributes()),
+				new BeginSpanEvent(SpanType.BOLD, new Attributes()), new CharactersUnescapedEvent("<b>"),
+				new EndSpanEvent(), new EntityReferenceEvent("amp"), new AcronymEvent("one", "two"),
+				new ImageEvent(new ImageAttributes(), "foo.png"),
+				new ImageLinkEvent(new LinkAttributes(), new ImageAttributes(), "https://example.com", "foo.png"),
+				new LinkEvent(new LinkAttributes(), "https://example.com", "test"), new LineBreakEvent(),
+				new EndBlockEvent(), new HorizontalRuleEvent(), new EndDocumentEvent());
+	}
+
+	@Test
+	public void documentLargerThanBuffer() {
+		StringWriter expected = new StringWriter();
+		buildDocument(new MultiplexingDocumentBuilder(new HtmlDocumentBuilder(expected)));
+
+		StringWriter out1 = new StringWriter();
+		StringWriter out2 = new StringWriter();
+		buildDocument(new ConcurrentMultiplexingDocumentBuilder(command -> new Thread(command).start(), 4,
+				new HtmlDocumentBuilder(out1), new HtmlDocumentBuilder(out2, true)));
+		assertEquals(expected.toString(), out1.toString());
+		assertTrue(out2.toString().contains("<p>paragraph 999</p>"));
+	}
+
+	@Test
+	public void flushWaitsForDelegates() {
+		List<String> flushed = new ArrayList<>();
+		DocumentBuilder delegate = new EventDocumentBuilder() {
+			@Override
+			public void flush() {
+				flushed.add("events " + getDocumentBuilderEvents().getEvents().size());
+			}
+		};
+		ConcurrentMultiplexingDocumentBuilder builder = new ConcurrentMultiplexingDocumentBuilder(delegate);
+		builder.flush();
+		builder.beginDocument();
+		builder.characters("text");
+		builder.flush();
+		assertEquals(Arrays.asList("events 0", "events 2"), flushed);
+		builder.close();
+	}
+
+	@Test
+	public void delegateFailureIsRethrown() {
+		IllegalStateException failure = new IllegalStateException();
+		DocumentBuilder failing = new EventDocumentBuilder() {
+			@Override
+			public void characters(String text) {
+				throw failure;
+			}
+		};
+		ConcurrentMultiplexingDocumentBuilder builder = new ConcurrentMultiplexingDocumentBuilder(failing, delegate1);
+		builder.beginDocument();
+		builder.characters("text");
+		builder.lineBreak();
+		assertSame(failure, assertThrows(IllegalStateException.class, builder::endDocument));
+		assertEquals(Arrays.asList(new BeginDocumentEvent(), new CharactersEvent("text"), new LineBreakEvent(),
+				new EndDocumentEvent()), delegate1.getDocumentBuilderEvents().getEvents());
+	}
+
+	@Test
+	public void delegatesReceiveLocationOfEvent() {
+		int[] lineNumber = new int[1];
+		List<Integer> lineNumbers = new ArrayList<>();
+		DocumentBuilder delegate = new EventDocumentBuilder() {
+			@Override
+			public void characters(String text) {
+				lineNumbers.add(getLocator().getLineNumber());
+			}
+		};
+		ConcurrentMultiplexingDocumentBuilder builder = new ConcurrentMultiplexingDocumentBuilder(delegate);
+		builder.setLocator(lineNumberLocator(lineNumber));
+		builder.beginDocument();
+		for (int x = 1; x <= 100; ++x) {
+			lineNumber[0] = x;
+			builder.characters("line");
+		}
+		builder.endDocument();
+		builder.setLocator(null);
+		assertEquals(100, lineNumbers.size());
+		for (int x = 0; x < 100; ++x) {
+			assertEquals(x + 1, lineNumbers.get(x).intValue());
+		}
+		assertNull(delegate.getLocator());
+	}
+
+	@Test
+	public void threadsEndWithDocument() throws InterruptedException {
+		CountDownLatch ended = new CountDownLatch(4);
+		Executor executor = command -> new Thread(() -> {
+			command.run();
+			ended.countDown();
+		}).start();
+		ConcurrentMultiplexingDocumentBuilder builder = new ConcurrentMultiplexingDocumentBuilder(executor, 16,
+				delegate1, delegate2);
+		builder.beginDocument();
+		builder.endDocument();
+		builder.beginDocument();
+		builder.close();
+		assertTrue(ended.await(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void addDocumentBuilderWhileBuilding() {
+		multiplexer.beginDocument();
+		assertThrows(IllegalStateException.class, () -> multiplexer.addDocumentBuilder(new NoOpDocumentBuilder()));
+		multiplexer.endDocument();
+		multiplexer.addDocumentBuilder(new NoOpDocumentBuilder());
+	}
+
+	private void buildDocument(DocumentBuilder builder) {
+		builder.beginDocument();
+		for (int x = 0; x < 1000; ++x) {
+			builder.beginBlock(BlockType.PARAGRAPH, new Attributes());
+			builder.characters("paragraph " + x);
+			builder.endBlock();
+		}
+		builder.endDocument();
+	}
+
+	private Locator lineNumberLocator(int[] lineNumber) {
+		return new Locator() {
+
+			@Override
+			public int getLineNumber() {
+				return lineNumber[0];
+			}
+
+			@Override
+			public int getLineDocumentOffset() {
+				return 0;
+			}
+
+			@Override
+			public int getDocumentOffset() {
+				return 0;
+			}
+
+			@Override
+			public int getLineLength() {
+				return 0;
+			}
+
+			@Override
+			public int getLineCharacterOffset() {
+				return 0;
+			}
+
+			@Override
+			public int getLineSegmentEndOffset() {
+				return 0;
+			}
+		};
+	}
+
+	private void assertEvents(DocumentBuilderEvent... events) {
+		List<DocumentBuilderEvent> expectedEvents = Arrays.asList(events);
+
+		assertEquals(expectedEvents, delegate1.getDocumentBuilderEvents().getEvents());
+		assertEquals(expectedEvents, delegate2.getDocumentBuilderEvents().getEvents());
+	}
+}
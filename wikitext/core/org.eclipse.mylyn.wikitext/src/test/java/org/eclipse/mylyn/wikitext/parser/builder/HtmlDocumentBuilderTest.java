@@ -16,6 +16,7 @@ package org.eclipse.mylyn.wikitext.parser.builder;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -27,6 +28,7 @@ import java.nio.charset.StandardCharsets;
 import org.eclipse.mylyn.wikitext.parser.Attributes;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.BlockType;
 import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.SpanType;
+import org.eclipse.mylyn.wikitext.parser.ImageAttributes;
 import org.eclipse.mylyn.wikitext.parser.ListAttributes;
 import org.eclipse.mylyn.wikitext.parser.TableAttributes;
 import org.eclipse.mylyn.wikitext.parser.TableCellAttributes;
@@ -309,6 +311,80 @@ public class HtmlDocumentBuilderTest {
 		assertExpected("tableWithoutAttributes");
 	}
 
+	@Test
+	public void attributesAreNotModified() {
+		builder.setEmitAsDocument(false);
+		builder.setXhtmlStrict(true);
+		Attributes blockAttributes = new Attributes(null, "custom", null, null);
+		ImageAttributes imageAttributes = new ImageAttributes();
+		imageAttributes.setBorder(1);
+		builder.beginDocument();
+		builder.beginBlock(BlockType.TIP, blockAttributes);
+		builder.image(imageAttributes, "test.png");
+		builder.endBlock();
+		builder.endDocument();
+		assertEquals("<div class=\"custom tip\" style=\"border: 1px solid #090;background-color: #dfd;margin: 20px;"
+				+ "padding: 0px 6px 0px 6px;\"><img style=\"border-width: 1px;\" alt=\"\" src=\"test.png\"/></div>",
+				out.toString());
+		assertEquals("custom", blockAttributes.getCssClass());
+		assertNull(imageAttributes.getCssStyle());
+	}
+
+	@Test
+	public void subclassRetainsAttributes() {
+		assertFalse(builder.retainsAttributes());
+		HtmlDocumentBuilder subclass = new HtmlDocumentBuilder(out) {
+			@Override
+			public void beginBlock(BlockType type, Attributes attributes) {
+				attributes.appendCssClass("sub");
+				super.beginBlock(type, attributes);
+			}
+		};
+		assertTrue(subclass.retainsAttributes());
+		subclass.setEmitAsDocument(false);
+		subclass.beginDocument();
+		Attributes attributes = new Attributes();
+		attributes.setTitle("Title");
+		subclass.beginBlock(BlockType.DIV, attributes);
+		subclass.endBlock();
+		subclass.endDocument();
+		assertEquals("<div class=\"sub\"><p class=\"sub\"><b>Title</b></p></div>", out.toString());
+	}
+
+	@Test
+	public void blockStylesFollowStyleSettings() {
+		builder.setEmitAsDocument(false);
+		builder.setXhtmlStrict(true);
+		Attributes attributes = new Attributes(null, "custom", "color: red;", null);
+		String tipStyle = "border: 1px solid #090;background-color: #dfd;margin: 20px;padding: 0px 6px 0px 6px;";
+		builder.beginDocument();
+		builder.beginBlock(BlockType.TIP, attributes);
+		builder.endBlock();
+		builder.beginBlock(BlockType.TIP, attributes);
+		builder.endBlock();
+		builder.setSuppressBuiltInStyles(true);
+		builder.beginBlock(BlockType.TIP, attributes);
+		builder.endBlock();
+		builder.setSuppressBuiltInStyles(false);
+		builder.beginBlock(BlockType.TIP, new Attributes());
+		builder.endBlock();
+		builder.endDocument();
+		String styledTip = "<div class=\"custom tip\" style=\"color: red; " + tipStyle + "\"></div>";
+		assertEquals(styledTip + styledTip + "<div class=\"custom tip\" style=\"color: red;\"></div>"
+				+ "<div class=\"tip\" style=\"" + tipStyle + "\"></div>", out.toString());
+	}
+
+	@Test
+	public void builtInStylesAsStylesheet() {
+		builder.setUseInlineStyles(false);
+		builder.beginDocument();
+		builder.beginBlock(BlockType.NOTE, new Attributes());
+		builder.endBlock();
+		builder.endDocument();
+		assertTrue(out.toString().contains(".note {border: 1px solid #F0C000;"));
+		assertTrue(out.toString().contains("<div class=\"note\"></div>"));
+	}
+
 	private TableAttributes tableAttributesWithBorderAndAlign() {
 		TableAttributes attributes = new TableAttributes();
 		attributes.setAlign("left");
@@ -15,9 +15,12 @@
 package org.eclipse.mylyn.wikitext.parser.builder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -203,6 +206,18 @@ public class MultiplexingDocumentBuilderTest {
 		assertTrue(flushed.get());
 	}
 
+	@Test
+	public void retainsAttributesIfAnyDelegateRetainsAttributes() {
+		assertTrue(multiplexer.retainsAttributes());
+		multiplexer = new MultiplexingDocumentBuilder(new NoOpDocumentBuilder(),
+				new HtmlDocumentBuilder(new StringWriter()));
+		assertFalse(multiplexer.retainsAttributes());
+		assertSame(Attributes.empty(), multiplexer.emptyAttributes());
+		multiplexer.addDocumentBuilder(delegate1);
+		assertTrue(multiplexer.retainsAttributes());
+		assertNotSame(Attributes.empty(), multiplexer.emptyAttributes());
+	}
+
 	private void assertEvents(DocumentBuilderEvent... events) {
 		List<DocumentBuilderEvent> expectedEvents = Arrays.asList(events);
 
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder.Stylesheet;
+import org.eclipse.mylyn.wikitext.util.BufferedXmlStreamWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class StylesheetContentCacheTest {
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private final StylesheetContentCache cache = new StylesheetContentCache(2);
+
+	private final AtomicInteger loadCount = new AtomicInteger();
+
+	@Test
+	public void unmodifiedFileIsLoadedOnce() throws IOException {
+		File file = newFile("body { color: red; }");
+		StylesheetContentCache.Content content = get(file, "body { color: red; }");
+		assertSame(content, get(file, "not loaded"));
+		assertEquals("body { color: red; }", content.getCss());
+		assertEquals(1, loadCount.get());
+	}
+
+	@Test
+	public void modifiedFileIsLoadedAgain() throws IOException {
+		File file = newFile("p {}");
+		get(file, "p {}");
+		Files.writeString(file.toPath(), "p { margin: 0; }");
+		assertEquals("p { margin: 0; }", get(file, "p { margin: 0; }").getCss());
+		assertEquals(2, loadCount.get());
+	}
+
+	@Test
+	public void missingFileIsNotCached() throws IOException {
+		File file = new File(temporaryFolder.getRoot(), "missing.css");
+		get(file, "a {}");
+		get(file, "a {}");
+		assertEquals(2, loadCount.get());
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void sizeIsBounded() throws IOException {
+		File first = newFile("a {}");
+		get(first, "a {}");
+		get(newFile("b {}"), "b {}");
+		get(newFile("c {}"), "c {}");
+		assertEquals(2, cache.size());
+		get(first, "a {}");
+		assertEquals(4, loadCount.get());
+	}
+
+	@Test
+	public void escapedCss() {
+		StylesheetContentCache.Content content = new StylesheetContentCache.Content("a > b { content: \"&\"; }");
+		assertEquals("a &gt; b { content: \"&amp;\"; }", content.getEscapedCss());
+		assertSame(content.getEscapedCss(), content.getEscapedCss());
+	}
+
+	@Test
+	public void embeddedStylesheetFromFile() throws IOException {
+		Stylesheet stylesheet = new Stylesheet(newFile("a > b { color: red; }"));
+		String expected = "<style type=\"text/css\">a &gt; b { color: red; }</style>";
+		assertTrue(emitDocument(HtmlDocumentBuilder::new, stylesheet).contains(expected));
+		assertTrue(emitDocument(out -> new HtmlDocumentBuilder(out, true), stylesheet).contains(expected));
+		assertTrue(emitDocument(out -> new HtmlDocumentBuilder(new BufferedXmlStreamWriter(out)), stylesheet)
+				.contains(expected));
+	}
+
+	@Test
+	public void embeddedStylesheetFromReaderInMultipleDocuments() {
+		Stylesheet stylesheet = new Stylesheet(new StringReader("p { color: red; }"));
+		String expected = "<style type=\"text/css\">p { color: red; }</style>";
+		assertTrue(emitDocument(HtmlDocumentBuilder::new, stylesheet).contains(expected));
+		assertTrue(emitDocument(HtmlDocumentBuilder::new, stylesheet).contains(expected));
+	}
+
+	@Test
+	public void embeddedStylesheetFromOverriddenReaderIsNotShared() throws IOException {
+		Stylesheet stylesheet = new Stylesheet(newFile("a { color: red; }"));
+		assertTrue(emitDocument(HtmlDocumentBuilder::new, stylesheet).contains("a { color: red; }"));
+
+		AtomicInteger readCount = new AtomicInteger();
+		Function<Writer, HtmlDocumentBuilder> overridingFactory = out -> new HtmlDocumentBuilder(out) {
+			@Override
+			protected Reader getReader(File inputFile) {
+				readCount.incrementAndGet();
+				return new StringReader("b { color: blue; }");
+			}
+		};
+		String expected = "<style type=\"text/css\">b { color: blue; }</style>";
+		assertTrue(emitDocument(overridingFactory, stylesheet).contains(expected));
+		assertTrue(emitDocument(overridingFactory, stylesheet).contains(expected));
+		assertEquals(2, readCount.get());
+		assertTrue(emitDocument(HtmlDocumentBuilder::new, stylesheet).contains("a { color: red; }"));
+	}
+
+	private String emitDocument(Function<Writer, HtmlDocumentBuilder> builderFactory, Stylesheet stylesheet) {
+		StringWriter out = new StringWriter();
+		HtmlDocumentBuilder builder = builderFactory.apply(out);
+		builder.addCssStylesheet(stylesheet);
+		builder.beginDocument();
+		builder.endDocument();
+		return out.toString();
+	}
+
+	private StylesheetContentCache.Content get(File file, String css) throws IOException {
+		return cache.get(file, () -> {
+			loadCount.incrementAndGet();
+			return css;
+		});
+	}
+
+	private File newFile(String content) throws IOException {
+		File file = temporaryFolder.newFile();
+		Files.writeString(file.toPath(), content, StandardCharsets.UTF_8);
+		return file;
+	}
+}
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.builder.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.eclipse.mylyn.wikitext.parser.Attributes;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.BlockType;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.SpanType;
+import org.eclipse.mylyn.wikitext.parser.HeadingAttributes;
+import org.eclipse.mylyn.wikitext.parser.ImageAttributes;
+import org.eclipse.mylyn.wikitext.parser.ImageAttributes.Align;
+import org.eclipse.mylyn.wikitext.parser.LinkAttributes;
+import org.eclipse.mylyn.wikitext.parser.ListAttributes;
+import org.eclipse.mylyn.wikitext.parser.TableCellAttributes;
+import org.eclipse.mylyn.wikitext.parser.builder.EventDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.builder.NoOpDocumentBuilder;
+import org.junit.Test;
+
+public class BinaryDocumentBuilderEventsTest {
+
+	@Test
+	public void replaysAllEvents() {
+		BinaryEventDocumentBuilder builder = new BinaryEventDocumentBuilder();
+		builder.beginDocument();
+		builder.beginHeading(2, new HeadingAttributes());
+		builder.characters("heading");
+		builder.endHeading();
+		builder.beginBlock(BlockType.PARAGRAPH, new Attributes("id1", "a b", "color: red;", "en"));
+		builder.beginSpan(SpanType.BOLD, new Attributes());
+		builder.charactersUnescaped("<b>");
+		builder.endSpan();
+		builder.entityReference("amp");
+		builder.acronym("one", "two");
+		builder.image(new ImageAttributes(), "foo.png");
+		builder.imageLink(new LinkAttributes(), new ImageAttributes(), "https://example.com", "foo.png");
+		builder.link(new LinkAttributes(), "https://example.com", "test");
+		builder.lineBreak();
+		builder.endBlock();
+		builder.horizontalRule();
+		builder.endDocument();
+
+		assertEquals(Arrays.asList(new BeginDocumentEvent(), new BeginHeadingEvent(2, new HeadingAttributes()),
+				new CharactersEvent("heading"), new EndHeadingEvent(),
+				new BeginBlockEvent(BlockType.PARAGRAPH, new Attributes()),
+				new BeginSpanEvent(SpanType.BOLD, new Attributes()), new CharactersUnescapedEvent("<b>"),
+				new EndSpanEvent(), new EntityReferenceEvent("amp"), new AcronymEvent("one", "two"),
+				new ImageEvent(new ImageAttributes(), "foo.png"),
+				new ImageLinkEvent(new LinkAttributes(), new ImageAttributes(), "https://example.com", "foo.png"),
+				new LinkEvent(new LinkAttributes(), "https://example.com", "test"), new LineBreakEvent(),
+				new EndBlockEvent(), new HorizontalRuleEvent(), new EndDocumentEvent()),
+				builder.getBinaryDocumentBuilderEvents().toDocumentBuilderEvents().getEvents());
+	}
+
+	@Test
+	public void replaysAttributes() {
+		ImageAttributes imageAttributes = new ImageAttributes();
+		imageAttributes.setCssClass("image");
+		imageAttributes.setTitle("title");
+		imageAttributes.setWidth(50);
+		imageAttributes.setWidthPercentage(true);
+		imageAttributes.setBorder(-2);
+		imageAttributes.setAlign(Align.Middle);
+		imageAttributes.setAlt("alternative");
+		LinkAttributes linkAttributes = new LinkAttributes();
+		linkAttributes.setRel("nofollow");
+		linkAttributes.setTarget("_blank");
+		TableCellAttributes cellAttributes = new TableCellAttributes();
+		cellAttributes.setColspan("2");
+		cellAttributes.setScope("col");
+		ListAttributes listAttributes = new ListAttributes();
+		listAttributes.setStart("3");
+		HeadingAttributes headingAttributes = new HeadingAttributes();
+		headingAttributes.setOmitFromTableOfContents(true);
+
+		BinaryEventDocumentBuilder builder = new BinaryEventDocumentBuilder();
+		builder.imageLink(linkAttributes, imageAttributes, "https://example.com", "foo.png");
+		builder.beginBlock(BlockType.TABLE_CELL_NORMAL, cellAttributes);
+		builder.beginBlock(BlockType.NUMERIC_LIST, listAttributes);
+		builder.beginHeading(1, headingAttributes);
+		builder.link(null, "#a", null);
+
+		Attributes[][] replayed = new Attributes[5][];
+		builder.getBinaryDocumentBuilderEvents().applyTo(new NoOpDocumentBuilder() {
+			@Override
+			public void imageLink(Attributes linkAttributes, Attributes imageAttributes, String href,
+					String imageUrl) {
+				replayed[0] = new Attributes[] { linkAttributes, imageAttributes };
+			}
+
+			@Override
+			public void beginBlock(BlockType type, Attributes attributes) {
+				replayed[type == BlockType.NUMERIC_LIST ? 2 : 1] = new Attributes[] { attributes };
+			}
+
+			@Override
+			public void beginHeading(int level, Attributes attributes) {
+				replayed[3] = new Attributes[] { attributes };
+			}
+
+			@Override
+			public void link(Attributes attributes, String hrefOrHashName, String text) {
+				assertNull(text);
+				replayed[4] = new Attributes[] { attributes };
+			}
+		});
+
+		LinkAttributes replayedLink = (LinkAttributes) replayed[0][0];
+		assertEquals("nofollow", replayedLink.getRel());
+		assertEquals("_blank", replayedLink.getTarget());
+		ImageAttributes replayedImage = (ImageAttributes) replayed[0][1];
+		assertEquals("image", replayedImage.getCssClass());
+		assertEquals("title", replayedImage.getTitle());
+		assertEquals(50, replayedImage.getWidth());
+		assertTrue(replayedImage.isWidthPercentage());
+		assertEquals(-1, replayedImage.getHeight());
+		assertEquals(-2, replayedImage.getBorder());
+		assertEquals(Align.Middle, replayedImage.getAlign());
+		assertEquals("alternative", replayedImage.getAlt());
+		TableCellAttributes replayedCell = (TableCellAttributes) replayed[1][0];
+		assertEquals("2", replayedCell.getColspan());
+		assertEquals("col", replayedCell.getScope());
+		assertEquals("3", ((ListAttributes) replayed[2][0]).getStart());
+		assertTrue(((HeadingAttributes) replayed[3][0]).isOmitFromTableOfContents());
+		assertNull(replayed[4][0]);
+	}
+
+	@Test
+	public void replayedDocumentMatchesBuiltDocument() throws IOException {
+		StringWriter expected = new StringWriter();
+		buildDocument(new HtmlDocumentBuilder(expected));
+
+		BinaryEventDocumentBuilder builder = new BinaryEventDocumentBuilder();
+		buildDocument(builder);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		builder.getBinaryDocumentBuilderEvents().writeTo(out);
+
+		BinaryDocumentBuilderEvents events = BinaryDocumentBuilderEvents.fromByteArray(out.toByteArray());
+		assertEquals(builder.getBinaryDocumentBuilderEvents(), events);
+		StringWriter replayed = new StringWriter();
+		events.applyTo(new HtmlDocumentBuilder(replayed));
+		assertEquals(expected.toString(), replayed.toString());
+	}
+
+	@Test
+	public void ofDocumentBuilderEvents() {
+		EventDocumentBuilder builder = new EventDocumentBuilder();
+		builder.beginDocument();
+		builder.characters("text");
+		builder.endDocument();
+		DocumentBuilderEvents events = builder.getDocumentBuilderEvents();
+		assertEquals(events.getEvents(), BinaryDocumentBuilderEvents.of(events).toDocumentBuilderEvents().getEvents());
+	}
+
+	@Test
+	public void stringsAreInterned() {
+		BinaryEventDocumentBuilder builder = new BinaryEventDocumentBuilder();
+		builder.beginBlock(BlockType.PARAGRAPH, new Attributes(null, "a-long-css-class", null, null));
+		int singleBlockLength = builder.getBinaryDocumentBuilderEvents().toByteArray().length;
+		builder.beginBlock(BlockType.PARAGRAPH, new Attributes(null, "a-long-css-class", null, null));
+		int difference = builder.getBinaryDocumentBuilderEvents().toByteArray().length - singleBlockLength;
+		assertEquals(8, difference);
+	}
+
+	@Test
+	public void invalidEncoding() {
+		assertThrows(IllegalArgumentException.class, () -> BinaryDocumentBuilderEvents.fromByteArray(new byte[0]));
+		assertThrows(IllegalArgumentException.class,
+				() -> BinaryDocumentBuilderEvents.fromByteArray(new byte[] { 'W', 'T', 'E', 'V', 2 }));
+
+		BinaryEventDocumentBuilder builder = new BinaryEventDocumentBuilder();
+		builder.beginDocument();
+		builder.characters("text");
+		byte[] bytes = builder.getBinaryDocumentBuilderEvents().toByteArray();
+		assertThrows(IllegalArgumentException.class,
+				() -> BinaryDocumentBuilderEvents.fromByteArray(Arrays.copyOf(bytes, bytes.length - 1)));
+		bytes[bytes.length - 3] = 99;
+		assertThrows(IllegalArgumentException.class, () -> BinaryDocumentBuilderEvents.fromByteArray(bytes));
+	}
+
+	@Test
+	public void toByteArrayIsCopy() {
+		BinaryEventDocumentBuilder builder = new BinaryEventDocumentBuilder();
+		builder.beginDocument();
+		BinaryDocumentBuilderEvents events = builder.getBinaryDocumentBuilderEvents();
+		byte[] bytes = events.toByteArray();
+		bytes[0] = 0;
+		assertNotEquals(bytes[0], events.toByteArray()[0]);
+		assertTrue(events.toString().contains("bytes=" + bytes.length));
+	}
+
+	private void buildDocument(DocumentBuilder builder) {
+		builder.beginDocument();
+		builder.beginHeading(1, new HeadingAttributes());
+		builder.characters("Heading");
+		builder.endHeading();
+		for (int x = 0; x < 3; ++x) {
+			builder.beginBlock(BlockType.PARAGRAPH, new Attributes(null, "para", null, null));
+			builder.characters("paragraph " + x + " with \u00e9\u4e2d\ud83d\ude00 ");
+			builder.beginSpan(SpanType.BOLD, new Attributes());
+			builder.characters("bold");
+			builder.endSpan();
+			builder.link(new LinkAttributes(), "https://example.com/" + x, "link");
+			builder.endBlock();
+		}
+		builder.beginBlock(BlockType.BULLETED_LIST, new Attributes());
+		builder.beginBlock(BlockType.LIST_ITEM, new Attributes());
+		builder.characters("item");
+		builder.endBlock();
+		builder.endBlock();
+		builder.endDocument();
+	}
+}
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.incremental;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.mylyn.wikitext.parser.Attributes;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.BlockType;
+import org.eclipse.mylyn.wikitext.parser.IdGenerator;
+import org.eclipse.mylyn.wikitext.parser.MarkupParser;
+import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.markup.MarkupLanguage;
+import org.junit.Test;
+
+public class IncrementalParserTest {
+
+	/**
+	 * A language of blocks separated by blank lines, where a block starting with <code># </code> is a heading and a
+	 * line starting with <code>=</code> is a definition.
+	 */
+	private static class BlockLanguage extends MarkupLanguage {
+
+		BlockLanguage() {
+			setName("Block"); //$NON-NLS-1$
+		}
+
+		@Override
+		public void processContent(MarkupParser parser, String markupContent, boolean asDocument) {
+			if (asDocument) {
+				parser.getBuilder().beginDocument();
+			}
+			process(parser.getBuilder(), markupContent, new IdGenerator(), null);
+			if (asDocument) {
+				parser.getBuilder().endDocument();
+			}
+		}
+
+		@Override
+		public void processContent(MarkupParser parser, String markupContent, IncrementalParseContext context) {
+			process(parser.getBuilder(), markupContent, context.getIdGenerator(), context);
+		}
+
+		private void process(DocumentBuilder builder, String content, IdGenerator idGenerator,
+				IncrementalParseContext context) {
+			int offset = 0;
+			while (offset < content.length()) {
+				int end = content.indexOf("\n\n", offset); //$NON-NLS-1$
+				end = end == -1 ? content.length() : end;
+				if (end > offset) {
+					if (context != null) {
+						context.blockStart(offset);
+					}
+					String text = content.substring(offset, end);
+					if (text.startsWith("# ")) { //$NON-NLS-1$
+						builder.beginHeading(1, new Attributes(idGenerator.newId("h1", text.substring(2)), null, //$NON-NLS-1$
+								null, null));
+						builder.characters(text.substring(2));
+						builder.endHeading();
+					} else {
+						builder.beginBlock(BlockType.PARAGRAPH, new Attributes());
+						builder.characters(text);
+						builder.endBlock();
+						if (text.startsWith("=") && context != null) { //$NON-NLS-1$
+							context.addDefinition("definition", text); //$NON-NLS-1$
+						}
+					}
+				}
+				offset = end + 2;
+			}
+		}
+	}
+
+	private static class FullParseLanguage extends BlockLanguage {
+
+		@Override
+		public void processContent(MarkupParser parser, String markupContent, IncrementalParseContext context) {
+			context.requireFullParse();
+			super.processContent(parser, markupContent, context);
+		}
+	}
+
+	private final IncrementalParser parser = new IncrementalParser(new BlockLanguage());
+
+	@Test
+	public void parse() {
+		List<ParsedBlock> blocks = parser.parse("one\n\ntwo\n\nthree"); //$NON-NLS-1$
+
+		assertEquals(3, blocks.size());
+		assertBlock(blocks.get(0), 0, 5);
+		assertBlock(blocks.get(1), 5, 5);
+		assertBlock(blocks.get(2), 10, 5);
+		assertEquals("<p>one</p><p>two</p><p>three</p>", emit(parser)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void updateWithinBlock() {
+		parser.parse("one\n\ntwo\n\nthree\n\nfour\n\nfive\n\nsix\n\nseven"); //$NON-NLS-1$
+
+		ParseDelta delta = parser.update(new TextEdit(10, 5, "THREE")); //$NON-NLS-1$
+
+		assertFalse(delta.isFullParse());
+		assertEquals(1, delta.getBlockIndex());
+		assertEquals(2, delta.getRemovedBlockCount());
+		assertEquals(2, delta.getInsertedBlocks().size());
+		assertEquals(7, parser.getBlocks().size());
+		assertEquals("<p>one</p><p>two</p><p>THREE</p><p>four</p><p>five</p><p>six</p><p>seven</p>", //$NON-NLS-1$
+				emit(parser));
+	}
+
+	@Test
+	public void updateShiftsFollowingBlocks() {
+		parser.parse("one\n\ntwo\n\nthree\n\nfour\n\nfive\n\nsix\n\nseven"); //$NON-NLS-1$
+
+		parser.update(new TextEdit(5, 0, "inserted\n\n")); //$NON-NLS-1$
+
+		List<ParsedBlock> blocks = parser.getBlocks();
+		assertEquals(8, blocks.size());
+		assertBlock(blocks.get(1), 5, 10);
+		assertBlock(blocks.get(2), 15, 5);
+		assertBlock(blocks.get(7), 44, 5);
+	}
+
+	@Test
+	public void updateChangingIdsOfFollowingBlocks() {
+		parser.parse("# a\n\none\n\n# b\n\ntwo\n\nthree\n\nfour\n\n# c\n\n# b"); //$NON-NLS-1$
+		assertEquals(fullParse(parser.getContent()), emit(parser));
+
+		ParseDelta delta = parser.update(new TextEdit(5, 3, "# b")); //$NON-NLS-1$
+
+		assertFalse(delta.isFullParse());
+		assertEquals(parser.getBlocks().size() - delta.getBlockIndex(), delta.getInsertedBlocks().size());
+		assertEquals(fullParse(parser.getContent()), emit(parser));
+	}
+
+	@Test
+	public void updateChangingDefinitions() {
+		parser.parse("one\n\n=two\n\nthree\n\nfour\n\nfive"); //$NON-NLS-1$
+
+		assertFalse(parser.update(new TextEdit(0, 0, "zero")).isFullParse()); //$NON-NLS-1$
+		assertTrue(parser.update(new TextEdit(10, 0, "x")).isFullParse()); //$NON-NLS-1$
+		assertTrue(parser.update(new TextEdit(9, 1, "")).isFullParse()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void updateRequiringFullParse() {
+		IncrementalParser fullParser = new IncrementalParser(new FullParseLanguage());
+		fullParser.parse("one\n\ntwo\n\nthree\n\nfour"); //$NON-NLS-1$
+
+		ParseDelta delta = fullParser.update(new TextEdit(0, 3, "ONE")); //$NON-NLS-1$
+
+		assertTrue(delta.isFullParse());
+		assertEquals(0, delta.getBlockIndex());
+		assertEquals(4, delta.getRemovedBlockCount());
+		assertEquals("<p>ONE</p><p>two</p><p>three</p><p>four</p>", emit(fullParser)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void updateWithDefaultImplementation() {
+		IncrementalParser defaultParser = new IncrementalParser(new MarkupLanguage() {
+			@Override
+			public void processContent(MarkupParser parser, String markupContent, boolean asDocument) {
+				new BlockLanguage().processContent(parser, markupContent, asDocument);
+			}
+		});
+		defaultParser.parse("one\n\ntwo"); //$NON-NLS-1$
+
+		assertEquals(1, defaultParser.getBlocks().size());
+		assertTrue(defaultParser.update(new TextEdit(0, 0, "zero ")).isFullParse()); //$NON-NLS-1$
+		assertEquals("<p>zero one</p><p>two</p>", emit(defaultParser)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void randomEdits() {
+		Random random = new Random(42);
+		String[] fragments = { "# h", "text", "=d", "\n", "\n\n", "# ", "" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+		StringBuilder content = new StringBuilder();
+		for (int x = 0; x < 60; ++x) {
+			content.append(fragments[random.nextInt(fragments.length)]);
+		}
+		parser.parse(content.toString());
+		for (int x = 0; x < 500; ++x) {
+			String current = parser.getContent();
+			int offset = random.nextInt(current.length() + 1);
+			int removedLength = random.nextInt(Math.min(6, current.length() - offset) + 1);
+			parser.update(new TextEdit(offset, removedLength, fragments[random.nextInt(fragments.length)]));
+
+			assertEquals(fullParse(parser.getContent()), emit(parser));
+			assertContiguous(parser.getBlocks(), parser.getContent().length());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void updateOutOfRange() {
+		parser.parse("one"); //$NON-NLS-1$
+		parser.update(new TextEdit(2, 2, "")); //$NON-NLS-1$
+	}
+
+	private static void assertBlock(ParsedBlock block, int offset, int length) {
+		assertEquals(offset, block.getOffset());
+		assertEquals(length, block.getLength());
+	}
+
+	private static void assertContiguous(List<ParsedBlock> blocks, int length) {
+		int offset = 0;
+		for (ParsedBlock block : blocks) {
+			assertEquals(offset, block.getOffset());
+			offset += block.getLength();
+		}
+		assertEquals(length, offset);
+	}
+
+	private static String emit(IncrementalParser parser) {
+		StringWriter out = new StringWriter();
+		HtmlDocumentBuilder builder = new HtmlDocumentBuilder(out);
+		builder.setEmitAsDocument(false);
+		parser.emit(builder);
+		return out.toString();
+	}
+
+	private static String fullParse(String content) {
+		StringWriter out = new StringWriter();
+		HtmlDocumentBuilder builder = new HtmlDocumentBuilder(out);
+		builder.setEmitAsDocument(false);
+		new MarkupParser(new BlockLanguage(), builder).parse(content);
+		return out.toString();
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.markup;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class BlockStartIndexTest {
+
+	private static class TestBlock extends Block {
+
+		private final String startCharacters;
+
+		TestBlock(String startCharacters) {
+			this.startCharacters = startCharacters;
+		}
+
+		@Override
+		public String getStartCharacters() {
+			return startCharacters;
+		}
+
+		@Override
+		protected int processLineContent(String line, int offset) {
+			return -1;
+		}
+
+		@Override
+		public boolean canStart(String line, int lineOffset) {
+			return true;
+		}
+	}
+
+	private final TestBlock heading = new TestBlock("h");
+
+	private final TestBlock list = new TestBlock("*#");
+
+	private final TestBlock table = new TestBlock("|¦");
+
+	private final TestBlock paragraph = new TestBlock(null);
+
+	private final List<Block> blocks = new ArrayList<>(List.of(heading, list, table, paragraph));
+
+	private final BlockStartIndex index = new BlockStartIndex(blocks);
+
+	@Test
+	public void candidatesByFirstCharacter() {
+		assertArrayEquals(new Block[] { heading, paragraph }, candidates("h1. heading", 0));
+		assertArrayEquals(new Block[] { list, paragraph }, candidates("# item", 0));
+		assertArrayEquals(new Block[] { paragraph }, candidates("text", 0));
+	}
+
+	@Test
+	public void candidatesSkipLeadingWhitespace() {
+		assertArrayEquals(new Block[] { list, paragraph }, candidates(" \t* item", 0));
+		assertArrayEquals(new Block[] { table, paragraph }, candidates("text | a |", 4));
+	}
+
+	@Test
+	public void candidatesForOtherCharacters() {
+		assertArrayEquals(new Block[] { table, paragraph }, candidates("été", 0));
+	}
+
+	@Test
+	public void candidatesForWhitespaceOnly() {
+		assertArrayEquals(new Block[] { heading, list, table, paragraph }, candidates("text   ", 4));
+	}
+
+	@Test
+	public void withBlocksSharesCandidates() {
+		List<Block> copies = new ArrayList<>();
+		for (Block block : blocks) {
+			copies.add(block.clone());
+		}
+		BlockStartIndex copyIndex = index.withBlocks(copies);
+		assertTrue(copyIndex.isIndexOf(copies));
+		assertFalse(copyIndex.isIndexOf(blocks));
+		assertArrayEquals(new Block[] { copies.get(1), copies.get(3) }, candidates(copyIndex, "# item", 0));
+	}
+
+	@Test
+	public void isIndexOf() {
+		assertTrue(index.isIndexOf(blocks));
+		assertFalse(index.isIndexOf(new ArrayList<>(blocks)));
+		blocks.add(new TestBlock("="));
+		assertFalse(index.isIndexOf(blocks));
+	}
+
+	private Block[] candidates(String line, int lineOffset) {
+		return candidates(index, line, lineOffset);
+	}
+
+	private static Block[] candidates(BlockStartIndex index, String line, int lineOffset) {
+		int[] candidates = index.getCandidates(line, lineOffset);
+		Block[] blocks = new Block[candidates.length];
+		for (int x = 0; x < candidates.length; ++x) {
+			blocks[x] = index.getBlock(candidates[x]);
+		}
+		return blocks;
+	}
+}
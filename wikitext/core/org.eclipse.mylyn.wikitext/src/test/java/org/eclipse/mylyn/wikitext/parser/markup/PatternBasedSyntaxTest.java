@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.parser.markup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.mylyn.wikitext.parser.markup.AbstractMarkupLanguage.PatternBasedSyntax;
+import org.junit.Test;
+
+public class PatternBasedSyntaxTest {
+
+	private static class TestElement extends PatternBasedElement {
+
+		private final String pattern;
+
+		private final int groupCount;
+
+		private final String startCharacters;
+
+		TestElement(String pattern, int groupCount, String startCharacters) {
+			this.pattern = pattern;
+			this.groupCount = groupCount;
+			this.startCharacters = startCharacters;
+		}
+
+		@Override
+		protected String getPattern(int groupOffset) {
+			return pattern;
+		}
+
+		@Override
+		protected int getPatternGroupCount() {
+			return groupCount;
+		}
+
+		@Override
+		protected String getStartCharacters() {
+			return startCharacters;
+		}
+
+		@Override
+		protected PatternBasedElementProcessor newProcessor() {
+			return new PatternBasedElementProcessor() {
+
+				@Override
+				public void emit() {
+				}
+			};
+		}
+	}
+
+	private final PatternBasedSyntax syntax = new PatternBasedSyntax();
+
+	@Test
+	public void findProvidesGroups() {
+		syntax.add(new TestElement("\\*(\\w+)\\*", 1, "*")); //$NON-NLS-1$ //$NON-NLS-2$
+		syntax.add(new TestElement("_(\\w+)(!)?_", 2, "_")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		PatternBasedElementProcessor processor = syntax.findPatternBasedElement("some _emphasis_ text", 0); //$NON-NLS-1$
+		assertNotNull(processor);
+		assertEquals(5, processor.getLineStartOffset());
+		assertEquals(15, processor.getLineEndOffset());
+		assertEquals("_emphasis_", processor.group(0)); //$NON-NLS-1$
+		assertEquals("emphasis", processor.group(1)); //$NON-NLS-1$
+		assertEquals(6, processor.start(1));
+		assertEquals(14, processor.end(1));
+		assertNull(processor.group(2));
+		assertEquals(-1, processor.start(2));
+		assertNull(processor.group(3));
+	}
+
+	@Test
+	public void findWithoutStartCharacter() {
+		syntax.add(new TestElement("\\*(\\w+)\\*", 1, "*")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertNull(syntax.findPatternBasedElement("no markup here", 0)); //$NON-NLS-1$
+		assertNull(syntax.findPatternBasedElement("*a* text", 3)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void findAfterStartCharacterSeesWholeLine() {
+		syntax.add(new TestElement("(?:(?<=\\s)|^)\\*(\\w+)\\*", 1, "*")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertNull(syntax.findPatternBasedElement("a*b*", 0)); //$NON-NLS-1$
+		PatternBasedElementProcessor processor = syntax.findPatternBasedElement("a *b*", 0); //$NON-NLS-1$
+		assertNotNull(processor);
+		assertEquals(2, processor.getLineStartOffset());
+	}
+
+	@Test
+	public void findFromOffsetUsesRegion() {
+		syntax.add(new TestElement("(?<=a)b", 0, "b")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertNotNull(syntax.findPatternBasedElement("ab", 0)); //$NON-NLS-1$
+		assertNull(syntax.findPatternBasedElement("ab", 1)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void findWithUnknownStartCharacters() {
+		syntax.add(new TestElement("\\*(\\w+)\\*", 1, "*")); //$NON-NLS-1$ //$NON-NLS-2$
+		syntax.add(new TestElement("(\\d+)", 1, null)); //$NON-NLS-1$
+
+		PatternBasedElementProcessor processor = syntax.findPatternBasedElement("item 42", 0); //$NON-NLS-1$
+		assertNotNull(processor);
+		assertEquals("42", processor.group(1)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void releasedProcessorIsReused() {
+		syntax.add(new TestElement("\\*(\\w+)\\*", 1, "*")); //$NON-NLS-1$ //$NON-NLS-2$
+		SyntaxMatcher matcher = new SyntaxMatcher(syntax.compile());
+
+		PatternBasedElementProcessor first = matcher.find("*a*", 0); //$NON-NLS-1$
+		PatternBasedElementProcessor second = matcher.find("*b*", 0); //$NON-NLS-1$
+		assertNotSame(first, second);
+		assertEquals("a", first.group(1)); //$NON-NLS-1$
+
+		matcher.release(second);
+		PatternBasedElementProcessor third = matcher.find("x *c*", 0); //$NON-NLS-1$
+		assertSame(second, third);
+		assertEquals("c", third.group(1)); //$NON-NLS-1$
+		assertEquals(2, third.getLineStartOffset());
+	}
+
+	@Test
+	public void compileIsReusedUntilChanged() {
+		syntax.add(new TestElement("\\*(\\w+)\\*", 1, "*")); //$NON-NLS-1$ //$NON-NLS-2$
+		CompiledSyntax compiled = syntax.compile();
+		assertSame(compiled, syntax.compile());
+
+		syntax.add(new TestElement("_(\\w+)_", 1, "_")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotSame(compiled, syntax.compile());
+		assertNotNull(syntax.findPatternBasedElement("_a_", 0)); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.mylyn.wikitext.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.eclipse.mylyn.wikitext.parser.Attributes;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.DocumentBuilder.BlockType;
+import org.eclipse.mylyn.wikitext.parser.builder.DocBookDocumentBuilder;
+import org.eclipse.mylyn.wikitext.parser.builder.HtmlDocumentBuilder;
+import org.junit.Test;
+
+import com.google.common.xml.XmlEscapers;
+
+public class BufferedXmlStreamWriterTest {
+
+	private final StringWriter out = new StringWriter();
+
+	private final BufferedXmlStreamWriter writer = new BufferedXmlStreamWriter(out);
+
+	@Test
+	public void elementWithAttributesNs() {
+		writeElementWithAttributesNs(writer);
+		writer.flush();
+		assertEquals(
+				"<?xml version='1.1' encoding='utf-8' ?><test xmlns:pf=\"uri:urn:test\" xmlns:px=\"uri:urn:test2\" pf:a=\"testv\" px:a=\"testv\" b=\"test\"></test>",
+				out.toString());
+	}
+
+	@Test
+	public void outputIsBufferedUntilFlushed() {
+		writer.writeStartDocument();
+		writer.writeEmptyElement("test");
+		assertEquals("", out.toString());
+		writer.flush();
+		assertEquals("<?xml version='1.0' ?><test", out.toString());
+		writer.close();
+		assertEquals("<?xml version='1.0' ?><test/>", out.toString());
+	}
+
+	@Test
+	public void flushAfterClose() {
+		writer.writeStartDocument();
+		writer.writeEndDocument();
+		writer.close();
+		writer.flush();
+		assertEquals("<?xml version='1.0' ?>", out.toString());
+	}
+
+	@Test
+	public void sameOutputAsDefaultXmlStreamWriter() {
+		assertSameOutputAsDefault(this::writeElementWithAttributesNs);
+		assertSameOutputAsDefault(w -> {
+			w.setDefaultNamespace("uri:urn:test");
+			w.writeStartDocument();
+			w.writeEmptyElement("uri:urn:test", "test");
+			w.writeNamespace("", "uri:urn:test");
+			w.writeStartElement("p", "test", "uri:urn:a");
+			w.writeCharacters("one\ntwo <>&'\"\u0001\uFFFE");
+			w.writeCharacters("a <b> c".toCharArray(), 1, 5);
+			w.writeEntityRef("#xa");
+			w.writeCData("one\ntwo");
+			w.writeComment("some comment text");
+			w.writeEmptyElement("x", "test", "uri:urn:x");
+			w.writeAttribute("a", "one\ntwo <>'\"\r\n\t");
+			w.writeLiteral("<b>literal</b>");
+			w.writeEndElement();
+			w.writeEndDocument();
+		});
+	}
+
+	@Test
+	public void escapingMatchesXmlEscapers() {
+		StringBuilder text = new StringBuilder();
+		for (char c = 0; c < Character.MAX_VALUE; ++c) {
+			if (!Character.isSurrogate(c)) {
+				text.append(c);
+			}
+		}
+		writer.writeEmptyElement("test");
+		writer.writeAttribute("a", text.toString());
+		writer.writeCharacters(text.toString());
+		writer.close();
+		assertEquals("<test a=\"" + XmlEscapers.xmlAttributeEscaper().escape(text.toString()) + "\"/>"
+				+ XmlEscapers.xmlContentEscaper().escape(text.toString()), out.toString());
+	}
+
+	@Test
+	public void contentLargerThanBuffer() {
+		String text = "0123456789<&>".repeat(2000);
+		writer.writeStartElement("test");
+		writer.writeCharacters(text);
+		writer.writeCharacters(text.toCharArray(), 0, text.length());
+		writer.writeEndElement();
+		writer.close();
+		String escaped = XmlEscapers.xmlContentEscaper().escape(text);
+		assertEquals("<test>" + escaped + escaped + "</test>", out.toString());
+	}
+
+	@Test
+	public void utf8OutputStream() {
+		String text = "ascii \u00e9\u20ac \ud83d\ude00 ".repeat(3000);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		BufferedXmlStreamWriter utf8Writer = new BufferedXmlStreamWriter(bytes);
+		utf8Writer.writeStartElement("test");
+		utf8Writer.writeCharacters(text);
+		utf8Writer.writeEndElement();
+		utf8Writer.close();
+		assertEquals("<test>" + text + "</test>", new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void utf8OutputStreamUnpairedSurrogate() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		BufferedXmlStreamWriter utf8Writer = new BufferedXmlStreamWriter(bytes);
+		utf8Writer.writeCharacters("a\ude00b\ud83d");
+		utf8Writer.close();
+		assertEquals("a?b?", new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void utf8Channel() {
+		String text = "ascii \u00e9\u20ac \ud83d\ude00 ".repeat(3000);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		BufferedXmlStreamWriter utf8Writer = new BufferedXmlStreamWriter(Channels.newChannel(bytes));
+		utf8Writer.writeStartElement("test");
+		utf8Writer.writeCharacters(text);
+		utf8Writer.writeEndElement();
+		utf8Writer.close();
+		assertEquals("<test>" + text + "</test>", new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void documentBuildersWithOutputStream() {
+		StringWriter expected = new StringWriter();
+		buildDocument(new HtmlDocumentBuilder(expected, true));
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		buildDocument(new HtmlDocumentBuilder(bytes, true));
+		assertEquals(expected.toString(), new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+
+		expected = new StringWriter();
+		buildDocument(new DocBookDocumentBuilder(expected));
+		bytes = new ByteArrayOutputStream();
+		buildDocument(new DocBookDocumentBuilder(Channels.newChannel(bytes)));
+		assertEquals(expected.toString(), new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void selectableByDocumentBuilders() {
+		StringWriter defaultOut = new StringWriter();
+		buildDocument(new HtmlDocumentBuilder(defaultOut));
+		StringWriter bufferedOut = new StringWriter();
+		buildDocument(new HtmlDocumentBuilder(new BufferedXmlStreamWriter(bufferedOut)));
+		assertEquals(defaultOut.toString(), bufferedOut.toString());
+
+		defaultOut = new StringWriter();
+		buildDocument(new DocBookDocumentBuilder(defaultOut));
+		bufferedOut = new StringWriter();
+		buildDocument(new DocBookDocumentBuilder(new BufferedXmlStreamWriter(bufferedOut)));
+		assertEquals(defaultOut.toString(), bufferedOut.toString());
+	}
+
+	private void buildDocument(DocumentBuilder builder) {
+		builder.beginDocument();
+		builder.beginBlock(BlockType.PARAGRAPH, new Attributes());
+		builder.characters("one <two> & three");
+		builder.endBlock();
+		builder.endDocument();
+		builder.flush();
+	}
+
+	private void writeElementWithAttributesNs(XmlStreamWriter w) {
+		w.setPrefix("pf", "uri:urn:test");
+		w.writeStartDocument("utf-8", "1.1");
+		w.writeStartElement("test");
+		w.writeNamespace("pf", "uri:urn:test");
+		w.writeNamespace("px", "uri:urn:test2");
+		w.writeAttribute("uri:urn:test", "a", "testv");
+		w.writeAttribute("px", "uri:urn:test2", "a", "testv");
+		w.writeAttribute("b", "test");
+		w.writeEndElement();
+	}
+
+	private void assertSameOutputAsDefault(Consumer<XmlStreamWriter> writes) {
+		StringWriter defaultOut = new StringWriter();
+		DefaultXmlStreamWriter defaultWriter = new DefaultXmlStreamWriter(defaultOut);
+		writes.accept(defaultWriter);
+		defaultWriter.close();
+
+		StringWriter bufferedOut = new StringWriter();
+		BufferedXmlStreamWriter bufferedWriter = new BufferedXmlStreamWriter(bufferedOut);
+		writes.accept(bufferedWriter);
+		bufferedWriter.close();
+
+		assertEquals(defaultOut.toString(), bufferedOut.toString());
+	}
+}
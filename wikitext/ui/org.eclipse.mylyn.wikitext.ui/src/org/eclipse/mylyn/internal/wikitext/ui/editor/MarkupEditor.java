@@ -679,12 +679,14 @@ public class MarkupEditor extends TextEditor implements IShowInTarget, IShowInSo
 
 						@Override
 						public void beginHeading(int level, Attributes attributes) {
+							attributes = attributes.clone();
 							attributes.appendCssClass(CSS_CLASS_EDITOR_PREVIEW);
 							super.beginHeading(level, attributes);
 						}
 
 						@Override
 						public void beginBlock(BlockType type, Attributes attributes) {
+							attributes = attributes.clone();
 							attributes.appendCssClass(CSS_CLASS_EDITOR_PREVIEW);
 							super.beginBlock(type, attributes);
 						}